@@ -77,7 +77,8 @@ public interface ExpireSnapshots extends PendingUpdate<List<Snapshot>> {
    * Manifest files that are no longer used by valid snapshots will be deleted. Data files that were
    * deleted by snapshots that are expired will be deleted.
    * <p>
-   * If this method is not called, unnecessary manifests and data files will still be deleted.
+   * If this method is not called, unnecessary manifests and data files will still be deleted, using bulk deletes if
+   * the table's {@link org.apache.iceberg.io.FileIO} supports them.
    *
    * @param deleteFunc a function that will be called to delete manifests and data files
    * @return this for method chaining
@@ -98,6 +99,20 @@ public interface ExpireSnapshots extends PendingUpdate<List<Snapshot>> {
    */
   ExpireSnapshots executeDeleteWith(ExecutorService executorService);
 
+  /**
+   * Sets the number of threads used to find and delete files that are no longer needed.
+   * <p>
+   * When greater than 1, manifest lists of retained and expired snapshots are read concurrently, and manifests and
+   * data files are deleted in batches by at most {@code parallelism} concurrent tasks, unless an executor service was
+   * passed to {@link #executeDeleteWith(ExecutorService)}. Progress is logged as batches of deletes complete.
+   * <p>
+   * If this method is not called, cleanup reads manifest lists using a single thread.
+   *
+   * @param parallelism the number of threads to use for cleanup
+   * @return this for method chaining
+   */
+  ExpireSnapshots cleanupParallelism(int parallelism);
+
   /**
    * Allows expiration of snapshots without any cleanup of underlying manifest or data files.
    * <p>
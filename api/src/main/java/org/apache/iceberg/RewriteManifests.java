@@ -49,6 +49,30 @@ public interface RewriteManifests extends SnapshotUpdate<RewriteManifests> {
    */
   RewriteManifests clusterBy(Function<DataFile, Object> func);
 
+  /**
+   * Rewrites manifests so that entries are globally sorted by partition.
+   * <p>
+   * Entries from all rewritten manifests with the same partition spec are sorted by partition tuple and written in
+   * order to manifests of the target size, so that each new manifest covers a narrow range of partitions that does
+   * not overlap with the others. This allows manifest pruning to skip more manifests when planning scans.
+   * <p>
+   * All rewritten entries are held in memory while sorting. This cannot be combined with {@link #clusterBy(Function)}.
+   *
+   * @return this for method chaining
+   */
+  RewriteManifests sortByPartition();
+
+  /**
+   * Rewrites manifests so that entries are globally sorted by partition, then by the lower bound of a column.
+   * <p>
+   * This behaves like {@link #sortByPartition()}, but entries in the same partition are also ordered by the lower
+   * bound of the given column so that manifests within a large partition cover narrow ranges of that column.
+   *
+   * @param column name of a primitive column in the table schema
+   * @return this for method chaining
+   */
+  RewriteManifests sortByPartition(String column);
+
   /**
    * Determines which existing {@link ManifestFile} for the table should be rewritten. Manifests
    * that do not match the predicate are kept as-is. If this is not called and no predicate is set, then
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.io.CloseableIterator;
+
+/**
+ * A stream of {@link CombinedScanTask tasks} that are produced while a scan is planned.
+ * <p>
+ * Planning runs in the background and stops when a bounded buffer of tasks is full, so callers can start work on the
+ * first tasks before all manifests are read. {@link #hasNext()} and {@link #next()} block until a task is available
+ * or planning is complete; {@link #poll(long, TimeUnit)} can be used to wait for a limited time.
+ * <p>
+ * Closing the stream stops planning and releases the resources it holds.
+ */
+public interface ScanTaskStream extends CloseableIterator<CombinedScanTask> {
+  /**
+   * Returns the next task if one is available within the given time.
+   *
+   * @param timeout how long to wait for a task
+   * @param unit the unit of the timeout
+   * @return the next task, or null if no task was available or all tasks were returned
+   */
+  CombinedScanTask poll(long timeout, TimeUnit unit);
+
+  /**
+   * Returns an estimate of the total number of tasks this stream will produce.
+   * <p>
+   * The estimate is based on the number of data files in the scan's snapshot and the number of tasks produced for
+   * the files planned so far. It does not account for files that are filtered out by the scan, so it is usually
+   * higher than the actual number until planning is complete, after which it is exact.
+   *
+   * @return an estimate of the total number of tasks
+   */
+  long estimatedTaskCount();
+
+  /**
+   * Returns the number of tasks produced so far, including tasks that have not been returned by this stream.
+   *
+   * @return the number of tasks produced by planning
+   */
+  long plannedTaskCount();
+
+  /**
+   * Returns whether planning is complete and all tasks have been produced.
+   *
+   * @return true if planning is complete, false otherwise
+   */
+  boolean isPlanningComplete();
+}
@@ -181,6 +181,19 @@ public interface TableScan {
    */
   CloseableIterable<CombinedScanTask> planTasks();
 
+  /**
+   * Plan the {@link CombinedScanTask tasks} for this scan in the background.
+   * <p>
+   * Tasks are the same as those produced by {@link #planTasks()}, but are returned while planning is in progress so
+   * that work can start before planning is complete. The stream must be closed when it is no longer used.
+   *
+   * @return a {@link ScanTaskStream} of tasks for this scan
+   * @throws UnsupportedOperationException if this scan does not support streaming planning
+   */
+  default ScanTaskStream planTasksStreaming() {
+    throw new UnsupportedOperationException(this.getClass().getName() + " does not implement planTasksStreaming");
+  }
+
   /**
    * Returns this scan's projection {@link Schema}.
    * <p>
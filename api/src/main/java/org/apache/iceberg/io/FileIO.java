@@ -36,6 +36,16 @@ public interface FileIO extends Serializable {
    */
   InputFile newInputFile(String path);
 
+  /**
+   * Get a {@link InputFile} instance to read bytes from the file at the given path, with a known file length.
+   * <p>
+   * Data and metadata files are immutable, so callers that already know a file's length, such as from
+   * {@code DataFile#fileSizeInBytes()}, can pass it to avoid a request for the file's length.
+   */
+  default InputFile newInputFile(String path, long length) {
+    return newInputFile(path);
+  }
+
   /**
    * Get a {@link OutputFile} instance to write bytes to the file at the given path.
    */
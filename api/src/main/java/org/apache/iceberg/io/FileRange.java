@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A range of bytes in a file to be read by {@link SeekableInputStream#readVectored}.
+ * <p>
+ * The buffer for the range is delivered through {@link #data()} when the read completes.
+ */
+public class FileRange {
+  private final long offset;
+  private final int length;
+  private final CompletableFuture<ByteBuffer> data = new CompletableFuture<>();
+
+  public FileRange(long offset, int length) {
+    Preconditions.checkArgument(offset >= 0, "Invalid range offset (negative): %s", offset);
+    Preconditions.checkArgument(length >= 0, "Invalid range length (negative): %s", length);
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * @return the position of the first byte of this range in the file
+   */
+  public long offset() {
+    return offset;
+  }
+
+  /**
+   * @return the number of bytes in this range
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Returns a future for the range's bytes.
+   * <p>
+   * When complete, the buffer is positioned at the first byte of the range and its limit is the end of the range.
+   *
+   * @return a future that completes with a buffer containing this range's bytes
+   */
+  public CompletableFuture<ByteBuffer> data() {
+    return data;
+  }
+
+  @Override
+  public String toString() {
+    return "FileRange(offset=" + offset + ", length=" + length + ")";
+  }
+}
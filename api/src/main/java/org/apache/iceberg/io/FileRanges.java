@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.List;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+
+/**
+ * Utility methods for implementing {@link SeekableInputStream#readVectored}.
+ */
+public class FileRanges {
+  private FileRanges() {
+  }
+
+  /**
+   * Sorts ranges by offset and merges ranges that are close together into combined reads.
+   * <p>
+   * Two ranges are merged when the gap between them is at most {@code maxGap} bytes and the combined read would be
+   * no larger than {@code maxMergedSize} bytes. Ranges that are larger than {@code maxMergedSize} are read alone.
+   *
+   * @param ranges ranges to read; must not overlap
+   * @param maxGap the largest number of unused bytes to read in order to merge two ranges
+   * @param maxMergedSize the largest combined read that may be produced by merging
+   * @return combined reads that cover all of the ranges, in offset order
+   * @throws IllegalArgumentException if any ranges overlap
+   */
+  public static List<CombinedRange> merge(List<FileRange> ranges, int maxGap, int maxMergedSize) {
+    List<FileRange> sorted = Lists.newArrayList(ranges);
+    sorted.sort(Comparator.comparingLong(FileRange::offset));
+
+    List<CombinedRange> combined = Lists.newArrayList();
+    CombinedRange current = null;
+    for (FileRange range : sorted) {
+      if (current != null) {
+        Preconditions.checkArgument(range.offset() >= current.end(),
+            "Invalid ranges: %s overlaps a previous range ending at %s", range, current.end());
+        long gap = range.offset() - current.end();
+        long mergedSize = range.offset() + range.length() - current.offset();
+        if (gap <= maxGap && mergedSize <= maxMergedSize) {
+          current.add(range);
+          continue;
+        }
+      }
+
+      current = new CombinedRange(range);
+      combined.add(current);
+    }
+
+    return combined;
+  }
+
+  /**
+   * Reads bytes from a stream until the buffer is full and then flips the buffer so that it can be read.
+   *
+   * @param stream a stream to read from
+   * @param buffer a buffer to fill, from its position to its limit
+   * @throws EOFException if the stream ends before the buffer is full
+   * @throws IOException if the underlying stream throws IOException
+   */
+  public static void readFully(InputStream stream, ByteBuffer buffer) throws IOException {
+    if (buffer.hasArray()) {
+      byte[] array = buffer.array();
+      int offset = buffer.arrayOffset() + buffer.position();
+      int remaining = buffer.remaining();
+      while (remaining > 0) {
+        int bytesRead = stream.read(array, offset, remaining);
+        if (bytesRead < 0) {
+          throw new EOFException("Reached the end of stream with " + remaining + " bytes left to read");
+        }
+        offset += bytesRead;
+        remaining -= bytesRead;
+      }
+      buffer.position(buffer.limit());
+
+    } else {
+      byte[] temp = new byte[Math.min(buffer.remaining(), 8192)];
+      while (buffer.hasRemaining()) {
+        int bytesRead = stream.read(temp, 0, Math.min(buffer.remaining(), temp.length));
+        if (bytesRead < 0) {
+          throw new EOFException("Reached the end of stream with " + buffer.remaining() + " bytes left to read");
+        }
+        buffer.put(temp, 0, bytesRead);
+      }
+    }
+
+    buffer.flip();
+  }
+
+  /**
+   * A single read that covers one or more {@link FileRange ranges}.
+   */
+  public static class CombinedRange {
+    private final long offset;
+    private final List<FileRange> ranges = Lists.newArrayList();
+    private long end;
+
+    private CombinedRange(FileRange first) {
+      this.offset = first.offset();
+      this.end = first.offset() + first.length();
+      ranges.add(first);
+    }
+
+    private void add(FileRange range) {
+      ranges.add(range);
+      this.end = range.offset() + range.length();
+    }
+
+    public long offset() {
+      return offset;
+    }
+
+    public int length() {
+      return (int) (end - offset);
+    }
+
+    long end() {
+      return end;
+    }
+
+    public List<FileRange> ranges() {
+      return ranges;
+    }
+
+    /**
+     * Completes each range with a slice of a buffer that holds this combined read's bytes.
+     *
+     * @param buffer a buffer positioned at the first byte of this read
+     */
+    public void complete(ByteBuffer buffer) {
+      for (FileRange range : ranges) {
+        int start = buffer.position() + (int) (range.offset() - offset);
+        ByteBuffer slice = buffer.duplicate();
+        slice.limit(start + range.length());
+        slice.position(start);
+        range.data().complete(slice.slice());
+      }
+    }
+
+    /**
+     * Fails each range that has not completed.
+     *
+     * @param cause the reason the read failed
+     */
+    public void fail(Throwable cause) {
+      for (FileRange range : ranges) {
+        range.data().completeExceptionally(cause);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "CombinedRange(offset=" + offset + ", length=" + length() + ", ranges=" + ranges.size() + ")";
+    }
+  }
+}
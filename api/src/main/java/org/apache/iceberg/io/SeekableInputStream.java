@@ -21,6 +21,9 @@ package org.apache.iceberg.io;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.IntFunction;
 
 /**
  * {@code SeekableInputStream} is an interface with the methods needed to read data from a file or
@@ -29,6 +32,9 @@ import java.io.InputStream;
  * This class is based on Parquet's SeekableInputStream.
  */
 public abstract class SeekableInputStream extends InputStream {
+  private static final int DEFAULT_MAX_MERGE_GAP = 4 * 1024;
+  private static final int DEFAULT_MAX_MERGED_SIZE = 8 * 1024 * 1024;
+
   /**
    * Return the current position in the InputStream.
    *
@@ -44,4 +50,42 @@ public abstract class SeekableInputStream extends InputStream {
    * @throws IOException If the underlying stream throws IOException
    */
   public abstract void seek(long newPos) throws IOException;
+
+  /**
+   * Read a list of ranges from the stream.
+   * <p>
+   * Each range's {@link FileRange#data()} future is completed with a buffer containing its bytes. Implementations may
+   * merge nearby ranges into a single read and may complete the futures asynchronously, so callers must wait on the
+   * futures before using the data. The stream position is not changed by this method.
+   * <p>
+   * The default implementation merges nearby ranges and reads them sequentially using {@link #seek(long)}.
+   *
+   * @param ranges ranges to read; must not overlap
+   * @param allocate a function that allocates a buffer with the given capacity, such as {@code ByteBuffer::allocate}
+   * @throws IOException If the underlying stream throws IOException
+   */
+  public void readVectored(List<FileRange> ranges, IntFunction<ByteBuffer> allocate) throws IOException {
+    List<FileRanges.CombinedRange> reads = FileRanges.merge(ranges, DEFAULT_MAX_MERGE_GAP, DEFAULT_MAX_MERGED_SIZE);
+    long pos = getPos();
+    try {
+      for (FileRanges.CombinedRange read : reads) {
+        ByteBuffer buffer = allocate.apply(read.length());
+        seek(read.offset());
+        FileRanges.readFully(this, buffer);
+        read.complete(buffer);
+      }
+    } catch (IOException | RuntimeException e) {
+      reads.forEach(read -> read.fail(e));
+      try {
+        seek(pos);
+      } catch (IOException | RuntimeException seekFailure) {
+        // do not hide the read failure if the stream cannot be restored
+        e.addSuppressed(seekFailure);
+      }
+
+      throw e;
+    }
+
+    seek(pos);
+  }
 }
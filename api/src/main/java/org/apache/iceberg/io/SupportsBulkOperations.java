@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.io;
+
+import org.apache.iceberg.exceptions.BulkDeletionFailureException;
+
+/**
+ * A {@link FileIO} that can delete many files at once.
+ * <p>
+ * Cleanup operations that remove large numbers of files use this interface when it is available, so that
+ * implementations can group deletes into fewer requests and run them in parallel.
+ */
+public interface SupportsBulkOperations extends FileIO {
+
+  /**
+   * Delete the files at the given paths.
+   * <p>
+   * Implementations should attempt to delete every path, even if some deletes fail.
+   *
+   * @param pathsToDelete the paths of the files to delete
+   * @throws BulkDeletionFailureException if any of the deletes failed
+   */
+  void deleteFiles(Iterable<String> pathsToDelete) throws BulkDeletionFailureException;
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.iceberg.AssertHelpers;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestFileRanges {
+
+  @Test
+  public void testMergeNearbyRanges() {
+    FileRange first = new FileRange(0, 100);
+    FileRange second = new FileRange(110, 50);
+    FileRange distant = new FileRange(1000, 10);
+
+    List<FileRanges.CombinedRange> reads = FileRanges.merge(ImmutableList.of(distant, second, first), 20, 1024);
+
+    Assert.assertEquals("Should merge the first two ranges", 2, reads.size());
+    Assert.assertEquals(0, reads.get(0).offset());
+    Assert.assertEquals(160, reads.get(0).length());
+    Assert.assertEquals(ImmutableList.of(first, second), reads.get(0).ranges());
+    Assert.assertEquals(1000, reads.get(1).offset());
+    Assert.assertEquals(10, reads.get(1).length());
+  }
+
+  @Test
+  public void testMergeRespectsMaxSize() {
+    List<FileRanges.CombinedRange> reads = FileRanges.merge(
+        ImmutableList.of(new FileRange(0, 100), new FileRange(100, 100)), 20, 150);
+    Assert.assertEquals("Should not merge ranges larger than the max size", 2, reads.size());
+  }
+
+  @Test
+  public void testOverlappingRanges() {
+    AssertHelpers.assertThrows("Should reject overlapping ranges",
+        IllegalArgumentException.class, "overlaps a previous range",
+        () -> FileRanges.merge(ImmutableList.of(new FileRange(0, 100), new FileRange(50, 100)), 20, 1024));
+  }
+
+  @Test
+  public void testDefaultReadVectored() throws IOException {
+    byte[] data = new byte[10000];
+    for (int i = 0; i < data.length; i += 1) {
+      data[i] = (byte) i;
+    }
+
+    List<FileRange> ranges = ImmutableList.of(new FileRange(9000, 1000), new FileRange(5, 10), new FileRange(20, 30));
+    try (SeekableInputStream in = new InMemoryInputStream(data)) {
+      in.seek(7);
+      in.readVectored(ranges, ByteBuffer::allocate);
+      Assert.assertEquals("Should restore the stream position", 7, in.getPos());
+    }
+
+    for (FileRange range : ranges) {
+      ByteBuffer buffer = range.data().join();
+      Assert.assertEquals("Buffer should contain only the range", range.length(), buffer.remaining());
+      for (int i = 0; i < range.length(); i += 1) {
+        Assert.assertEquals(data[(int) range.offset() + i], buffer.get(i));
+      }
+    }
+  }
+
+  @Test
+  public void testReadVectoredFailureNotHiddenBySeek() throws IOException {
+    SeekableInputStream in = new InMemoryInputStream(new byte[100]) {
+      @Override
+      public void seek(long newPos) {
+        if (newPos == 0) {
+          throw new IllegalStateException("Cannot restore position");
+        }
+        super.seek(newPos);
+      }
+
+      @Override
+      public int read() {
+        throw new IllegalStateException("Read failed");
+      }
+    };
+
+    FileRange range = new FileRange(10, 10);
+    try {
+      in.readVectored(ImmutableList.of(range), ByteBuffer::allocate);
+      Assert.fail("Should fail the vectored read");
+    } catch (IllegalStateException e) {
+      Assert.assertEquals("Should throw the read failure", "Read failed", e.getMessage());
+      Assert.assertEquals("Should suppress the seek failure", 1, e.getSuppressed().length);
+      Assert.assertEquals("Cannot restore position", e.getSuppressed()[0].getMessage());
+    }
+
+    Assert.assertTrue("Should fail the range", range.data().isCompletedExceptionally());
+  }
+
+  private static class InMemoryInputStream extends SeekableInputStream {
+    private final byte[] data;
+    private int pos = 0;
+
+    private InMemoryInputStream(byte[] data) {
+      this.data = data;
+    }
+
+    @Override
+    public long getPos() {
+      return pos;
+    }
+
+    @Override
+    public void seek(long newPos) {
+      this.pos = (int) newPos;
+    }
+
+    @Override
+    public int read() {
+      return pos < data.length ? data[pos++] & 0xFF : -1;
+    }
+  }
+}
@@ -95,6 +95,10 @@ public class VectorHolder {
     return new ConstantVectorHolder(numRows, constantValue);
   }
 
+  public static VectorHolder positionHolder(int numRows, long rowStartPosition) {
+    return new PositionVectorHolder(numRows, rowStartPosition);
+  }
+
   public static VectorHolder dummyHolder(int numRows) {
     return new ConstantVectorHolder(numRows);
   }
@@ -131,4 +135,27 @@ public class VectorHolder {
     }
   }
 
+  /**
+   * A Vector Holder which does not actually produce values, consumers of this class should
+   * use the row position of the first row in the batch to populate their ColumnVector implementation.
+   */
+  public static class PositionVectorHolder extends VectorHolder {
+    private final int numRows;
+    private final long rowStartPosition;
+
+    public PositionVectorHolder(int numRows, long rowStartPosition) {
+      this.numRows = numRows;
+      this.rowStartPosition = rowStartPosition;
+    }
+
+    @Override
+    public int numValues() {
+      return numRows;
+    }
+
+    public long rowStartPosition() {
+      return rowStartPosition;
+    }
+  }
+
 }
@@ -336,6 +336,10 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     return NullVectorReader.INSTANCE;
   }
 
+  public static VectorizedArrowReader positions() {
+    return new PositionVectorReader();
+  }
+
   private static final class NullVectorReader extends VectorizedArrowReader {
     private static final NullVectorReader INSTANCE = new NullVectorReader();
 
@@ -358,6 +362,40 @@ public class VectorizedArrowReader implements VectorizedReader<VectorHolder> {
     }
   }
 
+  /**
+   * A Dummy Vector Reader which doesn't actually read files, instead it returns a dummy
+   * VectorHolder which indicates the row position in the file of the first row in each batch.
+   */
+  private static final class PositionVectorReader extends VectorizedArrowReader {
+    private long rowStart = 0L;
+
+    @Override
+    public VectorHolder read(VectorHolder reuse, int numValsToRead) {
+      VectorHolder positions = VectorHolder.positionHolder(numValsToRead, rowStart);
+      rowStart += numValsToRead;
+      return positions;
+    }
+
+    @Override
+    public void setRowGroupInfo(PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata) {
+    }
+
+    @Override
+    public void setRowGroupInfo(PageReadStore source, Map<ColumnPath, ColumnChunkMetaData> metadata,
+                                long rowPosition) {
+      this.rowStart = rowPosition;
+    }
+
+    @Override
+    public String toString() {
+      return "PositionReader";
+    }
+
+    @Override
+    public void setBatchSize(int batchSize) {
+    }
+  }
+
   /**
    * A Dummy Vector Reader which doesn't actually read files, instead it returns a dummy
    * VectorHolder which indicates the constant value which should be used for this column.
@@ -114,10 +114,113 @@ public class AwsProperties {
    */
   public static final String S3FILEIO_ACL = "s3fileio.acl";
 
+  /**
+   * Number of objects to delete in a single S3 multi-object delete request (default: 250, max: 1000).
+   */
+  public static final String S3FILEIO_DELETE_BATCH_SIZE = "s3fileio.delete.batch-size";
+
+  /**
+   * Number of threads to use for bulk deletes (shared pool across all S3FileIO instances).
+   */
+  public static final String S3FILEIO_DELETE_THREADS = "s3fileio.delete.num-threads";
+
+  /**
+   * Number of threads to use for vectored range reads (shared pool across all S3FileIO instances).
+   */
+  public static final String S3FILEIO_VECTORED_READ_THREADS = "s3fileio.vectored-read.num-threads";
+
+  /**
+   * Enables adaptive reads in S3InputStream (default: false).
+   * <p>
+   * Streams start with unbounded range requests for sequential reads and switch to bounded range requests after a
+   * backward or long forward seek. Reads that continue at the end of a bounded range switch back to sequential.
+   */
+  public static final String S3FILEIO_READ_ADAPTIVE_ENABLED = "s3fileio.read.adaptive.enabled";
+  public static final boolean S3FILEIO_READ_ADAPTIVE_ENABLED_DEFAULT = false;
+
+  /**
+   * Minimum size of a bounded range request used for random access in adaptive reads (default: 64 KB).
+   */
+  public static final String S3FILEIO_READ_AHEAD_SIZE = "s3fileio.read.read-ahead-size";
+  public static final int S3FILEIO_READ_AHEAD_SIZE_DEFAULT = 64 * 1024;
+
+  /**
+   * Enables an in-memory cache of file tails and small files for files opened with a known length (default: false).
+   * <p>
+   * The cache's memory is shared across all S3FileIO instances and its size is set by the first file that uses it.
+   * Entries are scoped to the S3 client and SSE-C key that read them, so they are not shared between instances that
+   * use different clients.
+   */
+  public static final String S3FILEIO_CACHE_ENABLED = "s3fileio.cache.enabled";
+  public static final boolean S3FILEIO_CACHE_ENABLED_DEFAULT = false;
+
+  /**
+   * Maximum total size of cached file contents (default: 128 MB).
+   */
+  public static final String S3FILEIO_CACHE_MAX_TOTAL_BYTES = "s3fileio.cache.max-total-bytes";
+  public static final long S3FILEIO_CACHE_MAX_TOTAL_BYTES_DEFAULT = 128L * 1024 * 1024;
+
+  /**
+   * Files up to this size, such as manifests and delete files, are cached whole (default: 4 MB).
+   */
+  public static final String S3FILEIO_CACHE_SMALL_FILE_MAX_SIZE = "s3fileio.cache.small-file-max-size";
+  public static final int S3FILEIO_CACHE_SMALL_FILE_MAX_SIZE_DEFAULT = 4 * 1024 * 1024;
+
+  /**
+   * Number of bytes at the end of larger files to cache, which holds the footer of most data files (default: 64 KB).
+   */
+  public static final String S3FILEIO_CACHE_FOOTER_SIZE = "s3fileio.cache.footer-size";
+  public static final int S3FILEIO_CACHE_FOOTER_SIZE_DEFAULT = 64 * 1024;
+
+  /**
+   * Stages upload parts in pooled direct memory buffers instead of local files (default: false).
+   * <p>
+   * Parts are uploaded from memory. When no memory is available, writers wait up to
+   * {@link #S3FILEIO_STAGING_MEMORY_MAX_WAIT_MS} for other uploads to finish, and then spill the current part to a
+   * file in {@link #S3FILEIO_STAGING_DIRECTORY}.
+   */
+  public static final String S3FILEIO_STAGING_MEMORY_ENABLED = "s3fileio.staging.memory.enabled";
+  public static final boolean S3FILEIO_STAGING_MEMORY_ENABLED_DEFAULT = false;
+
+  /**
+   * Maximum memory used to stage parts, shared by all open output streams with the same limit (default: 256 MB).
+   */
+  public static final String S3FILEIO_STAGING_MEMORY_MAX_BYTES = "s3fileio.staging.memory.max-bytes";
+  public static final long S3FILEIO_STAGING_MEMORY_MAX_BYTES_DEFAULT = 256L * 1024 * 1024;
+
+  /**
+   * Maximum time a writer waits for staging memory before spilling to disk (default: 10 seconds).
+   */
+  public static final String S3FILEIO_STAGING_MEMORY_MAX_WAIT_MS = "s3fileio.staging.memory.max-wait-ms";
+  public static final long S3FILEIO_STAGING_MEMORY_MAX_WAIT_MS_DEFAULT = 10_000L;
+
+  /**
+   * Class name of the {@link org.apache.iceberg.aws.s3.S3UploadScheduler} that runs multipart part uploads.
+   * <p>
+   * One scheduler instance is shared by all output streams that use the same implementation.
+   */
+  public static final String S3FILEIO_UPLOAD_SCHEDULER_IMPL = "s3fileio.upload.scheduler-impl";
+  public static final String S3FILEIO_UPLOAD_SCHEDULER_IMPL_DEFAULT =
+      "org.apache.iceberg.aws.s3.DefaultS3UploadScheduler";
+
+  /**
+   * Maximum number of parts a single output stream may upload at the same time (default: 0, no limit).
+   */
+  public static final String S3FILEIO_UPLOAD_MAX_IN_FLIGHT_PARTS_PER_STREAM =
+      "s3fileio.upload.max-in-flight-parts-per-stream";
+  public static final int S3FILEIO_UPLOAD_MAX_IN_FLIGHT_PARTS_PER_STREAM_DEFAULT = 0;
+
+  /**
+   * Maximum total upload rate in bytes per second for all output streams (default: 0, no limit).
+   */
+  public static final String S3FILEIO_UPLOAD_MAX_BYTES_PER_SECOND = "s3fileio.upload.max-bytes-per-second";
+  public static final long S3FILEIO_UPLOAD_MAX_BYTES_PER_SECOND_DEFAULT = 0L;
 
   static final int MIN_MULTIPART_UPLOAD_SIZE = 5 * 1024 * 1024;
   static final int DEFAULT_MULTIPART_SIZE = 32 * 1024 * 1024;
   static final double DEFAULT_MULTIPART_THRESHOLD = 1.5;
+  static final int DEFAULT_DELETE_BATCH_SIZE = 250;
+  static final int MAX_DELETE_BATCH_SIZE = 1000;
 
   private String s3FileIoSseType;
   private String s3FileIoSseKey;
@@ -127,6 +230,21 @@ public class AwsProperties {
   private double s3FileIoMultipartThresholdFactor;
   private String s3fileIoStagingDirectory;
   private ObjectCannedACL s3FileIoAcl;
+  private int s3FileIoDeleteBatchSize;
+  private int s3FileIoDeleteThreads;
+  private int s3FileIoVectoredReadThreads;
+  private boolean s3FileIoReadAdaptiveEnabled;
+  private int s3FileIoReadAheadSize;
+  private boolean s3FileIoCacheEnabled;
+  private long s3FileIoCacheMaxTotalBytes;
+  private int s3FileIoCacheSmallFileMaxSize;
+  private int s3FileIoCacheFooterSize;
+  private boolean s3FileIoStagingMemoryEnabled;
+  private long s3FileIoStagingMemoryMaxBytes;
+  private long s3FileIoStagingMemoryMaxWaitMs;
+  private String s3FileIoUploadSchedulerImpl;
+  private int s3FileIoUploadMaxInFlightPartsPerStream;
+  private long s3FileIoUploadMaxBytesPerSecond;
 
   private String glueCatalogId;
   private boolean glueCatalogSkipArchive;
@@ -142,6 +260,22 @@ public class AwsProperties {
     this.s3FileIoMultipartThresholdFactor = DEFAULT_MULTIPART_THRESHOLD;
     this.s3fileIoStagingDirectory = System.getProperty("java.io.tmpdir");
 
+    this.s3FileIoDeleteBatchSize = DEFAULT_DELETE_BATCH_SIZE;
+    this.s3FileIoDeleteThreads = Runtime.getRuntime().availableProcessors();
+    this.s3FileIoVectoredReadThreads = Runtime.getRuntime().availableProcessors();
+    this.s3FileIoReadAdaptiveEnabled = S3FILEIO_READ_ADAPTIVE_ENABLED_DEFAULT;
+    this.s3FileIoReadAheadSize = S3FILEIO_READ_AHEAD_SIZE_DEFAULT;
+    this.s3FileIoCacheEnabled = S3FILEIO_CACHE_ENABLED_DEFAULT;
+    this.s3FileIoCacheMaxTotalBytes = S3FILEIO_CACHE_MAX_TOTAL_BYTES_DEFAULT;
+    this.s3FileIoCacheSmallFileMaxSize = S3FILEIO_CACHE_SMALL_FILE_MAX_SIZE_DEFAULT;
+    this.s3FileIoCacheFooterSize = S3FILEIO_CACHE_FOOTER_SIZE_DEFAULT;
+    this.s3FileIoStagingMemoryEnabled = S3FILEIO_STAGING_MEMORY_ENABLED_DEFAULT;
+    this.s3FileIoStagingMemoryMaxBytes = S3FILEIO_STAGING_MEMORY_MAX_BYTES_DEFAULT;
+    this.s3FileIoStagingMemoryMaxWaitMs = S3FILEIO_STAGING_MEMORY_MAX_WAIT_MS_DEFAULT;
+    this.s3FileIoUploadSchedulerImpl = S3FILEIO_UPLOAD_SCHEDULER_IMPL_DEFAULT;
+    this.s3FileIoUploadMaxInFlightPartsPerStream = S3FILEIO_UPLOAD_MAX_IN_FLIGHT_PARTS_PER_STREAM_DEFAULT;
+    this.s3FileIoUploadMaxBytesPerSecond = S3FILEIO_UPLOAD_MAX_BYTES_PER_SECOND_DEFAULT;
+
     this.glueCatalogId = null;
     this.glueCatalogSkipArchive = GLUE_CATALOG_SKIP_ARCHIVE_DEFAULT;
   }
@@ -182,6 +316,55 @@ public class AwsProperties {
     this.s3FileIoAcl = ObjectCannedACL.fromValue(aclType);
     Preconditions.checkArgument(s3FileIoAcl == null || !s3FileIoAcl.equals(ObjectCannedACL.UNKNOWN_TO_SDK_VERSION),
         "Cannot support S3 CannedACL " + aclType);
+
+    this.s3FileIoDeleteBatchSize = PropertyUtil.propertyAsInt(properties, S3FILEIO_DELETE_BATCH_SIZE,
+        DEFAULT_DELETE_BATCH_SIZE);
+    Preconditions.checkArgument(s3FileIoDeleteBatchSize > 0 && s3FileIoDeleteBatchSize <= MAX_DELETE_BATCH_SIZE,
+        "Deletion batch size must be between 1 and %s", MAX_DELETE_BATCH_SIZE);
+
+    this.s3FileIoDeleteThreads = PropertyUtil.propertyAsInt(properties, S3FILEIO_DELETE_THREADS,
+        Runtime.getRuntime().availableProcessors());
+
+    this.s3FileIoVectoredReadThreads = PropertyUtil.propertyAsInt(properties, S3FILEIO_VECTORED_READ_THREADS,
+        Runtime.getRuntime().availableProcessors());
+
+    this.s3FileIoReadAdaptiveEnabled = PropertyUtil.propertyAsBoolean(properties, S3FILEIO_READ_ADAPTIVE_ENABLED,
+        S3FILEIO_READ_ADAPTIVE_ENABLED_DEFAULT);
+
+    this.s3FileIoReadAheadSize = PropertyUtil.propertyAsInt(properties, S3FILEIO_READ_AHEAD_SIZE,
+        S3FILEIO_READ_AHEAD_SIZE_DEFAULT);
+    Preconditions.checkArgument(s3FileIoReadAheadSize > 0, "Read-ahead size must be positive");
+
+    this.s3FileIoCacheEnabled = PropertyUtil.propertyAsBoolean(properties, S3FILEIO_CACHE_ENABLED,
+        S3FILEIO_CACHE_ENABLED_DEFAULT);
+    this.s3FileIoCacheMaxTotalBytes = PropertyUtil.propertyAsLong(properties, S3FILEIO_CACHE_MAX_TOTAL_BYTES,
+        S3FILEIO_CACHE_MAX_TOTAL_BYTES_DEFAULT);
+    this.s3FileIoCacheSmallFileMaxSize = PropertyUtil.propertyAsInt(properties, S3FILEIO_CACHE_SMALL_FILE_MAX_SIZE,
+        S3FILEIO_CACHE_SMALL_FILE_MAX_SIZE_DEFAULT);
+    this.s3FileIoCacheFooterSize = PropertyUtil.propertyAsInt(properties, S3FILEIO_CACHE_FOOTER_SIZE,
+        S3FILEIO_CACHE_FOOTER_SIZE_DEFAULT);
+    Preconditions.checkArgument(s3FileIoCacheMaxTotalBytes > 0, "Cache size must be positive");
+    Preconditions.checkArgument(s3FileIoCacheSmallFileMaxSize >= 0, "Cache small file size must not be negative");
+    Preconditions.checkArgument(s3FileIoCacheFooterSize >= 0, "Cache footer size must not be negative");
+
+    this.s3FileIoStagingMemoryEnabled = PropertyUtil.propertyAsBoolean(properties, S3FILEIO_STAGING_MEMORY_ENABLED,
+        S3FILEIO_STAGING_MEMORY_ENABLED_DEFAULT);
+    this.s3FileIoStagingMemoryMaxBytes = PropertyUtil.propertyAsLong(properties, S3FILEIO_STAGING_MEMORY_MAX_BYTES,
+        S3FILEIO_STAGING_MEMORY_MAX_BYTES_DEFAULT);
+    this.s3FileIoStagingMemoryMaxWaitMs = PropertyUtil.propertyAsLong(properties,
+        S3FILEIO_STAGING_MEMORY_MAX_WAIT_MS, S3FILEIO_STAGING_MEMORY_MAX_WAIT_MS_DEFAULT);
+    Preconditions.checkArgument(s3FileIoStagingMemoryMaxBytes > 0, "Staging memory limit must be positive");
+    Preconditions.checkArgument(s3FileIoStagingMemoryMaxWaitMs >= 0, "Staging memory wait must not be negative");
+
+    this.s3FileIoUploadSchedulerImpl = PropertyUtil.propertyAsString(properties, S3FILEIO_UPLOAD_SCHEDULER_IMPL,
+        S3FILEIO_UPLOAD_SCHEDULER_IMPL_DEFAULT);
+    this.s3FileIoUploadMaxInFlightPartsPerStream = PropertyUtil.propertyAsInt(properties,
+        S3FILEIO_UPLOAD_MAX_IN_FLIGHT_PARTS_PER_STREAM, S3FILEIO_UPLOAD_MAX_IN_FLIGHT_PARTS_PER_STREAM_DEFAULT);
+    this.s3FileIoUploadMaxBytesPerSecond = PropertyUtil.propertyAsLong(properties,
+        S3FILEIO_UPLOAD_MAX_BYTES_PER_SECOND, S3FILEIO_UPLOAD_MAX_BYTES_PER_SECOND_DEFAULT);
+    Preconditions.checkArgument(s3FileIoUploadMaxInFlightPartsPerStream >= 0,
+        "Max in-flight parts per stream must not be negative");
+    Preconditions.checkArgument(s3FileIoUploadMaxBytesPerSecond >= 0, "Max upload rate must not be negative");
   }
 
   public String s3FileIoSseType() {
@@ -247,4 +430,112 @@ public class AwsProperties {
   public void setS3FileIoAcl(ObjectCannedACL acl) {
     this.s3FileIoAcl = acl;
   }
+
+  public int s3FileIoDeleteBatchSize() {
+    return s3FileIoDeleteBatchSize;
+  }
+
+  public void setS3FileIoDeleteBatchSize(int deleteBatchSize) {
+    this.s3FileIoDeleteBatchSize = deleteBatchSize;
+  }
+
+  public int s3FileIoDeleteThreads() {
+    return s3FileIoDeleteThreads;
+  }
+
+  public int s3FileIoVectoredReadThreads() {
+    return s3FileIoVectoredReadThreads;
+  }
+
+  public boolean s3FileIoReadAdaptiveEnabled() {
+    return s3FileIoReadAdaptiveEnabled;
+  }
+
+  public void setS3FileIoReadAdaptiveEnabled(boolean adaptiveEnabled) {
+    this.s3FileIoReadAdaptiveEnabled = adaptiveEnabled;
+  }
+
+  public int s3FileIoReadAheadSize() {
+    return s3FileIoReadAheadSize;
+  }
+
+  public void setS3FileIoReadAheadSize(int readAheadSize) {
+    this.s3FileIoReadAheadSize = readAheadSize;
+  }
+
+  public boolean s3FileIoCacheEnabled() {
+    return s3FileIoCacheEnabled;
+  }
+
+  public void setS3FileIoCacheEnabled(boolean cacheEnabled) {
+    this.s3FileIoCacheEnabled = cacheEnabled;
+  }
+
+  public long s3FileIoCacheMaxTotalBytes() {
+    return s3FileIoCacheMaxTotalBytes;
+  }
+
+  public int s3FileIoCacheSmallFileMaxSize() {
+    return s3FileIoCacheSmallFileMaxSize;
+  }
+
+  public void setS3FileIoCacheSmallFileMaxSize(int smallFileMaxSize) {
+    this.s3FileIoCacheSmallFileMaxSize = smallFileMaxSize;
+  }
+
+  public int s3FileIoCacheFooterSize() {
+    return s3FileIoCacheFooterSize;
+  }
+
+  public void setS3FileIoCacheFooterSize(int footerSize) {
+    this.s3FileIoCacheFooterSize = footerSize;
+  }
+
+  public boolean s3FileIoStagingMemoryEnabled() {
+    return s3FileIoStagingMemoryEnabled;
+  }
+
+  public void setS3FileIoStagingMemoryEnabled(boolean memoryEnabled) {
+    this.s3FileIoStagingMemoryEnabled = memoryEnabled;
+  }
+
+  public long s3FileIoStagingMemoryMaxBytes() {
+    return s3FileIoStagingMemoryMaxBytes;
+  }
+
+  public void setS3FileIoStagingMemoryMaxBytes(long maxBytes) {
+    this.s3FileIoStagingMemoryMaxBytes = maxBytes;
+  }
+
+  public long s3FileIoStagingMemoryMaxWaitMs() {
+    return s3FileIoStagingMemoryMaxWaitMs;
+  }
+
+  public void setS3FileIoStagingMemoryMaxWaitMs(long maxWaitMs) {
+    this.s3FileIoStagingMemoryMaxWaitMs = maxWaitMs;
+  }
+
+  public String s3FileIoUploadSchedulerImpl() {
+    return s3FileIoUploadSchedulerImpl;
+  }
+
+  public void setS3FileIoUploadSchedulerImpl(String schedulerImpl) {
+    this.s3FileIoUploadSchedulerImpl = schedulerImpl;
+  }
+
+  public int s3FileIoUploadMaxInFlightPartsPerStream() {
+    return s3FileIoUploadMaxInFlightPartsPerStream;
+  }
+
+  public void setS3FileIoUploadMaxInFlightPartsPerStream(int maxInFlightParts) {
+    this.s3FileIoUploadMaxInFlightPartsPerStream = maxInFlightParts;
+  }
+
+  public long s3FileIoUploadMaxBytesPerSecond() {
+    return s3FileIoUploadMaxBytesPerSecond;
+  }
+
+  public void setS3FileIoUploadMaxBytesPerSecond(long maxBytesPerSecond) {
+    this.s3FileIoUploadMaxBytesPerSecond = maxBytesPerSecond;
+  }
 }
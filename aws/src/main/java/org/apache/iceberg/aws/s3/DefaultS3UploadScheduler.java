@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.aws.s3;
+
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.iceberg.aws.AwsProperties;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The default {@link S3UploadScheduler}.
+ * <p>
+ * Parts are run on a shared pool of {@link AwsProperties#S3FILEIO_MULTIPART_UPLOAD_THREADS} threads. Streams with
+ * queued parts take turns in round-robin order, so a stream that queues many parts cannot starve streams that
+ * queue only a few. Each stream may have at most
+ * {@link AwsProperties#S3FILEIO_UPLOAD_MAX_IN_FLIGHT_PARTS_PER_STREAM} parts uploading at a time, and parts are
+ * held in their queues until the total rate is under {@link AwsProperties#S3FILEIO_UPLOAD_MAX_BYTES_PER_SECOND}, so
+ * pacing never occupies an upload thread.
+ * <p>
+ * The scheduler used by an {@link S3FileIO} is returned by {@link S3FileIO#uploadScheduler()}, which can be used to
+ * read the upload metrics of this implementation.
+ */
+public class DefaultS3UploadScheduler implements S3UploadScheduler {
+  private static final Logger LOG = LoggerFactory.getLogger(DefaultS3UploadScheduler.class);
+
+  // streams with queued parts that may start another upload, guarded by this
+  private final Deque<StreamQueue> readyQueues = Lists.newLinkedList();
+  private ExecutorService executorService;
+  private ScheduledExecutorService pacer;
+  private int maxConcurrency;
+  private int maxInFlightPerStream;
+  private long maxBytesPerSecond;
+
+  // pacing state for the bandwidth limit, guarded by this
+  private long nextUploadNanos = 0L;
+  private boolean wakeUpScheduled = false;
+
+  // metrics, guarded by this
+  private int queuedParts = 0;
+  private int inFlightParts = 0;
+  private long completedParts = 0L;
+  private long failedParts = 0L;
+  private long uploadedBytes = 0L;
+  private long totalQueueNanos = 0L;
+  private long totalUploadNanos = 0L;
+  private long maxUploadNanos = 0L;
+
+  @Override
+  public void initialize(AwsProperties awsProperties) {
+    this.maxConcurrency = awsProperties.s3FileIoMultipartUploadThreads();
+    this.maxInFlightPerStream = awsProperties.s3FileIoUploadMaxInFlightPartsPerStream();
+    this.maxBytesPerSecond = awsProperties.s3FileIoUploadMaxBytesPerSecond();
+    Preconditions.checkArgument(maxConcurrency > 0, "Upload thread count must be positive");
+
+    this.executorService = MoreExecutors.getExitingExecutorService(
+        (ThreadPoolExecutor) Executors.newFixedThreadPool(
+            maxConcurrency,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("iceberg-s3fileio-upload-%d")
+                .build()));
+
+    if (maxBytesPerSecond > 0) {
+      this.nextUploadNanos = System.nanoTime();
+      this.pacer = MoreExecutors.getExitingScheduledExecutorService(
+          new ScheduledThreadPoolExecutor(
+              1,
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("iceberg-s3fileio-upload-pacer-%d")
+                  .build()));
+    }
+  }
+
+  @Override
+  public UploadQueue newQueue(String location) {
+    Preconditions.checkState(executorService != null, "Cannot create upload queue: scheduler is not initialized");
+    return new StreamQueue(location);
+  }
+
+  public synchronized int queuedParts() {
+    return queuedParts;
+  }
+
+  public synchronized int inFlightParts() {
+    return inFlightParts;
+  }
+
+  public synchronized long completedParts() {
+    return completedParts;
+  }
+
+  public synchronized long failedParts() {
+    return failedParts;
+  }
+
+  public synchronized long uploadedBytes() {
+    return uploadedBytes;
+  }
+
+  /**
+   * Returns the average time parts waited before their upload started, including bandwidth pacing.
+   */
+  public synchronized long averageQueueMillis() {
+    long finished = completedParts + failedParts;
+    return finished > 0 ? TimeUnit.NANOSECONDS.toMillis(totalQueueNanos / finished) : 0L;
+  }
+
+  public synchronized long averageUploadMillis() {
+    long finished = completedParts + failedParts;
+    return finished > 0 ? TimeUnit.NANOSECONDS.toMillis(totalUploadNanos / finished) : 0L;
+  }
+
+  public synchronized long maxUploadMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(maxUploadNanos);
+  }
+
+  private synchronized void enqueue(StreamQueue queue, PendingPart<?> part) {
+    queue.pending.addLast(part);
+    queuedParts += 1;
+    markReady(queue);
+    dispatch();
+  }
+
+  private synchronized void finished(StreamQueue queue, PendingPart<?> part, long startNanos, boolean succeeded) {
+    long endNanos = System.nanoTime();
+    long uploadNanos = endNanos - startNanos;
+    inFlightParts -= 1;
+    queue.inFlight -= 1;
+    if (succeeded) {
+      completedParts += 1;
+      uploadedBytes += part.size;
+    } else {
+      failedParts += 1;
+    }
+
+    totalQueueNanos += startNanos - part.submittedNanos;
+    totalUploadNanos += uploadNanos;
+    maxUploadNanos = Math.max(maxUploadNanos, uploadNanos);
+
+    LOG.debug("Uploaded part of {} bytes for {} in {} ms after {} ms queued ({} parts queued, {} in flight)",
+        part.size, queue.location, TimeUnit.NANOSECONDS.toMillis(uploadNanos),
+        TimeUnit.NANOSECONDS.toMillis(startNanos - part.submittedNanos), queuedParts, inFlightParts);
+
+    markReady(queue);
+    dispatch();
+  }
+
+  private void markReady(StreamQueue queue) {
+    if (!queue.ready && !queue.pending.isEmpty() &&
+        (maxInFlightPerStream <= 0 || queue.inFlight < maxInFlightPerStream)) {
+      queue.ready = true;
+      readyQueues.addLast(queue);
+    }
+  }
+
+  private void dispatch() {
+    while (inFlightParts < maxConcurrency && !readyQueues.isEmpty()) {
+      long waitNanos = paceNanos();
+      if (waitNanos > 0) {
+        // leave parts queued until the bandwidth limit allows the next upload to start
+        if (!wakeUpScheduled) {
+          this.wakeUpScheduled = true;
+          pacer.schedule(this::wakeUp, waitNanos, TimeUnit.NANOSECONDS);
+        }
+        return;
+      }
+
+      // take one part from the next stream and send the stream to the back of the line
+      StreamQueue queue = readyQueues.removeFirst();
+      queue.ready = false;
+
+      PendingPart<?> part = queue.pending.removeFirst();
+      queuedParts -= 1;
+      inFlightParts += 1;
+      queue.inFlight += 1;
+      markReady(queue);
+      reserve(part.size);
+
+      executorService.execute(() -> run(queue, part));
+    }
+  }
+
+  private synchronized void wakeUp() {
+    this.wakeUpScheduled = false;
+    dispatch();
+  }
+
+  private long paceNanos() {
+    return maxBytesPerSecond > 0 ? nextUploadNanos - System.nanoTime() : 0L;
+  }
+
+  private void reserve(long size) {
+    // only called once the previous reservation has passed, so the next upload is paced from now
+    if (maxBytesPerSecond > 0) {
+      this.nextUploadNanos = System.nanoTime() + size * TimeUnit.SECONDS.toNanos(1) / maxBytesPerSecond;
+    }
+  }
+
+  private <T> void run(StreamQueue queue, PendingPart<T> part) {
+    long startNanos = System.nanoTime();
+    T result = null;
+    Throwable failure = null;
+    try {
+      result = part.upload.get();
+    } catch (RuntimeException | Error e) {
+      failure = e;
+    }
+
+    finished(queue, part, startNanos, failure == null);
+
+    if (failure == null) {
+      part.future.complete(result);
+    } else {
+      part.future.completeExceptionally(failure);
+    }
+  }
+
+  private static class PendingPart<T> {
+    private final long size;
+    private final Supplier<T> upload;
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+    private final long submittedNanos = System.nanoTime();
+
+    private PendingPart(long size, Supplier<T> upload) {
+      this.size = size;
+      this.upload = upload;
+    }
+  }
+
+  private class StreamQueue implements UploadQueue {
+    private final String location;
+    private final Deque<PendingPart<?>> pending = Lists.newLinkedList();
+    private int inFlight = 0;
+    private boolean ready = false;
+
+    private StreamQueue(String location) {
+      this.location = location;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(long size, Supplier<T> upload) {
+      PendingPart<T> part = new PendingPart<>(size, upload);
+      enqueue(this, part);
+      return part.future;
+    }
+  }
+}
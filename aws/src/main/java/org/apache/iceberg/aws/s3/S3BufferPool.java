@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.aws.s3;
+
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+
+/**
+ * A pool of reusable direct buffers used to stage upload parts in memory.
+ * <p>
+ * Pools are shared by all output streams configured with the same memory limit, so the limit applies to the total
+ * memory staged by those streams rather than to each stream. Pools live as long as the JVM, so only a few released
+ * buffers are kept for reuse; others are left to the garbage collector so idle pools do not pin direct memory.
+ */
+class S3BufferPool {
+  static final int BUFFER_SIZE = 1024 * 1024;
+  // the most released buffers that each pool keeps for reuse
+  static final int MAX_FREE_BUFFERS = 16;
+
+  private static final Map<Long, S3BufferPool> POOLS = Maps.newConcurrentMap();
+
+  private final int maxBuffers;
+  private final Semaphore permits;
+  private final Queue<ByteBuffer> freeBuffers = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger freeCount = new AtomicInteger(0);
+
+  static S3BufferPool forLimit(long maxBytes) {
+    return POOLS.computeIfAbsent(maxBytes, S3BufferPool::new);
+  }
+
+  private S3BufferPool(long maxBytes) {
+    this.maxBuffers = (int) Math.max(1L, Math.min(Integer.MAX_VALUE, maxBytes / BUFFER_SIZE));
+    this.permits = new Semaphore(maxBuffers);
+  }
+
+  /**
+   * Acquires a cleared buffer, waiting until one is released if the memory limit has been reached.
+   *
+   * @param waitMs maximum time to wait for a buffer, in milliseconds
+   * @return a buffer, or null if none was released before the wait timed out or direct memory is exhausted
+   * @throws InterruptedIOException if the thread is interrupted while waiting
+   */
+  ByteBuffer acquire(long waitMs) throws InterruptedIOException {
+    try {
+      if (!permits.tryAcquire(waitMs, TimeUnit.MILLISECONDS)) {
+        return null;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      InterruptedIOException interrupted = new InterruptedIOException("Interrupted while waiting for staging memory");
+      interrupted.initCause(e);
+      throw interrupted;
+    }
+
+    ByteBuffer buffer = freeBuffers.poll();
+    if (buffer != null) {
+      freeCount.decrementAndGet();
+    } else {
+      try {
+        buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+      } catch (OutOfMemoryError e) {
+        // direct memory may be limited below the pool's limit; callers spill to disk as if the wait timed out
+        permits.release();
+        return null;
+      }
+    }
+
+    buffer.clear();
+    return buffer;
+  }
+
+  void release(ByteBuffer buffer) {
+    if (freeCount.incrementAndGet() <= MAX_FREE_BUFFERS) {
+      freeBuffers.offer(buffer);
+    } else {
+      freeCount.decrementAndGet();
+    }
+
+    permits.release();
+  }
+
+  int freeBuffers() {
+    return freeCount.get();
+  }
+
+  int maxBuffers() {
+    return maxBuffers;
+  }
+
+  int availableBuffers() {
+    return permits.availablePermits();
+  }
+}
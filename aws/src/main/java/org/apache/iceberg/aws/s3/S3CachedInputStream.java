@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.aws.s3;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.IntFunction;
+import org.apache.iceberg.aws.AwsProperties;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * A stream for a file of known length that serves the end of the file from {@link S3FileCache}.
+ * <p>
+ * Bytes from {@code cachedStart} to the end of the file are cached. Reads before {@code cachedStart} are passed to an
+ * {@link S3InputStream}, which only opens a request when it is first read. Small files are cached whole by using a
+ * {@code cachedStart} of 0.
+ */
+class S3CachedInputStream extends SeekableInputStream {
+  private final S3Client s3;
+  private final S3URI location;
+  private final AwsProperties awsProperties;
+  private final long cachedStart;
+  private final long length;
+  private final S3InputStream stream;
+
+  private byte[] cached = null;
+  private long pos = 0;
+  private boolean closed = false;
+
+  S3CachedInputStream(S3Client s3, S3URI location, AwsProperties awsProperties, long cachedStart, long length) {
+    this(s3, location, awsProperties, cachedStart, length, new S3ReadMetrics());
+  }
+
+  S3CachedInputStream(S3Client s3, S3URI location, AwsProperties awsProperties, long cachedStart, long length,
+                      S3ReadMetrics metrics) {
+    this.s3 = s3;
+    this.location = location;
+    this.awsProperties = awsProperties;
+    this.cachedStart = cachedStart;
+    this.length = length;
+    this.stream = new S3InputStream(s3, location, awsProperties, metrics);
+  }
+
+  @Override
+  public long getPos() {
+    return pos;
+  }
+
+  @Override
+  public void seek(long newPos) {
+    Preconditions.checkState(!closed, "already closed");
+    Preconditions.checkArgument(newPos >= 0, "position is negative: %s", newPos);
+
+    // this allows a seek beyond the end of the stream but the next read will fail
+    this.pos = newPos;
+  }
+
+  @Override
+  public int read() throws IOException {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    if (pos >= cachedStart) {
+      if (pos >= length) {
+        return -1;
+      }
+
+      int value = cached()[(int) (pos - cachedStart)] & 0xFF;
+      pos += 1;
+      return value;
+    }
+
+    stream.seek(pos);
+    int value = stream.read();
+    if (value >= 0) {
+      pos += 1;
+    }
+
+    return value;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    if (len == 0) {
+      return 0;
+    }
+
+    if (pos >= cachedStart) {
+      if (pos >= length) {
+        return -1;
+      }
+
+      int bytesRead = (int) Math.min(len, length - pos);
+      System.arraycopy(cached(), (int) (pos - cachedStart), b, off, bytesRead);
+      pos += bytesRead;
+      return bytesRead;
+    }
+
+    // stop at the start of the cached range so that the following read uses the cache
+    stream.seek(pos);
+    int bytesRead = stream.read(b, off, (int) Math.min(len, cachedStart - pos));
+    if (bytesRead > 0) {
+      pos += bytesRead;
+    }
+
+    return bytesRead;
+  }
+
+  @Override
+  public long skip(long n) {
+    long skipped = Math.max(0, Math.min(n, length - pos));
+    pos += skipped;
+    return skipped;
+  }
+
+  @Override
+  public int available() {
+    return pos >= cachedStart && cached != null ? (int) Math.max(0, length - pos) : 0;
+  }
+
+  @Override
+  public void readVectored(List<FileRange> ranges, IntFunction<ByteBuffer> allocate) {
+    stream.readVectored(ranges, allocate);
+  }
+
+  @Override
+  public void close() throws IOException {
+    super.close();
+    closed = true;
+    cached = null;
+    stream.close();
+  }
+
+  private byte[] cached() throws IOException {
+    if (cached == null) {
+      this.cached = S3FileCache.get(s3, location, awsProperties, cachedStart, length);
+    }
+
+    return cached;
+  }
+}
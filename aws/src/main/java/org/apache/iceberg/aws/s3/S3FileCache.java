@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.aws.s3;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.iceberg.aws.AwsProperties;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.MapMaker;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+
+/**
+ * A shared in-memory cache of S3 file contents, used for whole small files and for the tails of larger files.
+ * <p>
+ * Only files opened with a known length are cached. Iceberg never modifies data and metadata files after they are
+ * written, so the location and length identify the contents of a file.
+ * <p>
+ * The cache's memory is shared by all S3FileIO instances, but entries are scoped to the S3 client and SSE-C key that
+ * read them, so an instance with different credentials or keys never reads bytes that another instance fetched.
+ */
+class S3FileCache {
+  private static final Logger LOG = LoggerFactory.getLogger(S3FileCache.class);
+
+  // a unique scope for each client, identified by reference; clients are released when no longer used
+  private static final Map<S3Client, String> CLIENT_SCOPES = new MapMaker().weakKeys().makeMap();
+  private static final Set<Long> IGNORED_MAX_TOTAL_BYTES = Sets.newConcurrentHashSet();
+
+  private static volatile Cache<String, byte[]> cache;
+  private static volatile long cacheMaxTotalBytes;
+
+  private S3FileCache() {
+  }
+
+  /**
+   * Returns the bytes of a file from {@code start} to the end of the file, reading them from S3 if they are not cached.
+   *
+   * @param s3 an S3 client
+   * @param location the file's location
+   * @param awsProperties properties used to configure requests and to create the cache
+   * @param start the position of the first byte to return
+   * @param length the length of the file
+   * @return the bytes of the file from start to the end of the file
+   * @throws IOException if the bytes cannot be read
+   */
+  static byte[] get(S3Client s3, S3URI location, AwsProperties awsProperties, long start, long length)
+      throws IOException {
+    Preconditions.checkArgument(start >= 0 && length - start <= Integer.MAX_VALUE,
+        "Cannot cache range [%s, %s) of %s", start, length, location);
+    String key = String.format("%s#%s#%s-%s", scope(s3, awsProperties), location.location(), start, length);
+    try {
+      return cache(awsProperties).get(key, ignored -> read(s3, location, awsProperties, start, length));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private static String scope(S3Client s3, AwsProperties awsProperties) {
+    String clientScope = CLIENT_SCOPES.computeIfAbsent(s3, client -> UUID.randomUUID().toString());
+    if (AwsProperties.S3FILEIO_SSE_TYPE_CUSTOM.equals(awsProperties.s3FileIoSseType())) {
+      // objects encrypted with a customer key can only be read with that key
+      return clientScope + "/" + awsProperties.s3FileIoSseMd5();
+    }
+
+    return clientScope;
+  }
+
+  private static byte[] read(S3Client s3, S3URI location, AwsProperties awsProperties, long start, long length) {
+    byte[] bytes = new byte[(int) (length - start)];
+    if (bytes.length == 0) {
+      // an empty range header is invalid
+      return bytes;
+    }
+
+    GetObjectRequest.Builder requestBuilder = GetObjectRequest.builder()
+        .bucket(location.bucket())
+        .key(location.key())
+        .range(String.format("bytes=%s-%s", start, length - 1));
+
+    S3RequestUtil.configureEncryption(awsProperties, requestBuilder);
+
+    try (InputStream stream = s3.getObject(requestBuilder.build(), ResponseTransformer.toInputStream())) {
+      ByteStreams.readFully(stream, bytes);
+      return bytes;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static Cache<String, byte[]> cache(AwsProperties awsProperties) {
+    if (cache == null) {
+      synchronized (S3FileCache.class) {
+        if (cache == null) {
+          cacheMaxTotalBytes = awsProperties.s3FileIoCacheMaxTotalBytes();
+          cache = Caffeine.newBuilder()
+              .maximumWeight(cacheMaxTotalBytes)
+              .weigher((String key, byte[] bytes) -> bytes.length)
+              .build();
+        }
+      }
+    }
+
+    long maxTotalBytes = awsProperties.s3FileIoCacheMaxTotalBytes();
+    if (maxTotalBytes != cacheMaxTotalBytes && IGNORED_MAX_TOTAL_BYTES.add(maxTotalBytes)) {
+      LOG.warn("Ignoring {}={}: the shared S3 file cache was already created with a limit of {} bytes",
+          AwsProperties.S3FILEIO_CACHE_MAX_TOTAL_BYTES, maxTotalBytes, cacheMaxTotalBytes);
+    }
+
+    return cache;
+  }
+}
@@ -19,16 +19,29 @@
 
 package org.apache.iceberg.aws.s3;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import org.apache.iceberg.aws.AwsClientUtil;
 import org.apache.iceberg.aws.AwsProperties;
-import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.exceptions.BulkDeletionFailureException;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.SupportsBulkOperations;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.util.SerializableSupplier;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 
 /**
@@ -36,10 +49,15 @@ import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
  * Locations used must follow the conventions for S3 URIs (e.g. s3://bucket/path...).
  * See {@link S3URI#VALID_SCHEMES} for the list of supported S3 URI schemes.
  */
-public class S3FileIO implements FileIO {
+public class S3FileIO implements SupportsBulkOperations {
+  private static final Logger LOG = LoggerFactory.getLogger(S3FileIO.class);
+
+  private static volatile ExecutorService deletePool;
+
   private final SerializableSupplier<S3Client> s3;
   private AwsProperties awsProperties;
   private transient S3Client client;
+  private transient volatile S3ReadMetrics readMetrics;
 
   public S3FileIO() {
     this(AwsClientUtil::defaultS3Client);
@@ -56,7 +74,12 @@ public class S3FileIO implements FileIO {
 
   @Override
   public InputFile newInputFile(String path) {
-    return new S3InputFile(client(), new S3URI(path), awsProperties);
+    return new S3InputFile(client(), new S3URI(path), awsProperties, null, readMetrics());
+  }
+
+  @Override
+  public InputFile newInputFile(String path, long length) {
+    return new S3InputFile(client(), new S3URI(path), awsProperties, length, readMetrics());
   }
 
   @Override
@@ -75,6 +98,126 @@ public class S3FileIO implements FileIO {
     client().deleteObjects(deleteRequest);
   }
 
+  /**
+   * Deletes the given paths using S3 multi-object delete requests.
+   * <p>
+   * Paths are grouped by bucket into batches of at most {@link AwsProperties#S3FILEIO_DELETE_BATCH_SIZE} objects,
+   * and batches are deleted in parallel.
+   *
+   * @param pathsToDelete the paths of the objects to delete
+   * @throws BulkDeletionFailureException if any of the objects could not be deleted
+   */
+  @Override
+  public void deleteFiles(Iterable<String> pathsToDelete) throws BulkDeletionFailureException {
+    S3Client s3Client = client();
+    int batchSize = awsProperties.s3FileIoDeleteBatchSize();
+    Map<String, List<S3URI>> bucketToLocations = Maps.newHashMap();
+    List<Future<List<String>>> deletionTasks = Lists.newArrayList();
+
+    for (String path : pathsToDelete) {
+      S3URI location = new S3URI(path);
+      List<S3URI> locations = bucketToLocations.computeIfAbsent(location.bucket(), bucket -> Lists.newArrayList());
+      locations.add(location);
+      if (locations.size() >= batchSize) {
+        deletionTasks.add(submitDelete(s3Client, location.bucket(), locations));
+        bucketToLocations.remove(location.bucket());
+      }
+    }
+
+    // delete the remainder in each bucket
+    bucketToLocations.forEach((bucket, locations) -> deletionTasks.add(submitDelete(s3Client, bucket, locations)));
+
+    int totalFailedDeletions = 0;
+    for (Future<List<String>> deletionTask : deletionTasks) {
+      try {
+        List<String> failedDeletions = deletionTask.get();
+        failedDeletions.forEach(path -> LOG.warn("Failed to delete object at path {}", path));
+        totalFailedDeletions += failedDeletions.size();
+      } catch (ExecutionException e) {
+        throw new RuntimeException("Failed to run batch deletion", e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        deletionTasks.forEach(task -> task.cancel(true));
+        throw new RuntimeException("Interrupted while waiting for deletions to complete", e);
+      }
+    }
+
+    if (totalFailedDeletions > 0) {
+      throw new BulkDeletionFailureException(totalFailedDeletions);
+    }
+  }
+
+  private Future<List<String>> submitDelete(S3Client s3Client, String bucket, List<S3URI> locations) {
+    return deletePool().submit(() -> deleteObjectsInBucket(s3Client, bucket, locations));
+  }
+
+  /**
+   * Deletes a batch of objects in one bucket and returns the locations, as they were passed in, that were not deleted.
+   */
+  @VisibleForTesting
+  static List<String> deleteObjectsInBucket(S3Client s3Client, String bucket, List<S3URI> locations) {
+    // report failures using the original locations so that the scheme (s3, s3a, s3n) is preserved
+    Map<String, String> keyToLocation = Maps.newHashMapWithExpectedSize(locations.size());
+    locations.forEach(location -> keyToLocation.putIfAbsent(location.key(), location.location()));
+
+    List<ObjectIdentifier> objectIds = keyToLocation.keySet().stream()
+        .map(key -> ObjectIdentifier.builder().key(key).build())
+        .collect(Collectors.toList());
+    Delete delete = Delete.builder().objects(objectIds).quiet(true).build();
+    DeleteObjectsRequest deleteRequest = DeleteObjectsRequest.builder().bucket(bucket).delete(delete).build();
+
+    try {
+      DeleteObjectsResponse response = s3Client.deleteObjects(deleteRequest);
+      return response.errors().stream()
+          .map(error -> keyToLocation.getOrDefault(error.key(), String.format("s3://%s/%s", bucket, error.key())))
+          .collect(Collectors.toList());
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to delete batch of {} objects in bucket {}", objectIds.size(), bucket, e);
+      return Lists.newArrayList(keyToLocation.values());
+    }
+  }
+
+  private ExecutorService deletePool() {
+    if (deletePool == null) {
+      synchronized (S3FileIO.class) {
+        if (deletePool == null) {
+          deletePool = ThreadPools.newWorkerPool("iceberg-s3fileio-delete", awsProperties.s3FileIoDeleteThreads());
+        }
+      }
+    }
+
+    return deletePool;
+  }
+
+  /**
+   * Returns the scheduler that runs multipart uploads for this FileIO's output streams.
+   * <p>
+   * The scheduler is shared by all streams that use the same {@link AwsProperties#S3FILEIO_UPLOAD_SCHEDULER_IMPL}.
+   * The default implementation, {@link DefaultS3UploadScheduler}, exposes upload metrics.
+   *
+   * @return the shared upload scheduler
+   */
+  public S3UploadScheduler uploadScheduler() {
+    return S3OutputStream.scheduler(awsProperties);
+  }
+
+  /**
+   * Returns read counters for the input streams opened by this FileIO, used to tune adaptive reads.
+   *
+   * @return read metrics for this FileIO's closed input streams
+   */
+  public S3ReadMetrics readMetrics() {
+    if (readMetrics == null) {
+      synchronized (this) {
+        if (readMetrics == null) {
+          this.readMetrics = new S3ReadMetrics();
+        }
+      }
+    }
+
+    return readMetrics;
+  }
+
   private S3Client client() {
     if (client == null) {
       client = s3.get();
@@ -23,15 +23,34 @@ import org.apache.iceberg.aws.AwsProperties;
 import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import software.amazon.awssdk.services.s3.S3Client;
 
 public class S3InputFile extends BaseS3File implements InputFile {
+  private final Long length;
+  private final S3ReadMetrics metrics;
+
   public S3InputFile(S3Client client, S3URI uri) {
     this(client, uri, new AwsProperties());
   }
 
   public S3InputFile(S3Client client, S3URI uri, AwsProperties awsProperties) {
+    this(client, uri, awsProperties, null, new S3ReadMetrics());
+  }
+
+  /**
+   * Creates an input file with a known length, which avoids a request to S3 for the length and allows the file's
+   * contents to be cached if {@link AwsProperties#S3FILEIO_CACHE_ENABLED} is set.
+   */
+  public S3InputFile(S3Client client, S3URI uri, AwsProperties awsProperties, long length) {
+    this(client, uri, awsProperties, length, new S3ReadMetrics());
+  }
+
+  S3InputFile(S3Client client, S3URI uri, AwsProperties awsProperties, Long length, S3ReadMetrics metrics) {
     super(client, uri, awsProperties);
+    Preconditions.checkArgument(length == null || length >= 0, "Invalid file length: %s", length);
+    this.length = length;
+    this.metrics = metrics;
   }
 
   /**
@@ -41,6 +60,10 @@ public class S3InputFile extends BaseS3File implements InputFile {
    */
   @Override
   public long getLength() {
+    if (length != null) {
+      return length;
+    }
+
     if (!exists()) {
       throw new NotFoundException("Cannot retrieve file length because file %s does not exist", uri());
     }
@@ -50,7 +73,16 @@ public class S3InputFile extends BaseS3File implements InputFile {
 
   @Override
   public SeekableInputStream newStream() {
-    return new S3InputStream(client(), uri(), awsProperties());
+    if (length != null && awsProperties().s3FileIoCacheEnabled()) {
+      // cache small files whole, and the footer of larger files
+      long cachedStart = length <= awsProperties().s3FileIoCacheSmallFileMaxSize() ?
+          0 : Math.max(0, length - awsProperties().s3FileIoCacheFooterSize());
+      if (cachedStart < length) {
+        return new S3CachedInputStream(client(), uri(), awsProperties(), cachedStart, length, metrics);
+      }
+    }
+
+    return new S3InputStream(client(), uri(), awsProperties(), metrics);
   }
 
 }
@@ -21,41 +21,73 @@ package org.apache.iceberg.aws.s3;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.IntFunction;
 import org.apache.iceberg.aws.AwsProperties;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.FileRanges;
 import org.apache.iceberg.io.SeekableInputStream;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
 class S3InputStream extends SeekableInputStream {
   private static final Logger LOG = LoggerFactory.getLogger(S3InputStream.class);
+  private static final int VECTORED_READ_MAX_MERGED_SIZE = 8 * 1024 * 1024;
+
+  private static volatile ExecutorService vectoredReadPool;
 
   private final StackTraceElement[] createStack;
   private final S3Client s3;
   private final S3URI location;
   private final AwsProperties awsProperties;
+  private final boolean adaptive;
+  private final int readAheadSize;
+  private final S3ReadMetrics metrics;
 
-  private InputStream stream;
+  private ResponseInputStream<GetObjectResponse> stream;
   private long pos = 0;
   private long next = 0;
+  private long streamEnd = 0;
+  private boolean streamAtObjectEnd = false;
+  private boolean randomAccess = false;
   private boolean closed = false;
 
   private int skipSize = 1024 * 1024;
 
+  // per-stream counters, used to tune read-ahead and skip sizes
+  private long bytesRequested = 0L;
+  private long bytesRead = 0L;
+  private long bytesSkipped = 0L;
+  private int streamsOpened = 0;
+  private int streamsAborted = 0;
+
   S3InputStream(S3Client s3, S3URI location) {
     this(s3, location, new AwsProperties());
   }
 
   S3InputStream(S3Client s3, S3URI location, AwsProperties awsProperties) {
+    this(s3, location, awsProperties, new S3ReadMetrics());
+  }
+
+  S3InputStream(S3Client s3, S3URI location, AwsProperties awsProperties, S3ReadMetrics metrics) {
     this.s3 = s3;
     this.location = location;
     this.awsProperties = awsProperties;
+    this.adaptive = awsProperties.s3FileIoReadAdaptiveEnabled();
+    this.readAheadSize = awsProperties.s3FileIoReadAheadSize();
+    this.metrics = metrics;
 
     createStack = Thread.currentThread().getStackTrace();
   }
@@ -77,40 +109,108 @@ class S3InputStream extends SeekableInputStream {
   @Override
   public int read() throws IOException {
     Preconditions.checkState(!closed, "Cannot read: already closed");
-    positionStream();
+    positionStream(1);
 
-    pos += 1;
-    next += 1;
+    int value = stream.read();
+    if (value >= 0) {
+      pos += 1;
+      next += 1;
+      bytesRead += 1;
+    }
 
-    return stream.read();
+    return value;
   }
 
   @Override
   public int read(byte[] b, int off, int len) throws IOException {
     Preconditions.checkState(!closed, "Cannot read: already closed");
-    positionStream();
+    positionStream(len);
 
-    int bytesRead = stream.read(b, off, len);
-    pos += bytesRead;
-    next += bytesRead;
+    int count = stream.read(b, off, len);
+    if (count > 0) {
+      pos += count;
+      next += count;
+      bytesRead += count;
+    }
 
-    return bytesRead;
+    return count;
+  }
+
+  /**
+   * Reads merged ranges in parallel, using a bounded range request for each merged read.
+   * <p>
+   * Ranges are merged when the gap between them is no larger than the skip size used for forward seeks, because
+   * reading through the gap is cheaper than another request.
+   */
+  @Override
+  public void readVectored(List<FileRange> ranges, IntFunction<ByteBuffer> allocate) {
+    Preconditions.checkState(!closed, "Cannot read: already closed");
+    List<FileRanges.CombinedRange> reads = FileRanges.merge(ranges, skipSize, VECTORED_READ_MAX_MERGED_SIZE);
+    LOG.debug("Vectored read for {} of {} ranges using {} requests", location, ranges.size(), reads.size());
+    for (FileRanges.CombinedRange read : reads) {
+      vectoredReadPool().submit(() -> readRange(read, allocate));
+    }
+  }
+
+  private void readRange(FileRanges.CombinedRange read, IntFunction<ByteBuffer> allocate) {
+    if (read.length() == 0) {
+      // an empty range header is invalid
+      read.complete(allocate.apply(0));
+      return;
+    }
+
+    GetObjectRequest.Builder requestBuilder = GetObjectRequest.builder()
+        .bucket(location.bucket())
+        .key(location.key())
+        .range(String.format("bytes=%s-%s", read.offset(), read.offset() + read.length() - 1));
+
+    S3RequestUtil.configureEncryption(awsProperties, requestBuilder);
+
+    try (InputStream rangeStream = s3.getObject(requestBuilder.build(), ResponseTransformer.toInputStream())) {
+      ByteBuffer buffer = allocate.apply(read.length());
+      FileRanges.readFully(rangeStream, buffer);
+      read.complete(buffer);
+    } catch (IOException | RuntimeException e) {
+      read.fail(e);
+    }
+  }
+
+  private ExecutorService vectoredReadPool() {
+    if (vectoredReadPool == null) {
+      synchronized (S3InputStream.class) {
+        if (vectoredReadPool == null) {
+          vectoredReadPool = ThreadPools.newWorkerPool(
+              "iceberg-s3fileio-vectored-read", awsProperties.s3FileIoVectoredReadThreads());
+        }
+      }
+    }
+
+    return vectoredReadPool;
   }
 
   @Override
   public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+
     super.close();
     closed = true;
     closeStream();
+    metrics.add(bytesRequested, bytesRead, bytesSkipped, streamsOpened, streamsAborted);
+
+    LOG.debug("Closed stream for {}: requested {} bytes, read {} bytes, skipped {} bytes, " +
+        "opened {} streams, aborted {} streams", location, bytesRequested, bytesRead, bytesSkipped,
+        streamsOpened, streamsAborted);
   }
 
-  private void positionStream() throws IOException {
-    if ((stream != null) && (next == pos)) {
+  private void positionStream(int len) throws IOException {
+    if ((stream != null) && (next == pos) && (pos < streamEnd || streamAtObjectEnd)) {
       // already at specified position
       return;
     }
 
-    if ((stream != null) && (next > pos)) {
+    if ((stream != null) && (next > pos) && (next < streamEnd)) {
       // seeking forwards
       long skip = next - pos;
       if (skip <= Math.max(stream.available(), skipSize)) {
@@ -119,6 +219,7 @@ class S3InputStream extends SeekableInputStream {
         try {
           ByteStreams.skipFully(stream, skip);
           pos = next;
+          bytesSkipped += skip;
           return;
         } catch (IOException ignored) {
           // will retry by re-opening the stream
@@ -126,30 +227,111 @@ class S3InputStream extends SeekableInputStream {
       }
     }
 
+    if (adaptive && stream != null) {
+      // reads that continue at the end of the last range are sequential, any other reopen is a random seek
+      boolean sequential = next == pos;
+      if (randomAccess == sequential) {
+        LOG.debug("Switching to {} access for {} at offset {}", sequential ? "sequential" : "random", location, next);
+        randomAccess = !sequential;
+      }
+    }
+
     // close the stream and open at desired position
     LOG.debug("Seek with new stream for {} to offset {}", location, next);
+    closeStream();
     pos = next;
-    openStream();
+    openStream(len);
   }
 
-  private void openStream() throws IOException {
+  private void openStream(int len) throws IOException {
+    String range;
+    long requestedEnd;
+    if (adaptive && randomAccess) {
+      // bounded request that covers this read plus read-ahead for the small reads that usually follow a seek
+      requestedEnd = pos + Math.max(len, readAheadSize);
+      range = String.format("bytes=%s-%s", pos, requestedEnd - 1);
+    } else {
+      requestedEnd = Long.MAX_VALUE;
+      range = String.format("bytes=%s-", pos);
+    }
+
     GetObjectRequest.Builder requestBuilder = GetObjectRequest.builder()
         .bucket(location.bucket())
         .key(location.key())
-        .range(String.format("bytes=%s-", pos));
+        .range(range);
 
     S3RequestUtil.configureEncryption(awsProperties, requestBuilder);
 
-    closeStream();
     stream = s3.getObject(requestBuilder.build(), ResponseTransformer.toInputStream());
+    streamsOpened += 1;
+
+    Long contentLength = stream.response().contentLength();
+    if (contentLength != null) {
+      streamEnd = pos + contentLength;
+      bytesRequested += contentLength;
+    } else {
+      streamEnd = requestedEnd;
+    }
+
+    // when the response runs to the end of the object, reads at the end should return -1 instead of reopening
+    long objectLength = objectLength(stream.response().contentRange());
+    streamAtObjectEnd = requestedEnd == Long.MAX_VALUE || streamEnd < requestedEnd ||
+        (objectLength >= 0 && streamEnd >= objectLength);
+  }
+
+  private static long objectLength(String contentRange) {
+    // content range is formatted as "bytes start-end/length", where length may be "*" if it is unknown
+    if (contentRange != null) {
+      int slash = contentRange.lastIndexOf('/');
+      if (slash >= 0) {
+        try {
+          return Long.parseLong(contentRange.substring(slash + 1).trim());
+        } catch (NumberFormatException e) {
+          return -1L;
+        }
+      }
+    }
+
+    return -1L;
   }
 
   private void closeStream() throws IOException {
     if (stream != null) {
+      // closing drains the remaining response so the connection can be reused, abort if that is too expensive
+      if (streamEnd - pos > skipSize) {
+        stream.abort();
+        streamsAborted += 1;
+      }
+
       stream.close();
+      stream = null;
     }
   }
 
+  long bytesRequested() {
+    return bytesRequested;
+  }
+
+  long bytesRead() {
+    return bytesRead;
+  }
+
+  long bytesSkipped() {
+    return bytesSkipped;
+  }
+
+  int streamsOpened() {
+    return streamsOpened;
+  }
+
+  int streamsAborted() {
+    return streamsAborted;
+  }
+
+  boolean isRandomAccess() {
+    return randomAccess;
+  }
+
   public void setSkipSize(int skipSize) {
     this.skipSize = skipSize;
   }
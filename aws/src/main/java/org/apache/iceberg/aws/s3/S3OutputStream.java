@@ -27,19 +27,19 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.SequenceInputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
 import org.apache.iceberg.aws.AwsProperties;
+import org.apache.iceberg.common.DynConstructors;
 import org.apache.iceberg.io.PositionOutputStream;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
@@ -47,8 +47,6 @@ import org.apache.iceberg.relocated.com.google.common.base.Predicates;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.io.CountingOutputStream;
-import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
-import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.iceberg.util.Tasks;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,19 +64,22 @@ import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 class S3OutputStream extends PositionOutputStream {
   private static final Logger LOG = LoggerFactory.getLogger(S3OutputStream.class);
 
-  private static volatile ExecutorService executorService;
+  private static final Map<String, S3UploadScheduler> SCHEDULERS = Maps.newConcurrentMap();
 
   private final StackTraceElement[] createStack;
   private final S3Client s3;
   private final S3URI location;
   private final AwsProperties awsProperties;
+  private final S3UploadScheduler.UploadQueue uploadQueue;
 
   private CountingOutputStream stream;
-  private final List<File> stagingFiles = Lists.newArrayList();
+  private final List<StagedPart> stagedParts = Lists.newArrayList();
   private final File stagingDirectory;
-  private File currentStagingFile;
+  private final S3BufferPool bufferPool;
+  private final long bufferWaitMs;
+  private StagedPart currentPart;
   private String multipartUploadId;
-  private final Map<File, CompletableFuture<CompletedPart>> multiPartMap = Maps.newHashMap();
+  private final Map<StagedPart, CompletableFuture<CompletedPart>> multiPartMap = Maps.newHashMap();
   private final int multiPartSize;
   private final int multiPartThresholdSize;
 
@@ -86,29 +87,19 @@ class S3OutputStream extends PositionOutputStream {
   private boolean closed = false;
 
   S3OutputStream(S3Client s3, S3URI location, AwsProperties awsProperties) throws IOException {
-    if (executorService == null) {
-      synchronized (this) {
-        if (executorService == null) {
-          executorService = MoreExecutors.getExitingExecutorService(
-              (ThreadPoolExecutor) Executors.newFixedThreadPool(
-                  awsProperties.s3FileIoMultipartUploadThreads(),
-                  new ThreadFactoryBuilder()
-                      .setDaemon(true)
-                      .setNameFormat("iceberg-s3fileio-upload-%d")
-                      .build()));
-        }
-      }
-    }
-
     this.s3 = s3;
     this.location = location;
     this.awsProperties = awsProperties;
+    this.uploadQueue = scheduler(awsProperties).newQueue(location.toString());
 
     createStack = Thread.currentThread().getStackTrace();
 
     multiPartSize = awsProperties.s3FileIoMultiPartSize();
     multiPartThresholdSize =  (int) (multiPartSize * awsProperties.s3FileIOMultipartThresholdFactor());
     stagingDirectory = new File(awsProperties.getS3fileIoStagingDirectory());
+    bufferPool = awsProperties.s3FileIoStagingMemoryEnabled() ?
+        S3BufferPool.forLimit(awsProperties.s3FileIoStagingMemoryMaxBytes()) : null;
+    bufferWaitMs = awsProperties.s3FileIoStagingMemoryMaxWaitMs();
 
     newStream();
   }
@@ -174,11 +165,10 @@ class S3OutputStream extends PositionOutputStream {
       stream.close();
     }
 
-    currentStagingFile = File.createTempFile("s3fileio-", ".tmp", stagingDirectory);
-    currentStagingFile.deleteOnExit();
-    stagingFiles.add(currentStagingFile);
+    currentPart = new StagedPart();
+    stagedParts.add(currentPart);
 
-    stream = new CountingOutputStream(new BufferedOutputStream(new FileOutputStream(currentStagingFile)));
+    stream = new CountingOutputStream(currentPart);
   }
 
   @Override
@@ -195,7 +185,7 @@ class S3OutputStream extends PositionOutputStream {
 
       completeUploads();
     } finally {
-      cleanUpStagingFiles();
+      cleanUpStagedParts();
     }
   }
 
@@ -214,35 +204,31 @@ class S3OutputStream extends PositionOutputStream {
       return;
     }
 
-    stagingFiles.stream()
-        // do not upload the file currently being written
-        .filter(f -> closed || !f.equals(currentStagingFile))
-        // do not upload any files that have already been processed
+    stagedParts.stream()
+        // do not upload the part currently being written
+        .filter(part -> closed || !part.equals(currentPart))
+        // do not upload any parts that have already been processed
         .filter(Predicates.not(multiPartMap::containsKey))
-        .forEach(f -> {
+        .forEach(part -> {
           UploadPartRequest.Builder requestBuilder = UploadPartRequest.builder()
               .bucket(location.bucket())
               .key(location.key())
               .uploadId(multipartUploadId)
-              .partNumber(stagingFiles.indexOf(f) + 1)
-              .contentLength(f.length());
+              .partNumber(stagedParts.indexOf(part) + 1)
+              .contentLength(part.length());
 
           S3RequestUtil.configureEncryption(awsProperties, requestBuilder);
 
           UploadPartRequest uploadRequest = requestBuilder.build();
 
-          CompletableFuture<CompletedPart> future = CompletableFuture.supplyAsync(
+          CompletableFuture<CompletedPart> future = uploadQueue.submit(
+              part.length(),
               () -> {
-                UploadPartResponse response = s3.uploadPart(uploadRequest, RequestBody.fromFile(f));
+                UploadPartResponse response = s3.uploadPart(uploadRequest, part.requestBody());
                 return CompletedPart.builder().eTag(response.eTag()).partNumber(uploadRequest.partNumber()).build();
-              },
-              executorService
+              }
           ).whenComplete((result, thrown) -> {
-            try {
-              Files.deleteIfExists(f.toPath());
-            } catch (IOException e) {
-              LOG.warn("Failed to delete staging file: {}", f, e);
-            }
+            part.release();
 
             if (thrown != null) {
               LOG.error("Failed to upload part: {}", uploadRequest, thrown);
@@ -250,7 +236,7 @@ class S3OutputStream extends PositionOutputStream {
             }
           });
 
-          multiPartMap.put(f, future);
+          multiPartMap.put(part, future);
         });
   }
 
@@ -285,23 +271,23 @@ class S3OutputStream extends PositionOutputStream {
         s3.abortMultipartUpload(AbortMultipartUploadRequest.builder()
             .bucket(location.bucket()).key(location.key()).uploadId(multipartUploadId).build());
       } finally {
-        cleanUpStagingFiles();
+        cleanUpStagedParts();
       }
     }
   }
 
-  private void cleanUpStagingFiles() {
-    Tasks.foreach(stagingFiles)
+  private void cleanUpStagedParts() {
+    Tasks.foreach(stagedParts)
         .suppressFailureWhenFinished()
-        .onFailure((file, thrown) -> LOG.warn("Failed to delete staging file: {}", file, thrown))
-        .run(File::delete);
+        .onFailure((part, thrown) -> LOG.warn("Failed to release staged part: {}", part, thrown))
+        .run(StagedPart::release);
   }
 
   private void completeUploads() {
     if (multipartUploadId == null) {
-      long contentLength = stagingFiles.stream().mapToLong(File::length).sum();
-      InputStream contentStream = new BufferedInputStream(stagingFiles.stream()
-          .map(S3OutputStream::uncheckedInputStream)
+      long contentLength = stagedParts.stream().mapToLong(StagedPart::length).sum();
+      InputStream contentStream = new BufferedInputStream(stagedParts.stream()
+          .map(StagedPart::newInputStream)
           .reduce(SequenceInputStream::new)
           .orElseGet(() -> new ByteArrayInputStream(new byte[0])));
 
@@ -319,6 +305,33 @@ class S3OutputStream extends PositionOutputStream {
     }
   }
 
+  static S3UploadScheduler scheduler(AwsProperties awsProperties) {
+    return SCHEDULERS.computeIfAbsent(awsProperties.s3FileIoUploadSchedulerImpl(),
+        impl -> loadScheduler(impl, awsProperties));
+  }
+
+  private static S3UploadScheduler loadScheduler(String impl, AwsProperties awsProperties) {
+    LOG.info("Loading S3UploadScheduler implementation: {}", impl);
+    DynConstructors.Ctor<S3UploadScheduler> ctor;
+    try {
+      ctor = DynConstructors.builder(S3UploadScheduler.class).impl(impl).buildChecked();
+    } catch (NoSuchMethodException e) {
+      throw new IllegalArgumentException(String.format(
+          "Cannot initialize S3UploadScheduler, missing no-arg constructor: %s", impl), e);
+    }
+
+    S3UploadScheduler scheduler;
+    try {
+      scheduler = ctor.newInstance();
+    } catch (ClassCastException e) {
+      throw new IllegalArgumentException(
+          String.format("Cannot initialize S3UploadScheduler, %s does not implement S3UploadScheduler.", impl), e);
+    }
+
+    scheduler.initialize(awsProperties);
+    return scheduler;
+  }
+
   private static InputStream uncheckedInputStream(File file) {
     try {
       return new FileInputStream(file);
@@ -327,6 +340,250 @@ class S3OutputStream extends PositionOutputStream {
     }
   }
 
+  /**
+   * A part staged in pooled memory buffers, or in a local file when memory staging is disabled.
+   * <p>
+   * A part that cannot get a buffer within the configured wait spills its buffered bytes to a staging file and
+   * continues writing to the file, so writers are never blocked indefinitely by uploads of other streams.
+   */
+  private class StagedPart extends OutputStream {
+    private final List<ByteBuffer> buffers = Lists.newArrayList();
+    private File file = null;
+    private OutputStream fileStream = null;
+    private long length = 0L;
+    private boolean released = false;
+
+    StagedPart() throws IOException {
+      if (bufferPool == null) {
+        openFile();
+      }
+    }
+
+    @Override
+    public synchronized void write(int b) throws IOException {
+      ByteBuffer buffer = writableBuffer();
+      if (buffer != null) {
+        buffer.put((byte) b);
+      } else {
+        fileStream.write(b);
+      }
+
+      length += 1;
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) throws IOException {
+      int remaining = len;
+      int offset = off;
+      while (remaining > 0) {
+        ByteBuffer buffer = writableBuffer();
+        if (buffer == null) {
+          fileStream.write(b, offset, remaining);
+          break;
+        }
+
+        int writeSize = Math.min(remaining, buffer.remaining());
+        buffer.put(b, offset, writeSize);
+        remaining -= writeSize;
+        offset += writeSize;
+      }
+
+      length += len;
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+      if (fileStream != null) {
+        fileStream.flush();
+      }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+      if (fileStream != null) {
+        fileStream.close();
+      }
+    }
+
+    synchronized long length() {
+      return length;
+    }
+
+    /**
+     * Returns the buffer to write the next byte into, or null if the part is staged in a file.
+     */
+    private ByteBuffer writableBuffer() throws IOException {
+      Preconditions.checkState(!released, "Cannot write: staged part was released: %s", location);
+      if (file != null) {
+        return null;
+      }
+
+      ByteBuffer last = buffers.isEmpty() ? null : buffers.get(buffers.size() - 1);
+      if (last != null && last.hasRemaining()) {
+        return last;
+      }
+
+      ByteBuffer buffer = bufferPool.acquire(bufferWaitMs);
+      if (buffer == null) {
+        LOG.debug("Staging memory is exhausted, spilling part for {} to disk", location);
+        spill();
+        return null;
+      }
+
+      buffers.add(buffer);
+      return buffer;
+    }
+
+    private void openFile() throws IOException {
+      this.file = File.createTempFile("s3fileio-", ".tmp", stagingDirectory);
+      file.deleteOnExit();
+      this.fileStream = new BufferedOutputStream(new FileOutputStream(file));
+    }
+
+    private void spill() throws IOException {
+      openFile();
+      for (ByteBuffer buffer : readableBuffers()) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        fileStream.write(bytes);
+      }
+
+      releaseBuffers();
+    }
+
+    private List<ByteBuffer> readableBuffers() {
+      List<ByteBuffer> readable = Lists.newArrayListWithCapacity(buffers.size());
+      for (ByteBuffer buffer : buffers) {
+        ByteBuffer duplicate = buffer.duplicate();
+        duplicate.flip();
+        readable.add(duplicate);
+      }
+
+      return readable;
+    }
+
+    synchronized RequestBody requestBody() {
+      if (file != null) {
+        return RequestBody.fromFile(file);
+      }
+
+      // the stream supports mark and reset over all of the buffers, so failed requests can be retried from memory
+      return RequestBody.fromInputStream(new ByteBuffersInputStream(readableBuffers()), length);
+    }
+
+    synchronized InputStream newInputStream() {
+      if (file != null) {
+        return uncheckedInputStream(file);
+      }
+
+      return new ByteBuffersInputStream(readableBuffers());
+    }
+
+    synchronized void release() {
+      if (released) {
+        return;
+      }
+
+      this.released = true;
+      releaseBuffers();
+
+      if (file != null) {
+        try {
+          if (fileStream != null) {
+            fileStream.close();
+          }
+
+          Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+          LOG.warn("Failed to delete staging file: {}", file, e);
+        }
+      }
+    }
+
+    private void releaseBuffers() {
+      for (ByteBuffer buffer : buffers) {
+        bufferPool.release(buffer);
+      }
+
+      buffers.clear();
+    }
+
+    @Override
+    public String toString() {
+      return file != null ? file.toString() : String.format("memory(%s bytes)", length);
+    }
+  }
+
+  /**
+   * An input stream over flipped buffers that supports mark and reset without a read limit.
+   */
+  private static class ByteBuffersInputStream extends InputStream {
+    private final List<ByteBuffer> buffers;
+    private int index = 0;
+    private int markIndex = 0;
+    private int markPosition = 0;
+
+    ByteBuffersInputStream(List<ByteBuffer> buffers) {
+      this.buffers = buffers;
+    }
+
+    private ByteBuffer current() {
+      while (index < buffers.size() && !buffers.get(index).hasRemaining()) {
+        index += 1;
+      }
+
+      return index < buffers.size() ? buffers.get(index) : null;
+    }
+
+    @Override
+    public int read() {
+      ByteBuffer buffer = current();
+      return buffer != null ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (len == 0) {
+        return 0;
+      }
+
+      ByteBuffer buffer = current();
+      if (buffer == null) {
+        return -1;
+      }
+
+      int readSize = Math.min(len, buffer.remaining());
+      buffer.get(b, off, readSize);
+      return readSize;
+    }
+
+    @Override
+    public int available() {
+      ByteBuffer buffer = current();
+      return buffer != null ? buffer.remaining() : 0;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return true;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+      this.markIndex = index;
+      this.markPosition = index < buffers.size() ? buffers.get(index).position() : 0;
+    }
+
+    @Override
+    public synchronized void reset() {
+      for (int i = markIndex; i < buffers.size(); i += 1) {
+        buffers.get(i).position(i == markIndex ? markPosition : 0);
+      }
+
+      this.index = markIndex;
+    }
+  }
+
   @SuppressWarnings("checkstyle:NoFinalizer")
   @Override
   protected void finalize() throws Throwable {
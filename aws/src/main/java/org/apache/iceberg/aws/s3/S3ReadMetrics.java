@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.aws.s3;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+
+/**
+ * Read counters for the input streams of an {@link S3FileIO}, used to tune adaptive reads.
+ * <p>
+ * Streams add their counters when they are closed, so reads by open streams are not included.
+ */
+public class S3ReadMetrics {
+  private final LongAdder streams = new LongAdder();
+  private final LongAdder bytesRequested = new LongAdder();
+  private final LongAdder bytesRead = new LongAdder();
+  private final LongAdder bytesSkipped = new LongAdder();
+  private final LongAdder requestsOpened = new LongAdder();
+  private final LongAdder requestsAborted = new LongAdder();
+
+  void add(long streamBytesRequested, long streamBytesRead, long streamBytesSkipped,
+           int streamRequestsOpened, int streamRequestsAborted) {
+    streams.increment();
+    bytesRequested.add(streamBytesRequested);
+    bytesRead.add(streamBytesRead);
+    bytesSkipped.add(streamBytesSkipped);
+    requestsOpened.add(streamRequestsOpened);
+    requestsAborted.add(streamRequestsAborted);
+  }
+
+  /**
+   * Returns the number of closed streams.
+   */
+  public long streams() {
+    return streams.sum();
+  }
+
+  /**
+   * Returns the number of bytes requested from S3 by range requests.
+   */
+  public long bytesRequested() {
+    return bytesRequested.sum();
+  }
+
+  /**
+   * Returns the number of bytes returned to readers.
+   */
+  public long bytesRead() {
+    return bytesRead.sum();
+  }
+
+  /**
+   * Returns the number of bytes read and discarded to seek forward in an open request.
+   */
+  public long bytesSkipped() {
+    return bytesSkipped.sum();
+  }
+
+  /**
+   * Returns the number of range requests opened, including reopens after seeks.
+   */
+  public long requestsOpened() {
+    return requestsOpened.sum();
+  }
+
+  /**
+   * Returns the number of range requests aborted instead of drained when closed.
+   */
+  public long requestsAborted() {
+    return requestsAborted.sum();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("streams", streams())
+        .add("bytesRequested", bytesRequested())
+        .add("bytesRead", bytesRead())
+        .add("bytesSkipped", bytesSkipped())
+        .add("requestsOpened", requestsOpened())
+        .add("requestsAborted", requestsAborted())
+        .toString();
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.aws.s3;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.apache.iceberg.aws.AwsProperties;
+
+/**
+ * Schedules multipart part uploads for {@link S3OutputStream S3 output streams}.
+ * <p>
+ * Implementations are configured using {@link AwsProperties#S3FILEIO_UPLOAD_SCHEDULER_IMPL} and must have a no-arg
+ * constructor. A single instance is shared by all output streams that use the same implementation and is initialized
+ * with the properties of the first stream that uses it, so implementations must be thread-safe.
+ */
+public interface S3UploadScheduler {
+
+  /**
+   * Initializes the scheduler with the properties of the first stream that uses it.
+   *
+   * @param awsProperties AWS properties
+   */
+  void initialize(AwsProperties awsProperties);
+
+  /**
+   * Returns a queue used by a single output stream to submit its part uploads.
+   *
+   * @param location the location of the object that the stream is writing
+   * @return a queue for the stream's part uploads
+   */
+  UploadQueue newQueue(String location);
+
+  interface UploadQueue {
+    /**
+     * Submits a part upload.
+     *
+     * @param size the size of the part in bytes
+     * @param upload a supplier that uploads the part and returns its result
+     * @param <T> the result type of the upload
+     * @return a future that completes when the upload has run
+     */
+    <T> CompletableFuture<T> submit(long size, Supplier<T> upload);
+  }
+}
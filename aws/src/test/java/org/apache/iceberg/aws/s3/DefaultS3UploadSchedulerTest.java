@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.aws.s3;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.iceberg.AssertHelpers;
+import org.apache.iceberg.aws.AwsProperties;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DefaultS3UploadSchedulerTest {
+
+  private static DefaultS3UploadScheduler newScheduler(int threads, int maxInFlightPerStream, long maxBytesPerSecond) {
+    DefaultS3UploadScheduler scheduler = new DefaultS3UploadScheduler();
+    scheduler.initialize(new AwsProperties(ImmutableMap.of(
+        AwsProperties.S3FILEIO_MULTIPART_UPLOAD_THREADS, Integer.toString(threads),
+        AwsProperties.S3FILEIO_UPLOAD_MAX_IN_FLIGHT_PARTS_PER_STREAM, Integer.toString(maxInFlightPerStream),
+        AwsProperties.S3FILEIO_UPLOAD_MAX_BYTES_PER_SECOND, Long.toString(maxBytesPerSecond))));
+    return scheduler;
+  }
+
+  @Test
+  public void testPerStreamInFlightLimit() {
+    DefaultS3UploadScheduler scheduler = newScheduler(4, 2, 0);
+    S3UploadScheduler.UploadQueue queue = scheduler.newQueue("s3://bucket/path/data.parquet");
+
+    AtomicInteger running = new AtomicInteger(0);
+    AtomicInteger maxRunning = new AtomicInteger(0);
+    List<CompletableFuture<Integer>> futures = Lists.newArrayList();
+    for (int i = 0; i < 8; i += 1) {
+      int part = i;
+      futures.add(queue.submit(10, () -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        sleep(20);
+        running.decrementAndGet();
+        return part;
+      }));
+    }
+
+    for (int i = 0; i < futures.size(); i += 1) {
+      Assert.assertEquals("Should return the upload result", i, (int) futures.get(i).join());
+    }
+
+    Assert.assertEquals("Should not exceed the per-stream limit", 2, maxRunning.get());
+    Assert.assertEquals("Should count completed parts", 8, scheduler.completedParts());
+    Assert.assertEquals("Should count uploaded bytes", 80, scheduler.uploadedBytes());
+    Assert.assertEquals("Should have no queued parts", 0, scheduler.queuedParts());
+    Assert.assertEquals("Should have no parts in flight", 0, scheduler.inFlightParts());
+  }
+
+  @Test
+  public void testStreamsTakeTurns() {
+    DefaultS3UploadScheduler scheduler = newScheduler(1, 0, 0);
+    S3UploadScheduler.UploadQueue large = scheduler.newQueue("s3://bucket/path/large.parquet");
+    S3UploadScheduler.UploadQueue small = scheduler.newQueue("s3://bucket/path/small.parquet");
+
+    // block the only upload thread until both streams have queued their parts
+    CountDownLatch blocked = new CountDownLatch(1);
+    List<String> order = Lists.newArrayList();
+    List<CompletableFuture<Boolean>> futures = Lists.newArrayList();
+    futures.add(large.submit(10, () -> await(blocked) && order.add("large")));
+    for (int i = 0; i < 4; i += 1) {
+      futures.add(large.submit(10, () -> order.add("large")));
+    }
+
+    futures.add(small.submit(10, () -> order.add("small")));
+    Assert.assertEquals("Should queue parts behind the running upload", 5, scheduler.queuedParts());
+
+    blocked.countDown();
+    futures.forEach(CompletableFuture::join);
+
+    Assert.assertEquals("Small stream should not wait for the large stream's backlog",
+        Lists.newArrayList("large", "large", "small", "large", "large", "large"), order);
+  }
+
+  @Test
+  public void testFailedUpload() {
+    DefaultS3UploadScheduler scheduler = newScheduler(2, 0, 0);
+    S3UploadScheduler.UploadQueue queue = scheduler.newQueue("s3://bucket/path/data.parquet");
+
+    CompletableFuture<Integer> future = queue.submit(10, () -> {
+      throw new IllegalStateException("Upload failed");
+    });
+
+    AssertHelpers.assertThrows("Should fail the future with the upload failure",
+        CompletionException.class, "Upload failed",
+        future::join);
+    Assert.assertEquals("Should count failed parts", 1, scheduler.failedParts());
+    Assert.assertEquals("Should not count bytes for failed parts", 0, scheduler.uploadedBytes());
+    Assert.assertEquals("Should have no parts in flight", 0, scheduler.inFlightParts());
+  }
+
+  @Test
+  public void testBandwidthLimit() {
+    DefaultS3UploadScheduler scheduler = newScheduler(4, 0, 1000);
+    S3UploadScheduler.UploadQueue queue = scheduler.newQueue("s3://bucket/path/data.parquet");
+
+    long start = System.nanoTime();
+    List<CompletableFuture<Integer>> futures = Lists.newArrayList();
+    for (int i = 0; i < 3; i += 1) {
+      futures.add(queue.submit(250, () -> 1));
+    }
+
+    futures.forEach(CompletableFuture::join);
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    // the first part starts immediately and each following part waits 250 ms
+    Assert.assertTrue("Should pace uploads to the configured rate: " + elapsedMillis, elapsedMillis >= 450);
+  }
+
+  private static boolean await(CountDownLatch latch) {
+    try {
+      return latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -23,13 +23,20 @@ import com.adobe.testing.s3mock.junit4.S3MockRule;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.SerializationUtils;
 import org.apache.iceberg.AssertHelpers;
+import org.apache.iceberg.aws.AwsProperties;
 import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.util.SerializableSupplier;
 import org.junit.Before;
 import org.junit.ClassRule;
@@ -40,10 +47,13 @@ import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 public class S3FileIOTest {
@@ -117,6 +127,155 @@ public class S3FileIOTest {
     assertEquals("List results are always returned in UTF-8 binary order", data.length, in.getLength());
   }
 
+  @Test
+  public void testDeleteFilesMultipleBatches() {
+    AwsProperties properties = new AwsProperties(ImmutableMap.of(AwsProperties.S3FILEIO_DELETE_BATCH_SIZE, "3"));
+    S3FileIO bulkFileIO = new S3FileIO(s3, properties);
+
+    List<String> paths = Lists.newArrayList();
+    for (int i = 0; i < 10; i += 1) {
+      String key = "path/to/bulk/file-" + i + ".txt";
+      s3.get().putObject(PutObjectRequest.builder().bucket("bucket").key(key).build(),
+          RequestBody.fromBytes(new byte[16]));
+      paths.add("s3://bucket/" + key);
+    }
+
+    bulkFileIO.deleteFiles(paths);
+
+    for (String path : paths) {
+      assertFalse("File should be deleted: " + path, bulkFileIO.newInputFile(path).exists());
+    }
+  }
+
+  @Test
+  public void testDeleteFailuresUseOriginalLocations() {
+    List<String> failed = S3FileIO.deleteObjectsInBucket(s3.get(), "missing-bucket", Lists.newArrayList(
+        new S3URI("s3a://missing-bucket/path/to/file-1.txt"), new S3URI("s3n://missing-bucket/path/to/file-2.txt")));
+
+    assertEquals("Should report failures using the original locations",
+        Sets.newHashSet("s3a://missing-bucket/path/to/file-1.txt", "s3n://missing-bucket/path/to/file-2.txt"),
+        Sets.newHashSet(failed));
+  }
+
+  @Test
+  public void testInvalidDeleteBatchSize() {
+    AssertHelpers.assertThrows("Should reject a batch size larger than the S3 limit",
+        IllegalArgumentException.class, "Deletion batch size must be between 1 and 1000",
+        () -> new AwsProperties(ImmutableMap.of(AwsProperties.S3FILEIO_DELETE_BATCH_SIZE, "1001")));
+  }
+
+  @Test
+  public void testNewInputFileWithLength() {
+    InputFile in = s3FileIO.newInputFile("s3://bucket/path/to/missing.dat", 42L);
+    assertEquals("Should use the known length without a request", 42L, in.getLength());
+  }
+
+  @Test
+  public void testCachedSmallFile() throws IOException {
+    String location = "s3://bucket/path/to/cached-small.avro";
+    byte[] expected = new byte[1024];
+    random.nextBytes(expected);
+    writeFile(location, expected);
+
+    S3FileIO cachingFileIO = new S3FileIO(s3, cachingProperties());
+    assertArrayEquals(expected, readFully(cachingFileIO.newInputFile(location, expected.length), expected.length));
+
+    // the second read must be served from the cache
+    cachingFileIO.deleteFile(location);
+    assertArrayEquals(expected, readFully(cachingFileIO.newInputFile(location, expected.length), expected.length));
+  }
+
+  @Test
+  public void testCacheIsScopedToClient() throws IOException {
+    String location = "s3://bucket/path/to/cached-scoped.avro";
+    byte[] expected = new byte[1024];
+    random.nextBytes(expected);
+    writeFile(location, expected);
+
+    S3Client sharedClient = s3.get();
+    S3FileIO cachingFileIO = new S3FileIO(() -> sharedClient, cachingProperties());
+    assertArrayEquals(expected, readFully(cachingFileIO.newInputFile(location, expected.length), expected.length));
+    cachingFileIO.deleteFile(location);
+
+    // an instance with the same client may use the cached bytes
+    S3FileIO sameClientFileIO = new S3FileIO(() -> sharedClient, cachingProperties());
+    assertArrayEquals(expected, readFully(sameClientFileIO.newInputFile(location, expected.length), expected.length));
+
+    // an instance with a different client must read from S3
+    S3FileIO otherClientFileIO = new S3FileIO(s3, cachingProperties());
+    InputFile in = otherClientFileIO.newInputFile(location, expected.length);
+    assertThrows(S3Exception.class, () -> readFully(in, expected.length));
+  }
+
+  @Test
+  public void testCachedFooter() throws IOException {
+    String location = "s3://bucket/path/to/cached-footer.parquet";
+    byte[] expected = new byte[64 * 1024];
+    random.nextBytes(expected);
+    writeFile(location, expected);
+
+    S3FileIO cachingFileIO = new S3FileIO(s3, cachingProperties());
+    byte[] footer = Arrays.copyOfRange(expected, expected.length - 1000, expected.length);
+    assertArrayEquals(footer, readTail(cachingFileIO.newInputFile(location, expected.length), 1000));
+
+    // the footer is cached, but the rest of the file is not
+    cachingFileIO.deleteFile(location);
+    InputFile in = cachingFileIO.newInputFile(location, expected.length);
+    assertArrayEquals(footer, readTail(in, 1000));
+    assertThrows(S3Exception.class, () -> readFully(in, 1024));
+  }
+
+  private AwsProperties cachingProperties() {
+    AwsProperties properties = new AwsProperties();
+    properties.setS3FileIoCacheEnabled(true);
+    properties.setS3FileIoCacheSmallFileMaxSize(16 * 1024);
+    properties.setS3FileIoCacheFooterSize(4 * 1024);
+    return properties;
+  }
+
+  @Test
+  public void testUploadSchedulerIsShared() {
+    S3UploadScheduler scheduler = s3FileIO.uploadScheduler();
+    assertTrue("Should use the default scheduler", scheduler instanceof DefaultS3UploadScheduler);
+    assertSame("Should share the scheduler with other FileIO instances",
+        scheduler, new S3FileIO(s3).uploadScheduler());
+  }
+
+  @Test
+  public void testReadMetrics() throws IOException {
+    String location = "s3://bucket/path/to/metrics.dat";
+    byte[] data = new byte[1024];
+    random.nextBytes(data);
+    writeFile(location, data);
+
+    assertArrayEquals(data, readFully(s3FileIO.newInputFile(location), data.length));
+
+    S3ReadMetrics metrics = s3FileIO.readMetrics();
+    assertEquals("Should count closed streams", 1, metrics.streams());
+    assertEquals("Should count bytes read", data.length, metrics.bytesRead());
+    assertEquals("Should count opened requests", 1, metrics.requestsOpened());
+    assertEquals("Should not share metrics with other FileIO instances", 0, new S3FileIO(s3).readMetrics().streams());
+  }
+
+  private void writeFile(String location, byte[] data) throws IOException {
+    try (OutputStream os = s3FileIO.newOutputFile(location).createOrOverwrite()) {
+      IOUtils.write(data, os);
+    }
+  }
+
+  private static byte[] readFully(InputFile in, int length) throws IOException {
+    try (InputStream is = in.newStream()) {
+      return IOUtils.readFully(is, length);
+    }
+  }
+
+  private static byte[] readTail(InputFile in, int length) throws IOException {
+    try (SeekableInputStream is = in.newStream()) {
+      is.seek(in.getLength() - length);
+      return IOUtils.readFully(is, length);
+    }
+  }
+
   @Test
   public void serializeClient() {
     SerializableSupplier<S3Client> pre =
@@ -21,10 +21,15 @@ package org.apache.iceberg.aws.s3;
 
 import com.adobe.testing.s3mock.junit4.S3MockRule;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
 import org.apache.commons.io.IOUtils;
+import org.apache.iceberg.aws.AwsProperties;
+import org.apache.iceberg.io.FileRange;
 import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Test;
@@ -35,7 +40,9 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 public class S3InputStreamTest {
   @ClassRule
@@ -84,6 +91,44 @@ public class S3InputStreamTest {
     }
   }
 
+  @Test
+  public void testAdaptiveRead() throws Exception {
+    S3URI uri = new S3URI("s3://bucket/path/to/adaptive.dat");
+    byte[] data = randomData(1024 * 1024 * 4);
+
+    writeS3Data(uri, data);
+
+    AwsProperties awsProperties = new AwsProperties();
+    awsProperties.setS3FileIoReadAdaptiveEnabled(true);
+    awsProperties.setS3FileIoReadAheadSize(4096);
+
+    try (S3InputStream in = new S3InputStream(s3, uri, awsProperties)) {
+      // footer then column access
+      readAndCheck(in, data.length - 1024, 1024, data, true);
+      assertFalse("Should start with sequential access", in.isRandomAccess());
+
+      readAndCheck(in, 1024, 1024, data, true);
+      assertTrue("Should switch to random access after a backward seek", in.isRandomAccess());
+      assertEquals("Should request only the read-ahead size", 1024 + 4096, in.bytesRequested());
+
+      // reads within the read-ahead range use the open stream
+      readAndCheck(in, in.getPos() + 100, 1024, data, false);
+      assertEquals(2, in.streamsOpened());
+
+      // reads that continue past the end of the range switch back to sequential
+      readAndCheck(in, in.getPos(), 8192, data, true);
+      assertFalse("Should switch to sequential access", in.isRandomAccess());
+
+      // reading at the end of the object returns -1
+      in.seek(data.length - 10);
+      IOUtils.readFully(in, new byte[10]);
+      assertEquals(-1, in.read());
+
+      assertEquals(1024 + 1024 + 1024 + 8192 + 10, in.bytesRead());
+      assertEquals(100, in.bytesSkipped());
+    }
+  }
+
   private void readAndCheck(SeekableInputStream in, long rangeStart, int size, byte [] original, boolean buffered)
       throws IOException {
     in.seek(rangeStart);
@@ -127,6 +172,35 @@ public class S3InputStreamTest {
     }
   }
 
+  @Test
+  public void testReadVectored() throws Exception {
+    S3URI uri = new S3URI("s3://bucket/path/to/vectored.dat");
+    byte[] expected = randomData(4 * 1024 * 1024);
+
+    writeS3Data(uri, expected);
+
+    try (SeekableInputStream in = new S3InputStream(s3, uri)) {
+      in.seek(100);
+
+      // the first two ranges are merged, the last is read with a separate request
+      List<FileRange> ranges = ImmutableList.of(
+          new FileRange(3 * 1024 * 1024, 1000),
+          new FileRange(10, 500),
+          new FileRange(2000, 4096));
+      in.readVectored(ranges, ByteBuffer::allocate);
+
+      for (FileRange range : ranges) {
+        ByteBuffer buffer = range.data().get();
+        byte[] actual = new byte[buffer.remaining()];
+        buffer.get(actual);
+        int start = (int) range.offset();
+        assertArrayEquals(Arrays.copyOfRange(expected, start, start + range.length()), actual);
+      }
+
+      assertEquals("Vectored reads should not change the stream position", 100, in.getPos());
+    }
+  }
+
   private byte[] randomData(int size) {
     byte[] data = new byte[size];
     random.nextBytes(data);
@@ -27,6 +27,7 @@ import java.nio.file.Path;
 import java.util.Random;
 import java.util.UUID;
 import java.util.stream.Stream;
+import org.apache.iceberg.AssertHelpers;
 import org.apache.iceberg.aws.AwsProperties;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.junit.Before;
@@ -50,6 +51,7 @@ import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.AdditionalAnswers.delegatesTo;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.atLeastOnce;
@@ -111,6 +113,52 @@ public class S3OutputStreamTest {
     });
   }
 
+  @Test
+  public void testWriteWithMemoryStaging() {
+    AwsProperties memoryProperties = new AwsProperties(ImmutableMap.of(
+        AwsProperties.S3FILEIO_MULTIPART_SIZE, Integer.toString(5 * 1024 * 1024),
+        AwsProperties.S3FILEIO_STAGING_DIRECTORY, tmpDir.toString(),
+        AwsProperties.S3FILEIO_STAGING_MEMORY_ENABLED, "true",
+        AwsProperties.S3FILEIO_STAGING_MEMORY_MAX_BYTES, Long.toString(64L * 1024 * 1024)));
+    S3BufferPool pool = S3BufferPool.forLimit(64L * 1024 * 1024);
+
+    Stream.of(true, false).forEach(arrayWrite -> {
+      writeAndVerify(s3mock, randomURI(), randomData(1024), arrayWrite, memoryProperties);
+      verify(s3mock, times(1)).putObject((PutObjectRequest) any(), (RequestBody) any());
+      reset(s3mock);
+
+      writeAndVerify(s3mock, randomURI(), randomData(22 * 1024 * 1024), arrayWrite, memoryProperties);
+      verify(s3mock, times(5)).uploadPart((UploadPartRequest) any(), (RequestBody) any());
+      reset(s3mock);
+
+      // all buffers are returned to the pool, but only a few are kept for reuse
+      assertEquals(pool.maxBuffers(), pool.availableBuffers());
+      assertTrue(pool.freeBuffers() <= S3BufferPool.MAX_FREE_BUFFERS);
+    });
+  }
+
+  @Test
+  public void testMemoryStagingSpillsToDisk() {
+    // a single shared buffer and no wait forces parts to spill to disk after the first megabyte
+    AwsProperties spillProperties = new AwsProperties(ImmutableMap.of(
+        AwsProperties.S3FILEIO_MULTIPART_SIZE, Integer.toString(5 * 1024 * 1024),
+        AwsProperties.S3FILEIO_STAGING_DIRECTORY, tmpDir.toString(),
+        AwsProperties.S3FILEIO_STAGING_MEMORY_ENABLED, "true",
+        AwsProperties.S3FILEIO_STAGING_MEMORY_MAX_BYTES, Integer.toString(1024 * 1024),
+        AwsProperties.S3FILEIO_STAGING_MEMORY_MAX_WAIT_MS, "0"));
+    S3BufferPool pool = S3BufferPool.forLimit(1024 * 1024);
+
+    writeAndVerify(s3mock, randomURI(), randomData(3 * 1024 * 1024), true, spillProperties);
+    verify(s3mock, times(1)).putObject((PutObjectRequest) any(), (RequestBody) any());
+    reset(s3mock);
+
+    writeAndVerify(s3mock, randomURI(), randomData(12 * 1024 * 1024), true, spillProperties);
+    verify(s3mock, times(3)).uploadPart((UploadPartRequest) any(), (RequestBody) any());
+    reset(s3mock);
+
+    assertEquals(1, pool.availableBuffers());
+  }
+
   @Test
   public void testAbortAfterFailedPartUpload() {
     doThrow(new RuntimeException()).when(s3mock).uploadPart((UploadPartRequest) any(), (RequestBody) any());
@@ -133,6 +181,16 @@ public class S3OutputStreamTest {
     }
   }
 
+  @Test
+  public void testInvalidUploadScheduler() {
+    AwsProperties invalidProperties = new AwsProperties(ImmutableMap.of(
+        AwsProperties.S3FILEIO_UPLOAD_SCHEDULER_IMPL, Object.class.getName()));
+
+    AssertHelpers.assertThrows("Should reject schedulers that do not implement S3UploadScheduler",
+        IllegalArgumentException.class, "does not implement S3UploadScheduler",
+        () -> new S3OutputStream(s3, randomURI(), invalidProperties));
+  }
+
   @Test
   public void testMultipleClose() throws IOException {
     S3OutputStream stream = new S3OutputStream(s3, randomURI(), properties);
@@ -141,7 +199,12 @@ public class S3OutputStreamTest {
   }
 
   private void writeAndVerify(S3Client client, S3URI uri, byte [] data, boolean arrayWrite) {
-    try (S3OutputStream stream = new S3OutputStream(client, uri, properties)) {
+    writeAndVerify(client, uri, data, arrayWrite, properties);
+  }
+
+  private void writeAndVerify(S3Client client, S3URI uri, byte [] data, boolean arrayWrite,
+                              AwsProperties awsProperties) {
+    try (S3OutputStream stream = new S3OutputStream(client, uri, awsProperties)) {
       if (arrayWrite) {
         stream.write(data);
         assertEquals(data.length, stream.getPos());
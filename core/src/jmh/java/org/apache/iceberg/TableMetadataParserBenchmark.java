@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.TableMetadata.MetadataLogEntry;
+import org.apache.iceberg.TableMetadata.SnapshotLogEntry;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.JsonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+/**
+ * A benchmark that compares reading and writing table metadata using the tree-based parser and the streaming parser.
+ * <p>
+ * The streaming parser reads snapshots lazily, so the read benchmarks also include a case that loads only the current
+ * snapshot, which is what most refreshes need. Use the GC profiler to compare allocation rates.
+ *
+ * To run this benchmark:
+ * <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=TableMetadataParserBenchmark
+ *       -PjmhOutputPath=benchmark/table-metadata-parser-benchmark-result.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TableMetadataParserBenchmark {
+
+  private static final Schema SCHEMA = new Schema(
+      required(1, "id", Types.LongType.get()),
+      required(2, "data", Types.StringType.get()),
+      required(3, "ts", Types.TimestampType.withZone()));
+
+  @Param({"1000", "50000"})
+  private int numSnapshots;
+
+  private byte[] json;
+  private TableMetadata treeMetadata;
+  private TableMetadata streamingMetadata;
+
+  @Setup
+  public void setupBenchmark() throws IOException {
+    PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).day("ts").build();
+    long firstTimestamp = System.currentTimeMillis() - numSnapshots * 1000L;
+
+    List<Snapshot> snapshots = Lists.newArrayListWithExpectedSize(numSnapshots);
+    List<HistoryEntry> snapshotLog = Lists.newArrayListWithExpectedSize(numSnapshots);
+    Long parentId = null;
+    for (int i = 0; i < numSnapshots; i += 1) {
+      long snapshotId = 1000L + i;
+      long timestamp = firstTimestamp + i * 1000L;
+      snapshots.add(new BaseSnapshot(
+          null, i + 1, snapshotId, parentId, timestamp, DataOperations.APPEND, summary(i),
+          "s3://bucket/warehouse/db/table/metadata/snap-" + snapshotId + "-1-" + UUID.randomUUID() + ".avro"));
+      snapshotLog.add(new SnapshotLogEntry(timestamp, snapshotId));
+      parentId = snapshotId;
+    }
+
+    List<MetadataLogEntry> metadataLog = Lists.newArrayList();
+    for (int i = 0; i < 100; i += 1) {
+      metadataLog.add(new MetadataLogEntry(
+          firstTimestamp + i, "s3://bucket/warehouse/db/table/metadata/" + i + "-" + UUID.randomUUID() +
+          ".metadata.json"));
+    }
+
+    TableMetadata metadata = new TableMetadata(null, 2, UUID.randomUUID().toString(),
+        "s3://bucket/warehouse/db/table", numSnapshots, System.currentTimeMillis(), 3, SCHEMA,
+        spec.specId(), ImmutableList.of(spec), SortOrder.unsorted().orderId(), ImmutableList.of(SortOrder.unsorted()),
+        ImmutableMap.of("commit.manifest.min-count-to-merge", "10"), parentId, snapshots, snapshotLog, metadataLog);
+
+    this.json = TableMetadataParser.toJson(metadata).getBytes(StandardCharsets.UTF_8);
+    this.treeMetadata = readTree();
+    this.streamingMetadata = readStreaming();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public TableMetadata readTree() throws IOException {
+    return TableMetadataParser.fromJson(null, null, JsonUtil.mapper().readValue(json, JsonNode.class));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public TableMetadata readStreaming() throws IOException {
+    return TableMetadataParser.fromJson(null, null, json);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public String readStreamingCurrentSnapshot() throws IOException {
+    return TableMetadataParser.fromJson(null, null, json).currentSnapshot().manifestListLocation();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public String writeTree() {
+    return TableMetadataParser.toJson(treeMetadata);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public String writeStreaming() {
+    return TableMetadataParser.toJson(streamingMetadata);
+  }
+
+  private static ImmutableMap<String, String> summary(int index) {
+    return ImmutableMap.<String, String>builder()
+        .put(SnapshotSummary.ADDED_FILES_PROP, "10")
+        .put(SnapshotSummary.ADDED_RECORDS_PROP, "100000")
+        .put(SnapshotSummary.ADDED_FILE_SIZE_PROP, "104857600")
+        .put(SnapshotSummary.CHANGED_PARTITION_COUNT_PROP, "1")
+        .put(SnapshotSummary.TOTAL_DATA_FILES_PROP, String.valueOf((index + 1) * 10))
+        .put(SnapshotSummary.TOTAL_DELETE_FILES_PROP, "0")
+        .put(SnapshotSummary.TOTAL_RECORDS_PROP, String.valueOf((index + 1) * 100000L))
+        .put(SnapshotSummary.TOTAL_POS_DELETES_PROP, "0")
+        .put(SnapshotSummary.TOTAL_EQ_DELETES_PROP, "0")
+        .build();
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.util;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A benchmark that compares {@link ParallelIterable} with the previous implementation, which buffers all items in an
+ * unbounded queue and polls for results.
+ * <p>
+ * Each input simulates reading a manifest by doing a small amount of work per item.
+ *
+ * To run this benchmark:
+ * <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=ParallelIterableBenchmark
+ *       -PjmhOutputPath=benchmark/parallel-iterable-benchmark-result.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelIterableBenchmark {
+
+  @Param({"10", "1000"})
+  private int numInputs;
+
+  @Param({"100", "10000"})
+  private int itemsPerInput;
+
+  private List<Iterable<Long>> inputs;
+  private ExecutorService workerPool;
+
+  @Setup
+  public void setupBenchmark() {
+    this.workerPool = ThreadPools.newWorkerPool("benchmark-worker", ThreadPools.WORKER_THREAD_POOL_SIZE);
+    this.inputs = Lists.newArrayList();
+    for (int i = 0; i < numInputs; i += 1) {
+      long start = (long) i * itemsPerInput;
+      inputs.add(() -> LongStream.range(start, start + itemsPerInput)
+          .map(ParallelIterableBenchmark::work)
+          .boxed()
+          .iterator());
+    }
+  }
+
+  @TearDown
+  public void tearDownBenchmark() {
+    workerPool.shutdownNow();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void parallelIterable(Blackhole blackhole) {
+    for (Long item : new ParallelIterable<>(inputs, workerPool)) {
+      blackhole.consume(item);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void legacyParallelIterable(Blackhole blackhole) {
+    for (Long item : new LegacyParallelIterable<>(inputs, workerPool)) {
+      blackhole.consume(item);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void parallelIterableSlowConsumer(Blackhole blackhole) {
+    for (Long item : new ParallelIterable<>(inputs, workerPool)) {
+      blackhole.consume(work(item));
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void legacyParallelIterableSlowConsumer(Blackhole blackhole) {
+    for (Long item : new LegacyParallelIterable<>(inputs, workerPool)) {
+      blackhole.consume(work(item));
+    }
+  }
+
+  private static long work(long value) {
+    long result = value;
+    for (int i = 0; i < 100; i += 1) {
+      result = result * 31 + i;
+    }
+    return result;
+  }
+}
@@ -175,6 +175,8 @@ public abstract class BaseMetastoreTableOperations implements TableOperations {
       this.currentMetadata = newMetadata.get();
       this.currentMetadataLocation = newLocation;
       this.version = parseVersion(newLocation);
+
+      MetadataPrefetcher.prefetch(io(), currentMetadata);
     }
     this.shouldRefresh = false;
   }
@@ -246,9 +248,7 @@ public abstract class BaseMetastoreTableOperations implements TableOperations {
   }
 
   private String newTableMetadataFilePath(TableMetadata meta, int newVersion) {
-    String codecName = meta.property(
-        TableProperties.METADATA_COMPRESSION, TableProperties.METADATA_COMPRESSION_DEFAULT);
-    String fileExtension = TableMetadataParser.getFileExtension(codecName);
+    String fileExtension = TableMetadataParser.getFileExtension(meta);
     return metadataFileLocation(meta, String.format("%05d-%s%s", newVersion, UUID.randomUUID(), fileExtension));
   }
 
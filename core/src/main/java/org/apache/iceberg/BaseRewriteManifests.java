@@ -20,9 +20,12 @@
 package org.apache.iceberg;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -40,9 +43,16 @@ import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.Pair;
+import org.apache.iceberg.util.StructLikeSet;
 import org.apache.iceberg.util.Tasks;
 import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static org.apache.iceberg.TableProperties.MANIFEST_TARGET_SIZE_BYTES;
 import static org.apache.iceberg.TableProperties.MANIFEST_TARGET_SIZE_BYTES_DEFAULT;
@@ -51,10 +61,15 @@ import static org.apache.iceberg.TableProperties.SNAPSHOT_ID_INHERITANCE_ENABLED
 
 
 public class BaseRewriteManifests extends SnapshotProducer<RewriteManifests> implements RewriteManifests {
+  private static final Logger LOG = LoggerFactory.getLogger(BaseRewriteManifests.class);
+
   private static final String KEPT_MANIFESTS_COUNT = "manifests-kept";
   private static final String CREATED_MANIFESTS_COUNT = "manifests-created";
   private static final String REPLACED_MANIFESTS_COUNT = "manifests-replaced";
   private static final String PROCESSED_ENTRY_COUNT = "entries-processed";
+  private static final String MANIFESTS_PER_PARTITION_BEFORE = "manifests-per-partition-before";
+  private static final String MANIFESTS_PER_PARTITION_AFTER = "manifests-per-partition-after";
+  private static final Object SORTED_KEY = "sorted-by-partition";
 
   private final TableOperations ops;
   private final Map<Integer, PartitionSpec> specsById;
@@ -73,8 +88,15 @@ public class BaseRewriteManifests extends SnapshotProducer<RewriteManifests> imp
   private final AtomicLong entryCount = new AtomicLong(0);
 
   private Function<DataFile, Object> clusterByFunc;
+  private boolean sortByPartition = false;
+  private Integer sortFieldId = null;
   private Predicate<ManifestFile> predicate;
 
+  // entries collected for a sorted rewrite, by partition spec id
+  private final Map<Integer, Collection<ManifestEntry<DataFile>>> entriesToSort = Maps.newConcurrentMap();
+  // the sum over rewritten manifests of the number of distinct partitions in each manifest
+  private final AtomicLong partitionRefsBefore = new AtomicLong(0);
+
   private final SnapshotSummary.Builder summaryBuilder = SnapshotSummary.builder();
 
   BaseRewriteManifests(TableOperations ops) {
@@ -116,10 +138,29 @@ public class BaseRewriteManifests extends SnapshotProducer<RewriteManifests> imp
 
   @Override
   public RewriteManifests clusterBy(Function<DataFile, Object> func) {
+    Preconditions.checkArgument(!sortByPartition, "Cannot cluster by a function and sort by partition");
     this.clusterByFunc = func;
     return this;
   }
 
+  @Override
+  public RewriteManifests sortByPartition() {
+    Preconditions.checkArgument(clusterByFunc == null, "Cannot sort by partition and cluster by a function");
+    this.sortByPartition = true;
+    this.sortFieldId = null;
+    return this;
+  }
+
+  @Override
+  public RewriteManifests sortByPartition(String column) {
+    Types.NestedField field = ops.current().schema().findField(column);
+    Preconditions.checkArgument(field != null, "Cannot find sort column: %s", column);
+    Preconditions.checkArgument(field.type().isPrimitiveType(), "Cannot sort by non-primitive column: %s", column);
+    sortByPartition();
+    this.sortFieldId = field.fieldId();
+    return this;
+  }
+
   @Override
   public RewriteManifests rewriteIf(Predicate<ManifestFile> pred) {
     this.predicate = pred;
@@ -190,7 +231,7 @@ public class BaseRewriteManifests extends SnapshotProducer<RewriteManifests> imp
   }
 
   private boolean requiresRewrite(Set<ManifestFile> currentManifests) {
-    if (clusterByFunc == null) {
+    if (clusterByFunc == null && !sortByPartition) {
       // manifests are deleted and added directly so don't perform a rewrite
       return false;
     }
@@ -215,6 +256,8 @@ public class BaseRewriteManifests extends SnapshotProducer<RewriteManifests> imp
   private void reset() {
     cleanUncommitted(newManifests, ImmutableSet.of());
     entryCount.set(0);
+    partitionRefsBefore.set(0);
+    entriesToSort.clear();
     keptManifests.clear();
     rewrittenManifests.clear();
     newManifests.clear();
@@ -238,15 +281,23 @@ public class BaseRewriteManifests extends SnapshotProducer<RewriteManifests> imp
               rewrittenManifests.add(manifest);
               try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, ops.io(), ops.current().specsById())
                   .select(Arrays.asList("*"))) {
-                reader.liveEntries().forEach(
-                    entry -> appendEntry(entry, clusterByFunc.apply(entry.file()), manifest.partitionSpecId())
-                );
+                if (sortByPartition) {
+                  collectEntries(reader.liveEntries(), manifest.partitionSpecId());
+                } else {
+                  reader.liveEntries().forEach(
+                      entry -> appendEntry(entry, clusterByFunc.apply(entry.file()), manifest.partitionSpecId())
+                  );
+                }
 
               } catch (IOException x) {
                 throw new RuntimeIOException(x);
               }
             }
           });
+
+      if (sortByPartition) {
+        writeSortedEntries();
+      }
     } finally {
       Tasks.foreach(writers.values()).executeWith(ThreadPools.getWorkerPool()).run(WriterWrapper::close);
     }
@@ -289,6 +340,89 @@ public class BaseRewriteManifests extends SnapshotProducer<RewriteManifests> imp
     return activeFilesCount;
   }
 
+  private void collectEntries(Iterable<ManifestEntry<DataFile>> entries, int partitionSpecId) {
+    Set<StructLike> partitions = StructLikeSet.create(specsById.get(partitionSpecId).partitionType());
+    Collection<ManifestEntry<DataFile>> specEntries =
+        entriesToSort.computeIfAbsent(partitionSpecId, id -> new ConcurrentLinkedQueue<>());
+    for (ManifestEntry<DataFile> entry : entries) {
+      // copy because readers reuse entries
+      ManifestEntry<DataFile> copy = entry.copy();
+      partitions.add(copy.file().partition());
+      specEntries.add(copy);
+    }
+
+    partitionRefsBefore.addAndGet(partitions.size());
+  }
+
+  private void writeSortedEntries() {
+    long distinctPartitions = 0L;
+    long partitionRefsAfter = 0L;
+    Types.NestedField sortField = sortFieldId != null ? ops.current().schema().findField(sortFieldId) : null;
+
+    for (Map.Entry<Integer, Collection<ManifestEntry<DataFile>>> specEntries : entriesToSort.entrySet()) {
+      PartitionSpec spec = specsById.get(specEntries.getKey());
+      Comparator<StructLike> partitionComparator = Comparators.forType(spec.partitionType());
+
+      List<ManifestEntry<DataFile>> sorted = Lists.newArrayList(specEntries.getValue());
+      sorted.sort(entryComparator(partitionComparator, sortField));
+
+      WriterWrapper writer = getWriter(SORTED_KEY, spec.specId());
+      StructLike lastPartition = null;
+      int lastManifestCount = 0;
+      for (ManifestEntry<DataFile> entry : sorted) {
+        writer.addEntry(entry);
+        entryCount.incrementAndGet();
+
+        StructLike partition = entry.file().partition();
+        boolean newPartition = lastPartition == null || partitionComparator.compare(lastPartition, partition) != 0;
+        if (newPartition) {
+          distinctPartitions += 1;
+        }
+
+        // a partition is referenced again by each manifest it spans
+        if (newPartition || writer.manifestCount() != lastManifestCount) {
+          partitionRefsAfter += 1;
+        }
+
+        lastPartition = partition;
+        lastManifestCount = writer.manifestCount();
+      }
+    }
+
+    entriesToSort.clear();
+
+    if (distinctPartitions > 0) {
+      String before = String.format(Locale.ROOT, "%.2f", (double) partitionRefsBefore.get() / distinctPartitions);
+      String after = String.format(Locale.ROOT, "%.2f", (double) partitionRefsAfter / distinctPartitions);
+      LOG.info("Sorted {} manifest entries in {} partitions: manifests per partition {} (before), {} (after)",
+          entryCount.get(), distinctPartitions, before, after);
+      summaryBuilder.set(MANIFESTS_PER_PARTITION_BEFORE, before);
+      summaryBuilder.set(MANIFESTS_PER_PARTITION_AFTER, after);
+    }
+  }
+
+  private static Comparator<ManifestEntry<DataFile>> entryComparator(Comparator<StructLike> partitionComparator,
+                                                                     Types.NestedField sortField) {
+    Comparator<ManifestEntry<DataFile>> comparator =
+        Comparator.comparing(entry -> entry.file().partition(), partitionComparator);
+    if (sortField == null) {
+      // the sort column was dropped since the rewrite was configured
+      return comparator;
+    }
+
+    // use the type from the schema at commit time: bounds written before a type promotion are widened when decoded,
+    // but bounds written after a promotion cannot be read with the original narrower type
+    Type.PrimitiveType type = sortField.type().asPrimitiveType();
+    Comparator<Object> boundComparator = Comparators.nullsFirst().thenComparing(Comparators.forType(type));
+    return comparator.thenComparing(entry -> lowerBound(entry.file(), sortField.fieldId(), type), boundComparator);
+  }
+
+  private static Object lowerBound(DataFile file, int fieldId, Type.PrimitiveType type) {
+    Map<Integer, ByteBuffer> lowerBounds = file.lowerBounds();
+    ByteBuffer bound = lowerBounds != null ? lowerBounds.get(fieldId) : null;
+    return bound != null ? Conversions.fromByteBuffer(type, bound) : null;
+  }
+
   private void appendEntry(ManifestEntry<DataFile> entry, Object key, int partitionSpecId) {
     Preconditions.checkNotNull(entry, "Manifest entry cannot be null");
     Preconditions.checkNotNull(key, "Key cannot be null");
@@ -326,6 +460,7 @@ public class BaseRewriteManifests extends SnapshotProducer<RewriteManifests> imp
   class WriterWrapper {
     private final PartitionSpec spec;
     private ManifestWriter<DataFile> writer;
+    private int manifestCount = 0;
 
     WriterWrapper(PartitionSpec spec) {
       this.spec = spec;
@@ -334,13 +469,19 @@ public class BaseRewriteManifests extends SnapshotProducer<RewriteManifests> imp
     synchronized void addEntry(ManifestEntry<DataFile> entry) {
       if (writer == null) {
         writer = newManifestWriter(spec);
+        manifestCount += 1;
       } else if (writer.length() >= getManifestTargetSizeBytes()) {
         close();
         writer = newManifestWriter(spec);
+        manifestCount += 1;
       }
       writer.existing(entry);
     }
 
+    synchronized int manifestCount() {
+      return manifestCount;
+    }
+
     synchronized void close() {
       if (writer != null) {
         try {
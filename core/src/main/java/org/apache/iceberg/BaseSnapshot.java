@@ -124,7 +124,7 @@ class BaseSnapshot implements Snapshot {
   private void cacheManifests() {
     if (allManifests == null) {
       // if manifests isn't set, then the snapshotFile is set and should be read to get the list
-      this.allManifests = ManifestLists.read(io.newInputFile(manifestListLocation));
+      this.allManifests = ManifestLists.read(MetadataPrefetcher.newInputFile(io, manifestListLocation));
     }
 
     if (dataManifests == null || deleteManifests == null) {
@@ -25,19 +25,28 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.iceberg.events.Listeners;
 import org.apache.iceberg.events.ScanEvent;
 import org.apache.iceberg.expressions.Binder;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.metrics.ScanMetrics;
+import org.apache.iceberg.metrics.ScanReporter;
 import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.TypeUtil;
+import org.apache.iceberg.util.LengthWeightModel;
+import org.apache.iceberg.util.ReadCostWeightModel;
 import org.apache.iceberg.util.TableScanUtil;
+import org.apache.iceberg.util.TaskWeightModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,8 +55,14 @@ import org.slf4j.LoggerFactory;
  */
 abstract class BaseTableScan implements TableScan {
   private static final Logger LOG = LoggerFactory.getLogger(TableScan.class);
+  // reporters are shared by all scans that use the same implementation
+  private static final Map<String, ScanReporter> REPORTERS = Maps.newConcurrentMap();
 
   private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+  // short names for the built-in weight models, other models are loaded by class name
+  private static final Map<String, String> WEIGHT_MODELS = ImmutableMap.of(
+      "length", LengthWeightModel.class.getName(),
+      "read-cost", ReadCostWeightModel.class.getName());
 
   private final TableOperations ops;
   private final Table table;
@@ -105,6 +120,18 @@ abstract class BaseTableScan implements TableScan {
       TableOperations ops, Snapshot snapshot, Expression rowFilter,
       boolean ignoreResiduals, boolean caseSensitive, boolean colStats);
 
+  /**
+   * Plans files and records planning work in the given {@link ScanMetrics}.
+   * <p>
+   * Scans that track planning metrics override this method. By default, planning is not tracked.
+   */
+  @SuppressWarnings("checkstyle:HiddenField")
+  protected CloseableIterable<FileScanTask> planFiles(
+      TableOperations ops, Snapshot snapshot, Expression rowFilter,
+      boolean ignoreResiduals, boolean caseSensitive, boolean colStats, ScanMetrics metrics) {
+    return planFiles(ops, snapshot, rowFilter, ignoreResiduals, caseSensitive, colStats);
+  }
+
   @Override
   public Table table() {
     return table;
@@ -208,8 +235,12 @@ abstract class BaseTableScan implements TableScan {
       Listeners.notifyAll(
           new ScanEvent(table.name(), snapshot.snapshotId(), context.rowFilter(), schema()));
 
-      return planFiles(ops, snapshot,
-          context.rowFilter(), context.ignoreResiduals(), context.caseSensitive(), context.returnColumnStats());
+      ScanMetrics metrics = new ScanMetrics();
+      CloseableIterable<FileScanTask> tasks = planFiles(ops, snapshot,
+          context.rowFilter(), context.ignoreResiduals(), context.caseSensitive(), context.returnColumnStats(),
+          metrics);
+
+      return reportOnClose(tasks, snapshot, metrics);
 
     } else {
       LOG.info("Scanning empty table {}", table);
@@ -217,8 +248,74 @@ abstract class BaseTableScan implements TableScan {
     }
   }
 
+  private CloseableIterable<FileScanTask> reportOnClose(CloseableIterable<FileScanTask> tasks, Snapshot snapshot,
+                                                        ScanMetrics metrics) {
+    String reporterImpl = ops.current().property(
+        TableProperties.SCAN_REPORTER_IMPL, TableProperties.SCAN_REPORTER_IMPL_DEFAULT);
+    AtomicBoolean reported = new AtomicBoolean(false);
+
+    return CloseableIterable.combine(tasks, () -> {
+      try {
+        tasks.close();
+      } finally {
+        if (reported.compareAndSet(false, true)) {
+          try {
+            // a reporter that cannot be loaded must not fail the scan
+            ScanReporter reporter = REPORTERS.computeIfAbsent(reporterImpl, CatalogUtil::loadScanReporter);
+            reporter.report(metrics.toReport(table.name(), snapshot.snapshotId(), context.rowFilter()));
+          } catch (RuntimeException e) {
+            LOG.warn("Failed to report scan of table {} using {}", table, reporterImpl, e);
+          }
+        }
+      }
+    });
+  }
+
   @Override
   public CloseableIterable<CombinedScanTask> planTasks() {
+    return planTasks(planFiles());
+  }
+
+  @Override
+  public ScanTaskStream planTasksStreaming() {
+    Snapshot snapshot = snapshot();
+    long estimatedFileCount = snapshot != null ? estimatedFileCount(snapshot) : 0;
+    return new BufferedScanTaskStream(planFiles(), this::planTasks, estimatedFileCount, taskBufferSize());
+  }
+
+  /**
+   * Returns an estimate of the number of file tasks that {@link #planFiles()} will return for a snapshot.
+   *
+   * @param snapshot the snapshot that will be scanned
+   * @return an estimate of the number of file tasks for the snapshot
+   */
+  protected long estimatedFileCount(Snapshot snapshot) {
+    String totalDataFiles = snapshot.summary() != null ?
+        snapshot.summary().get(SnapshotSummary.TOTAL_DATA_FILES_PROP) : null;
+    if (totalDataFiles != null) {
+      return Long.parseLong(totalDataFiles);
+    }
+
+    long fileCount = 0;
+    for (ManifestFile manifest : snapshot.dataManifests()) {
+      fileCount += manifest.addedFilesCount() != null ? manifest.addedFilesCount() : 0;
+      fileCount += manifest.existingFilesCount() != null ? manifest.existingFilesCount() : 0;
+    }
+
+    return fileCount;
+  }
+
+  private int taskBufferSize() {
+    Map<String, String> options = context.options();
+    if (options.containsKey(TableProperties.PLANNING_TASK_BUFFER_SIZE)) {
+      return Integer.parseInt(options.get(TableProperties.PLANNING_TASK_BUFFER_SIZE));
+    }
+
+    return ops.current().propertyAsInt(
+        TableProperties.PLANNING_TASK_BUFFER_SIZE, TableProperties.PLANNING_TASK_BUFFER_SIZE_DEFAULT);
+  }
+
+  private CloseableIterable<CombinedScanTask> planTasks(CloseableIterable<FileScanTask> fileScanTasks) {
     Map<String, String> options = context.options();
     long splitSize;
     if (options.containsKey(TableProperties.SPLIT_SIZE)) {
@@ -241,9 +338,29 @@ abstract class BaseTableScan implements TableScan {
           TableProperties.SPLIT_OPEN_FILE_COST, TableProperties.SPLIT_OPEN_FILE_COST_DEFAULT);
     }
 
-    CloseableIterable<FileScanTask> fileScanTasks = planFiles();
     CloseableIterable<FileScanTask> splitFiles = TableScanUtil.splitFiles(fileScanTasks, splitSize);
-    return TableScanUtil.planTasks(splitFiles, splitSize, lookback, openFileCost);
+    TaskWeightModel weightModel = weightModel();
+    weightModel.initialize(schema(), openFileCost);
+    return TableScanUtil.planTasks(splitFiles, splitSize, lookback, weightModel);
+  }
+
+  private TaskWeightModel weightModel() {
+    Map<String, String> options = context.options();
+    String impl;
+    if (options.containsKey(TableProperties.SPLIT_WEIGHT_MODEL)) {
+      impl = options.get(TableProperties.SPLIT_WEIGHT_MODEL);
+    } else {
+      impl = ops.current().property(TableProperties.SPLIT_WEIGHT_MODEL, TableProperties.SPLIT_WEIGHT_MODEL_DEFAULT);
+    }
+
+    return CatalogUtil.loadTaskWeightModel(WEIGHT_MODELS.getOrDefault(impl.toLowerCase(Locale.ROOT), impl));
+  }
+
+  /**
+   * Returns whether the weight model used to combine tasks needs column sizes in planned data files.
+   */
+  protected boolean weightsUseColumnSizes() {
+    return weightModel().usesColumnSizes();
   }
 
   @Override
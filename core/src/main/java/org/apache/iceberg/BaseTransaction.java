@@ -31,6 +31,7 @@ import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.LocationProvider;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.util.PropertyUtil;
@@ -246,10 +247,7 @@ class BaseTransaction implements Transaction {
     } finally {
       // create table never needs to retry because the table has no previous state. because retries are not a
       // concern, it is safe to delete all of the deleted files from individual operations
-      Tasks.foreach(deletedFiles)
-          .suppressFailureWhenFinished()
-          .onFailure((file, exc) -> LOG.warn("Failed to delete uncommitted file: {}", file, exc))
-          .run(ops.io()::deleteFile);
+      CatalogUtil.deleteFiles(ops.io(), deletedFiles, "uncommitted");
     }
   }
 
@@ -301,10 +299,7 @@ class BaseTransaction implements Transaction {
     } finally {
       // replace table never needs to retry because the table state is completely replaced. because retries are not
       // a concern, it is safe to delete all of the deleted files from individual operations
-      Tasks.foreach(deletedFiles)
-          .suppressFailureWhenFinished()
-          .onFailure((file, exc) -> LOG.warn("Failed to delete uncommitted file: {}", file, exc))
-          .run(ops.io()::deleteFile);
+      CatalogUtil.deleteFiles(ops.io(), deletedFiles, "uncommitted");
     }
   }
 
@@ -355,10 +350,7 @@ class BaseTransaction implements Transaction {
           });
 
       // delete all files that were cleaned up
-      Tasks.foreach(deletedFiles)
-          .suppressFailureWhenFinished()
-          .onFailure((file, exc) -> LOG.warn("Failed to delete uncommitted file: {}", file, exc))
-          .run(ops.io()::deleteFile);
+      CatalogUtil.deleteFiles(ops.io(), deletedFiles, "uncommitted");
 
       throw e;
     }
@@ -376,14 +368,8 @@ class BaseTransaction implements Transaction {
       Set<String> committedFiles = committedFiles(ops, intermediateSnapshotIds);
       if (committedFiles != null) {
         // delete all of the files that were deleted in the most recent set of operation commits
-        Tasks.foreach(deletedFiles)
-            .suppressFailureWhenFinished()
-            .onFailure((file, exc) -> LOG.warn("Failed to delete uncommitted file: {}", file, exc))
-            .run(path -> {
-              if (!committedFiles.contains(path)) {
-                ops.io().deleteFile(path);
-              }
-            });
+        CatalogUtil.deleteFiles(ops.io(),
+            Iterables.filter(deletedFiles, path -> !committedFiles.contains(path)), "uncommitted");
       } else {
         LOG.warn("Failed to load metadata for a committed snapshot, skipping clean-up");
       }
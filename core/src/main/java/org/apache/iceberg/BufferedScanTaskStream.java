@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.util.ThreadPools;
+
+/**
+ * A {@link ScanTaskStream} that plans tasks in a background thread and hands them off through a bounded buffer.
+ * <p>
+ * The planning thread blocks when the buffer is full, so planning does not get further ahead of the consumer than
+ * the buffer size and memory use is bounded by the buffer rather than the size of the scan.
+ */
+class BufferedScanTaskStream implements ScanTaskStream {
+  // marks the end of the stream in the buffer
+  private static final CombinedScanTask END = new BaseCombinedScanTask();
+
+  private final CloseableIterable<CombinedScanTask> tasks;
+  private final BlockingQueue<CombinedScanTask> buffer;
+  private final long estimatedFileCount;
+  private final AtomicLong plannedFileCount = new AtomicLong(0);
+  private final AtomicLong plannedTaskCount = new AtomicLong(0);
+  private final AtomicReference<Throwable> failure = new AtomicReference<>(null);
+  private final AtomicBoolean started = new AtomicBoolean(false);
+  private final ExecutorService planningPool;
+  private volatile boolean complete = false;
+  private volatile boolean closed = false;
+  private CombinedScanTask next = null;
+  private boolean exhausted = false;
+
+  /**
+   * Starts planning tasks in the background.
+   *
+   * @param files file tasks to plan
+   * @param planner a function that combines file tasks into {@link CombinedScanTask tasks}
+   * @param estimatedFileCount an estimate of the number of file tasks, used to estimate the number of tasks
+   * @param bufferSize the number of planned tasks to buffer
+   */
+  BufferedScanTaskStream(CloseableIterable<FileScanTask> files,
+                         Function<CloseableIterable<FileScanTask>, CloseableIterable<CombinedScanTask>> planner,
+                         long estimatedFileCount, int bufferSize) {
+    Preconditions.checkArgument(bufferSize > 0, "Invalid task buffer size: %s (must be positive)", bufferSize);
+    this.tasks = planner.apply(CloseableIterable.transform(files, file -> {
+      plannedFileCount.incrementAndGet();
+      return file;
+    }));
+    this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    this.estimatedFileCount = estimatedFileCount;
+    this.planningPool = ThreadPools.newWorkerPool("iceberg-scan-planning", 1);
+    planningPool.submit(this::plan);
+  }
+
+  private void plan() {
+    if (!started.compareAndSet(false, true)) {
+      // the stream was closed before planning started
+      return;
+    }
+
+    try {
+      for (CombinedScanTask task : tasks) {
+        if (closed) {
+          return;
+        }
+
+        plannedTaskCount.incrementAndGet();
+        buffer.put(task);
+      }
+
+    } catch (InterruptedException e) {
+      // the stream was closed while waiting for space in the buffer
+      Thread.currentThread().interrupt();
+
+    } catch (Throwable e) {
+      failure.compareAndSet(null, e);
+
+    } finally {
+      closeTasks();
+      this.complete = true;
+      finish();
+    }
+  }
+
+  private void finish() {
+    planningPool.shutdown();
+
+    if (!closed) {
+      try {
+        buffer.put(END);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void closeTasks() {
+    try {
+      tasks.close();
+    } catch (IOException | RuntimeException e) {
+      failure.compareAndSet(null, e);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (closed) {
+      return false;
+    }
+
+    while (next == null && !exhausted) {
+      try {
+        accept(buffer.take());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted while waiting for scan tasks", e);
+      }
+    }
+
+    checkFailure();
+    return next != null;
+  }
+
+  @Override
+  public CombinedScanTask next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    CombinedScanTask task = next;
+    this.next = null;
+    return task;
+  }
+
+  @Override
+  public CombinedScanTask poll(long timeout, TimeUnit unit) {
+    if (closed) {
+      return null;
+    }
+
+    if (next == null && !exhausted) {
+      try {
+        CombinedScanTask task = buffer.poll(timeout, unit);
+        if (task != null) {
+          accept(task);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted while waiting for scan tasks", e);
+      }
+    }
+
+    checkFailure();
+    CombinedScanTask task = next;
+    this.next = null;
+    return task;
+  }
+
+  private void accept(CombinedScanTask task) {
+    if (task == END) {
+      this.exhausted = true;
+    } else {
+      this.next = task;
+    }
+  }
+
+  private void checkFailure() {
+    // failures are reported after the tasks that were planned before the failure
+    Throwable cause = failure.get();
+    if (cause != null && next == null && exhausted) {
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      } else {
+        throw new RuntimeException("Failed to plan scan tasks", cause);
+      }
+    }
+  }
+
+  @Override
+  public long estimatedTaskCount() {
+    long taskCount = plannedTaskCount.get();
+    if (complete) {
+      return taskCount;
+    }
+
+    long fileCount = plannedFileCount.get();
+    if (taskCount == 0 || fileCount == 0) {
+      // nothing has been planned yet, assume one task per file
+      return Math.max(estimatedFileCount, taskCount);
+    }
+
+    // assume that the remaining files produce tasks at the same rate as the files planned so far
+    long remainingFileCount = Math.max(0, estimatedFileCount - fileCount);
+    return taskCount + (remainingFileCount * taskCount + fileCount - 1) / fileCount;
+  }
+
+  @Override
+  public long plannedTaskCount() {
+    return plannedTaskCount.get();
+  }
+
+  @Override
+  public boolean isPlanningComplete() {
+    return complete;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+
+    this.closed = true;
+    this.exhausted = true;
+    this.next = null;
+
+    if (started.compareAndSet(false, true)) {
+      // planning did not start and will not run, so the tasks must be closed here
+      closeTasks();
+      this.complete = true;
+    }
+
+    // interrupt planning if it is waiting for space in the buffer
+    planningPool.shutdownNow();
+    buffer.clear();
+  }
+}
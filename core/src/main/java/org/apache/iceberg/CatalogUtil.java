@@ -20,19 +20,26 @@
 package org.apache.iceberg;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.apache.hadoop.conf.Configurable;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.common.DynConstructors;
+import org.apache.iceberg.exceptions.BulkDeletionFailureException;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.SupportsBulkOperations;
+import org.apache.iceberg.metrics.ScanReporter;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.MapMaker;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.util.TaskWeightModel;
 import org.apache.iceberg.util.Tasks;
 import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
@@ -72,26 +79,43 @@ public class CatalogUtil {
 
     // run all of the deletes
 
-    deleteFiles(io, manifestsToDelete);
+    deleteDataFiles(io, manifestsToDelete);
 
-    Tasks.foreach(Iterables.transform(manifestsToDelete, ManifestFile::path))
-        .noRetry().suppressFailureWhenFinished()
-        .onFailure((manifest, exc) -> LOG.warn("Delete failed for manifest: {}", manifest, exc))
-        .run(io::deleteFile);
+    deleteFiles(io, Iterables.transform(manifestsToDelete, ManifestFile::path), "manifest");
+    deleteFiles(io, manifestListsToDelete, "manifest list");
+    deleteFiles(io, ImmutableList.of(metadata.metadataFileLocation()), "metadata");
+  }
 
-    Tasks.foreach(manifestListsToDelete)
-        .noRetry().suppressFailureWhenFinished()
-        .onFailure((list, exc) -> LOG.warn("Delete failed for manifest list: {}", list, exc))
-        .run(io::deleteFile);
+  /**
+   * Deletes a set of files, ignoring and logging failures.
+   * <p>
+   * If the FileIO implements {@link SupportsBulkOperations}, the files are deleted using a single bulk delete.
+   * Otherwise, each file is deleted using {@link FileIO#deleteFile(String)}.
+   *
+   * @param io a FileIO to use for deletes
+   * @param files paths of the files to delete
+   * @param type the type of files being deleted, used in log messages (for example, "data" or "manifest")
+   */
+  public static void deleteFiles(FileIO io, Iterable<String> files, String type) {
+    if (io instanceof SupportsBulkOperations) {
+      try {
+        ((SupportsBulkOperations) io).deleteFiles(files);
+      } catch (BulkDeletionFailureException e) {
+        LOG.warn("Failed to delete {} {} file(s)", e.numberFailedObjects(), type, e);
+      } catch (RuntimeException e) {
+        LOG.warn("Bulk delete failed for {} files", type, e);
+      }
 
-    Tasks.foreach(metadata.metadataFileLocation())
-        .noRetry().suppressFailureWhenFinished()
-        .onFailure((list, exc) -> LOG.warn("Delete failed for metadata file: {}", list, exc))
-        .run(io::deleteFile);
+    } else {
+      Tasks.foreach(files)
+          .noRetry().suppressFailureWhenFinished()
+          .onFailure((file, exc) -> LOG.warn("Delete failed for {} file: {}", type, file, exc))
+          .run(io::deleteFile);
+    }
   }
 
   @SuppressWarnings("DangerousStringInternUsage")
-  private static void deleteFiles(FileIO io, Set<ManifestFile> allManifests) {
+  private static void deleteDataFiles(FileIO io, Set<ManifestFile> allManifests) {
     // keep track of deleted files in a map that can be cleaned up when memory runs low
     Map<String, Boolean> deletedFiles = new MapMaker()
         .concurrencyLevel(ThreadPools.WORKER_THREAD_POOL_SIZE)
@@ -103,22 +127,21 @@ public class CatalogUtil {
         .executeWith(ThreadPools.getWorkerPool())
         .onFailure((item, exc) -> LOG.warn("Failed to get deleted files: this may cause orphaned data files", exc))
         .run(manifest -> {
+          List<String> pathsToDelete = Lists.newArrayList();
           try (ManifestReader<?> reader = ManifestFiles.open(manifest, io)) {
             for (ManifestEntry<?> entry : reader.entries()) {
               // intern the file path because the weak key map uses identity (==) instead of equals
               String path = entry.file().path().toString().intern();
               Boolean alreadyDeleted = deletedFiles.putIfAbsent(path, true);
               if (alreadyDeleted == null || !alreadyDeleted) {
-                try {
-                  io.deleteFile(path);
-                } catch (RuntimeException e) {
-                  // this may happen if the map of deleted files gets cleaned up by gc
-                  LOG.warn("Delete failed for data file: {}", path, e);
-                }
+                pathsToDelete.add(path);
               }
             }
           } catch (IOException e) {
             throw new RuntimeIOException(e, "Failed to read manifest file: %s", manifest.path());
+          } finally {
+            // failures may happen if the map of deleted files gets cleaned up by gc and a file is deleted twice
+            deleteFiles(io, pathsToDelete, "data");
           }
         });
   }
@@ -212,4 +235,61 @@ public class CatalogUtil {
     fileIO.initialize(properties);
     return fileIO;
   }
+
+  /**
+   * Load a custom {@link ScanReporter} implementation.
+   * <p>
+   * The implementation must have a no-arg constructor.
+   *
+   * @param impl full class name of a custom ScanReporter implementation
+   * @return ScanReporter class
+   * @throws IllegalArgumentException if class path not found or
+   *  right constructor not found or
+   *  the loaded class cannot be casted to the given interface type
+   */
+  public static ScanReporter loadScanReporter(String impl) {
+    LOG.info("Loading custom ScanReporter implementation: {}", impl);
+    DynConstructors.Ctor<ScanReporter> ctor;
+    try {
+      ctor = DynConstructors.builder(ScanReporter.class).impl(impl).buildChecked();
+    } catch (NoSuchMethodException e) {
+      throw new IllegalArgumentException(String.format(
+          "Cannot initialize ScanReporter, missing no-arg constructor: %s", impl), e);
+    }
+
+    try {
+      return ctor.newInstance();
+    } catch (ClassCastException e) {
+      throw new IllegalArgumentException(
+          String.format("Cannot initialize ScanReporter, %s does not implement ScanReporter.", impl), e);
+    }
+  }
+
+  /**
+   * Load a custom {@link TaskWeightModel} implementation.
+   * <p>
+   * The implementation must have a no-arg constructor and is initialized by the scan that uses it.
+   *
+   * @param impl full class name of a custom TaskWeightModel implementation
+   * @return TaskWeightModel class
+   * @throws IllegalArgumentException if class path not found or
+   *  right constructor not found or
+   *  the loaded class cannot be cast to the given interface type
+   */
+  public static TaskWeightModel loadTaskWeightModel(String impl) {
+    DynConstructors.Ctor<TaskWeightModel> ctor;
+    try {
+      ctor = DynConstructors.builder(TaskWeightModel.class).impl(impl).buildChecked();
+    } catch (NoSuchMethodException e) {
+      throw new IllegalArgumentException(String.format(
+          "Cannot initialize TaskWeightModel, missing no-arg constructor: %s", impl), e);
+    }
+
+    try {
+      return ctor.newInstance();
+    } catch (ClassCastException e) {
+      throw new IllegalArgumentException(
+          String.format("Cannot initialize TaskWeightModel, %s does not implement TaskWeightModel.", impl), e);
+    }
+  }
 }
@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.iceberg.events.CoalescedCommitEvent;
+import org.apache.iceberg.events.Listeners;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.iceberg.TableProperties.COMMIT_COALESCE_INTERVAL_MS;
+import static org.apache.iceberg.TableProperties.COMMIT_COALESCE_INTERVAL_MS_DEFAULT;
+import static org.apache.iceberg.TableProperties.COMMIT_COALESCE_MAX_BATCH_SIZE;
+import static org.apache.iceberg.TableProperties.COMMIT_COALESCE_MAX_BATCH_SIZE_DEFAULT;
+
+/**
+ * Batches appends from many threads into a single snapshot per interval.
+ * <p>
+ * Writers call {@link #append(Iterable)} instead of committing their own {@link AppendFiles}. Requests are queued and
+ * a background thread commits all requests that arrive within an interval, or up to a maximum batch size, using one
+ * {@link Table#newAppend()} operation. Each request's future completes with the id of the snapshot that added its
+ * files, or completes exceptionally if the batch commit fails. If the table's append operation does not expose the id
+ * of the snapshot it committed, the future completes with null rather than guessing. Commit retries follow the
+ * table's {@code commit.retry.*} properties.
+ * <p>
+ * Because a batch is committed as one operation, a failed commit fails every request in the batch.
+ * <p>
+ * After each batch, a {@link CoalescedCommitEvent} is sent to listeners with the batch size and latency.
+ */
+public class CommitCoalescer implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(CommitCoalescer.class);
+  private static final long IDLE_POLL_MILLIS = 100L;
+
+  private final Table table;
+  private final long intervalNanos;
+  private final int maxBatchSize;
+  private final BlockingQueue<PendingAppend> requests = new LinkedBlockingQueue<>();
+  private final ExecutorService committer;
+  private final Future<?> commitLoop;
+  private final AtomicLong committedBatches = new AtomicLong(0L);
+  private final AtomicLong committedRequests = new AtomicLong(0L);
+  // guards closed so that no request is queued after close stops accepting requests
+  private final Object closeLock = new Object();
+  private volatile boolean closed = false;
+
+  /**
+   * Creates a coalescer configured by the table's {@code commit.coalesce.*} properties.
+   *
+   * @param table a table to append to
+   */
+  public CommitCoalescer(Table table) {
+    this(table,
+        PropertyUtil.propertyAsLong(table.properties(),
+            COMMIT_COALESCE_INTERVAL_MS, COMMIT_COALESCE_INTERVAL_MS_DEFAULT),
+        PropertyUtil.propertyAsInt(table.properties(),
+            COMMIT_COALESCE_MAX_BATCH_SIZE, COMMIT_COALESCE_MAX_BATCH_SIZE_DEFAULT));
+  }
+
+  /**
+   * Creates a coalescer.
+   *
+   * @param table a table to append to
+   * @param intervalMillis how long to wait for more requests after the first request of a batch arrives
+   * @param maxBatchSize the maximum number of requests to commit in one snapshot
+   */
+  public CommitCoalescer(Table table, long intervalMillis, int maxBatchSize) {
+    Preconditions.checkNotNull(table, "Table cannot be null");
+    Preconditions.checkArgument(intervalMillis >= 0, "Invalid commit interval: %s (must be >= 0)", intervalMillis);
+    Preconditions.checkArgument(maxBatchSize > 0, "Invalid max batch size: %s (must be > 0)", maxBatchSize);
+    this.table = table;
+    this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+    this.maxBatchSize = maxBatchSize;
+    this.committer = ThreadPools.newWorkerPool("iceberg-commit-coalescer", 1);
+    this.commitLoop = committer.submit(this::commitLoop);
+  }
+
+  /**
+   * Queues data files to be appended to the table in the next batch.
+   *
+   * @param files data files to append
+   * @return a future that completes with the id of the snapshot that added the files, or null if it is unknown
+   * @throws IllegalStateException if the coalescer is closed
+   */
+  public CompletableFuture<Long> append(Iterable<DataFile> files) {
+    PendingAppend request = new PendingAppend(ImmutableList.copyOf(files));
+    synchronized (closeLock) {
+      Preconditions.checkState(!closed, "Cannot append: commit coalescer is closed");
+      requests.add(request);
+    }
+
+    return request.future;
+  }
+
+  /**
+   * @return the number of batches committed by this coalescer
+   */
+  public long committedBatches() {
+    return committedBatches.get();
+  }
+
+  /**
+   * @return the number of append requests committed by this coalescer
+   */
+  public long committedRequests() {
+    return committedRequests.get();
+  }
+
+  /**
+   * Stops accepting requests, commits any requests that are already queued, and stops the commit thread.
+   */
+  @Override
+  public void close() {
+    synchronized (closeLock) {
+      if (closed) {
+        return;
+      }
+
+      this.closed = true;
+    }
+
+    try {
+      commitLoop.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      LOG.warn("Commit coalescer for {} failed", table.name(), e.getCause());
+    } finally {
+      committer.shutdown();
+      // fail any requests left by a commit loop that stopped early
+      failQueued(new IllegalStateException("Commit coalescer is closed"));
+    }
+  }
+
+  private void commitLoop() {
+    try {
+      while (!closed || !requests.isEmpty()) {
+        PendingAppend first = requests.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first != null) {
+          commit(nextBatch(first));
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      failQueued(e);
+    }
+  }
+
+  private List<PendingAppend> nextBatch(PendingAppend first) throws InterruptedException {
+    List<PendingAppend> batch = Lists.newArrayList(first);
+    long deadline = first.submitNanos + intervalNanos;
+    while (batch.size() < maxBatchSize) {
+      long remaining = closed ? 0 : deadline - System.nanoTime();
+      PendingAppend next = remaining > 0 ? requests.poll(remaining, TimeUnit.NANOSECONDS) : requests.poll();
+      if (next == null) {
+        break;
+      }
+
+      batch.add(next);
+    }
+
+    return batch;
+  }
+
+  private void commit(List<PendingAppend> batch) {
+    long startNanos = System.nanoTime();
+    int fileCount = 0;
+    Long snapshotId;
+    try {
+      AppendFiles append = table.newAppend();
+      for (PendingAppend request : batch) {
+        for (DataFile file : request.files) {
+          append.appendFile(file);
+          fileCount += 1;
+        }
+      }
+
+      append.commit();
+      snapshotId = committedSnapshotId(append);
+
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to commit batch of {} appends to {}", batch.size(), table.name(), e);
+      for (PendingAppend request : batch) {
+        request.future.completeExceptionally(e);
+      }
+
+      return;
+    }
+
+    long endNanos = System.nanoTime();
+    for (PendingAppend request : batch) {
+      request.future.complete(snapshotId);
+    }
+
+    committedBatches.incrementAndGet();
+    committedRequests.addAndGet(batch.size());
+
+    long commitMillis = TimeUnit.NANOSECONDS.toMillis(endNanos - startNanos);
+    long maxLatencyMillis = TimeUnit.NANOSECONDS.toMillis(endNanos - batch.get(0).submitNanos);
+    LOG.info("Committed {} appends ({} files) to {} as snapshot {} in {} ms (max latency {} ms)",
+        batch.size(), fileCount, table.name(), snapshotId, commitMillis, maxLatencyMillis);
+
+    try {
+      Listeners.notifyAll(new CoalescedCommitEvent(
+          table.name(), snapshotId, batch.size(), fileCount, commitMillis, maxLatencyMillis));
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to notify listeners", e);
+    }
+  }
+
+  private Long committedSnapshotId(AppendFiles append) {
+    if (append instanceof SnapshotProducer) {
+      // the snapshot id is assigned once and reused by every commit attempt
+      return ((SnapshotProducer<?>) append).snapshotId();
+    }
+
+    // the current snapshot may have been committed by another writer, so it cannot be used
+    LOG.warn("Cannot determine the snapshot committed by {} to {}", append.getClass().getName(), table.name());
+    return null;
+  }
+
+  private void failQueued(Exception cause) {
+    PendingAppend request;
+    while ((request = requests.poll()) != null) {
+      request.future.completeExceptionally(cause);
+    }
+  }
+
+  private static class PendingAppend {
+    private final List<DataFile> files;
+    private final long submitNanos = System.nanoTime();
+    private final CompletableFuture<Long> future = new CompletableFuture<>();
+
+    private PendingAppend(List<DataFile> files) {
+      this.files = files;
+    }
+  }
+}
@@ -19,8 +19,11 @@
 
 package org.apache.iceberg;
 
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.metrics.ScanMetrics;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.util.ThreadPools;
@@ -34,6 +37,10 @@ public class DataTableScan extends BaseTableScan {
       .addAll(SCAN_COLUMNS)
       .add("value_counts", "null_value_counts", "nan_value_counts", "lower_bounds", "upper_bounds", "column_sizes")
       .build();
+  static final ImmutableList<String> SCAN_WITH_COLUMN_SIZES_COLUMNS = ImmutableList.<String>builder()
+      .addAll(SCAN_COLUMNS)
+      .add("column_sizes")
+      .build();
   static final boolean PLAN_SCANS_WITH_WORKER_POOL =
       SystemProperties.getBoolean(SystemProperties.SCAN_THREAD_POOL_ENABLED, true);
 
@@ -71,9 +78,17 @@ public class DataTableScan extends BaseTableScan {
   public CloseableIterable<FileScanTask> planFiles(TableOperations ops, Snapshot snapshot,
                                                    Expression rowFilter, boolean ignoreResiduals,
                                                    boolean caseSensitive, boolean colStats) {
+    return planFiles(ops, snapshot, rowFilter, ignoreResiduals, caseSensitive, colStats, new ScanMetrics());
+  }
+
+  @Override
+  protected CloseableIterable<FileScanTask> planFiles(TableOperations ops, Snapshot snapshot,
+                                                      Expression rowFilter, boolean ignoreResiduals,
+                                                      boolean caseSensitive, boolean colStats, ScanMetrics metrics) {
     ManifestGroup manifestGroup = new ManifestGroup(ops.io(), snapshot.dataManifests(), snapshot.deleteManifests())
+        .scanMetrics(metrics)
         .caseSensitive(caseSensitive)
-        .select(colStats ? SCAN_WITH_STATS_COLUMNS : SCAN_COLUMNS)
+        .select(scanColumns(colStats))
         .filterData(rowFilter)
         .specsById(ops.current().specsById())
         .ignoreDeleted();
@@ -83,12 +98,84 @@ public class DataTableScan extends BaseTableScan {
     }
 
     if (PLAN_SCANS_WITH_WORKER_POOL && snapshot.dataManifests().size() > 1) {
+      if (pipelinedPlanningEnabled(ops)) {
+        return planPipelined(ops, manifestGroup);
+      }
+
       manifestGroup = manifestGroup.planWith(ThreadPools.getWorkerPool());
     }
 
     return manifestGroup.planFiles();
   }
 
+  /**
+   * Returns the manifest columns to read, including column sizes when the weight model uses them.
+   */
+  protected List<String> scanColumns(boolean colStats) {
+    if (colStats) {
+      return SCAN_WITH_STATS_COLUMNS;
+    } else if (weightsUseColumnSizes()) {
+      return SCAN_WITH_COLUMN_SIZES_COLUMNS;
+    } else {
+      return SCAN_COLUMNS;
+    }
+  }
+
+  private CloseableIterable<FileScanTask> planPipelined(TableOperations ops, ManifestGroup manifestGroup) {
+    int parallelism = planningParallelism(ops);
+    int queueSize = planningQueueSize(ops);
+
+    if (parallelism <= ThreadPools.WORKER_THREAD_POOL_SIZE) {
+      return manifestGroup
+          .planWith(ThreadPools.getWorkerPool())
+          .planPipelined(parallelism, queueSize)
+          .planFiles();
+    }
+
+    // the shared pool is too small for the requested parallelism, so use a pool for this scan
+    ExecutorService planningPool = ThreadPools.newWorkerPool("iceberg-planning", parallelism);
+    CloseableIterable<FileScanTask> tasks = manifestGroup
+        .planWith(planningPool)
+        .planPipelined(parallelism, queueSize)
+        .planFiles();
+
+    return CloseableIterable.combine(tasks, () -> {
+      try {
+        tasks.close();
+      } finally {
+        planningPool.shutdown();
+      }
+    });
+  }
+
+  private boolean pipelinedPlanningEnabled(TableOperations ops) {
+    String option = options().get(TableProperties.PLANNING_PIPELINED_ENABLED);
+    if (option != null) {
+      return Boolean.parseBoolean(option);
+    }
+
+    return ops.current().propertyAsBoolean(
+        TableProperties.PLANNING_PIPELINED_ENABLED, TableProperties.PLANNING_PIPELINED_ENABLED_DEFAULT);
+  }
+
+  private int planningParallelism(TableOperations ops) {
+    String option = options().get(TableProperties.PLANNING_PARALLELISM);
+    int parallelism = option != null ?
+        Integer.parseInt(option) :
+        ops.current().propertyAsInt(TableProperties.PLANNING_PARALLELISM, ThreadPools.WORKER_THREAD_POOL_SIZE);
+    Preconditions.checkArgument(parallelism > 0, "Invalid planning parallelism: %s (must be positive)", parallelism);
+    return parallelism;
+  }
+
+  private int planningQueueSize(TableOperations ops) {
+    String option = options().get(TableProperties.PLANNING_QUEUE_SIZE);
+    int queueSize = option != null ?
+        Integer.parseInt(option) :
+        ops.current().propertyAsInt(TableProperties.PLANNING_QUEUE_SIZE, TableProperties.PLANNING_QUEUE_SIZE_DEFAULT);
+    Preconditions.checkArgument(queueSize > 0, "Invalid planning queue size: %s (must be positive)", queueSize);
+    return queueSize;
+  }
+
   @Override
   protected long targetSplitSize(TableOperations ops) {
     return ops.current().propertyAsLong(
@@ -32,7 +32,6 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
@@ -63,12 +62,13 @@ import org.apache.iceberg.util.Tasks;
  * {@link #forEntry(ManifestEntry)} to get the the delete files to apply to a given data file.
  */
 class DeleteFileIndex {
+  private static final DeleteFile[] NO_DELETES = new DeleteFile[0];
+
   private final Map<Integer, PartitionSpec> specsById;
   private final Map<Integer, Types.StructType> partitionTypeById;
   private final Map<Integer, ThreadLocal<StructLikeWrapper>> wrapperById;
-  private final long[] globalSeqs;
-  private final DeleteFile[] globalDeletes;
-  private final Map<Pair<Integer, StructLikeWrapper>, Pair<long[], DeleteFile[]>> sortedDeletesByPartition;
+  private final DeleteGroup globalDeletes;
+  private final Map<Pair<Integer, StructLikeWrapper>, DeleteGroup> deletesByPartition;
 
   DeleteFileIndex(Map<Integer, PartitionSpec> specsById, long[] globalSeqs, DeleteFile[] globalDeletes,
                   Map<Pair<Integer, StructLikeWrapper>, Pair<long[], DeleteFile[]>> sortedDeletesByPartition) {
@@ -77,13 +77,26 @@ class DeleteFileIndex {
     specsById.forEach((specId, spec) -> builder.put(specId, spec.partitionType()));
     this.partitionTypeById = builder.build();
     this.wrapperById = Maps.newConcurrentMap();
-    this.globalSeqs = globalSeqs;
-    this.globalDeletes = globalDeletes;
-    this.sortedDeletesByPartition = sortedDeletesByPartition;
+    this.globalDeletes = globalDeletes != null ?
+        new DeleteGroup(globalSeqs, globalDeletes, unpartitionedSchema()) : null;
+    this.deletesByPartition = Maps.newHashMap();
+    sortedDeletesByPartition.forEach((partition, deletes) -> deletesByPartition.put(partition,
+        new DeleteGroup(deletes.first(), deletes.second(), specsById.get(partition.first()).schema())));
   }
 
   public boolean isEmpty() {
-    return (globalDeletes == null || globalDeletes.length == 0) && sortedDeletesByPartition.isEmpty();
+    return (globalDeletes == null || globalDeletes.isEmpty()) && deletesByPartition.isEmpty();
+  }
+
+  private Schema unpartitionedSchema() {
+    // global deletes are in the unpartitioned spec, and the schema is used to look up equality field types
+    for (PartitionSpec spec : specsById.values()) {
+      if (spec.isUnpartitioned()) {
+        return spec.schema();
+      }
+    }
+
+    return specsById.values().iterator().next().schema();
   }
 
   private StructLikeWrapper newWrapper(int specId) {
@@ -102,22 +115,26 @@ class DeleteFileIndex {
 
   DeleteFile[] forDataFile(long sequenceNumber, DataFile file) {
     Pair<Integer, StructLikeWrapper> partition = partition(file.specId(), file.partition());
-    Pair<long[], DeleteFile[]> partitionDeletes = sortedDeletesByPartition.get(partition);
+    DeleteGroup partitionDeletes = deletesByPartition.get(partition);
+    Schema schema = specsById.get(file.specId()).schema();
 
-    Stream<DeleteFile> matchingDeletes;
     if (partitionDeletes == null) {
-      matchingDeletes = limitBySequenceNumber(sequenceNumber, globalSeqs, globalDeletes);
+      return globalDeletes != null ? globalDeletes.forDataFile(sequenceNumber, file, schema) : NO_DELETES;
     } else if (globalDeletes == null) {
-      matchingDeletes = limitBySequenceNumber(sequenceNumber, partitionDeletes.first(), partitionDeletes.second());
-    } else {
-      matchingDeletes = Stream.concat(
-          limitBySequenceNumber(sequenceNumber, globalSeqs, globalDeletes),
-          limitBySequenceNumber(sequenceNumber, partitionDeletes.first(), partitionDeletes.second()));
+      return partitionDeletes.forDataFile(sequenceNumber, file, schema);
     }
 
-    return matchingDeletes
-        .filter(deleteFile -> canContainDeletesForFile(file, deleteFile, specsById.get(file.specId()).schema()))
-        .toArray(DeleteFile[]::new);
+    DeleteFile[] global = globalDeletes.forDataFile(sequenceNumber, file, schema);
+    DeleteFile[] local = partitionDeletes.forDataFile(sequenceNumber, file, schema);
+    if (global.length == 0) {
+      return local;
+    } else if (local.length == 0) {
+      return global;
+    }
+
+    DeleteFile[] matches = Arrays.copyOf(global, global.length + local.length);
+    System.arraycopy(local, 0, matches, global.length, local.length);
+    return matches;
   }
 
   private static boolean canContainDeletesForFile(DataFile dataFile, DeleteFile deleteFile, Schema schema) {
@@ -283,11 +300,7 @@ class DeleteFileIndex {
     return nullValueCount > 0;
   }
 
-  private static Stream<DeleteFile> limitBySequenceNumber(long sequenceNumber, long[] seqs, DeleteFile[] files) {
-    if (files == null) {
-      return Stream.empty();
-    }
-
+  private static int firstIndexOf(long sequenceNumber, long[] seqs) {
     int pos = Arrays.binarySearch(seqs, sequenceNumber);
     int start;
     if (pos < 0) {
@@ -302,7 +315,387 @@ class DeleteFileIndex {
       }
     }
 
-    return Arrays.stream(files, start, files.length);
+    return start;
+  }
+
+  private static String pathBound(Map<Integer, ByteBuffer> bounds) {
+    if (bounds == null) {
+      return null;
+    }
+
+    ByteBuffer bound = bounds.get(MetadataColumns.DELETE_FILE_PATH.fieldId());
+    if (bound == null) {
+      return null;
+    }
+
+    CharSequence path = Conversions.fromByteBuffer(MetadataColumns.DELETE_FILE_PATH.type(), bound);
+    return path.toString();
+  }
+
+  /**
+   * Delete files that apply to the same set of data files, sorted by the sequence number they apply to.
+   * <p>
+   * Large groups are indexed so that a lookup checks only delete files that may apply to a data file: position
+   * deletes by the data file path or path range they reference, and equality deletes by the bounds of one equality
+   * column.
+   */
+  private static class DeleteGroup {
+    // smaller sets of delete files are checked one by one
+    private static final int MIN_INDEXED_SIZE = 8;
+
+    // match buffers are reused by each thread because lookups run once per data file
+    private static final ThreadLocal<Ordinals> MATCHES = ThreadLocal.withInitial(Ordinals::new);
+
+    private final long[] seqs;
+    private final DeleteFile[] files;
+    private final boolean indexed;
+
+    // position deletes that reference only one data file, by data file path
+    private final Map<String, int[]> posDeletesByPath;
+    // position deletes that may reference more than one data file, by path range
+    private final BoundsIndex<CharSequence> rangePosDeletes;
+    // position deletes without both path bounds, which are checked one by one
+    private final int[] otherPosDeletes;
+    // equality deletes indexed by the bounds of one equality column, and all others
+    private final Types.NestedField eqIndexField;
+    private final BoundsIndex<Object> eqDeleteIndex;
+    private final int[] otherEqDeletes;
+
+    private DeleteGroup(long[] seqs, DeleteFile[] files, Schema schema) {
+      this.seqs = seqs;
+      this.files = files;
+      this.indexed = files.length >= MIN_INDEXED_SIZE;
+
+      Map<String, List<Integer>> byPath = Maps.newHashMap();
+      List<Integer> rangePos = Lists.newArrayList();
+      List<CharSequence> rangeLowers = Lists.newArrayList();
+      List<CharSequence> rangeUppers = Lists.newArrayList();
+      List<Integer> otherPos = Lists.newArrayList();
+      List<Integer> eqDeletes = Lists.newArrayList();
+      for (int ordinal = 0; indexed && ordinal < files.length; ordinal += 1) {
+        DeleteFile file = files[ordinal];
+        if (file.content() == FileContent.EQUALITY_DELETES) {
+          eqDeletes.add(ordinal);
+          continue;
+        }
+
+        // bounds are only used when both are present, matching canContainPosDeletesForFile
+        boolean hasBounds = file.lowerBounds() != null && file.upperBounds() != null;
+        String lower = hasBounds ? pathBound(file.lowerBounds()) : null;
+        String upper = hasBounds ? pathBound(file.upperBounds()) : null;
+        if (lower == null || upper == null) {
+          otherPos.add(ordinal);
+        } else if (lower.equals(upper)) {
+          byPath.computeIfAbsent(lower, path -> Lists.newArrayList()).add(ordinal);
+        } else {
+          rangePos.add(ordinal);
+          rangeLowers.add(lower);
+          rangeUppers.add(upper);
+        }
+      }
+
+      this.posDeletesByPath = Maps.newHashMapWithExpectedSize(byPath.size());
+      byPath.forEach((path, ordinals) -> posDeletesByPath.put(path, toArray(ordinals)));
+      this.rangePosDeletes = new BoundsIndex<>(Comparators.charSequences(), rangePos, rangeLowers, rangeUppers);
+      this.otherPosDeletes = toArray(otherPos);
+
+      Integer indexFieldId = indexFieldId(files, eqDeletes, schema);
+      if (indexFieldId != null) {
+        Types.NestedField field = schema.findField(indexFieldId);
+        Type.PrimitiveType type = field.type().asPrimitiveType();
+        List<Integer> indexedEqDeletes = Lists.newArrayList();
+        List<Object> eqLowers = Lists.newArrayList();
+        List<Object> eqUppers = Lists.newArrayList();
+        List<Integer> otherEq = Lists.newArrayList();
+        for (int ordinal : eqDeletes) {
+          DeleteFile file = files[ordinal];
+          if (hasBounds(file, field)) {
+            indexedEqDeletes.add(ordinal);
+            eqLowers.add(Conversions.fromByteBuffer(type, file.lowerBounds().get(indexFieldId)));
+            eqUppers.add(Conversions.fromByteBuffer(type, file.upperBounds().get(indexFieldId)));
+          } else {
+            otherEq.add(ordinal);
+          }
+        }
+
+        this.eqIndexField = field;
+        this.eqDeleteIndex = new BoundsIndex<>(Comparators.forType(type), indexedEqDeletes, eqLowers, eqUppers);
+        this.otherEqDeletes = toArray(otherEq);
+      } else {
+        this.eqIndexField = null;
+        this.eqDeleteIndex = null;
+        this.otherEqDeletes = toArray(eqDeletes);
+      }
+    }
+
+    boolean isEmpty() {
+      return files.length == 0;
+    }
+
+    DeleteFile[] forDataFile(long sequenceNumber, DataFile dataFile, Schema schema) {
+      int start = firstIndexOf(sequenceNumber, seqs);
+      if (start >= files.length) {
+        return NO_DELETES;
+      }
+
+      Ordinals matches = MATCHES.get();
+      matches.clear();
+      if (!indexed || files.length - start < MIN_INDEXED_SIZE) {
+        for (int ordinal = start; ordinal < files.length; ordinal += 1) {
+          if (canContainDeletesForFile(dataFile, files[ordinal], schema)) {
+            matches.add(ordinal);
+          }
+        }
+
+        return matches.toFiles(files);
+      }
+
+      String path = dataFile.path().toString();
+      int[] pathDeletes = posDeletesByPath.get(path);
+      if (pathDeletes != null) {
+        for (int ordinal : pathDeletes) {
+          if (ordinal >= start) {
+            matches.add(ordinal);
+          }
+        }
+      }
+
+      rangePosDeletes.addOverlapping(path, path, start, matches);
+
+      for (int ordinal : otherPosDeletes) {
+        if (ordinal >= start && canContainPosDeletesForFile(dataFile, files[ordinal])) {
+          matches.add(ordinal);
+        }
+      }
+
+      if (eqDeleteIndex != null) {
+        addIndexedEqDeletes(dataFile, start, schema, matches);
+      }
+
+      for (int ordinal : otherEqDeletes) {
+        if (ordinal >= start && canContainEqDeletesForFile(dataFile, files[ordinal], schema)) {
+          matches.add(ordinal);
+        }
+      }
+
+      matches.sort();
+      return matches.toFiles(files);
+    }
+
+    private void addIndexedEqDeletes(DataFile dataFile, int start, Schema schema, Ordinals matches) {
+      int fieldId = eqIndexField.fieldId();
+      Type.PrimitiveType type = eqIndexField.type().asPrimitiveType();
+      ByteBuffer lowerBuf = dataFile.lowerBounds() != null ? dataFile.lowerBounds().get(fieldId) : null;
+      ByteBuffer upperBuf = dataFile.upperBounds() != null ? dataFile.upperBounds().get(fieldId) : null;
+
+      // if the data file's range is unknown, any indexed delete file may apply
+      boolean hasRange = lowerBuf != null && upperBuf != null;
+      Object dataLower = hasRange ? Conversions.fromByteBuffer(type, lowerBuf) : null;
+      Object dataUpper = hasRange ? Conversions.fromByteBuffer(type, upperBuf) : null;
+
+      // add the delete files with overlapping ranges, then keep only those that pass the full check
+      int candidatesStart = matches.size();
+      eqDeleteIndex.addOverlapping(dataLower, dataUpper, start, matches);
+
+      int kept = candidatesStart;
+      for (int i = candidatesStart; i < matches.size(); i += 1) {
+        int ordinal = matches.get(i);
+        if (canContainEqDeletesForFile(dataFile, files[ordinal], schema)) {
+          matches.set(kept, ordinal);
+          kept += 1;
+        }
+      }
+
+      matches.truncate(kept);
+    }
+
+    /**
+     * Chooses the equality field with bounds in the most delete files, or null if no field is worth indexing.
+     */
+    private static Integer indexFieldId(DeleteFile[] files, List<Integer> eqDeletes, Schema schema) {
+      Map<Integer, Integer> countsById = Maps.newHashMap();
+      for (int ordinal : eqDeletes) {
+        for (int id : files[ordinal].equalityFieldIds()) {
+          Types.NestedField field = schema.findField(id);
+          if (field != null && hasBounds(files[ordinal], field)) {
+            countsById.merge(id, 1, Integer::sum);
+          }
+        }
+      }
+
+      Integer bestId = null;
+      int bestCount = 1;
+      for (Map.Entry<Integer, Integer> entry : countsById.entrySet()) {
+        if (entry.getValue() > bestCount) {
+          bestId = entry.getKey();
+          bestCount = entry.getValue();
+        }
+      }
+
+      return bestId;
+    }
+
+    /**
+     * Returns whether a delete file has bounds for a field and no null values, so that it can only match data files
+     * with overlapping bounds.
+     */
+    private static boolean hasBounds(DeleteFile file, Types.NestedField field) {
+      return field.type().isPrimitiveType() &&
+          file.equalityFieldIds().contains(field.fieldId()) &&
+          file.lowerBounds() != null && file.lowerBounds().get(field.fieldId()) != null &&
+          file.upperBounds() != null && file.upperBounds().get(field.fieldId()) != null &&
+          !containsNull(file.nullValueCounts(), field);
+    }
+
+    private static int[] toArray(List<Integer> ordinals) {
+      return ordinals.stream().mapToInt(Integer::intValue).toArray();
+    }
+  }
+
+  /**
+   * Delete file ranges sorted by lower bound, with the max upper bound of each subtree when the sorted array is viewed
+   * as a balanced binary search tree.
+   * <p>
+   * Finding the ranges that overlap a data file's range takes O(log n + k) comparisons for k matches.
+   */
+  private static class BoundsIndex<T> {
+    private final Comparator<T> comparator;
+    private final int[] ordinals;
+    private final Object[] lowers;
+    private final Object[] uppers;
+    private final Object[] maxUppers;
+
+    private BoundsIndex(Comparator<T> comparator, List<Integer> indexedOrdinals, List<T> lowerBounds,
+                        List<T> upperBounds) {
+      this.comparator = comparator;
+
+      Integer[] sorted = new Integer[indexedOrdinals.size()];
+      for (int i = 0; i < sorted.length; i += 1) {
+        sorted[i] = i;
+      }
+
+      Arrays.sort(sorted, (left, right) -> comparator.compare(lowerBounds.get(left), lowerBounds.get(right)));
+
+      this.ordinals = new int[sorted.length];
+      this.lowers = new Object[sorted.length];
+      this.uppers = new Object[sorted.length];
+      this.maxUppers = new Object[sorted.length];
+      for (int i = 0; i < sorted.length; i += 1) {
+        ordinals[i] = indexedOrdinals.get(sorted[i]);
+        lowers[i] = lowerBounds.get(sorted[i]);
+        uppers[i] = upperBounds.get(sorted[i]);
+      }
+
+      buildMaxUppers(0, sorted.length);
+    }
+
+    private Object buildMaxUppers(int lo, int hi) {
+      if (lo >= hi) {
+        return null;
+      }
+
+      int mid = (lo + hi) >>> 1;
+      Object max = uppers[mid];
+      Object leftMax = buildMaxUppers(lo, mid);
+      Object rightMax = buildMaxUppers(mid + 1, hi);
+      if (leftMax != null && compare(leftMax, max) > 0) {
+        max = leftMax;
+      }
+      if (rightMax != null && compare(rightMax, max) > 0) {
+        max = rightMax;
+      }
+
+      maxUppers[mid] = max;
+      return max;
+    }
+
+    /**
+     * Adds the ordinals at or after {@code minOrdinal} whose range overlaps a data file's range, in no particular
+     * order. A null bound matches any range on that side.
+     */
+    void addOverlapping(T dataLower, T dataUpper, int minOrdinal, Ordinals matches) {
+      addOverlapping(0, ordinals.length, dataLower, dataUpper, minOrdinal, matches);
+    }
+
+    private void addOverlapping(int lo, int hi, T dataLower, T dataUpper, int minOrdinal, Ordinals matches) {
+      if (lo >= hi) {
+        return;
+      }
+
+      int mid = (lo + hi) >>> 1;
+      if (dataLower != null && compare(maxUppers[mid], dataLower) < 0) {
+        // every range in this subtree ends before the data file's range starts
+        return;
+      }
+
+      addOverlapping(lo, mid, dataLower, dataUpper, minOrdinal, matches);
+
+      if (dataUpper == null || compare(lowers[mid], dataUpper) <= 0) {
+        if (ordinals[mid] >= minOrdinal && (dataLower == null || compare(uppers[mid], dataLower) >= 0)) {
+          matches.add(ordinals[mid]);
+        }
+
+        // ranges to the right start after this one, so they can only overlap if this one starts in range
+        addOverlapping(mid + 1, hi, dataLower, dataUpper, minOrdinal, matches);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(Object left, Object right) {
+      return comparator.compare((T) left, (T) right);
+    }
+  }
+
+  /**
+   * A growable list of delete file ordinals.
+   */
+  private static class Ordinals {
+    private int[] values = new int[8];
+    private int size = 0;
+
+    void add(int ordinal) {
+      if (size == values.length) {
+        this.values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = ordinal;
+    }
+
+    int size() {
+      return size;
+    }
+
+    int get(int index) {
+      return values[index];
+    }
+
+    void set(int index, int ordinal) {
+      values[index] = ordinal;
+    }
+
+    void truncate(int newSize) {
+      this.size = newSize;
+    }
+
+    void clear() {
+      this.size = 0;
+    }
+
+    void sort() {
+      Arrays.sort(values, 0, size);
+    }
+
+    DeleteFile[] toFiles(DeleteFile[] files) {
+      if (size == 0) {
+        return NO_DELETES;
+      }
+
+      DeleteFile[] matches = new DeleteFile[size];
+      for (int i = 0; i < size; i += 1) {
+        matches[i] = files[values[i]];
+      }
+
+      return matches;
+    }
   }
 
   static Builder builderFor(FileIO io, Iterable<ManifestFile> deleteManifests) {
@@ -81,7 +81,7 @@ class IncrementalDataTableScan extends DataTableScan {
 
     ManifestGroup manifestGroup = new ManifestGroup(tableOps().io(), manifests)
         .caseSensitive(isCaseSensitive())
-        .select(colStats() ? SCAN_WITH_STATS_COLUMNS : SCAN_COLUMNS)
+        .select(scanColumns(colStats()))
         .filterData(filter())
         .filterManifestEntries(
             manifestEntry ->
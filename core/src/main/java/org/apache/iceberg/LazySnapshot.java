@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.io.FileIO;
+
+/**
+ * A {@link Snapshot} read from table metadata that is parsed when it is first used.
+ * <p>
+ * The fields needed to index and validate snapshots in {@link TableMetadata} are parsed eagerly. The summary and
+ * manifest list are kept as the snapshot's original JSON until they are needed, which avoids building every snapshot
+ * when reading metadata for a table with a long history. Unloaded snapshots are written back using the original JSON.
+ */
+class LazySnapshot implements Snapshot {
+  private final FileIO io;
+  private final long sequenceNumber;
+  private final long snapshotId;
+  private final Long parentId;
+  private final long timestampMillis;
+  private final byte[] json;
+
+  // lazily initialized
+  private transient volatile Snapshot snapshot = null;
+
+  LazySnapshot(FileIO io, long sequenceNumber, long snapshotId, Long parentId, long timestampMillis, byte[] json) {
+    this.io = io;
+    this.sequenceNumber = sequenceNumber;
+    this.snapshotId = snapshotId;
+    this.parentId = parentId;
+    this.timestampMillis = timestampMillis;
+    this.json = json;
+  }
+
+  /**
+   * @return the snapshot's JSON as it was read from the metadata file
+   */
+  String json() {
+    return new String(json, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @return whether the snapshot's JSON has been parsed
+   */
+  boolean isLoaded() {
+    return snapshot != null;
+  }
+
+  private Snapshot snapshot() {
+    if (snapshot == null) {
+      synchronized (this) {
+        if (snapshot == null) {
+          this.snapshot = SnapshotParser.fromJson(io, json());
+        }
+      }
+    }
+
+    return snapshot;
+  }
+
+  @Override
+  public long sequenceNumber() {
+    return sequenceNumber;
+  }
+
+  @Override
+  public long snapshotId() {
+    return snapshotId;
+  }
+
+  @Override
+  public Long parentId() {
+    return parentId;
+  }
+
+  @Override
+  public long timestampMillis() {
+    return timestampMillis;
+  }
+
+  @Override
+  public List<ManifestFile> allManifests() {
+    return snapshot().allManifests();
+  }
+
+  @Override
+  public List<ManifestFile> dataManifests() {
+    return snapshot().dataManifests();
+  }
+
+  @Override
+  public List<ManifestFile> deleteManifests() {
+    return snapshot().deleteManifests();
+  }
+
+  @Override
+  public String operation() {
+    return snapshot().operation();
+  }
+
+  @Override
+  public Map<String, String> summary() {
+    return snapshot().summary();
+  }
+
+  @Override
+  public Iterable<DataFile> addedFiles() {
+    return snapshot().addedFiles();
+  }
+
+  @Override
+  public Iterable<DataFile> deletedFiles() {
+    return snapshot().deletedFiles();
+  }
+
+  @Override
+  public String manifestListLocation() {
+    return snapshot().manifestListLocation();
+  }
+
+  @Override
+  public String toString() {
+    return snapshot().toString();
+  }
+}
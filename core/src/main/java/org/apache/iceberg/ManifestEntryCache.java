@@ -0,0 +1,356 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.base.Objects;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.MapMaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A memory-bounded cache of decoded manifest entries.
+ * <p>
+ * Manifest files are immutable, so the entries decoded from a manifest can be shared by readers in a JVM. Manifests
+ * are keyed by location and length, and entries are never invalidated. The cache's memory is shared by all readers,
+ * but entries are scoped to the {@link FileIO} that read them, so a FileIO with different credentials never reads
+ * entries that another FileIO decoded. Entries are weighed by an estimate
+ * of their size in memory and the least recently used manifests are evicted when the total exceeds the maximum.
+ * <p>
+ * When a spill directory is configured, the bytes of each cached manifest are also written to local disk. A manifest
+ * that was evicted from memory is decoded again from the local copy instead of the table's file system. Local copies
+ * have the same scope as cached entries and are removed when the JVM exits.
+ * <p>
+ * Cached entries are shared and must be copied by readers before they are modified.
+ */
+class ManifestEntryCache {
+  private static final Logger LOG = LoggerFactory.getLogger(ManifestEntryCache.class);
+
+  private static final long DEFAULT_MAX_SIZE_BYTES = 256L * 1024 * 1024; // 256 MB
+  private static final long DEFAULT_SPILL_MAX_SIZE_BYTES = 4L * 1024 * 1024 * 1024; // 4 GB
+  // only manifests up to this size are read into memory before decoding and copied to the spill directory
+  private static final long MAX_LOCAL_COPY_SIZE_BYTES = 64L * 1024 * 1024; // 64 MB
+
+  // rough per-object estimates used to weigh cached entries
+  private static final long ENTRY_OVERHEAD_BYTES = 320L;
+  private static final long MAP_ENTRY_BYTES = 48L;
+  private static final long BOUND_OVERHEAD_BYTES = 32L;
+
+  // a unique scope for each FileIO, identified by reference; FileIOs are released when no longer used
+  private static final Map<FileIO, String> IO_SCOPES = new MapMaker().weakKeys().makeMap();
+
+  private final Cache<CacheKey, CachedManifest> manifests;
+  private final SpillDirectory spillDirectory;
+
+  ManifestEntryCache(long maxSizeBytes, File spillDir, long spillMaxSizeBytes) {
+    Preconditions.checkArgument(maxSizeBytes > 0, "Invalid max size for manifest cache: %s", maxSizeBytes);
+    this.manifests = Caffeine.newBuilder()
+        .maximumWeight(maxSizeBytes)
+        .weigher((CacheKey key, CachedManifest value) -> value.weight())
+        .recordStats()
+        .build();
+    this.spillDirectory = spillDir != null ? new SpillDirectory(spillDir, spillMaxSizeBytes) : null;
+  }
+
+  /**
+   * Returns whether the shared manifest cache is enabled by the {@code iceberg.manifest-cache.enabled} property.
+   */
+  static boolean isEnabled() {
+    return SystemProperties.getBoolean(SystemProperties.MANIFEST_CACHE_ENABLED, false);
+  }
+
+  /**
+   * Returns the manifest cache shared by all readers in this JVM.
+   */
+  static ManifestEntryCache shared() {
+    return SharedCacheHolder.INSTANCE;
+  }
+
+  /**
+   * Returns the decoded contents of a manifest, loading them if they are not cached.
+   *
+   * @param io the FileIO used to read the manifest, which scopes the cached contents
+   * @param file a manifest file
+   * @param length the length of the manifest file, in bytes
+   * @param decoder a function that decodes a manifest from an input file
+   * @return the cached manifest contents
+   */
+  CachedManifest get(FileIO io, InputFile file, long length, Function<InputFile, CachedManifest> decoder) {
+    String scope = IO_SCOPES.computeIfAbsent(io, ignored -> UUID.randomUUID().toString());
+    CacheKey key = new CacheKey(scope, file.location(), length);
+    return manifests.get(key, k -> decoder.apply(localCopy(k, file)));
+  }
+
+  CacheStats stats() {
+    return manifests.stats();
+  }
+
+  long estimatedSizeInBytes() {
+    return manifests.policy().eviction()
+        .map(eviction -> eviction.weightedSize().orElse(0L))
+        .orElse(0L);
+  }
+
+  void invalidateAll() {
+    manifests.invalidateAll();
+  }
+
+  private InputFile localCopy(CacheKey key, InputFile file) {
+    if (key.length() <= 0 || key.length() > MAX_LOCAL_COPY_SIZE_BYTES) {
+      return file;
+    }
+
+    if (spillDirectory != null) {
+      InputFile spilled = spillDirectory.get(key);
+      if (spilled != null) {
+        return spilled;
+      }
+    }
+
+    // decoding opens the file more than once, so read it once and decode it from memory
+    PrefetchedInputFile fetched = PrefetchedInputFile.prefetch(file, key.length());
+    if (spillDirectory != null) {
+      spillDirectory.put(key, fetched.contents());
+    }
+
+    return fetched;
+  }
+
+  /**
+   * Decoded contents of a manifest: its key-value metadata and entries.
+   */
+  static class CachedManifest {
+    private final Map<String, String> metadata;
+    private final List<ManifestEntry<?>> entries;
+    private final int weight;
+
+    CachedManifest(Map<String, String> metadata, List<? extends ManifestEntry<?>> entries) {
+      this.metadata = ImmutableMap.copyOf(metadata);
+      this.entries = ImmutableList.copyOf(entries);
+      this.weight = (int) Math.min(Integer.MAX_VALUE, Math.max(1L, estimateSize(this.entries)));
+    }
+
+    Map<String, String> metadata() {
+      return metadata;
+    }
+
+    @SuppressWarnings("unchecked")
+    <F extends ContentFile<F>> List<ManifestEntry<F>> entries() {
+      return (List<ManifestEntry<F>>) (List<?>) entries;
+    }
+
+    int weight() {
+      return weight;
+    }
+  }
+
+  private static long estimateSize(List<ManifestEntry<?>> entries) {
+    long size = 0L;
+    for (ManifestEntry<?> entry : entries) {
+      ContentFile<?> file = entry.file();
+      size += ENTRY_OVERHEAD_BYTES + 2L * file.path().length();
+      size += mapSize(file.columnSizes()) + mapSize(file.valueCounts()) + mapSize(file.nullValueCounts()) +
+          mapSize(file.nanValueCounts());
+      size += boundsSize(file.lowerBounds()) + boundsSize(file.upperBounds());
+    }
+
+    return size;
+  }
+
+  private static long mapSize(Map<Integer, ?> map) {
+    return map != null ? MAP_ENTRY_BYTES * map.size() : 0L;
+  }
+
+  private static long boundsSize(Map<Integer, ByteBuffer> bounds) {
+    if (bounds == null) {
+      return 0L;
+    }
+
+    long size = 0L;
+    for (ByteBuffer bound : bounds.values()) {
+      size += MAP_ENTRY_BYTES + BOUND_OVERHEAD_BYTES + (bound != null ? bound.remaining() : 0);
+    }
+
+    return size;
+  }
+
+  /**
+   * Copies of manifest files in a local directory, bounded by total size.
+   * <p>
+   * Copies are written to a new subdirectory for each cache because their scopes are only valid in this JVM, and the
+   * subdirectory is removed when the JVM exits.
+   */
+  private static class SpillDirectory {
+    private final File dir;
+    private final Cache<CacheKey, File> files;
+
+    private SpillDirectory(File parent, long maxSizeBytes) {
+      Preconditions.checkArgument(maxSizeBytes > 0, "Invalid max size for manifest spill directory: %s", maxSizeBytes);
+      this.dir = new File(parent, "manifests-" + UUID.randomUUID());
+      Preconditions.checkArgument(dir.mkdirs(), "Cannot create manifest spill directory: %s", dir);
+      Runtime.getRuntime().addShutdownHook(new Thread(this::deleteAll, "iceberg-manifest-spill-cleanup"));
+      this.files = Caffeine.newBuilder()
+          .maximumWeight(maxSizeBytes)
+          .weigher((CacheKey key, File file) -> (int) Math.min(Integer.MAX_VALUE, key.length()))
+          .executor(Runnable::run)
+          .removalListener((CacheKey key, File file, RemovalCause cause) -> {
+            if (file != null && cause.wasEvicted() && !file.delete()) {
+              LOG.warn("Failed to delete spilled manifest: {}", file);
+            }
+          })
+          .build();
+    }
+
+    private InputFile get(CacheKey key) {
+      File file = files.getIfPresent(key);
+      return file != null && file.length() == key.length() ? Files.localInput(file) : null;
+    }
+
+    private void put(CacheKey key, byte[] contents) {
+      File file = fileFor(key);
+      File temp = new File(dir, "." + file.getName() + "-" + UUID.randomUUID() + ".tmp");
+      try {
+        java.nio.file.Files.write(temp.toPath(), contents);
+        java.nio.file.Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+        files.put(key, file);
+      } catch (IOException | UncheckedIOException e) {
+        // the local copy is only an optimization
+        LOG.warn("Failed to spill manifest {} to {}", key.location(), file, e);
+        if (temp.exists() && !temp.delete()) {
+          LOG.warn("Failed to delete temporary file: {}", temp);
+        }
+      }
+    }
+
+    private File fileFor(CacheKey key) {
+      String name = key.scope() + ":" + key.location() + ":" + key.length();
+      return new File(dir, UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)) + ".avro");
+    }
+
+    private void deleteAll() {
+      File[] spilled = dir.listFiles();
+      if (spilled != null) {
+        for (File file : spilled) {
+          if (!file.delete()) {
+            LOG.warn("Failed to delete spilled manifest: {}", file);
+          }
+        }
+      }
+
+      if (!dir.delete()) {
+        LOG.warn("Failed to delete manifest spill directory: {}", dir);
+      }
+    }
+  }
+
+  private static long maxSizeFromProperties(String property, long defaultValue) {
+    String value = System.getProperty(property);
+    if (value != null) {
+      try {
+        return Long.parseUnsignedLong(value);
+      } catch (NumberFormatException e) {
+        // will return the default
+      }
+    }
+    return defaultValue;
+  }
+
+  private static class SharedCacheHolder {
+    private static final ManifestEntryCache INSTANCE = create();
+
+    private static ManifestEntryCache create() {
+      String spillDir = System.getProperty(SystemProperties.MANIFEST_CACHE_SPILL_DIR);
+      return new ManifestEntryCache(
+          maxSizeFromProperties(SystemProperties.MANIFEST_CACHE_MAX_SIZE_BYTES, DEFAULT_MAX_SIZE_BYTES),
+          spillDir != null ? new File(spillDir) : null,
+          maxSizeFromProperties(SystemProperties.MANIFEST_CACHE_SPILL_MAX_SIZE_BYTES, DEFAULT_SPILL_MAX_SIZE_BYTES));
+    }
+  }
+
+  private static class CacheKey {
+    private final String scope;
+    private final String location;
+    private final long length;
+
+    private CacheKey(String scope, String location, long length) {
+      this.scope = scope;
+      this.location = location;
+      this.length = length;
+    }
+
+    String scope() {
+      return scope;
+    }
+
+    String location() {
+      return location;
+    }
+
+    long length() {
+      return length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (other == null || getClass() != other.getClass()) {
+        return false;
+      }
+
+      CacheKey that = (CacheKey) other;
+      return length == that.length && scope.equals(that.scope) && location.equals(that.location);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(scope, location, length);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("scope", scope)
+          .add("location", location)
+          .add("length", length)
+          .toString();
+    }
+  }
+}
@@ -80,11 +80,15 @@ public class ManifestFiles {
    * @return a {@link ManifestReader}
    */
   public static ManifestReader<DataFile> read(ManifestFile manifest, FileIO io, Map<Integer, PartitionSpec> specsById) {
+    return read(manifest, io, newInputFile(io, manifest), specsById);
+  }
+
+  static ManifestReader<DataFile> read(ManifestFile manifest, FileIO io, InputFile file,
+                                       Map<Integer, PartitionSpec> specsById) {
     Preconditions.checkArgument(manifest.content() == ManifestContent.DATA,
         "Cannot read a delete manifest with a ManifestReader: %s", manifest);
-    InputFile file = io.newInputFile(manifest.path());
     InheritableMetadata inheritableMetadata = InheritableMetadataFactory.fromManifest(manifest);
-    return new ManifestReader<>(file, specsById, inheritableMetadata, FileType.DATA_FILES);
+    return new ManifestReader<>(file, manifest.length(), io, specsById, inheritableMetadata, FileType.DATA_FILES);
   }
 
   /**
@@ -133,9 +137,9 @@ public class ManifestFiles {
                                                               Map<Integer, PartitionSpec> specsById) {
     Preconditions.checkArgument(manifest.content() == ManifestContent.DELETES,
         "Cannot read a data manifest with a DeleteManifestReader: %s", manifest);
-    InputFile file = io.newInputFile(manifest.path());
+    InputFile file = newInputFile(io, manifest);
     InheritableMetadata inheritableMetadata = InheritableMetadataFactory.fromManifest(manifest);
-    return new ManifestReader<>(file, specsById, inheritableMetadata, FileType.DELETE_FILES);
+    return new ManifestReader<>(file, manifest.length(), io, specsById, inheritableMetadata, FileType.DELETE_FILES);
   }
 
   /**
@@ -267,4 +271,10 @@ public class ManifestFiles {
 
     return writer.toManifestFile();
   }
+
+  private static InputFile newInputFile(FileIO io, ManifestFile manifest) {
+    // manifest lengths are tracked in manifest lists, so pass the length to avoid another request
+    long length = manifest.length();
+    return length > 0 ? io.newInputFile(manifest.path(), length) : io.newInputFile(manifest.path());
+  }
 }
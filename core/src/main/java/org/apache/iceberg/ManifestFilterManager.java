@@ -24,6 +24,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.expressions.Evaluator;
@@ -76,6 +78,10 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
   private boolean failMissingDeletePaths = false;
   private int duplicateDeleteCount = 0;
 
+  // track the number of manifests and bytes written by filtering, across all attempts
+  private final AtomicInteger rewrittenManifestCount = new AtomicInteger(0);
+  private final AtomicLong rewrittenManifestBytes = new AtomicLong(0L);
+
   // cache filtered manifests to avoid extra work when commits fail.
   private final Map<ManifestFile, ManifestFile> filteredManifests = Maps.newConcurrentMap();
 
@@ -242,6 +248,20 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
     return deletedFiles;
   }
 
+  /**
+   * @return the number of manifests rewritten to remove deleted files, across all commit attempts
+   */
+  int rewrittenManifestCount() {
+    return rewrittenManifestCount.get();
+  }
+
+  /**
+   * @return the total size in bytes of manifests rewritten to remove deleted files, across all commit attempts
+   */
+  long rewrittenManifestBytes() {
+    return rewrittenManifestBytes.get();
+  }
+
   /**
    * Deletes filtered manifests that were created by this class, but are not in the committed manifest set.
    *
@@ -414,6 +434,8 @@ abstract class ManifestFilterManager<F extends ContentFile<F>> {
 
       // return the filtered manifest as a reader
       ManifestFile filtered = writer.toManifestFile();
+      rewrittenManifestCount.incrementAndGet();
+      rewrittenManifestBytes.addAndGet(filtered.length());
 
       // update caches
       filteredManifests.put(manifest, filtered);
@@ -21,12 +21,13 @@ package org.apache.iceberg;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
-import java.util.function.BiFunction;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.iceberg.expressions.Evaluator;
 import org.apache.iceberg.expressions.Expression;
@@ -35,7 +36,10 @@ import org.apache.iceberg.expressions.ManifestEvaluator;
 import org.apache.iceberg.expressions.Projections;
 import org.apache.iceberg.expressions.ResidualEvaluator;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.metrics.ScanMetrics;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
@@ -45,6 +49,8 @@ import org.apache.iceberg.util.ParallelIterable;
 
 class ManifestGroup {
   private static final Types.StructType EMPTY_STRUCT = Types.StructType.of();
+  // manifests up to this size are read into memory with one request before they are decoded
+  private static final long MAX_PREFETCH_SIZE_BYTES = 32L * 1024 * 1024; // 32 MB
 
   private final FileIO io;
   private final Set<ManifestFile> dataManifests;
@@ -60,7 +66,12 @@ class ManifestGroup {
   private boolean ignoreResiduals;
   private List<String> columns;
   private boolean caseSensitive;
+  private boolean pruneStats;
   private ExecutorService executorService;
+  private boolean pipelined;
+  private int planningParallelism;
+  private int planningQueueSize;
+  private ScanMetrics scanMetrics;
 
   ManifestGroup(FileIO io, Iterable<ManifestFile> manifests) {
     this(io,
@@ -80,8 +91,11 @@ class ManifestGroup {
     this.ignoreResiduals = false;
     this.columns = ManifestReader.ALL_COLUMNS;
     this.caseSensitive = true;
+    this.pruneStats = false;
     this.manifestPredicate = m -> true;
     this.manifestEntryPredicate = e -> true;
+    this.pipelined = false;
+    this.scanMetrics = new ScanMetrics();
   }
 
   ManifestGroup specsById(Map<Integer, PartitionSpec> newSpecsById) {
@@ -143,12 +157,34 @@ class ManifestGroup {
     return this;
   }
 
+  ManifestGroup scanMetrics(ScanMetrics newScanMetrics) {
+    this.scanMetrics = newScanMetrics;
+    return this;
+  }
+
   ManifestGroup planWith(ExecutorService newExecutorService) {
     this.executorService = newExecutorService;
     deleteIndexBuilder.planWith(newExecutorService);
     return this;
   }
 
+  /**
+   * Plans with bounded memory when an executor service is set.
+   * <p>
+   * At most {@code parallelism} manifests are read at once, each is prefetched into memory and decoded by the worker
+   * thread that reads it, and at most {@code queueSize} tasks are buffered for the consumer.
+   *
+   * @param parallelism the maximum number of manifests to read concurrently
+   * @param queueSize the maximum number of tasks to buffer
+   * @return this for method chaining
+   */
+  ManifestGroup planPipelined(int parallelism, int queueSize) {
+    this.pipelined = true;
+    this.planningParallelism = parallelism;
+    this.planningQueueSize = queueSize;
+    return this;
+  }
+
   /**
    * Returns a iterable of scan tasks. It is safe to add entries of this iterable
    * to a collection as {@link DataFile} in each {@link FileScanTask} is defensively
@@ -162,29 +198,47 @@ class ManifestGroup {
       return ResidualEvaluator.of(spec, filter, caseSensitive);
     });
 
+    long deleteIndexStart = System.nanoTime();
     DeleteFileIndex deleteFiles = deleteIndexBuilder.build();
+    scanMetrics.addDeleteIndexDuration(System.nanoTime() - deleteIndexStart);
 
     boolean dropStats = ManifestReader.dropStats(dataFilter, columns);
     if (!deleteFiles.isEmpty()) {
       select(Streams.concat(columns.stream(), ManifestReader.STATS_COLUMNS.stream()).collect(Collectors.toList()));
     }
 
-    Iterable<CloseableIterable<FileScanTask>> tasks = entries((manifest, entries) -> {
+    // stats are dropped from tasks, so only stats for columns in the data filter need to be decoded
+    this.pruneStats = dropStats;
+
+    // entries copied by the reader only drop pruned stats when stats are not selected for deletes
+    boolean useCopies = !dropStats || deleteFiles.isEmpty();
+
+    Iterable<CloseableIterable<FileScanTask>> tasks = entries((manifest, entries, copied) -> {
       int specId = manifest.partitionSpecId();
       PartitionSpec spec = specsById.get(specId);
       String schemaString = SchemaParser.toJson(spec.schema());
       String specString = PartitionSpecParser.toJson(spec);
       ResidualEvaluator residuals = residualCache.get(specId);
-      if (dropStats) {
-        return CloseableIterable.transform(entries, e -> new BaseFileScanTask(
-            e.file().copyWithoutStats(), deleteFiles.forEntry(e), schemaString, specString, residuals));
-      } else {
-        return CloseableIterable.transform(entries, e -> new BaseFileScanTask(
-            e.file().copy(), deleteFiles.forEntry(e), schemaString, specString, residuals));
-      }
+      return CloseableIterable.transform(entries, e -> {
+        DeleteFile[] deletes = deleteFiles.forEntry(e);
+        scanMetrics.resultDataFile(deletes.length);
+        DataFile file;
+        if (copied && useCopies) {
+          file = e.file();
+        } else if (dropStats) {
+          file = e.file().copyWithoutStats();
+        } else {
+          file = e.file().copy();
+        }
+        return new BaseFileScanTask(file, deletes, schemaString, specString, residuals);
+      });
     });
 
-    if (executorService != null) {
+    if (executorService != null && pipelined) {
+      // split the queue between the manifests that are read at once so that at most queueSize tasks are buffered
+      int maxBufferedTasks = Math.max(1, planningQueueSize / planningParallelism);
+      return new ParallelIterable<>(tasks, executorService, planningParallelism, maxBufferedTasks);
+    } else if (executorService != null) {
       return new ParallelIterable<>(tasks, executorService);
     } else {
       return CloseableIterable.concat(tasks);
@@ -200,11 +254,11 @@ class ManifestGroup {
    * @return a CloseableIterable of manifest entries.
    */
   public CloseableIterable<ManifestEntry<DataFile>> entries() {
-    return CloseableIterable.concat(entries((manifest, entries) -> entries));
+    return CloseableIterable.concat(entries((manifest, entries, copied) -> entries));
   }
 
   private <T> Iterable<CloseableIterable<T>> entries(
-      BiFunction<ManifestFile, CloseableIterable<ManifestEntry<DataFile>>, CloseableIterable<T>> entryFn) {
+      EntriesFunction<T> entryFn) {
     LoadingCache<Integer, ManifestEvaluator> evalCache = specsById == null ?
         null : Caffeine.newBuilder().build(specId -> {
           PartitionSpec spec = specsById.get(specId);
@@ -220,8 +274,24 @@ class ManifestGroup {
       evaluator = null;
     }
 
-    Iterable<ManifestFile> matchingManifests = evalCache == null ? dataManifests :
-        Iterables.filter(dataManifests, manifest -> evalCache.get(manifest.partitionSpecId()).eval(manifest));
+    scanMetrics.addTotalDataManifests(dataManifests.size());
+
+    Iterable<ManifestFile> matchingManifests;
+    if (evalCache == null) {
+      matchingManifests = dataManifests;
+    } else {
+      // evaluate manifests eagerly so that skipped manifests are counted once, even if the result is iterated again
+      List<ManifestFile> matched = Lists.newArrayList();
+      for (ManifestFile manifest : dataManifests) {
+        if (evalCache.get(manifest.partitionSpecId()).eval(manifest)) {
+          matched.add(manifest);
+        } else {
+          scanMetrics.skippedDataManifest();
+        }
+      }
+
+      matchingManifests = matched;
+    }
 
     if (ignoreDeleted) {
       // only scan manifests that have entries other than deletes
@@ -241,32 +311,173 @@ class ManifestGroup {
 
     matchingManifests = Iterables.filter(matchingManifests, manifestPredicate::test);
 
+    if (pipelined && executorService != null) {
+      // open manifests lazily so that headers are read by the worker threads instead of the submitting thread
+      return Iterables.transform(
+          matchingManifests,
+          manifest -> new LazyIterable<>(() -> openEntries(manifest, evaluator, true, entryFn)));
+    }
+
     return Iterables.transform(
         matchingManifests,
-        manifest -> {
-          ManifestReader<DataFile> reader = ManifestFiles.read(manifest, io, specsById)
-              .filterRows(dataFilter)
-              .filterPartitions(partitionFilter)
-              .caseSensitive(caseSensitive)
-              .select(columns);
-
-          CloseableIterable<ManifestEntry<DataFile>> entries = reader.entries();
-          if (ignoreDeleted) {
-            entries = reader.liveEntries();
-          }
+        manifest -> openEntries(manifest, evaluator, false, entryFn));
+  }
+
+  private <T> CloseableIterable<T> openEntries(ManifestFile manifest, Evaluator evaluator, boolean prefetch,
+                                               EntriesFunction<T> entryFn) {
+    long openStart = System.nanoTime();
+    InputFile file = MetadataPrefetcher.newInputFile(io, manifest.path(), manifest.length());
+    // manifests prefetched when metadata was loaded were not read by this scan
+    boolean prefetched = file instanceof PrefetchedInputFile;
+    // cached manifests are not read again, so prefetching would waste a request
+    boolean shouldPrefetch = prefetch && !ManifestEntryCache.isEnabled() && !prefetched;
+    if (shouldPrefetch && manifest.length() > 0 && manifest.length() <= MAX_PREFETCH_SIZE_BYTES) {
+      file = PrefetchedInputFile.prefetch(file, manifest.length());
+    }
+
+    ManifestReader<DataFile> reader = ManifestFiles.read(manifest, io, file, specsById)
+        .filterRows(dataFilter)
+        .filterPartitions(partitionFilter)
+        .caseSensitive(caseSensitive)
+        .select(columns)
+        .scanMetrics(scanMetrics);
+
+    scanMetrics.scannedDataManifest();
+    if (!prefetched && !reader.cacheHit()) {
+      scanMetrics.addManifestBytesRead(manifest.length());
+    }
+
+    if (pruneStats) {
+      reader.pruneStats();
+    }
+
+    CloseableIterable<ManifestEntry<DataFile>> entries = reader.entries();
+    if (ignoreDeleted) {
+      entries = reader.liveEntries();
+    }
+
+    if (ignoreExisting) {
+      entries = CloseableIterable.filter(entries,
+          entry -> entry.status() != ManifestEntry.Status.EXISTING);
+    }
+
+    if (evaluator != null) {
+      entries = CloseableIterable.filter(entries,
+          entry -> evaluator.eval((GenericDataFile) entry.file()));
+    }
+
+    scanMetrics.addManifestReadDuration(System.nanoTime() - openStart);
+
+    return entryFn.apply(
+        manifest,
+        new TimedIterable<>(CloseableIterable.filter(entries, manifestEntryPredicate), scanMetrics),
+        reader.returnsCopies());
+  }
+
+  /**
+   * Produces results from the entries of a manifest.
+   */
+  private interface EntriesFunction<T> {
+    /**
+     * @param manifest a manifest file
+     * @param entries the manifest's matching entries
+     * @param copied whether the entries are copies that are not reused, see {@link ManifestReader#returnsCopies()}
+     * @return results for the entries
+     */
+    CloseableIterable<T> apply(ManifestFile manifest, CloseableIterable<ManifestEntry<DataFile>> entries,
+                               boolean copied);
+  }
+
+  /**
+   * A {@link CloseableIterable} that adds the time spent producing manifest entries to the manifest read duration.
+   * <p>
+   * Only time spent in the delegate is measured, not time spent by the consumer between calls.
+   */
+  private static class TimedIterable<T> implements CloseableIterable<T> {
+    private final CloseableIterable<T> delegate;
+    private final ScanMetrics scanMetrics;
+
+    private TimedIterable(CloseableIterable<T> delegate, ScanMetrics scanMetrics) {
+      this.delegate = delegate;
+      this.scanMetrics = scanMetrics;
+    }
 
-          if (ignoreExisting) {
-            entries = CloseableIterable.filter(entries,
-                entry -> entry.status() != ManifestEntry.Status.EXISTING);
+    @Override
+    public CloseableIterator<T> iterator() {
+      long start = System.nanoTime();
+      CloseableIterator<T> iter = delegate.iterator();
+      long openNanos = System.nanoTime() - start;
+
+      return new CloseableIterator<T>() {
+        // accumulated locally and added when the iterator is exhausted or closed
+        private long nanos = openNanos;
+
+        @Override
+        public boolean hasNext() {
+          long hasNextStart = System.nanoTime();
+          boolean hasNext = iter.hasNext();
+          this.nanos += System.nanoTime() - hasNextStart;
+          if (!hasNext) {
+            addDuration();
           }
 
-          if (evaluator != null) {
-            entries = CloseableIterable.filter(entries,
-                entry -> evaluator.eval((GenericDataFile) entry.file()));
+          return hasNext;
+        }
+
+        @Override
+        public T next() {
+          long nextStart = System.nanoTime();
+          T next = iter.next();
+          this.nanos += System.nanoTime() - nextStart;
+          return next;
+        }
+
+        @Override
+        public void close() throws IOException {
+          addDuration();
+          iter.close();
+        }
+
+        private void addDuration() {
+          if (nanos > 0) {
+            scanMetrics.addManifestReadDuration(nanos);
+            this.nanos = 0L;
           }
+        }
+      };
+    }
 
-          entries = CloseableIterable.filter(entries, manifestEntryPredicate);
-          return entryFn.apply(manifest, entries);
-        });
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+  }
+
+  /**
+   * A {@link CloseableIterable} that is created when it is first iterated.
+   */
+  private static class LazyIterable<T> implements CloseableIterable<T> {
+    private final Supplier<CloseableIterable<T>> supplier;
+    private CloseableIterable<T> delegate = null;
+
+    private LazyIterable(Supplier<CloseableIterable<T>> supplier) {
+      this.supplier = supplier;
+    }
+
+    @Override
+    public CloseableIterator<T> iterator() {
+      if (delegate == null) {
+        this.delegate = supplier.get();
+      }
+
+      return delegate.iterator();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (delegate != null) {
+        delegate.close();
+      }
+    }
   }
 }
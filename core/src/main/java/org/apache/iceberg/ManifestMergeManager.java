@@ -26,6 +26,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.iceberg.ManifestEntry.Status;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
@@ -33,6 +35,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.ListMultimap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Multimaps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.util.BinPacking.ListPacker;
 import org.apache.iceberg.util.Exceptions;
 import org.apache.iceberg.util.Tasks;
@@ -46,6 +49,13 @@ abstract class ManifestMergeManager<F extends ContentFile<F>> {
   // cache merge results to reuse when retrying
   private final Map<List<ManifestFile>, ManifestFile> mergedManifests = Maps.newConcurrentMap();
 
+  // input manifests of the last attempt, used to detect manifests added by concurrent commits when retrying
+  private Set<ManifestFile> lastAttemptManifests = null;
+
+  // track the number of manifests and bytes written by merging, across all attempts
+  private final AtomicInteger rewrittenManifestCount = new AtomicInteger(0);
+  private final AtomicLong rewrittenManifestBytes = new AtomicLong(0L);
+
   ManifestMergeManager(long targetSizeBytes, int minCountToMerge, boolean mergeEnabled) {
     this.targetSizeBytes = targetSizeBytes;
     this.minCountToMerge = minCountToMerge;
@@ -72,9 +82,25 @@ abstract class ManifestMergeManager<F extends ContentFile<F>> {
       Iterables.addAll(merged, mergeGroup(first, specId, groups.get(specId)));
     }
 
+    this.lastAttemptManifests = Sets.newHashSet(groups.values());
+
     return merged;
   }
 
+  /**
+   * @return the number of merged manifests written, across all commit attempts
+   */
+  int rewrittenManifestCount() {
+    return rewrittenManifestCount.get();
+  }
+
+  /**
+   * @return the total size in bytes of merged manifests written, across all commit attempts
+   */
+  long rewrittenManifestBytes() {
+    return rewrittenManifestBytes.get();
+  }
+
   void cleanUncommitted(Set<ManifestFile> committed) {
     // iterate over a copy of entries to avoid concurrent modification
     List<Map.Entry<List<ManifestFile>, ManifestFile>> entries =
@@ -102,11 +128,27 @@ abstract class ManifestMergeManager<F extends ContentFile<F>> {
 
   @SuppressWarnings("unchecked")
   private Iterable<ManifestFile> mergeGroup(ManifestFile first, int specId, List<ManifestFile> group) {
+    // when retrying, leave manifests that were added by concurrent commits since the last attempt out of the bins.
+    // the remaining manifests pack into the same bins as the last attempt, so the merged manifests are reused from
+    // the cache instead of being rewritten. the concurrent manifests are kept as-is and will be merged later.
+    List<ManifestFile> concurrent = Lists.newArrayList();
+    List<ManifestFile> toPack = group;
+    if (lastAttemptManifests != null) {
+      toPack = Lists.newArrayListWithExpectedSize(group.size());
+      for (ManifestFile manifest : group) {
+        if (manifest != first && !lastAttemptManifests.contains(manifest)) {
+          concurrent.add(manifest);
+        } else {
+          toPack.add(manifest);
+        }
+      }
+    }
+
     // use a lookback of 1 to avoid reordering the manifests. using 1 also means this should pack
     // from the end so that the manifest that gets under-filled is the first one, which will be
     // merged the next time.
     ListPacker<ManifestFile> packer = new ListPacker<>(targetSizeBytes, 1, false);
-    List<List<ManifestFile>> bins = packer.packEnd(group, ManifestFile::length);
+    List<List<ManifestFile>> bins = packer.packEnd(toPack, ManifestFile::length);
 
     // process bins in parallel, but put results in the order of the bins into an array to preserve
     // the order of manifests and contents. preserving the order helps avoid random deletes when
@@ -140,7 +182,20 @@ abstract class ManifestMergeManager<F extends ContentFile<F>> {
           }
         });
 
-    return Iterables.concat(binResults);
+    if (concurrent.isEmpty()) {
+      return Iterables.concat(binResults);
+    } else if (binResults.length == 0) {
+      return concurrent;
+    }
+
+    // keep the concurrent manifests after the first bin, where they were in the base manifest list
+    List<ManifestFile> result = Lists.newArrayList(binResults[0]);
+    result.addAll(concurrent);
+    for (int index = 1; index < binResults.length; index += 1) {
+      result.addAll(binResults[index]);
+    }
+
+    return result;
   }
 
   private ManifestFile createManifest(int specId, List<ManifestFile> bin) {
@@ -182,6 +237,8 @@ abstract class ManifestMergeManager<F extends ContentFile<F>> {
     }
 
     ManifestFile manifest = writer.toManifestFile();
+    rewrittenManifestCount.incrementAndGet();
+    rewrittenManifestBytes.addAndGet(manifest.length());
 
     // update the cache
     mergedManifests.put(bin, manifest);
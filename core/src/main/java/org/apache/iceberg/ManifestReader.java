@@ -24,9 +24,11 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.iceberg.avro.Avro;
 import org.apache.iceberg.avro.AvroIterable;
 import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.expressions.Binder;
 import org.apache.iceberg.expressions.Evaluator;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
@@ -35,7 +37,9 @@ import org.apache.iceberg.expressions.Projections;
 import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.metrics.ScanMetrics;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
@@ -54,6 +58,10 @@ public class ManifestReader<F extends ContentFile<F>>
   static final ImmutableList<String> ALL_COLUMNS = ImmutableList.of("*");
   static final Set<String> STATS_COLUMNS = Sets.newHashSet(
       "value_counts", "null_value_counts", "nan_value_counts", "lower_bounds", "upper_bounds");
+  private static final String COLUMN_SIZES_COLUMN = "column_sizes";
+  private static final List<Types.NestedField> STATS_FIELDS = ImmutableList.of(
+      DataFile.COLUMN_SIZES, DataFile.VALUE_COUNTS, DataFile.NULL_VALUE_COUNTS, DataFile.NAN_VALUE_COUNTS,
+      DataFile.LOWER_BOUNDS, DataFile.UPPER_BOUNDS);
 
   protected enum FileType {
     DATA_FILES(GenericDataFile.class.getName()),
@@ -76,6 +84,8 @@ public class ManifestReader<F extends ContentFile<F>>
   private final Map<String, String> metadata;
   private final PartitionSpec spec;
   private final Schema fileSchema;
+  private final ManifestEntryCache.CachedManifest cachedManifest;
+  private final boolean cacheHit;
 
   // updated by configuration methods
   private Expression partFilter = alwaysTrue();
@@ -83,6 +93,8 @@ public class ManifestReader<F extends ContentFile<F>>
   private Schema fileProjection = null;
   private Collection<String> columns = null;
   private boolean caseSensitive = true;
+  private boolean pruneStats = false;
+  private ScanMetrics scanMetrics = null;
 
   // lazily initialized
   private Evaluator lazyEvaluator = null;
@@ -90,20 +102,47 @@ public class ManifestReader<F extends ContentFile<F>>
 
   protected ManifestReader(InputFile file, Map<Integer, PartitionSpec> specsById,
                            InheritableMetadata inheritableMetadata, FileType content) {
+    this(file, -1L, null, specsById, inheritableMetadata, content);
+  }
+
+  /**
+   * Creates a reader that uses the shared manifest cache, if it is enabled and the file's length and FileIO are known.
+   */
+  ManifestReader(InputFile file, long length, FileIO io, Map<Integer, PartitionSpec> specsById,
+                 InheritableMetadata inheritableMetadata, FileType content) {
     this.file = file;
     this.inheritableMetadata = inheritableMetadata;
     this.content = content;
 
-    try {
-      try (AvroIterable<ManifestEntry<F>> headerReader = Avro.read(file)
-          .project(ManifestEntry.getSchema(Types.StructType.of()).select("status"))
-          .build()) {
-        this.metadata = headerReader.getMetadata();
-      }
+    if (length > 0 && io != null && ManifestEntryCache.isEnabled()) {
+      AtomicBoolean loaded = new AtomicBoolean(false);
+      this.cachedManifest = ManifestEntryCache.shared().get(io, file, length, input -> {
+        loaded.set(true);
+        return readAll(input, specsById, content);
+      });
+      this.cacheHit = !loaded.get();
+      this.metadata = cachedManifest.metadata();
+    } else {
+      this.cachedManifest = null;
+      this.cacheHit = false;
+      this.metadata = readMetadata(file);
+    }
+
+    this.spec = spec(metadata, specsById);
+    this.fileSchema = new Schema(DataFile.getType(spec.partitionType()).fields());
+  }
+
+  private static Map<String, String> readMetadata(InputFile file) {
+    try (AvroIterable<ManifestEntry<?>> headerReader = Avro.read(file)
+        .project(ManifestEntry.getSchema(Types.StructType.of()).select("status"))
+        .build()) {
+      return headerReader.getMetadata();
     } catch (IOException e) {
       throw new RuntimeIOException(e);
     }
+  }
 
+  private static PartitionSpec spec(Map<String, String> metadata, Map<Integer, PartitionSpec> specsById) {
     int specId = TableMetadata.INITIAL_SPEC_ID;
     String specProperty = metadata.get("partition-spec-id");
     if (specProperty != null) {
@@ -111,13 +150,39 @@ public class ManifestReader<F extends ContentFile<F>>
     }
 
     if (specsById != null) {
-      this.spec = specsById.get(specId);
+      return specsById.get(specId);
     } else {
       Schema schema = SchemaParser.fromJson(metadata.get("schema"));
-      this.spec = PartitionSpecParser.fromJsonFields(schema, specId, metadata.get("partition-spec"));
+      return PartitionSpecParser.fromJsonFields(schema, specId, metadata.get("partition-spec"));
     }
+  }
 
-    this.fileSchema = new Schema(DataFile.getType(spec.partitionType()).fields());
+  /**
+   * Reads the metadata and all entries of a manifest, with all columns, to be shared through the manifest cache.
+   */
+  private static ManifestEntryCache.CachedManifest readAll(InputFile input, Map<Integer, PartitionSpec> specsById,
+                                                          FileType content) {
+    Map<String, String> metadata = readMetadata(input);
+    PartitionSpec spec = spec(metadata, specsById);
+
+    List<Types.NestedField> fields = Lists.newArrayList();
+    fields.addAll(DataFile.getType(spec.partitionType()).fields());
+    fields.add(MetadataColumns.ROW_POSITION);
+
+    // containers are not reused because the entries are held by the cache
+    try (AvroIterable<ManifestEntry<?>> reader = Avro.read(input)
+        .project(ManifestEntry.wrapFileSchema(Types.StructType.of(fields)))
+        .rename("manifest_entry", GenericManifestEntry.class.getName())
+        .rename("partition", PartitionData.class.getName())
+        .rename("r102", PartitionData.class.getName())
+        .rename("data_file", content.fileClass())
+        .rename("r2", content.fileClass())
+        .classLoader(GenericManifestEntry.class.getClassLoader())
+        .build()) {
+      return new ManifestEntryCache.CachedManifest(metadata, Lists.newArrayList(reader));
+    } catch (IOException e) {
+      throw new RuntimeIOException(e);
+    }
   }
 
   public boolean isDeleteManifestReader() {
@@ -165,7 +230,30 @@ public class ManifestReader<F extends ContentFile<F>>
     return this;
   }
 
+  /**
+   * Counts live entries that are skipped by the partition and row filters in the given {@link ScanMetrics}.
+   */
+  ManifestReader<F> scanMetrics(ScanMetrics newScanMetrics) {
+    this.scanMetrics = newScanMetrics;
+    return this;
+  }
+
+  /**
+   * Decodes stats only for columns referenced by the row filter when stats are not selected.
+   * <p>
+   * Stats that are projected only to evaluate the row filter are read for the filter's columns and other map entries
+   * are skipped while decoding. Callers must drop stats from the returned entries.
+   */
+  ManifestReader<F> pruneStats() {
+    this.pruneStats = true;
+    return this;
+  }
+
   CloseableIterable<ManifestEntry<F>> entries() {
+    return entries(pruneStats);
+  }
+
+  private CloseableIterable<ManifestEntry<F>> entries(boolean onlyFilterStats) {
     if ((rowFilter != null && rowFilter != Expressions.alwaysTrue()) ||
         (partFilter != null && partFilter != Expressions.alwaysTrue())) {
       Evaluator evaluator = evaluator();
@@ -175,17 +263,72 @@ public class ManifestReader<F extends ContentFile<F>>
       boolean requireStatsProjection = requireStatsProjection(rowFilter, columns);
       Collection<String> projectColumns = requireStatsProjection ? withStatsColumns(columns) : columns;
 
+      // stats that were only added for the metrics evaluator are needed for the filter's columns
+      Set<Integer> statsFieldIds = null;
+      if (onlyFilterStats && requireStatsProjection && dropStats(rowFilter, columns)) {
+        statsFieldIds = Binder.boundReferences(spec.schema().asStruct(), ImmutableList.of(rowFilter), caseSensitive);
+      }
+
+      if (cachedManifest != null) {
+        // filter the shared entries before copying so that only matching entries are copied, and drop pruned stats
+        // because the copies are not used for filtering
+        boolean keepStats = statsFieldIds == null &&
+            projectsStats(projection(fileSchema, fileProjection, projectColumns, caseSensitive));
+        return copyCached(
+            CloseableIterable.filter(
+                CloseableIterable.withNoopClose(cachedManifest.<F>entries()),
+                entry -> matches(entry, evaluator, metricsEvaluator)),
+            keepStats);
+      }
+
       return CloseableIterable.filter(
-          open(projection(fileSchema, fileProjection, projectColumns, caseSensitive)),
-          entry -> entry != null &&
-              evaluator.eval(entry.file().partition()) &&
-              metricsEvaluator.eval(entry.file()));
+          open(projection(fileSchema, fileProjection, projectColumns, caseSensitive), statsFieldIds),
+          entry -> entry != null && matches(entry, evaluator, metricsEvaluator));
     } else {
-      return open(projection(fileSchema, fileProjection, columns, caseSensitive));
+      return open(projection(fileSchema, fileProjection, columns, caseSensitive), null);
     }
   }
 
-  private CloseableIterable<ManifestEntry<F>> open(Schema projection) {
+  /**
+   * Returns whether entries returned by this reader are copies that are not reused, so callers do not need to copy
+   * them again before adding them to a collection.
+   * <p>
+   * Copies include the projected stats, or no stats when stats are pruned and were only projected for filtering.
+   */
+  boolean returnsCopies() {
+    return cachedManifest != null;
+  }
+
+  /**
+   * Returns whether entries were already in the manifest cache, so the manifest file was not read by this reader.
+   */
+  boolean cacheHit() {
+    return cacheHit;
+  }
+
+  private boolean matches(ManifestEntry<F> entry, Evaluator evaluator, InclusiveMetricsEvaluator metricsEvaluator) {
+    if (!evaluator.eval(entry.file().partition())) {
+      if (scanMetrics != null && entry.status() != ManifestEntry.Status.DELETED) {
+        scanMetrics.skippedDataFileByPartition();
+      }
+      return false;
+    }
+
+    if (!metricsEvaluator.eval(entry.file())) {
+      if (scanMetrics != null && entry.status() != ManifestEntry.Status.DELETED) {
+        scanMetrics.skippedDataFileByMetrics();
+      }
+      return false;
+    }
+
+    return true;
+  }
+
+  private CloseableIterable<ManifestEntry<F>> open(Schema projection, Set<Integer> statsFieldIds) {
+    if (cachedManifest != null) {
+      return copyCached(CloseableIterable.withNoopClose(cachedManifest.<F>entries()), projectsStats(projection));
+    }
+
     FileFormat format = FileFormat.fromFileName(file.location());
     Preconditions.checkArgument(format != null, "Unable to determine format of manifest: %s", file);
 
@@ -195,7 +338,7 @@ public class ManifestReader<F extends ContentFile<F>>
 
     switch (format) {
       case AVRO:
-        AvroIterable<ManifestEntry<F>> reader = Avro.read(file)
+        Avro.ReadBuilder builder = Avro.read(file)
             .project(ManifestEntry.wrapFileSchema(Types.StructType.of(fields)))
             .rename("manifest_entry", GenericManifestEntry.class.getName())
             .rename("partition", PartitionData.class.getName())
@@ -203,8 +346,16 @@ public class ManifestReader<F extends ContentFile<F>>
             .rename("data_file", content.fileClass())
             .rename("r2", content.fileClass())
             .classLoader(GenericManifestEntry.class.getClassLoader())
-            .reuseContainers()
-            .build();
+            .reuseContainers();
+
+        if (statsFieldIds != null) {
+          // skip stats for columns that are not needed instead of decoding them
+          for (Types.NestedField statsField : STATS_FIELDS) {
+            builder.filterMapKeys(statsField, statsFieldIds);
+          }
+        }
+
+        AvroIterable<ManifestEntry<F>> reader = builder.build();
 
         addCloseable(reader);
 
@@ -215,8 +366,19 @@ public class ManifestReader<F extends ContentFile<F>>
     }
   }
 
+  private CloseableIterable<ManifestEntry<F>> copyCached(CloseableIterable<ManifestEntry<F>> entries,
+                                                        boolean keepStats) {
+    // cached entries are shared, so inherited metadata is applied to copies
+    return CloseableIterable.transform(
+        entries, entry -> inheritableMetadata.apply(keepStats ? entry.copy() : entry.copyWithoutStats()));
+  }
+
   CloseableIterable<ManifestEntry<F>> liveEntries() {
-    return CloseableIterable.filter(entries(),
+    return liveEntries(pruneStats);
+  }
+
+  private CloseableIterable<ManifestEntry<F>> liveEntries(boolean onlyFilterStats) {
+    return CloseableIterable.filter(entries(onlyFilterStats),
         entry -> entry != null && entry.status() != ManifestEntry.Status.DELETED);
   }
 
@@ -225,8 +387,10 @@ public class ManifestReader<F extends ContentFile<F>>
    */
   @Override
   public CloseableIterator<F> iterator() {
-    if (dropStats(rowFilter, columns)) {
-      return CloseableIterable.transform(liveEntries(), e -> e.file().copyWithoutStats()).iterator();
+    if (returnsCopies()) {
+      return CloseableIterable.transform(liveEntries(), ManifestEntry::file).iterator();
+    } else if (dropStats(rowFilter, columns)) {
+      return CloseableIterable.transform(liveEntries(true), e -> e.file().copyWithoutStats()).iterator();
     } else {
       return CloseableIterable.transform(liveEntries(), e -> e.file().copy()).iterator();
     }
@@ -272,6 +436,16 @@ public class ManifestReader<F extends ContentFile<F>>
     return lazyMetricsEvaluator;
   }
 
+  private static boolean projectsStats(Schema projection) {
+    for (Types.NestedField statsField : STATS_FIELDS) {
+      if (projection.findField(statsField.fieldId()) != null) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
   private static boolean requireStatsProjection(Expression rowFilter, Collection<String> columns) {
     // Make sure we have all stats columns for metrics evaluator
     return rowFilter != Expressions.alwaysTrue() &&
@@ -280,13 +454,19 @@ public class ManifestReader<F extends ContentFile<F>>
         !columns.containsAll(STATS_COLUMNS);
   }
 
+  private static boolean selectsStats(Collection<String> columns) {
+    // column sizes are not needed for filtering, but are stats that must be kept when selected, e.g. for task weights
+    return columns.contains(COLUMN_SIZES_COLUMN) ||
+        !Sets.intersection(Sets.newHashSet(columns), STATS_COLUMNS).isEmpty();
+  }
+
   static boolean dropStats(Expression rowFilter, Collection<String> columns) {
     // Make sure we only drop all stats if we had projected all stats
     // We do not drop stats even if we had partially added some stats columns
     return rowFilter != Expressions.alwaysTrue() &&
         columns != null &&
         !columns.containsAll(ManifestReader.ALL_COLUMNS) &&
-        Sets.intersection(Sets.newHashSet(columns), STATS_COLUMNS).isEmpty();
+        !selectsStats(columns);
   }
 
   private static Collection<String> withStatsColumns(Collection<String> columns) {
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import org.apache.iceberg.events.CreateSnapshotEvent;
 import org.apache.iceberg.exceptions.RuntimeIOException;
@@ -39,6 +40,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterators;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 
 import static org.apache.iceberg.TableProperties.MANIFEST_MIN_MERGE_COUNT;
@@ -83,6 +85,10 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
   private ManifestFile cachedNewDeleteManifest = null;
   private boolean hasNewDeleteFiles = false;
 
+  // the last snapshot that passed each validation, keyed by the filter or file set that was validated. when retrying,
+  // only snapshots committed after it need to be checked again.
+  private final Map<Object, ValidatedHistory> validatedHistory = Maps.newIdentityHashMap();
+
   MergingSnapshotProducer(String tableName, TableOperations ops) {
     super(ops);
     this.tableName = tableName;
@@ -235,8 +241,10 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
     List<ManifestFile> manifests = Lists.newArrayList();
     Set<Long> newSnapshots = Sets.newHashSet();
 
+    Long lastValidatedId = lastValidatedSnapshotId(conflictDetectionFilter, startingSnapshotId, caseSensitive);
     Long currentSnapshotId = base.currentSnapshot().snapshotId();
-    while (currentSnapshotId != null && !currentSnapshotId.equals(startingSnapshotId)) {
+    while (currentSnapshotId != null && !currentSnapshotId.equals(startingSnapshotId) &&
+        !currentSnapshotId.equals(lastValidatedId)) {
       Snapshot currentSnapshot = ops.current().snapshot(currentSnapshotId);
 
       ValidationException.check(currentSnapshot != null,
@@ -255,6 +263,11 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
       currentSnapshotId = currentSnapshot.parentId();
     }
 
+    if (manifests.isEmpty()) {
+      validated(conflictDetectionFilter, startingSnapshotId, caseSensitive, base.currentSnapshot().snapshotId());
+      return;
+    }
+
     ManifestGroup conflictGroup = new ManifestGroup(ops.io(), manifests, ImmutableList.of())
         .caseSensitive(caseSensitive)
         .filterManifestEntries(entry -> newSnapshots.contains(entry.snapshotId()))
@@ -274,6 +287,8 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
       throw new UncheckedIOException(
           String.format("Failed to validate no appends matching %s", conflictDetectionFilter), e);
     }
+
+    validated(conflictDetectionFilter, startingSnapshotId, caseSensitive, base.currentSnapshot().snapshotId());
   }
 
   protected void validateDataFilesExist(TableMetadata base, Long startingSnapshotId,
@@ -290,8 +305,10 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
     List<ManifestFile> manifests = Lists.newArrayList();
     Set<Long> newSnapshots = Sets.newHashSet();
 
+    Long lastValidatedId = lastValidatedSnapshotId(requiredDataFiles, startingSnapshotId, skipDeletes);
     Long currentSnapshotId = base.currentSnapshot().snapshotId();
-    while (currentSnapshotId != null && !currentSnapshotId.equals(startingSnapshotId)) {
+    while (currentSnapshotId != null && !currentSnapshotId.equals(startingSnapshotId) &&
+        !currentSnapshotId.equals(lastValidatedId)) {
       Snapshot currentSnapshot = ops.current().snapshot(currentSnapshotId);
 
       ValidationException.check(currentSnapshot != null,
@@ -310,6 +327,11 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
       currentSnapshotId = currentSnapshot.parentId();
     }
 
+    if (manifests.isEmpty()) {
+      validated(requiredDataFiles, startingSnapshotId, skipDeletes, base.currentSnapshot().snapshotId());
+      return;
+    }
+
     ManifestGroup matchingDeletesGroup = new ManifestGroup(ops.io(), manifests, ImmutableList.of())
         .filterManifestEntries(entry -> entry.status() != ManifestEntry.Status.ADDED &&
             newSnapshots.contains(entry.snapshotId()) && requiredDataFiles.contains(entry.file().path()))
@@ -325,6 +347,49 @@ abstract class MergingSnapshotProducer<ThisT> extends SnapshotProducer<ThisT> {
     } catch (IOException e) {
       throw new UncheckedIOException("Failed to validate required files exist", e);
     }
+
+    validated(requiredDataFiles, startingSnapshotId, skipDeletes, base.currentSnapshot().snapshotId());
+  }
+
+  private Long lastValidatedSnapshotId(Object validation, Long startingSnapshotId, boolean option) {
+    ValidatedHistory history = validatedHistory.get(validation);
+    if (history != null && history.matches(startingSnapshotId, option)) {
+      return history.validatedSnapshotId;
+    }
+
+    return null;
+  }
+
+  private void validated(Object validation, Long startingSnapshotId, boolean option, long validatedSnapshotId) {
+    validatedHistory.put(validation, new ValidatedHistory(startingSnapshotId, option, validatedSnapshotId));
+  }
+
+  private static class ValidatedHistory {
+    private final Long startingSnapshotId;
+    private final boolean option;
+    private final long validatedSnapshotId;
+
+    private ValidatedHistory(Long startingSnapshotId, boolean option, long validatedSnapshotId) {
+      this.startingSnapshotId = startingSnapshotId;
+      this.option = option;
+      this.validatedSnapshotId = validatedSnapshotId;
+    }
+
+    private boolean matches(Long otherStartingSnapshotId, boolean otherOption) {
+      return Objects.equals(startingSnapshotId, otherStartingSnapshotId) && option == otherOption;
+    }
+  }
+
+  @Override
+  protected int rewrittenManifestCount() {
+    return mergeManager.rewrittenManifestCount() + filterManager.rewrittenManifestCount() +
+        deleteMergeManager.rewrittenManifestCount() + deleteFilterManager.rewrittenManifestCount();
+  }
+
+  @Override
+  protected long rewrittenManifestBytes() {
+    return mergeManager.rewrittenManifestBytes() + filterManager.rewrittenManifestBytes() +
+        deleteMergeManager.rewrittenManifestBytes() + deleteFilterManager.rewrittenManifestBytes();
   }
 
   @Override
@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.MapMaker;
+import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the current snapshot's manifest list and manifests in the background after table metadata is refreshed.
+ * <p>
+ * Planning a scan reads the manifest list and then each manifest, one round trip at a time. Starting those reads
+ * when metadata is loaded overlaps them with the rest of query setup. Prefetched files are held in memory for a short
+ * time and are used by {@link BaseSnapshot} and {@link ManifestGroup} through {@link #newInputFile(FileIO, String)}.
+ * If a file is requested while its prefetch is still running, the caller waits for it for a bounded time instead of
+ * reading it again.
+ * <p>
+ * Prefetched files are scoped to the {@link FileIO} that read them, so a FileIO with different credentials never
+ * reads bytes that another FileIO fetched.
+ */
+class MetadataPrefetcher {
+  private static final Logger LOG = LoggerFactory.getLogger(MetadataPrefetcher.class);
+
+  private static final long MAX_PREFETCHED_BYTES = 128L * 1024 * 1024; // 128 MB
+  private static final long MAX_FILE_SIZE_BYTES = 32L * 1024 * 1024; // 32 MB
+  // manifest list lengths are not known until they are read, so they are weighed with an estimate until loaded
+  private static final long MANIFEST_LIST_WEIGHT = 1024L * 1024; // 1 MB
+  private static final long EXPIRE_AFTER_WRITE_SECONDS = 60L;
+  private static final int POOL_SIZE = 4;
+  // callers read a file directly if its prefetch does not finish in time
+  private static final long MAX_WAIT_MILLIS = 10_000L;
+
+  // a unique scope for each FileIO, identified by reference; FileIOs are released when no longer used
+  private static final Map<FileIO, String> IO_SCOPES = new MapMaker().weakKeys().makeMap();
+
+  private static final Cache<String, Prefetch> PREFETCHED = Caffeine.newBuilder()
+      .maximumWeight(MAX_PREFETCHED_BYTES)
+      .weigher((String location, Prefetch prefetch) -> prefetch.weight())
+      .expireAfterWrite(EXPIRE_AFTER_WRITE_SECONDS, TimeUnit.SECONDS)
+      .build();
+
+  private MetadataPrefetcher() {
+  }
+
+  /**
+   * Starts reading the current snapshot's manifest list and its first data manifests, if enabled by
+   * {@link TableProperties#METADATA_PREFETCH_ENABLED}.
+   *
+   * @param io a {@link FileIO} to read metadata files
+   * @param metadata table metadata that was just loaded
+   * @return a future that completes when all prefetches for the metadata have finished
+   */
+  static CompletableFuture<Void> prefetch(FileIO io, TableMetadata metadata) {
+    boolean enabled = PropertyUtil.propertyAsBoolean(metadata.properties(),
+        TableProperties.METADATA_PREFETCH_ENABLED, TableProperties.METADATA_PREFETCH_ENABLED_DEFAULT);
+    Snapshot current = metadata.currentSnapshot();
+    if (!enabled || current == null || current.manifestListLocation() == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    int numManifests = PropertyUtil.propertyAsInt(metadata.properties(),
+        TableProperties.METADATA_PREFETCH_MANIFESTS, TableProperties.METADATA_PREFETCH_MANIFESTS_DEFAULT);
+    String manifestList = current.manifestListLocation();
+    String manifestListKey = key(io, manifestList);
+
+    return submit(manifestListKey, MANIFEST_LIST_WEIGHT,
+        () -> PrefetchedInputFile.prefetch(io.newInputFile(manifestList)))
+        .thenApply(file -> {
+          updateWeight(manifestListKey, file);
+          return file;
+        })
+        .thenCompose(file -> prefetchManifests(io, ManifestLists.read(file), numManifests))
+        .exceptionally(e -> {
+          LOG.warn("Failed to prefetch manifests for snapshot {}", current.snapshotId(), e);
+          return null;
+        });
+  }
+
+  private static CompletableFuture<Void> prefetchManifests(FileIO io, List<ManifestFile> manifests, int limit) {
+    List<CompletableFuture<InputFile>> futures = Lists.newArrayList();
+    for (ManifestFile manifest : manifests) {
+      if (futures.size() >= limit) {
+        break;
+      }
+
+      long length = manifest.length();
+      if (manifest.content() == ManifestContent.DATA && length > 0 && length <= MAX_FILE_SIZE_BYTES) {
+        String path = manifest.path();
+        futures.add(submit(key(io, path), length,
+            () -> PrefetchedInputFile.prefetch(io.newInputFile(path, length), length)));
+      }
+    }
+
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+  }
+
+  /**
+   * Replaces the estimated weight of a prefetched manifest list with its length once it is loaded, or stops holding
+   * it if it is larger than other prefetched files may be.
+   */
+  private static void updateWeight(String key, InputFile file) {
+    Prefetch prefetch = PREFETCHED.getIfPresent(key);
+    if (prefetch == null || prefetch.future().getNow(null) != file) {
+      // already expired or replaced
+      return;
+    }
+
+    long length = file.getLength();
+    if (length <= MAX_FILE_SIZE_BYTES) {
+      PREFETCHED.asMap().replace(key, prefetch, new Prefetch(length, prefetch.future()));
+    } else {
+      PREFETCHED.asMap().remove(key, prefetch);
+    }
+  }
+
+  private static CompletableFuture<InputFile> submit(String key, long weight, Supplier<InputFile> loader) {
+    return PREFETCHED.get(key, ignored -> new Prefetch(weight, CompletableFuture.supplyAsync(loader, pool())))
+        .future();
+  }
+
+  private static String key(FileIO io, String location) {
+    return IO_SCOPES.computeIfAbsent(io, ignored -> UUID.randomUUID().toString()) + "#" + location;
+  }
+
+  /**
+   * Returns an {@link InputFile} for a metadata file, using prefetched contents if they are available.
+   *
+   * @param io a {@link FileIO} used when the file was not prefetched
+   * @param location a file location
+   * @return an input file for the location
+   */
+  static InputFile newInputFile(FileIO io, String location) {
+    InputFile prefetched = prefetched(io, location);
+    return prefetched != null ? prefetched : io.newInputFile(location);
+  }
+
+  /**
+   * Returns an {@link InputFile} for a metadata file with a known length, using prefetched contents if they are
+   * available.
+   *
+   * @param io a {@link FileIO} used when the file was not prefetched
+   * @param location a file location
+   * @param length the length of the file, or 0 if it is not known
+   * @return an input file for the location
+   */
+  static InputFile newInputFile(FileIO io, String location, long length) {
+    if (length <= 0) {
+      return newInputFile(io, location);
+    }
+
+    InputFile prefetched = prefetched(io, location);
+    return prefetched != null ? prefetched : io.newInputFile(location, length);
+  }
+
+  private static InputFile prefetched(FileIO io, String location) {
+    String key = key(io, location);
+    Prefetch prefetch = PREFETCHED.getIfPresent(key);
+    if (prefetch != null) {
+      try {
+        return prefetch.future().get(MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+      } catch (ExecutionException e) {
+        // the failure was logged when prefetching; read the file directly
+        PREFETCHED.invalidate(key);
+      } catch (TimeoutException e) {
+        LOG.debug("Timed out waiting for prefetch of {}, reading it directly", location);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    return null;
+  }
+
+  @VisibleForTesting
+  static long prefetchedWeight(FileIO io, String location) {
+    Prefetch prefetch = PREFETCHED.getIfPresent(key(io, location));
+    return prefetch != null ? prefetch.weight() : 0L;
+  }
+
+  private static ExecutorService pool() {
+    return PoolHolder.POOL;
+  }
+
+  // the pool is only created when prefetching is used
+  private static class PoolHolder {
+    private static final ExecutorService POOL = ThreadPools.newWorkerPool("iceberg-metadata-prefetch", POOL_SIZE);
+  }
+
+  private static class Prefetch {
+    private final int weight;
+    private final CompletableFuture<InputFile> future;
+
+    private Prefetch(long weight, CompletableFuture<InputFile> future) {
+      this.weight = (int) Math.min(weight, Integer.MAX_VALUE);
+      this.future = future;
+    }
+
+    int weight() {
+      return weight;
+    }
+
+    CompletableFuture<InputFile> future() {
+      return future;
+    }
+  }
+}
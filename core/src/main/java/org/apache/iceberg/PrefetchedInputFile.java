@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
+
+/**
+ * An {@link InputFile} that holds the entire contents of a small file in memory.
+ * <p>
+ * Reading a manifest opens the file once for its header and again for its entries, and Avro reads in small blocks.
+ * Fetching the file with one sequential read avoids repeated round trips to object stores.
+ */
+class PrefetchedInputFile implements InputFile {
+  private final String location;
+  private final byte[] contents;
+
+  private PrefetchedInputFile(String location, byte[] contents) {
+    this.location = location;
+    this.contents = contents;
+  }
+
+  /**
+   * Reads a file into memory.
+   *
+   * @param file an input file
+   * @param length the length of the file, in bytes
+   * @return an input file backed by the file's contents in memory
+   */
+  static PrefetchedInputFile prefetch(InputFile file, long length) {
+    Preconditions.checkArgument(length >= 0 && length <= Integer.MAX_VALUE,
+        "Cannot prefetch file %s with length %s", file.location(), length);
+
+    byte[] contents = new byte[(int) length];
+    try (InputStream in = file.newStream()) {
+      int offset = 0;
+      while (offset < contents.length) {
+        int bytesRead = in.read(contents, offset, contents.length - offset);
+        if (bytesRead < 0) {
+          throw new EOFException(String.format(
+              "Reached end of %s after %d bytes, expected %d", file.location(), offset, length));
+        }
+        offset += bytesRead;
+      }
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to prefetch file: %s", file.location());
+    }
+
+    return new PrefetchedInputFile(file.location(), contents);
+  }
+
+  /**
+   * Reads a file of unknown length into memory.
+   *
+   * @param file an input file
+   * @return an input file backed by the file's contents in memory
+   */
+  static PrefetchedInputFile prefetch(InputFile file) {
+    try (InputStream in = file.newStream()) {
+      return new PrefetchedInputFile(file.location(), ByteStreams.toByteArray(in));
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to prefetch file: %s", file.location());
+    }
+  }
+
+  byte[] contents() {
+    return contents;
+  }
+
+  @Override
+  public long getLength() {
+    return contents.length;
+  }
+
+  @Override
+  public SeekableInputStream newStream() {
+    return new ByteArraySeekableInputStream(contents);
+  }
+
+  @Override
+  public String location() {
+    return location;
+  }
+
+  @Override
+  public boolean exists() {
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return location;
+  }
+
+  private static class ByteArraySeekableInputStream extends SeekableInputStream {
+    private final byte[] contents;
+    private int pos = 0;
+
+    private ByteArraySeekableInputStream(byte[] contents) {
+      this.contents = contents;
+    }
+
+    @Override
+    public long getPos() {
+      return pos;
+    }
+
+    @Override
+    public void seek(long newPos) throws IOException {
+      if (newPos < 0 || newPos > contents.length) {
+        throw new EOFException("Cannot seek to position " + newPos + ", length is " + contents.length);
+      }
+      this.pos = (int) newPos;
+    }
+
+    @Override
+    public int read() {
+      if (pos >= contents.length) {
+        return -1;
+      }
+      return contents[pos++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (len == 0) {
+        return 0;
+      } else if (pos >= contents.length) {
+        return -1;
+      }
+
+      int bytesRead = Math.min(len, contents.length - pos);
+      System.arraycopy(contents, pos, b, off, bytesRead);
+      this.pos += bytesRead;
+      return bytesRead;
+    }
+
+    @Override
+    public long skip(long n) {
+      long skipped = Math.max(0, Math.min(n, contents.length - pos));
+      this.pos += (int) skipped;
+      return skipped;
+    }
+
+    @Override
+    public int available() {
+      return contents.length - pos;
+    }
+  }
+}
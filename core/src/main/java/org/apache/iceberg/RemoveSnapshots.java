@@ -25,14 +25,18 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import org.apache.iceberg.avro.Avro;
+import org.apache.iceberg.exceptions.BulkDeletionFailureException;
 import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.SupportsBulkOperations;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
@@ -66,6 +70,9 @@ class RemoveSnapshots implements ExpireSnapshots {
   // Creates an executor service that runs each task in the thread that invokes execute/submit.
   private static final ExecutorService DEFAULT_DELETE_EXECUTOR_SERVICE = MoreExecutors.newDirectExecutorService();
 
+  // when cleanup is parallel, files are deleted in batches and progress is logged after each batch
+  private static final int DELETE_BATCH_SIZE = 1000;
+
   private final Consumer<String> defaultDelete = new Consumer<String>() {
     @Override
     public void accept(String file) {
@@ -81,6 +88,8 @@ class RemoveSnapshots implements ExpireSnapshots {
   private int minNumSnapshots;
   private Consumer<String> deleteFunc = defaultDelete;
   private ExecutorService deleteExecutorService = DEFAULT_DELETE_EXECUTOR_SERVICE;
+  private int cleanupParallelism = 1;
+  private final CleanupMetrics cleanupMetrics = new CleanupMetrics();
 
   RemoveSnapshots(TableOperations ops) {
     this.ops = ops;
@@ -142,6 +151,17 @@ class RemoveSnapshots implements ExpireSnapshots {
     return this;
   }
 
+  @Override
+  public ExpireSnapshots cleanupParallelism(int parallelism) {
+    Preconditions.checkArgument(parallelism > 0, "Invalid cleanup parallelism: %s (must be > 0)", parallelism);
+    this.cleanupParallelism = parallelism;
+    return this;
+  }
+
+  CleanupMetrics cleanupMetrics() {
+    return cleanupMetrics;
+  }
+
   @Override
   public List<Snapshot> apply() {
     TableMetadata updated = internalApply();
@@ -224,11 +244,23 @@ class RemoveSnapshots implements ExpireSnapshots {
 
     LOG.info("Committed snapshot changes; cleaning up expired manifests and data files.");
 
-    removeExpiredFiles(current.snapshots(), validIds, expiredIds);
+    if (cleanupParallelism > 1) {
+      ExecutorService cleanupPool = ThreadPools.newWorkerPool("iceberg-expire-snapshots", cleanupParallelism);
+      try {
+        removeExpiredFiles(current.snapshots(), validIds, expiredIds, cleanupPool);
+      } finally {
+        cleanupPool.shutdown();
+      }
+    } else {
+      removeExpiredFiles(current.snapshots(), validIds, expiredIds, null);
+    }
+
+    LOG.info("Finished cleaning up expired snapshots: {}", cleanupMetrics);
   }
 
   @SuppressWarnings("checkstyle:CyclomaticComplexity")
-  private void removeExpiredFiles(List<Snapshot> snapshots, Set<Long> validIds, Set<Long> expiredIds) {
+  private void removeExpiredFiles(List<Snapshot> snapshots, Set<Long> validIds, Set<Long> expiredIds,
+                                  ExecutorService cleanupPool) {
     // Reads and deletes are done using Tasks.foreach(...).suppressFailureWhenFinished to complete
     // as much of the delete work as possible and avoid orphaned data or manifest files.
 
@@ -247,15 +279,18 @@ class RemoveSnapshots implements ExpireSnapshots {
     }
 
     // find manifests to clean up that are still referenced by a valid snapshot, but written by an expired snapshot
-    Set<String> validManifests = Sets.newHashSet();
-    Set<ManifestFile> manifestsToScan = Sets.newHashSet();
+    // sets are concurrent because manifest lists are read in parallel when a cleanup pool is used
+    Set<String> validManifests = ConcurrentHashMap.newKeySet();
+    Set<ManifestFile> manifestsToScan = ConcurrentHashMap.newKeySet();
     Tasks.foreach(snapshots).retry(3).suppressFailureWhenFinished()
+        .executeWith(cleanupPool)
         .onFailure((snapshot, exc) ->
             LOG.warn("Failed on snapshot {} while reading manifest list: {}", snapshot.snapshotId(),
                 snapshot.manifestListLocation(), exc))
         .run(
             snapshot -> {
               try (CloseableIterable<ManifestFile> manifests = readManifestFiles(snapshot)) {
+                cleanupMetrics.manifestListsRead.incrementAndGet();
                 for (ManifestFile manifest : manifests) {
                   validManifests.add(manifest.path());
 
@@ -281,10 +316,11 @@ class RemoveSnapshots implements ExpireSnapshots {
             });
 
     // find manifests to clean up that were only referenced by snapshots that have expired
-    Set<String> manifestListsToDelete = Sets.newHashSet();
-    Set<String> manifestsToDelete = Sets.newHashSet();
-    Set<ManifestFile> manifestsToRevert = Sets.newHashSet();
+    Set<String> manifestListsToDelete = ConcurrentHashMap.newKeySet();
+    Set<String> manifestsToDelete = ConcurrentHashMap.newKeySet();
+    Set<ManifestFile> manifestsToRevert = ConcurrentHashMap.newKeySet();
     Tasks.foreach(base.snapshots()).retry(3).suppressFailureWhenFinished()
+        .executeWith(cleanupPool)
         .onFailure((snapshot, exc) ->
             LOG.warn("Failed on snapshot {} while reading manifest list: {}", snapshot.snapshotId(),
                 snapshot.manifestListLocation(), exc))
@@ -321,6 +357,7 @@ class RemoveSnapshots implements ExpireSnapshots {
 
                 // find any manifests that are no longer needed
                 try (CloseableIterable<ManifestFile> manifests = readManifestFiles(snapshot)) {
+                  cleanupMetrics.manifestListsRead.incrementAndGet();
                   for (ManifestFile manifest : manifests) {
                     if (!validManifests.contains(manifest.path())) {
                       manifestsToDelete.add(manifest.path());
@@ -359,47 +396,96 @@ class RemoveSnapshots implements ExpireSnapshots {
                 }
               }
             });
-    deleteDataFiles(manifestsToScan, manifestsToRevert, validIds);
-    deleteMetadataFiles(manifestsToDelete, manifestListsToDelete);
+    deleteDataFiles(manifestsToScan, manifestsToRevert, validIds, cleanupPool);
+    deleteMetadataFiles(manifestsToDelete, manifestListsToDelete, cleanupPool);
   }
 
-  private void deleteMetadataFiles(Set<String> manifestsToDelete, Set<String> manifestListsToDelete) {
+  private void deleteMetadataFiles(Set<String> manifestsToDelete, Set<String> manifestListsToDelete,
+                                   ExecutorService cleanupPool) {
     LOG.warn("Manifests to delete: {}", Joiner.on(", ").join(manifestsToDelete));
     LOG.warn("Manifests Lists to delete: {}", Joiner.on(", ").join(manifestListsToDelete));
 
-    Tasks.foreach(manifestsToDelete)
-        .executeWith(deleteExecutorService)
-        .retry(3).stopRetryOn(NotFoundException.class).suppressFailureWhenFinished()
-        .onFailure((manifest, exc) -> LOG.warn("Delete failed for manifest: {}", manifest, exc))
-        .run(deleteFunc::accept);
-
-    Tasks.foreach(manifestListsToDelete)
-        .executeWith(deleteExecutorService)
-        .retry(3).stopRetryOn(NotFoundException.class).suppressFailureWhenFinished()
-        .onFailure((list, exc) -> LOG.warn("Delete failed for manifest list: {}", list, exc))
-        .run(deleteFunc::accept);
+    deleteFiles(manifestsToDelete, "manifest", cleanupMetrics.manifestsDeleted, cleanupPool);
+    deleteFiles(manifestListsToDelete, "manifest list", cleanupMetrics.manifestListsDeleted, cleanupPool);
   }
 
   private void deleteDataFiles(Set<ManifestFile> manifestsToScan, Set<ManifestFile> manifestsToRevert,
-                               Set<Long> validIds) {
-    Set<String> filesToDelete = findFilesToDelete(manifestsToScan, manifestsToRevert, validIds);
-    Tasks.foreach(filesToDelete)
-        .executeWith(deleteExecutorService)
-        .retry(3).stopRetryOn(NotFoundException.class).suppressFailureWhenFinished()
-        .onFailure((file, exc) -> LOG.warn("Delete failed for data file: {}", file, exc))
-        .run(file -> deleteFunc.accept(file));
+                               Set<Long> validIds, ExecutorService cleanupPool) {
+    Set<String> filesToDelete = findFilesToDelete(manifestsToScan, manifestsToRevert, validIds, cleanupPool);
+    deleteFiles(filesToDelete, "data file", cleanupMetrics.dataFilesDeleted, cleanupPool);
+  }
+
+  private void deleteFiles(Set<String> paths, String type, AtomicLong deletedCount, ExecutorService cleanupPool) {
+    if (deleteFunc == defaultDelete && deleteExecutorService == DEFAULT_DELETE_EXECUTOR_SERVICE &&
+        ops.io() instanceof SupportsBulkOperations) {
+      // the FileIO batches and parallelizes deletes itself, but a custom delete executor is always honored
+      int failures;
+      try {
+        ((SupportsBulkOperations) ops.io()).deleteFiles(paths);
+        failures = 0;
+      } catch (BulkDeletionFailureException e) {
+        LOG.warn("Failed to delete {} of {} {} files", e.numberFailedObjects(), paths.size(), type, e);
+        failures = e.numberFailedObjects();
+      } catch (RuntimeException e) {
+        LOG.warn("Bulk delete failed for {} files", type, e);
+        failures = paths.size();
+      }
+
+      cleanupMetrics.deleteFailures.addAndGet(failures);
+      deletedCount.addAndGet(paths.size() - failures);
+      return;
+    }
+
+    if (cleanupPool == null || deleteExecutorService != DEFAULT_DELETE_EXECUTOR_SERVICE) {
+      Tasks.foreach(paths)
+          .executeWith(deleteExecutorService)
+          .retry(3).stopRetryOn(NotFoundException.class).suppressFailureWhenFinished()
+          .onFailure((path, exc) -> {
+            cleanupMetrics.deleteFailures.incrementAndGet();
+            LOG.warn("Delete failed for {}: {}", type, path, exc);
+          })
+          .run(path -> {
+            deleteFunc.accept(path);
+            deletedCount.incrementAndGet();
+          });
+      return;
+    }
+
+    // delete in batches using the cleanup pool to bound concurrency and report progress
+    int total = paths.size();
+    AtomicLong completed = new AtomicLong(0);
+    List<List<String>> batches = Lists.partition(Lists.newArrayList(paths), DELETE_BATCH_SIZE);
+    Tasks.foreach(batches)
+        .executeWith(cleanupPool)
+        .suppressFailureWhenFinished()
+        .run(batch -> {
+          Tasks.foreach(batch)
+              .retry(3).stopRetryOn(NotFoundException.class).suppressFailureWhenFinished()
+              .onFailure((path, exc) -> {
+                cleanupMetrics.deleteFailures.incrementAndGet();
+                LOG.warn("Delete failed for {}: {}", type, path, exc);
+              })
+              .run(path -> {
+                deleteFunc.accept(path);
+                deletedCount.incrementAndGet();
+              });
+
+          LOG.info("Processed {} of {} {} deletes", completed.addAndGet(batch.size()), total, type);
+        });
   }
 
   private Set<String> findFilesToDelete(Set<ManifestFile> manifestsToScan, Set<ManifestFile> manifestsToRevert,
-                                        Set<Long> validIds) {
+                                        Set<Long> validIds, ExecutorService cleanupPool) {
+    ExecutorService readPool = cleanupPool != null ? cleanupPool : ThreadPools.getWorkerPool();
     Set<String> filesToDelete = ConcurrentHashMap.newKeySet();
     Tasks.foreach(manifestsToScan)
         .retry(3).suppressFailureWhenFinished()
-        .executeWith(ThreadPools.getWorkerPool())
+        .executeWith(readPool)
         .onFailure((item, exc) -> LOG.warn("Failed to get deleted files: this may cause orphaned data files", exc))
         .run(manifest -> {
           // the manifest has deletes, scan it to find files to delete
           try (ManifestReader<?> reader = ManifestFiles.open(manifest, ops.io(), ops.current().specsById())) {
+            cleanupMetrics.manifestsScanned.incrementAndGet();
             for (ManifestEntry<?> entry : reader.entries()) {
               // if the snapshot ID of the DELETE entry is no longer valid, the data can be deleted
               if (entry.status() == ManifestEntry.Status.DELETED &&
@@ -415,11 +501,12 @@ class RemoveSnapshots implements ExpireSnapshots {
 
     Tasks.foreach(manifestsToRevert)
         .retry(3).suppressFailureWhenFinished()
-        .executeWith(ThreadPools.getWorkerPool())
+        .executeWith(readPool)
         .onFailure((item, exc) -> LOG.warn("Failed to get added files: this may cause orphaned data files", exc))
         .run(manifest -> {
           // the manifest has deletes, scan it to find files to delete
           try (ManifestReader<?> reader = ManifestFiles.open(manifest, ops.io(), ops.current().specsById())) {
+            cleanupMetrics.manifestsScanned.incrementAndGet();
             for (ManifestEntry<?> entry : reader.entries()) {
               // delete any ADDED file from manifests that were reverted
               if (entry.status() == ManifestEntry.Status.ADDED) {
@@ -451,4 +538,52 @@ class RemoveSnapshots implements ExpireSnapshots {
       return CloseableIterable.withNoopClose(snapshot.allManifests());
     }
   }
+
+  /**
+   * Counts of the work done to clean up expired snapshots.
+   */
+  static class CleanupMetrics {
+    private final AtomicLong manifestListsRead = new AtomicLong(0);
+    private final AtomicLong manifestsScanned = new AtomicLong(0);
+    private final AtomicLong dataFilesDeleted = new AtomicLong(0);
+    private final AtomicLong manifestsDeleted = new AtomicLong(0);
+    private final AtomicLong manifestListsDeleted = new AtomicLong(0);
+    private final AtomicLong deleteFailures = new AtomicLong(0);
+
+    long manifestListsRead() {
+      return manifestListsRead.get();
+    }
+
+    long manifestsScanned() {
+      return manifestsScanned.get();
+    }
+
+    long dataFilesDeleted() {
+      return dataFilesDeleted.get();
+    }
+
+    long manifestsDeleted() {
+      return manifestsDeleted.get();
+    }
+
+    long manifestListsDeleted() {
+      return manifestListsDeleted.get();
+    }
+
+    long deleteFailures() {
+      return deleteFailures.get();
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("manifestListsRead", manifestListsRead)
+          .add("manifestsScanned", manifestsScanned)
+          .add("dataFilesDeleted", dataFilesDeleted)
+          .add("manifestsDeleted", manifestsDeleted)
+          .add("manifestListsDeleted", manifestListsDeleted)
+          .add("deleteFailures", deleteFailures)
+          .toString();
+    }
+  }
 }
@@ -20,9 +20,12 @@
 package org.apache.iceberg;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -49,6 +52,12 @@ public class SnapshotParser {
 
   static void toJson(Snapshot snapshot, JsonGenerator generator)
       throws IOException {
+    if (snapshot instanceof LazySnapshot) {
+      // copy the JSON that was read instead of loading the snapshot to write it back
+      generator.writeRawValue(((LazySnapshot) snapshot).json());
+      return;
+    }
+
     generator.writeStartObject();
     if (snapshot.sequenceNumber() > TableMetadata.INITIAL_SEQUENCE_NUMBER) {
       generator.writeNumberField(SEQUENCE_NUMBER, snapshot.sequenceNumber());
@@ -153,6 +162,56 @@ public class SnapshotParser {
     }
   }
 
+  /**
+   * Reads a snapshot from a streaming parser without parsing its summary or manifests.
+   * <p>
+   * The parser must be reading {@code source} and be positioned at the start of the snapshot's JSON object. When this
+   * returns, the parser is positioned at the end of the object.
+   *
+   * @param io a FileIO used by the snapshot to read manifests
+   * @param source the bytes that the parser is reading
+   * @param parser a parser positioned at the start of a snapshot object
+   * @return a snapshot that parses the rest of its JSON when it is first used
+   */
+  static Snapshot fromJson(FileIO io, byte[] source, JsonParser parser) throws IOException {
+    Preconditions.checkArgument(parser.currentToken() == JsonToken.START_OBJECT,
+        "Cannot parse table version from a non-object: %s", parser.getText());
+
+    int start = (int) parser.getTokenLocation().getByteOffset();
+    long sequenceNumber = TableMetadata.INITIAL_SEQUENCE_NUMBER;
+    Long snapshotId = null;
+    Long parentId = null;
+    Long timestamp = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      parser.nextToken();
+      switch (field) {
+        case SEQUENCE_NUMBER:
+          sequenceNumber = JsonUtil.getLong(SEQUENCE_NUMBER, parser);
+          break;
+        case SNAPSHOT_ID:
+          snapshotId = JsonUtil.getLong(SNAPSHOT_ID, parser);
+          break;
+        case PARENT_SNAPSHOT_ID:
+          parentId = JsonUtil.getLong(PARENT_SNAPSHOT_ID, parser);
+          break;
+        case TIMESTAMP_MS:
+          timestamp = JsonUtil.getLong(TIMESTAMP_MS, parser);
+          break;
+        default:
+          // the summary and manifests are parsed when the snapshot is loaded
+          parser.skipChildren();
+      }
+    }
+    int end = (int) parser.getCurrentLocation().getByteOffset();
+
+    Preconditions.checkArgument(snapshotId != null, "Cannot parse missing long %s", SNAPSHOT_ID);
+    Preconditions.checkArgument(timestamp != null, "Cannot parse missing long %s", TIMESTAMP_MS);
+
+    return new LazySnapshot(io, sequenceNumber, snapshotId, parentId, timestamp,
+        Arrays.copyOfRange(source, start, end));
+  }
+
   public static Snapshot fromJson(FileIO io, String json) {
     try {
       return fromJson(io, JsonUtil.mapper().readValue(json, JsonNode.class));
@@ -27,9 +27,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import org.apache.iceberg.events.CommitMetricsEvent;
 import org.apache.iceberg.events.Listeners;
 import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.exceptions.RuntimeIOException;
@@ -263,6 +265,8 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
   public void commit() {
     // this is always set to the latest commit attempt's snapshot id.
     AtomicLong newSnapshotId = new AtomicLong(-1L);
+    AtomicInteger commitAttempts = new AtomicInteger(0);
+    long startNanos = System.nanoTime();
     try {
       Tasks.foreach(ops)
           .retry(base.propertyAsInt(COMMIT_NUM_RETRIES, COMMIT_NUM_RETRIES_DEFAULT))
@@ -273,6 +277,7 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
               2.0 /* exponential */)
           .onlyRetryOn(CommitFailedException.class)
           .run(taskOps -> {
+            commitAttempts.incrementAndGet();
             Snapshot newSnapshot = apply();
             newSnapshotId.set(newSnapshot.snapshotId());
             TableMetadata updated;
@@ -297,7 +302,10 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
       Exceptions.suppressAndThrow(e, this::cleanAll);
     }
 
-    LOG.info("Committed snapshot {} ({})", newSnapshotId.get(), getClass().getSimpleName());
+    long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    LOG.info("Committed snapshot {} ({}) after {} attempt(s) in {} ms, rewrote {} manifest(s) ({} bytes)",
+        newSnapshotId.get(), getClass().getSimpleName(), commitAttempts.get(), durationMillis,
+        rewrittenManifestCount(), rewrittenManifestBytes());
 
     try {
       // at this point, the commit must have succeeded. after a refresh, the snapshot is loaded by
@@ -322,6 +330,7 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
     }
 
     notifyListeners();
+    notifyCommitMetrics(newSnapshotId.get(), commitAttempts.get(), durationMillis);
   }
 
   private void notifyListeners() {
@@ -335,6 +344,36 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
     }
   }
 
+  private void notifyCommitMetrics(long committedSnapshotId, int attempts, long durationMillis) {
+    try {
+      Listeners.notifyAll(new CommitMetricsEvent(
+          operation(), committedSnapshotId, attempts, durationMillis,
+          rewrittenManifestCount(), rewrittenManifestBytes()));
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to notify listeners", e);
+    }
+  }
+
+  /**
+   * Returns the number of manifests rewritten by this operation, across all commit attempts.
+   * <p>
+   * Rewritten manifests are those written to merge or filter existing manifests, not manifests for new files.
+   *
+   * @return the number of rewritten manifests
+   */
+  protected int rewrittenManifestCount() {
+    return 0;
+  }
+
+  /**
+   * Returns the total size in bytes of manifests rewritten by this operation, across all commit attempts.
+   *
+   * @return the size of rewritten manifests in bytes
+   */
+  protected long rewrittenManifestBytes() {
+    return 0L;
+  }
+
   protected void cleanAll() {
     for (String manifestList : manifestLists) {
       deleteFile(manifestList);
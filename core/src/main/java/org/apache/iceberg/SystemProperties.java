@@ -39,6 +39,37 @@ public class SystemProperties {
    */
   public static final String SCAN_THREAD_POOL_ENABLED = "iceberg.scan.plan-in-worker-pool";
 
+  /**
+   * Whether to cache parsed delete files in memory so that they are shared by all tasks in a JVM.
+   */
+  public static final String DELETE_CACHE_ENABLED = "iceberg.delete-cache.enabled";
+
+  /**
+   * Sets the maximum estimated size, in bytes, of parsed delete files kept in the shared delete cache.
+   */
+  public static final String DELETE_CACHE_MAX_SIZE_BYTES = "iceberg.delete-cache.max-size-bytes";
+
+  /**
+   * Whether to cache decoded manifest entries in memory so that they are shared by all scans in a JVM.
+   */
+  public static final String MANIFEST_CACHE_ENABLED = "iceberg.manifest-cache.enabled";
+
+  /**
+   * Sets the maximum estimated size, in bytes, of decoded manifests kept in the shared manifest cache.
+   */
+  public static final String MANIFEST_CACHE_MAX_SIZE_BYTES = "iceberg.manifest-cache.max-size-bytes";
+
+  /**
+   * Sets a local directory where cached manifests are also stored, so that manifests evicted from memory are read
+   * from local disk instead of the table's file system.
+   */
+  public static final String MANIFEST_CACHE_SPILL_DIR = "iceberg.manifest-cache.spill-dir";
+
+  /**
+   * Sets the maximum size, in bytes, of manifests stored in the manifest cache's spill directory.
+   */
+  public static final String MANIFEST_CACHE_SPILL_MAX_SIZE_BYTES = "iceberg.manifest-cache.spill-max-size-bytes";
+
   static boolean getBoolean(String systemProperty, boolean defaultValue) {
     String value = System.getProperty(systemProperty);
     if (value != null) {
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.generic.GenericData;
+import org.apache.iceberg.TableMetadata.MetadataLogEntry;
+import org.apache.iceberg.TableMetadata.SnapshotLogEntry;
+import org.apache.iceberg.avro.Avro;
+import org.apache.iceberg.avro.AvroSchemaUtil;
+import org.apache.iceberg.exceptions.RuntimeIOException;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.JsonUtil;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+/**
+ * Reads and writes table metadata files in a binary Avro encoding.
+ * <p>
+ * A file holds a single record. Snapshots and the snapshot and metadata logs, which grow with the table's history,
+ * are stored as Avro records. The remaining fields are small and are stored as the same JSON object that
+ * {@link TableMetadataParser} writes, so that schemas, specs, and sort orders use a single encoding.
+ * <p>
+ * Snapshots that were read lazily from JSON metadata are written with their original JSON instead of typed fields, so
+ * that converting metadata does not parse every snapshot, and are read back lazily.
+ */
+class TableMetadataAvro {
+  private TableMetadataAvro() {
+  }
+
+  private static final Types.StructType SNAPSHOT_TYPE = Types.StructType.of(
+      required(100, "snapshot_id", Types.LongType.get()),
+      optional(101, "parent_snapshot_id", Types.LongType.get()),
+      required(102, "sequence_number", Types.LongType.get()),
+      required(103, "timestamp_ms", Types.LongType.get()),
+      optional(104, "operation", Types.StringType.get()),
+      optional(105, "summary", Types.MapType.ofRequired(106, 107, Types.StringType.get(), Types.StringType.get())),
+      optional(108, "manifest_list", Types.StringType.get()),
+      optional(109, "manifests", Types.ListType.ofRequired(110, Types.StringType.get())),
+      optional(115, "json", Types.StringType.get()));
+
+  private static final Types.StructType SNAPSHOT_LOG_ENTRY_TYPE = Types.StructType.of(
+      required(111, "timestamp_ms", Types.LongType.get()),
+      required(112, "snapshot_id", Types.LongType.get()));
+
+  private static final Types.StructType METADATA_LOG_ENTRY_TYPE = Types.StructType.of(
+      required(113, "timestamp_ms", Types.LongType.get()),
+      required(114, "metadata_file", Types.StringType.get()));
+
+  private static final Schema SCHEMA = new Schema(
+      required(1, "metadata", Types.StringType.get()),
+      required(2, "snapshots", Types.ListType.ofRequired(3, SNAPSHOT_TYPE)),
+      required(4, "snapshot_log", Types.ListType.ofRequired(5, SNAPSHOT_LOG_ENTRY_TYPE)),
+      required(6, "metadata_log", Types.ListType.ofRequired(7, METADATA_LOG_ENTRY_TYPE)));
+
+  private static final String RECORD_NAME = "table_metadata";
+
+  static void write(TableMetadata metadata, OutputFile outputFile, boolean overwrite) {
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(SCHEMA, RECORD_NAME);
+    org.apache.avro.Schema snapshotSchema = elementSchema(avroSchema, "snapshots");
+    org.apache.avro.Schema snapshotLogSchema = elementSchema(avroSchema, "snapshot_log");
+    org.apache.avro.Schema metadataLogSchema = elementSchema(avroSchema, "metadata_log");
+
+    List<GenericData.Record> snapshots = Lists.newArrayListWithExpectedSize(metadata.snapshots().size());
+    for (Snapshot snapshot : metadata.snapshots()) {
+      GenericData.Record record = new GenericData.Record(snapshotSchema);
+      record.put("snapshot_id", snapshot.snapshotId());
+      record.put("parent_snapshot_id", snapshot.parentId());
+      record.put("sequence_number", snapshot.sequenceNumber());
+      record.put("timestamp_ms", snapshot.timestampMillis());
+      if (snapshot instanceof LazySnapshot) {
+        // keep the original JSON rather than loading the snapshot to write its other fields
+        record.put("json", ((LazySnapshot) snapshot).json());
+        snapshots.add(record);
+        continue;
+      }
+
+      record.put("operation", snapshot.operation());
+      record.put("summary", snapshot.summary());
+      String manifestList = snapshot.manifestListLocation();
+      if (manifestList != null) {
+        record.put("manifest_list", manifestList);
+      } else {
+        // embedded manifest lists are only written by format v1 tables
+        record.put("manifests", Lists.newArrayList(Iterables.transform(snapshot.allManifests(), ManifestFile::path)));
+      }
+      snapshots.add(record);
+    }
+
+    List<GenericData.Record> snapshotLog = Lists.newArrayListWithExpectedSize(metadata.snapshotLog().size());
+    for (HistoryEntry logEntry : metadata.snapshotLog()) {
+      GenericData.Record record = new GenericData.Record(snapshotLogSchema);
+      record.put("timestamp_ms", logEntry.timestampMillis());
+      record.put("snapshot_id", logEntry.snapshotId());
+      snapshotLog.add(record);
+    }
+
+    List<GenericData.Record> metadataLog = Lists.newArrayListWithExpectedSize(metadata.previousFiles().size());
+    for (MetadataLogEntry logEntry : metadata.previousFiles()) {
+      GenericData.Record record = new GenericData.Record(metadataLogSchema);
+      record.put("timestamp_ms", logEntry.timestampMillis());
+      record.put("metadata_file", logEntry.file());
+      metadataLog.add(record);
+    }
+
+    GenericData.Record record = new GenericData.Record(avroSchema);
+    record.put("metadata", TableMetadataParser.fieldsToJson(metadata));
+    record.put("snapshots", snapshots);
+    record.put("snapshot_log", snapshotLog);
+    record.put("metadata_log", metadataLog);
+
+    try (FileAppender<GenericData.Record> appender = Avro.write(outputFile)
+        .schema(SCHEMA)
+        .named(RECORD_NAME)
+        .overwrite(overwrite)
+        .build()) {
+      appender.add(record);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to write metadata file: %s", outputFile.location());
+    }
+  }
+
+  static TableMetadata read(FileIO io, InputFile file) {
+    GenericData.Record record;
+    try (CloseableIterable<GenericData.Record> records = Avro.read(file)
+        .project(SCHEMA)
+        .reuseContainers(false)
+        .build()) {
+      record = Iterables.getOnlyElement(records);
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to read metadata file: %s", file.location());
+    }
+
+    JsonNode node;
+    try {
+      node = JsonUtil.mapper().readTree(record.get("metadata").toString());
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to parse table fields in metadata file: %s", file.location());
+    }
+
+    Collection<?> snapshotRecords = (Collection<?>) record.get("snapshots");
+    List<Snapshot> snapshots = Lists.newArrayListWithExpectedSize(snapshotRecords.size());
+    for (Object snapshotRecord : snapshotRecords) {
+      snapshots.add(toSnapshot(io, (GenericData.Record) snapshotRecord));
+    }
+
+    ImmutableList.Builder<HistoryEntry> snapshotLog = ImmutableList.builder();
+    for (Object entry : (Collection<?>) record.get("snapshot_log")) {
+      GenericData.Record entryRecord = (GenericData.Record) entry;
+      snapshotLog.add(new SnapshotLogEntry(
+          (Long) entryRecord.get("timestamp_ms"), (Long) entryRecord.get("snapshot_id")));
+    }
+
+    ImmutableList.Builder<MetadataLogEntry> metadataLog = ImmutableList.builder();
+    for (Object entry : (Collection<?>) record.get("metadata_log")) {
+      GenericData.Record entryRecord = (GenericData.Record) entry;
+      metadataLog.add(new MetadataLogEntry(
+          (Long) entryRecord.get("timestamp_ms"), entryRecord.get("metadata_file").toString()));
+    }
+
+    return TableMetadataParser.fromJson(file, node, snapshots, snapshotLog.build(), metadataLog.build());
+  }
+
+  private static Snapshot toSnapshot(FileIO io, GenericData.Record record) {
+    long snapshotId = (Long) record.get("snapshot_id");
+    Long parentId = (Long) record.get("parent_snapshot_id");
+    long sequenceNumber = (Long) record.get("sequence_number");
+    long timestamp = (Long) record.get("timestamp_ms");
+    Object json = record.get("json");
+    if (json != null) {
+      return new LazySnapshot(io, sequenceNumber, snapshotId, parentId, timestamp,
+          json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    String operation = toStringOrNull(record.get("operation"));
+
+    Map<String, String> summary = null;
+    Map<?, ?> summaryMap = (Map<?, ?>) record.get("summary");
+    if (summaryMap != null) {
+      summary = Maps.newLinkedHashMap();
+      for (Map.Entry<?, ?> entry : summaryMap.entrySet()) {
+        summary.put(entry.getKey().toString(), entry.getValue().toString());
+      }
+    }
+
+    String manifestList = toStringOrNull(record.get("manifest_list"));
+    if (manifestList != null) {
+      return new BaseSnapshot(io, sequenceNumber, snapshotId, parentId, timestamp, operation, summary, manifestList);
+    }
+
+    Collection<?> manifestPaths = (Collection<?>) record.get("manifests");
+    Preconditions.checkArgument(manifestPaths != null,
+        "Cannot read snapshot %s: missing manifest list and manifests", snapshotId);
+    List<ManifestFile> manifests = Lists.newArrayListWithExpectedSize(manifestPaths.size());
+    for (Object path : manifestPaths) {
+      manifests.add(new GenericManifestFile(io.newInputFile(path.toString()), 0));
+    }
+
+    return new BaseSnapshot(io, snapshotId, parentId, timestamp, operation, summary, manifests);
+  }
+
+  private static org.apache.avro.Schema elementSchema(org.apache.avro.Schema recordSchema, String field) {
+    return recordSchema.getField(field).schema().getElementType();
+  }
+
+  private static String toStringOrNull(Object value) {
+    return value != null ? value.toString() : null;
+  }
+}
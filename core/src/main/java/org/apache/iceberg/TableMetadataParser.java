@@ -20,7 +20,12 @@
 package org.apache.iceberg;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -33,6 +38,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
 import org.apache.iceberg.TableMetadata.MetadataLogEntry;
 import org.apache.iceberg.TableMetadata.SnapshotLogEntry;
 import org.apache.iceberg.exceptions.RuntimeIOException;
@@ -42,13 +49,24 @@ import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.io.ByteStreams;
 import org.apache.iceberg.util.JsonUtil;
 
 public class TableMetadataParser {
 
+  /**
+   * Encodings for table metadata files.
+   * <p>
+   * NONE, GZIP, ZSTD, and LZ4 compress the JSON encoding. ZSTD and LZ4 require zstd-jni and lz4-java on the classpath.
+   * AVRO stores metadata in a binary Avro container instead of JSON; it is selected by
+   * {@link TableProperties#METADATA_FORMAT} rather than by the compression codec.
+   */
   public enum Codec {
     NONE(""),
-    GZIP(".gz");
+    GZIP(".gz"),
+    ZSTD(".zst"),
+    LZ4(".lz4"),
+    AVRO(".avro");
 
     private final String extension;
 
@@ -69,10 +87,34 @@ public class TableMetadataParser {
         return Codec.GZIP;
       }
       String fileNameWithoutSuffix = fileName.substring(0, fileName.lastIndexOf(".metadata.json"));
-      if (fileNameWithoutSuffix.endsWith(Codec.GZIP.extension)) {
-        return Codec.GZIP;
-      } else {
-        return Codec.NONE;
+      for (Codec codec : Codec.values()) {
+        if (codec != NONE && fileNameWithoutSuffix.endsWith(codec.extension)) {
+          return codec;
+        }
+      }
+
+      return Codec.NONE;
+    }
+
+    /**
+     * Returns the codec used to write new metadata files for the given table properties.
+     */
+    public static Codec fromProperties(Map<String, String> properties) {
+      String format = properties.getOrDefault(
+          TableProperties.METADATA_FORMAT, TableProperties.METADATA_FORMAT_DEFAULT);
+      switch (format.toLowerCase(Locale.ENGLISH)) {
+        case "json":
+          String codecName = properties.getOrDefault(
+              TableProperties.METADATA_COMPRESSION, TableProperties.METADATA_COMPRESSION_DEFAULT);
+          Codec codec = fromName(codecName);
+          Preconditions.checkArgument(codec != AVRO,
+              "Invalid metadata compression codec: %s (set %s=avro to write Avro metadata)",
+              codecName, TableProperties.METADATA_FORMAT);
+          return codec;
+        case "avro":
+          return AVRO;
+        default:
+          throw new IllegalArgumentException("Unsupported metadata format: " + format);
       }
     }
   }
@@ -112,9 +154,14 @@ public class TableMetadataParser {
 
   public static void internalWrite(
       TableMetadata metadata, OutputFile outputFile, boolean overwrite) {
-    boolean isGzip = Codec.fromFileName(outputFile.location()) == Codec.GZIP;
+    Codec codec = Codec.fromFileName(outputFile.location());
+    if (codec == Codec.AVRO) {
+      TableMetadataAvro.write(metadata, outputFile, overwrite);
+      return;
+    }
+
     OutputStream stream = overwrite ? outputFile.createOrOverwrite() : outputFile.create();
-    try (OutputStream ou = isGzip ? new GZIPOutputStream(stream) : stream;
+    try (OutputStream ou = compress(codec, stream);
          OutputStreamWriter writer = new OutputStreamWriter(ou, StandardCharsets.UTF_8)) {
       JsonGenerator generator = JsonUtil.factory().createGenerator(writer);
       generator.useDefaultPrettyPrinter();
@@ -133,6 +180,10 @@ public class TableMetadataParser {
     return codec.extension + ".metadata.json";
   }
 
+  public static String getFileExtension(TableMetadata metadata) {
+    return getFileExtension(Codec.fromProperties(metadata.properties()));
+  }
+
   public static String getOldFileExtension(Codec codec) {
     // we have to be backward-compatible with .metadata.json.gz files
     return ".metadata.json" + codec.extension;
@@ -152,6 +203,52 @@ public class TableMetadataParser {
   private static void toJson(TableMetadata metadata, JsonGenerator generator) throws IOException {
     generator.writeStartObject();
 
+    toJsonFields(metadata, generator);
+
+    generator.writeArrayFieldStart(SNAPSHOTS);
+    for (Snapshot snapshot : metadata.snapshots()) {
+      SnapshotParser.toJson(snapshot, generator);
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart(SNAPSHOT_LOG);
+    for (HistoryEntry logEntry : metadata.snapshotLog()) {
+      generator.writeStartObject();
+      generator.writeNumberField(TIMESTAMP_MS, logEntry.timestampMillis());
+      generator.writeNumberField(SNAPSHOT_ID, logEntry.snapshotId());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+
+    generator.writeArrayFieldStart(METADATA_LOG);
+    for (MetadataLogEntry logEntry : metadata.previousFiles()) {
+      generator.writeStartObject();
+      generator.writeNumberField(TIMESTAMP_MS, logEntry.timestampMillis());
+      generator.writeStringField(METADATA_FILE, logEntry.file());
+      generator.writeEndObject();
+    }
+    generator.writeEndArray();
+
+    generator.writeEndObject();
+  }
+
+  /**
+   * Writes the table fields other than snapshots, the snapshot log, and the metadata log as a JSON object.
+   */
+  static String fieldsToJson(TableMetadata metadata) {
+    try (StringWriter writer = new StringWriter()) {
+      JsonGenerator generator = JsonUtil.factory().createGenerator(writer);
+      generator.writeStartObject();
+      toJsonFields(metadata, generator);
+      generator.writeEndObject();
+      generator.flush();
+      return writer.toString();
+    } catch (IOException e) {
+      throw new RuntimeIOException(e, "Failed to write json for: %s", metadata);
+    }
+  }
+
+  private static void toJsonFields(TableMetadata metadata, JsonGenerator generator) throws IOException {
     generator.writeNumberField(FORMAT_VERSION, metadata.formatVersion());
     generator.writeStringField(TABLE_UUID, metadata.uuid());
     generator.writeStringField(LOCATION, metadata.location());
@@ -193,32 +290,6 @@ public class TableMetadataParser {
 
     generator.writeNumberField(CURRENT_SNAPSHOT_ID,
         metadata.currentSnapshot() != null ? metadata.currentSnapshot().snapshotId() : -1);
-
-    generator.writeArrayFieldStart(SNAPSHOTS);
-    for (Snapshot snapshot : metadata.snapshots()) {
-      SnapshotParser.toJson(snapshot, generator);
-    }
-    generator.writeEndArray();
-
-    generator.writeArrayFieldStart(SNAPSHOT_LOG);
-    for (HistoryEntry logEntry : metadata.snapshotLog()) {
-      generator.writeStartObject();
-      generator.writeNumberField(TIMESTAMP_MS, logEntry.timestampMillis());
-      generator.writeNumberField(SNAPSHOT_ID, logEntry.snapshotId());
-      generator.writeEndObject();
-    }
-    generator.writeEndArray();
-
-    generator.writeArrayFieldStart(METADATA_LOG);
-    for (MetadataLogEntry logEntry : metadata.previousFiles()) {
-      generator.writeStartObject();
-      generator.writeNumberField(TIMESTAMP_MS, logEntry.timestampMillis());
-      generator.writeStringField(METADATA_FILE, logEntry.file());
-      generator.writeEndObject();
-    }
-    generator.writeEndArray();
-
-    generator.writeEndObject();
   }
 
   /**
@@ -235,17 +306,241 @@ public class TableMetadataParser {
 
   public static TableMetadata read(FileIO io, InputFile file) {
     Codec codec = Codec.fromFileName(file.location());
-    try (InputStream is = codec == Codec.GZIP ? new GZIPInputStream(file.newStream()) : file.newStream()) {
-      return fromJson(io, file, JsonUtil.mapper().readValue(is, JsonNode.class));
+    if (codec == Codec.AVRO) {
+      return TableMetadataAvro.read(io, file);
+    }
+
+    try (InputStream is = decompress(codec, file.newStream())) {
+      return fromJson(io, file, ByteStreams.toByteArray(is));
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to read file: %s", file);
     }
   }
 
+  private static OutputStream compress(Codec codec, OutputStream stream) throws IOException {
+    switch (codec) {
+      case GZIP:
+        return new GZIPOutputStream(stream);
+      case ZSTD:
+        try {
+          return ZstdCodec.compress(stream);
+        } catch (NoClassDefFoundError e) {
+          stream.close();
+          throw new UnsupportedOperationException("Cannot write zstd metadata: zstd-jni is not on the classpath", e);
+        }
+      case LZ4:
+        try {
+          return Lz4Codec.compress(stream);
+        } catch (NoClassDefFoundError e) {
+          stream.close();
+          throw new UnsupportedOperationException("Cannot write lz4 metadata: lz4-java is not on the classpath", e);
+        }
+      default:
+        return stream;
+    }
+  }
+
+  private static InputStream decompress(Codec codec, InputStream stream) throws IOException {
+    switch (codec) {
+      case GZIP:
+        return new GZIPInputStream(stream);
+      case ZSTD:
+        try {
+          return ZstdCodec.decompress(stream);
+        } catch (NoClassDefFoundError e) {
+          stream.close();
+          throw new UnsupportedOperationException("Cannot read zstd metadata: zstd-jni is not on the classpath", e);
+        }
+      case LZ4:
+        try {
+          return Lz4Codec.decompress(stream);
+        } catch (NoClassDefFoundError e) {
+          stream.close();
+          throw new UnsupportedOperationException("Cannot read lz4 metadata: lz4-java is not on the classpath", e);
+        }
+      default:
+        return stream;
+    }
+  }
+
+  // codec libraries are optional; keep references to them in separate classes so they are only loaded when used
+  private static class ZstdCodec {
+    private ZstdCodec() {
+    }
+
+    private static OutputStream compress(OutputStream stream) throws IOException {
+      return new ZstdOutputStream(stream);
+    }
+
+    private static InputStream decompress(InputStream stream) throws IOException {
+      return new ZstdInputStream(stream);
+    }
+  }
+
+  private static class Lz4Codec {
+    private Lz4Codec() {
+    }
+
+    private static OutputStream compress(OutputStream stream) throws IOException {
+      return new LZ4FrameOutputStream(stream);
+    }
+
+    private static InputStream decompress(InputStream stream) throws IOException {
+      return new LZ4FrameInputStream(stream);
+    }
+  }
+
+  /**
+   * Reads table metadata from JSON bytes using a streaming parser.
+   * <p>
+   * Unlike {@link #fromJson(FileIO, InputFile, JsonNode)}, this does not build a tree for the snapshot list or logs.
+   * Snapshots are returned as {@link LazySnapshot} instances that parse their summary and manifest list when they are
+   * first used, so reading metadata for a table with a long history only allocates what is needed to index and
+   * validate snapshots.
+   */
+  static TableMetadata fromJson(FileIO io, InputFile file, byte[] json) throws IOException {
+    try (JsonParser parser = JsonUtil.factory().createParser(json)) {
+      Preconditions.checkArgument(parser.nextToken() == JsonToken.START_OBJECT,
+          "Cannot parse metadata from a non-object: %s", parser.getText());
+
+      // small fields are parsed into a tree and handled by the same code as the tree-based parser
+      ObjectNode node = JsonUtil.mapper().createObjectNode();
+      List<Snapshot> snapshots = null;
+      List<HistoryEntry> snapshotLog = ImmutableList.of();
+      List<MetadataLogEntry> metadataLog = ImmutableList.of();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        parser.nextToken();
+        switch (field) {
+          case SNAPSHOTS:
+            snapshots = readSnapshots(io, json, parser);
+            break;
+          case SNAPSHOT_LOG:
+            snapshotLog = readSnapshotLog(parser);
+            break;
+          case METADATA_LOG:
+            metadataLog = readMetadataLog(parser);
+            break;
+          default:
+            node.set(field, JsonUtil.mapper().readTree(parser));
+        }
+      }
+
+      Preconditions.checkArgument(snapshots != null, "Cannot parse snapshots from non-array: null");
+
+      return fromJson(file, node, snapshots, snapshotLog, metadataLog);
+    }
+  }
+
+  private static List<Snapshot> readSnapshots(FileIO io, byte[] json, JsonParser parser) throws IOException {
+    Preconditions.checkArgument(parser.currentToken() == JsonToken.START_ARRAY,
+        "Cannot parse snapshots from non-array: %s", parser.getText());
+
+    List<Snapshot> snapshots = Lists.newArrayList();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      snapshots.add(SnapshotParser.fromJson(io, json, parser));
+    }
+
+    return snapshots;
+  }
+
+  private static List<HistoryEntry> readSnapshotLog(JsonParser parser) throws IOException {
+    ImmutableList.Builder<HistoryEntry> entries = ImmutableList.builder();
+    if (parser.currentToken() == JsonToken.START_ARRAY) {
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        Long timestamp = null;
+        Long snapshotId = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String field = parser.getCurrentName();
+          parser.nextToken();
+          if (TIMESTAMP_MS.equals(field)) {
+            timestamp = JsonUtil.getLong(TIMESTAMP_MS, parser);
+          } else if (SNAPSHOT_ID.equals(field)) {
+            snapshotId = JsonUtil.getLong(SNAPSHOT_ID, parser);
+          } else {
+            parser.skipChildren();
+          }
+        }
+
+        Preconditions.checkArgument(timestamp != null, "Cannot parse missing long %s", TIMESTAMP_MS);
+        Preconditions.checkArgument(snapshotId != null, "Cannot parse missing long %s", SNAPSHOT_ID);
+        entries.add(new SnapshotLogEntry(timestamp, snapshotId));
+      }
+    } else {
+      parser.skipChildren();
+    }
+
+    return entries.build();
+  }
+
+  private static List<MetadataLogEntry> readMetadataLog(JsonParser parser) throws IOException {
+    ImmutableList.Builder<MetadataLogEntry> entries = ImmutableList.builder();
+    if (parser.currentToken() == JsonToken.START_ARRAY) {
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        Long timestamp = null;
+        String metadataFile = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String field = parser.getCurrentName();
+          parser.nextToken();
+          if (TIMESTAMP_MS.equals(field)) {
+            timestamp = JsonUtil.getLong(TIMESTAMP_MS, parser);
+          } else if (METADATA_FILE.equals(field)) {
+            metadataFile = JsonUtil.getString(METADATA_FILE, parser);
+          } else {
+            parser.skipChildren();
+          }
+        }
+
+        Preconditions.checkArgument(timestamp != null, "Cannot parse missing long %s", TIMESTAMP_MS);
+        Preconditions.checkArgument(metadataFile != null, "Cannot parse missing string %s", METADATA_FILE);
+        entries.add(new MetadataLogEntry(timestamp, metadataFile));
+      }
+    } else {
+      parser.skipChildren();
+    }
+
+    return entries.build();
+  }
+
   static TableMetadata fromJson(FileIO io, InputFile file, JsonNode node) {
     Preconditions.checkArgument(node.isObject(),
         "Cannot parse metadata from a non-object: %s", node);
 
+    JsonNode snapshotArray = node.get(SNAPSHOTS);
+    Preconditions.checkArgument(snapshotArray != null && snapshotArray.isArray(),
+        "Cannot parse snapshots from non-array: %s", snapshotArray);
+
+    List<Snapshot> snapshots = Lists.newArrayListWithExpectedSize(snapshotArray.size());
+    Iterator<JsonNode> iterator = snapshotArray.elements();
+    while (iterator.hasNext()) {
+      snapshots.add(SnapshotParser.fromJson(io, iterator.next()));
+    }
+
+    ImmutableList.Builder<HistoryEntry> entries = ImmutableList.builder();
+    if (node.has(SNAPSHOT_LOG)) {
+      Iterator<JsonNode> logIterator = node.get(SNAPSHOT_LOG).elements();
+      while (logIterator.hasNext()) {
+        JsonNode entryNode = logIterator.next();
+        entries.add(new SnapshotLogEntry(
+            JsonUtil.getLong(TIMESTAMP_MS, entryNode), JsonUtil.getLong(SNAPSHOT_ID, entryNode)));
+      }
+    }
+
+    ImmutableList.Builder<MetadataLogEntry> metadataEntries = ImmutableList.builder();
+    if (node.has(METADATA_LOG)) {
+      Iterator<JsonNode> logIterator = node.get(METADATA_LOG).elements();
+      while (logIterator.hasNext()) {
+        JsonNode entryNode = logIterator.next();
+        metadataEntries.add(new MetadataLogEntry(
+                JsonUtil.getLong(TIMESTAMP_MS, entryNode), JsonUtil.getString(METADATA_FILE, entryNode)));
+      }
+    }
+
+    return fromJson(file, node, snapshots, entries.build(), metadataEntries.build());
+  }
+
+  static TableMetadata fromJson(InputFile file, JsonNode node, List<Snapshot> snapshots,
+                                List<HistoryEntry> snapshotLog, List<MetadataLogEntry> metadataLog) {
     int formatVersion = JsonUtil.getInt(FORMAT_VERSION, node);
     Preconditions.checkArgument(formatVersion <= TableMetadata.SUPPORTED_TABLE_FORMAT_VERSION,
         "Cannot read unsupported version %s", formatVersion);
@@ -310,39 +605,8 @@ public class TableMetadataParser {
     long currentVersionId = JsonUtil.getLong(CURRENT_SNAPSHOT_ID, node);
     long lastUpdatedMillis = JsonUtil.getLong(LAST_UPDATED_MILLIS, node);
 
-    JsonNode snapshotArray = node.get(SNAPSHOTS);
-    Preconditions.checkArgument(snapshotArray.isArray(),
-        "Cannot parse snapshots from non-array: %s", snapshotArray);
-
-    List<Snapshot> snapshots = Lists.newArrayListWithExpectedSize(snapshotArray.size());
-    Iterator<JsonNode> iterator = snapshotArray.elements();
-    while (iterator.hasNext()) {
-      snapshots.add(SnapshotParser.fromJson(io, iterator.next()));
-    }
-
-    ImmutableList.Builder<HistoryEntry> entries = ImmutableList.builder();
-    if (node.has(SNAPSHOT_LOG)) {
-      Iterator<JsonNode> logIterator = node.get(SNAPSHOT_LOG).elements();
-      while (logIterator.hasNext()) {
-        JsonNode entryNode = logIterator.next();
-        entries.add(new SnapshotLogEntry(
-            JsonUtil.getLong(TIMESTAMP_MS, entryNode), JsonUtil.getLong(SNAPSHOT_ID, entryNode)));
-      }
-    }
-
-    ImmutableList.Builder<MetadataLogEntry> metadataEntries = ImmutableList.builder();
-    if (node.has(METADATA_LOG)) {
-      Iterator<JsonNode> logIterator = node.get(METADATA_LOG).elements();
-      while (logIterator.hasNext()) {
-        JsonNode entryNode = logIterator.next();
-        metadataEntries.add(new MetadataLogEntry(
-                JsonUtil.getLong(TIMESTAMP_MS, entryNode), JsonUtil.getString(METADATA_FILE, entryNode)));
-      }
-    }
-
     return new TableMetadata(file, formatVersion, uuid, location,
         lastSequenceNumber, lastUpdatedMillis, lastAssignedColumnId, schema, defaultSpecId, specs,
-        defaultSortOrderId, sortOrders, properties, currentVersionId, snapshots, entries.build(),
-        metadataEntries.build());
+        defaultSortOrderId, sortOrders, properties, currentVersionId, snapshots, snapshotLog, metadataLog);
   }
 }
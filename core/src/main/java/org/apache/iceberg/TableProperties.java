@@ -36,6 +36,12 @@ public class TableProperties {
   public static final String COMMIT_TOTAL_RETRY_TIME_MS = "commit.retry.total-timeout-ms";
   public static final int COMMIT_TOTAL_RETRY_TIME_MS_DEFAULT = 1800000; // 30 minutes
 
+  public static final String COMMIT_COALESCE_INTERVAL_MS = "commit.coalesce.interval-ms";
+  public static final long COMMIT_COALESCE_INTERVAL_MS_DEFAULT = 100;
+
+  public static final String COMMIT_COALESCE_MAX_BATCH_SIZE = "commit.coalesce.max-batch-size";
+  public static final int COMMIT_COALESCE_MAX_BATCH_SIZE_DEFAULT = 1000;
+
   public static final String MANIFEST_TARGET_SIZE_BYTES = "commit.manifest.target-size-bytes";
   public static final long MANIFEST_TARGET_SIZE_BYTES_DEFAULT = 8388608; // 8 MB
 
@@ -78,6 +84,34 @@ public class TableProperties {
   public static final String SPLIT_OPEN_FILE_COST = "read.split.open-file-cost";
   public static final long SPLIT_OPEN_FILE_COST_DEFAULT = 4 * 1024 * 1024; // 4MB
 
+  // "length" weighs tasks by bytes read, "read-cost" also accounts for projected columns and delete files;
+  // other values are loaded as the class name of a TaskWeightModel
+  public static final String SPLIT_WEIGHT_MODEL = "read.split.weight-model";
+  public static final String SPLIT_WEIGHT_MODEL_DEFAULT = "length";
+
+  public static final String PLANNING_PIPELINED_ENABLED = "read.planning.pipelined.enabled";
+  public static final boolean PLANNING_PIPELINED_ENABLED_DEFAULT = false;
+
+  // defaults to the size of the shared worker pool
+  public static final String PLANNING_PARALLELISM = "read.planning.parallelism";
+
+  public static final String PLANNING_QUEUE_SIZE = "read.planning.queue-size";
+  public static final int PLANNING_QUEUE_SIZE_DEFAULT = 10000;
+
+  public static final String PLANNING_TASK_BUFFER_SIZE = "read.planning.task-buffer-size";
+  public static final int PLANNING_TASK_BUFFER_SIZE_DEFAULT = 1000;
+
+  // class name of a ScanReporter that receives a report for each planned scan
+  public static final String SCAN_REPORTER_IMPL = "read.planning.reporter-impl";
+  public static final String SCAN_REPORTER_IMPL_DEFAULT = "org.apache.iceberg.metrics.LoggingScanReporter";
+
+  // when enabled, refreshing metastore tables starts reading the current manifest list and manifests in the background
+  public static final String METADATA_PREFETCH_ENABLED = "read.metadata.prefetch.enabled";
+  public static final boolean METADATA_PREFETCH_ENABLED_DEFAULT = false;
+
+  public static final String METADATA_PREFETCH_MANIFESTS = "read.metadata.prefetch.manifests";
+  public static final int METADATA_PREFETCH_MANIFESTS_DEFAULT = 10;
+
   public static final String PARQUET_VECTORIZATION_ENABLED = "read.parquet.vectorization.enabled";
   public static final boolean PARQUET_VECTORIZATION_ENABLED_DEFAULT = false;
 
@@ -110,6 +144,10 @@ public class TableProperties {
   public static final String METADATA_COMPRESSION = "write.metadata.compression-codec";
   public static final String METADATA_COMPRESSION_DEFAULT = "none";
 
+  // json or avro; avro files use a binary encoding and ignore the compression codec
+  public static final String METADATA_FORMAT = "write.metadata.format";
+  public static final String METADATA_FORMAT_DEFAULT = "json";
+
   public static final String METADATA_PREVIOUS_VERSIONS_MAX = "write.metadata.previous-versions-max";
   public static final int METADATA_PREVIOUS_VERSIONS_MAX_DEFAULT = 100;
 
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -380,6 +381,7 @@ public class Avro {
   public static class ReadBuilder {
     private final InputFile file;
     private final Map<String, String> renames = Maps.newLinkedHashMap();
+    private final Map<Integer, Set<?>> mapKeyFilters = Maps.newHashMap();
     private ClassLoader loader = Thread.currentThread().getContextClassLoader();
     private NameMapping nameMapping;
     private boolean reuseContainers = false;
@@ -389,6 +391,7 @@ public class Avro {
     private final Function<Schema, DatumReader<?>> defaultCreateReaderFunc = readSchema -> {
       GenericAvroReader<?> reader = new GenericAvroReader<>(readSchema);
       reader.setClassLoader(loader);
+      reader.setMapKeyFilters(mapKeyFilters);
       return reader;
     };
     private Long start = null;
@@ -449,6 +452,21 @@ public class Avro {
       return this;
     }
 
+    /**
+     * Only reads entries with the given keys from a map that is stored as an array of key/value records.
+     * <p>
+     * Values for other keys are skipped without being decoded. This is only used by the default reader.
+     *
+     * @param mapField a map field in the projected schema
+     * @param keys the keys to read
+     * @return this builder for method chaining
+     */
+    public ReadBuilder filterMapKeys(NestedField mapField, Set<?> keys) {
+      Preconditions.checkArgument(mapField.type().isMapType(), "Cannot filter keys of non-map field: %s", mapField);
+      mapKeyFilters.put(mapField.type().asMapType().keyId(), keys);
+      return this;
+    }
+
     public ReadBuilder classLoader(ClassLoader classLoader) {
       this.loader = classLoader;
       return this;
@@ -21,6 +21,8 @@ package org.apache.iceberg.avro;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 import org.apache.avro.LogicalType;
 import org.apache.avro.LogicalTypes;
@@ -30,11 +32,13 @@ import org.apache.avro.io.DatumReader;
 import org.apache.avro.io.Decoder;
 import org.apache.iceberg.common.DynClasses;
 import org.apache.iceberg.data.avro.DecoderResolver;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 
 class GenericAvroReader<T> implements DatumReader<T>, SupportsRowPosition {
 
   private final Schema readSchema;
   private ClassLoader loader = Thread.currentThread().getContextClassLoader();
+  private Map<Integer, Set<?>> mapKeyFilters = ImmutableMap.of();
   private Schema fileSchema = null;
   private ValueReader<T> reader = null;
 
@@ -44,7 +48,7 @@ class GenericAvroReader<T> implements DatumReader<T>, SupportsRowPosition {
 
   @SuppressWarnings("unchecked")
   private void initReader() {
-    this.reader = (ValueReader<T>) AvroSchemaVisitor.visit(readSchema, new ReadBuilder(loader));
+    this.reader = (ValueReader<T>) AvroSchemaVisitor.visit(readSchema, new ReadBuilder(loader, mapKeyFilters));
   }
 
   @Override
@@ -57,6 +61,13 @@ class GenericAvroReader<T> implements DatumReader<T>, SupportsRowPosition {
     this.loader = newClassLoader;
   }
 
+  /**
+   * Sets the keys to read from maps, by map key field ID. Must be called before the file schema is set.
+   */
+  void setMapKeyFilters(Map<Integer, Set<?>> newMapKeyFilters) {
+    this.mapKeyFilters = newMapKeyFilters;
+  }
+
   @Override
   public void setRowPositionSupplier(Supplier<Long> posSupplier) {
     if (reader instanceof SupportsRowPosition) {
@@ -71,9 +82,11 @@ class GenericAvroReader<T> implements DatumReader<T>, SupportsRowPosition {
 
   private static class ReadBuilder extends AvroSchemaVisitor<ValueReader<?>> {
     private final ClassLoader loader;
+    private final Map<Integer, Set<?>> mapKeyFilters;
 
-    private ReadBuilder(ClassLoader loader) {
+    private ReadBuilder(ClassLoader loader, Map<Integer, Set<?>> mapKeyFilters) {
       this.loader = loader;
+      this.mapKeyFilters = mapKeyFilters;
     }
 
     @Override
@@ -111,6 +124,14 @@ class GenericAvroReader<T> implements DatumReader<T>, SupportsRowPosition {
           return ValueReaders.arrayMap(ValueReaders.strings(), valueReader);
         }
 
+        Schema.Field keyField = array.getElementType().getField("key");
+        Set<?> keys = AvroSchemaUtil.hasFieldId(keyField) ?
+            mapKeyFilters.get(AvroSchemaUtil.getFieldId(keyField)) : null;
+        if (keys != null) {
+          Schema valueSchema = array.getElementType().getField("value").schema();
+          return ValueReaders.arrayMap(keyReader, valueReader, valueSchema, keys);
+        }
+
         return ValueReaders.arrayMap(keyReader, valueReader);
       }
 
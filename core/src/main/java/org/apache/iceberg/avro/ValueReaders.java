@@ -30,10 +30,12 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.generic.IndexedRecord;
 import org.apache.avro.io.Decoder;
 import org.apache.avro.io.ResolvingDecoder;
@@ -135,6 +137,22 @@ public class ValueReaders {
     return new ArrayMapReader<>(keyReader, valueReader);
   }
 
+  /**
+   * Returns a reader for a map stored as an array of key/value records that only decodes values for the given keys.
+   * <p>
+   * Values for other keys are skipped in the binary stream without being decoded.
+   *
+   * @param keyReader a reader for map keys
+   * @param valueReader a reader for map values
+   * @param valueSchema the Avro schema of map values, used to skip values that are not read
+   * @param keys the set of keys to read
+   * @return a map reader that ignores entries with keys that are not in the set
+   */
+  public static <K, V> ValueReader<Map<K, V>> arrayMap(ValueReader<K> keyReader, ValueReader<V> valueReader,
+                                                       Schema valueSchema, Set<?> keys) {
+    return new FilteredArrayMapReader<>(keyReader, valueReader, valueSchema, keys);
+  }
+
   public static <K, V> ValueReader<Map<K, V>> map(ValueReader<K> keyReader, ValueReader<V> valueReader) {
     return new MapReader<>(keyReader, valueReader);
   }
@@ -520,6 +538,49 @@ public class ValueReaders {
     }
   }
 
+  private static class FilteredArrayMapReader<K, V> implements ValueReader<Map<K, V>> {
+    private final ValueReader<K> keyReader;
+    private final ValueReader<V> valueReader;
+    private final Schema valueSchema;
+    private final Set<?> keys;
+
+    private FilteredArrayMapReader(ValueReader<K> keyReader, ValueReader<V> valueReader, Schema valueSchema,
+                                   Set<?> keys) {
+      this.keyReader = keyReader;
+      this.valueReader = valueReader;
+      this.valueSchema = valueSchema;
+      this.keys = keys;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<K, V> read(Decoder decoder, Object reuse) throws IOException {
+      Map<K, V> resultMap;
+      if (reuse instanceof Map) {
+        resultMap = (Map<K, V>) reuse;
+        resultMap.clear();
+      } else {
+        resultMap = Maps.newLinkedHashMap();
+      }
+
+      long chunkLength = decoder.readArrayStart();
+      while (chunkLength > 0) {
+        for (long i = 0; i < chunkLength; i += 1) {
+          K key = keyReader.read(decoder, null);
+          if (keys.contains(key)) {
+            resultMap.put(key, valueReader.read(decoder, null));
+          } else {
+            GenericDatumReader.skip(valueSchema, decoder);
+          }
+        }
+
+        chunkLength = decoder.arrayNext();
+      }
+
+      return resultMap;
+    }
+  }
+
   private static class MapReader<K, V> implements ValueReader<Map<K, V>> {
     private final ValueReader<K> keyReader;
     private final ValueReader<V> valueReader;
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.deletes;
+
+import java.util.Arrays;
+import java.util.List;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+
+/**
+ * An {@link EqualityDeleteSet} that stores serialized delete keys in large byte array pages.
+ * <p>
+ * Each key is encoded by {@link EqualityKeyEncoder} and appended to a page. The hash table holds only the page
+ * address and hash of each key in primitive arrays, so the table costs 12 bytes per slot and there is no object per
+ * key. Pages are ordinary heap arrays, so the memory is accounted for and released with the set. Probes
+ * encode the projected row into a reusable per-thread buffer and compare bytes, so they do not allocate.
+ */
+class BinaryEqualityDeleteSet implements EqualityDeleteSet {
+  private static final int PAGE_SIZE = 1024 * 1024; // 1 MB
+  private static final int INITIAL_CAPACITY = 1024;
+  private static final long EMPTY = -1L;
+
+  private final EqualityKeyEncoder encoder;
+  private final ThreadLocal<EqualityKeyEncoder> probeEncoders;
+  private final List<byte[]> pages = Lists.newArrayList();
+  private byte[] currentPage = null;
+  private int currentPageLength = 0;
+  private long allocatedBytes = 0L;
+
+  private long[] addresses;
+  private int[] hashes;
+  private int mask;
+  private int size = 0;
+
+  BinaryEqualityDeleteSet(Types.StructType eqType) {
+    this.encoder = new EqualityKeyEncoder(eqType);
+    this.probeEncoders = ThreadLocal.withInitial(() -> new EqualityKeyEncoder(eqType));
+    this.addresses = new long[INITIAL_CAPACITY];
+    this.hashes = new int[INITIAL_CAPACITY];
+    this.mask = INITIAL_CAPACITY - 1;
+    Arrays.fill(addresses, EMPTY);
+  }
+
+  void add(StructLike row) {
+    encoder.encode(row);
+    int hash = encoder.hash();
+    int slot = findSlot(encoder, hash);
+    if (slot >= 0) {
+      return; // already present
+    }
+
+    int insertSlot = -(slot + 1);
+    addresses[insertSlot] = store(encoder.buffer(), encoder.length());
+    hashes[insertSlot] = hash;
+    this.size += 1;
+
+    // keep the load factor at or below 0.5 so that probe sequences stay short
+    if (size > addresses.length / 2) {
+      resize();
+    }
+  }
+
+  @Override
+  public boolean contains(StructLike row) {
+    EqualityKeyEncoder probe = probeEncoders.get();
+    probe.encode(row);
+    return findSlot(probe, probe.hash()) >= 0;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public long size() {
+    return size;
+  }
+
+  @Override
+  public long sizeInBytes() {
+    return allocatedBytes + 12L * addresses.length;
+  }
+
+  /**
+   * Returns the slot of an encoded key if it is present, or -(insertion slot + 1) if it is not.
+   */
+  private int findSlot(EqualityKeyEncoder key, int hash) {
+    int slot = hash & mask;
+    long address;
+    while ((address = addresses[slot]) != EMPTY) {
+      if (hashes[slot] == hash && keyEquals(address, key.buffer(), key.length())) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    return -(slot + 1);
+  }
+
+  private boolean keyEquals(long address, byte[] bytes, int length) {
+    byte[] page = pages.get((int) (address >>> 32));
+    int offset = (int) address;
+    if (getInt(page, offset) != length) {
+      return false;
+    }
+
+    int start = offset + 4;
+    for (int i = 0; i < length; i += 1) {
+      if (page[start + i] != bytes[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private long store(byte[] bytes, int length) {
+    int required = 4 + length;
+    if (currentPage == null || currentPage.length - currentPageLength < required) {
+      this.currentPage = new byte[Math.max(PAGE_SIZE, required)];
+      this.currentPageLength = 0;
+      pages.add(currentPage);
+      this.allocatedBytes += currentPage.length;
+    }
+
+    int offset = currentPageLength;
+    putInt(currentPage, offset, length);
+    System.arraycopy(bytes, 0, currentPage, offset + 4, length);
+    this.currentPageLength += required;
+
+    return ((long) (pages.size() - 1) << 32) | offset;
+  }
+
+  private static int getInt(byte[] page, int pos) {
+    return ((page[pos] & 0xFF) << 24) | ((page[pos + 1] & 0xFF) << 16) |
+        ((page[pos + 2] & 0xFF) << 8) | (page[pos + 3] & 0xFF);
+  }
+
+  private static void putInt(byte[] page, int pos, int value) {
+    page[pos] = (byte) (value >>> 24);
+    page[pos + 1] = (byte) (value >>> 16);
+    page[pos + 2] = (byte) (value >>> 8);
+    page[pos + 3] = (byte) value;
+  }
+
+  private void resize() {
+    long[] oldAddresses = addresses;
+    int[] oldHashes = hashes;
+
+    this.addresses = new long[oldAddresses.length * 2];
+    this.hashes = new int[oldHashes.length * 2];
+    this.mask = addresses.length - 1;
+    Arrays.fill(addresses, EMPTY);
+
+    for (int i = 0; i < oldAddresses.length; i += 1) {
+      if (oldAddresses[i] != EMPTY) {
+        int slot = oldHashes[i] & mask;
+        while (addresses[slot] != EMPTY) {
+          slot = (slot + 1) & mask;
+        }
+        addresses[slot] = oldAddresses[i];
+        hashes[slot] = oldHashes[i];
+      }
+    }
+  }
+}
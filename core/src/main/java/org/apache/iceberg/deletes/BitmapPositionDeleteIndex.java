@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.deletes;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * A {@link PositionDeleteIndex} that stores positions in a roaring-style compressed bitmap.
+ * <p>
+ * Positions are split into a 48-bit high key and a 16-bit low value. Each key has a container for its low values
+ * that is either a sorted array of chars, for sparse ranges, or a fixed-size bitmap, for dense ranges. Keys are kept
+ * in a sorted primitive array so that lookups are a binary search followed by a container probe, without boxing.
+ */
+class BitmapPositionDeleteIndex implements PositionDeleteIndex {
+  private static final int INITIAL_CAPACITY = 4;
+
+  private long[] keys = new long[INITIAL_CAPACITY];
+  private Container[] containers = new Container[INITIAL_CAPACITY];
+  private int numContainers = 0;
+  private long cardinality = 0L;
+
+  BitmapPositionDeleteIndex() {
+  }
+
+  @Override
+  public void delete(long position) {
+    Preconditions.checkArgument(position >= 0, "Invalid position: %s", position);
+    long key = position >>> 16;
+    char low = (char) position;
+
+    int index = Arrays.binarySearch(keys, 0, numContainers, key);
+    if (index < 0) {
+      index = -(index + 1);
+      insertContainer(index, key, new ArrayContainer());
+    }
+
+    Container container = containers[index];
+    int before = container.cardinality();
+    Container updated = container.add(low);
+    this.cardinality += updated.cardinality() - before;
+    containers[index] = updated;
+  }
+
+  @Override
+  public void delete(long posStart, long posEnd) {
+    for (long pos = posStart; pos < posEnd; pos += 1) {
+      delete(pos);
+    }
+  }
+
+  @Override
+  public boolean isDeleted(long position) {
+    if (position < 0) {
+      return false;
+    }
+
+    int index = Arrays.binarySearch(keys, 0, numContainers, position >>> 16);
+    return index >= 0 && containers[index].contains((char) position);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return cardinality == 0;
+  }
+
+  @Override
+  public long cardinality() {
+    return cardinality;
+  }
+
+  /**
+   * Passes each deleted position to a consumer, in ascending order.
+   */
+  void forEach(LongConsumer consumer) {
+    for (int i = 0; i < numContainers; i += 1) {
+      long high = keys[i] << 16;
+      containers[i].forEach(low -> consumer.accept(high | low));
+    }
+  }
+
+  /**
+   * Returns an estimate of the memory used by this index, in bytes.
+   */
+  long sizeInBytes() {
+    long size = 16L + 8L * keys.length + 4L * containers.length;
+    for (int i = 0; i < numContainers; i += 1) {
+      size += containers[i].sizeInBytes();
+    }
+
+    return size;
+  }
+
+  private void insertContainer(int index, long key, Container container) {
+    if (numContainers == keys.length) {
+      int newCapacity = keys.length * 2;
+      this.keys = Arrays.copyOf(keys, newCapacity);
+      this.containers = Arrays.copyOf(containers, newCapacity);
+    }
+
+    System.arraycopy(keys, index, keys, index + 1, numContainers - index);
+    System.arraycopy(containers, index, containers, index + 1, numContainers - index);
+    keys[index] = key;
+    containers[index] = container;
+    this.numContainers += 1;
+  }
+
+  private interface Container {
+    /**
+     * Adds a value and returns the container that holds it, which may be a new container.
+     */
+    Container add(char value);
+
+    boolean contains(char value);
+
+    int cardinality();
+
+    long sizeInBytes();
+
+    void forEach(IntConsumer consumer);
+  }
+
+  /**
+   * A container for sparse values, stored as a sorted char array.
+   */
+  private static class ArrayContainer implements Container {
+    // beyond this many values, a bitmap container is smaller
+    private static final int MAX_SIZE = 4096;
+
+    private char[] values = new char[INITIAL_CAPACITY];
+    private int size = 0;
+
+    @Override
+    public Container add(char value) {
+      int index = Arrays.binarySearch(values, 0, size, value);
+      if (index >= 0) {
+        return this;
+      }
+
+      if (size >= MAX_SIZE) {
+        return toBitmap().add(value);
+      }
+
+      index = -(index + 1);
+      if (size == values.length) {
+        this.values = Arrays.copyOf(values, Math.min(MAX_SIZE, values.length * 2));
+      }
+
+      System.arraycopy(values, index, values, index + 1, size - index);
+      values[index] = value;
+      this.size += 1;
+
+      return this;
+    }
+
+    @Override
+    public boolean contains(char value) {
+      return Arrays.binarySearch(values, 0, size, value) >= 0;
+    }
+
+    @Override
+    public int cardinality() {
+      return size;
+    }
+
+    @Override
+    public long sizeInBytes() {
+      return 24L + 2L * values.length;
+    }
+
+    @Override
+    public void forEach(IntConsumer consumer) {
+      for (int i = 0; i < size; i += 1) {
+        consumer.accept(values[i]);
+      }
+    }
+
+    private BitmapContainer toBitmap() {
+      BitmapContainer bitmap = new BitmapContainer();
+      for (int i = 0; i < size; i += 1) {
+        bitmap.add(values[i]);
+      }
+
+      return bitmap;
+    }
+  }
+
+  /**
+   * A container for dense values, stored as a bitmap of all 2^16 values.
+   */
+  private static class BitmapContainer implements Container {
+    private final long[] words = new long[1024];
+    private int cardinality = 0;
+
+    @Override
+    public Container add(char value) {
+      int wordIndex = value >>> 6;
+      long mask = 1L << value;
+      if ((words[wordIndex] & mask) == 0) {
+        words[wordIndex] |= mask;
+        this.cardinality += 1;
+      }
+
+      return this;
+    }
+
+    @Override
+    public boolean contains(char value) {
+      return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    @Override
+    public int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    public long sizeInBytes() {
+      return 24L + 8L * words.length;
+    }
+
+    @Override
+    public void forEach(IntConsumer consumer) {
+      for (int wordIndex = 0; wordIndex < words.length; wordIndex += 1) {
+        long word = words[wordIndex];
+        while (word != 0) {
+          consumer.accept((wordIndex << 6) + Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+    }
+  }
+}
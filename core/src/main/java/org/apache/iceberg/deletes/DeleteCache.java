@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.deletes;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.SystemProperties;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.types.Types;
+
+/**
+ * A memory-bounded cache of parsed delete files.
+ * <p>
+ * Delete files are immutable, so the equality delete sets and position indexes parsed from them can be shared by all
+ * tasks in a JVM that read data files with the same deletes. Entries are weighed by an estimate of their size in
+ * memory and are evicted when the total exceeds the configured maximum.
+ * <p>
+ * Cached values are shared and must not be modified by callers.
+ */
+public class DeleteCache {
+  private static final long DEFAULT_MAX_SIZE_BYTES = 256L * 1024 * 1024; // 256 MB
+
+  // rough per-entry estimate used to weigh cached position indexes
+  private static final long MAP_ENTRY_BYTES = 48L;
+
+  private final Cache<CacheKey, CachedDeletes> cache;
+
+  public DeleteCache(long maxSizeBytes) {
+    Preconditions.checkArgument(maxSizeBytes > 0, "Invalid max size for delete cache: %s", maxSizeBytes);
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(maxSizeBytes)
+        .weigher((CacheKey key, CachedDeletes value) -> value.weight())
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Returns whether the shared delete cache is enabled by the {@code iceberg.delete-cache.enabled} system property.
+   */
+  public static boolean isEnabled() {
+    return Boolean.parseBoolean(System.getProperty(SystemProperties.DELETE_CACHE_ENABLED, "false"));
+  }
+
+  /**
+   * Returns the delete cache shared by all tasks in this JVM.
+   * <p>
+   * The size of the shared cache is controlled by the {@code iceberg.delete-cache.max-size-bytes} system property.
+   *
+   * @return the shared delete cache
+   */
+  public static DeleteCache shared() {
+    return SharedCacheHolder.INSTANCE;
+  }
+
+  /**
+   * Returns the equality delete set for a delete file, loading it if it is not cached.
+   *
+   * @param deleteFile an equality delete file
+   * @param eqType the projected type of the equality delete rows
+   * @param loader a supplier that reads the delete file into a set
+   * @return a set of equality delete keys
+   */
+  public EqualityDeleteSet equalityDeletes(DeleteFile deleteFile, Types.StructType eqType,
+                                           Supplier<EqualityDeleteSet> loader) {
+    CacheKey key = new CacheKey(deleteFile.path().toString(), eqType);
+    CachedDeletes cached = cache.get(key, k -> {
+      EqualityDeleteSet deleteSet = loader.get();
+      return new CachedDeletes(deleteSet, deleteSet.sizeInBytes());
+    });
+
+    return (EqualityDeleteSet) cached.value();
+  }
+
+  /**
+   * Returns the position indexes for a delete file, loading them if they are not cached.
+   *
+   * @param deleteFile a position delete file
+   * @param loader a supplier that reads the delete file into indexes by data file location
+   * @return a map from data file location to a position index that must not be modified
+   */
+  @SuppressWarnings("unchecked")
+  public Map<String, PositionDeleteIndex> positionDeletes(DeleteFile deleteFile,
+                                                          Supplier<Map<String, PositionDeleteIndex>> loader) {
+    CacheKey key = new CacheKey(deleteFile.path().toString(), null);
+    CachedDeletes cached = cache.get(key, k -> {
+      Map<String, PositionDeleteIndex> indexes = loader.get();
+      return new CachedDeletes(indexes, estimateSize(indexes));
+    });
+
+    return (Map<String, PositionDeleteIndex>) cached.value();
+  }
+
+  /**
+   * Returns hit, miss, load, and eviction statistics for this cache.
+   */
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  /**
+   * Returns the estimated size in bytes of all entries in this cache.
+   */
+  public long estimatedSizeInBytes() {
+    return cache.policy().eviction()
+        .map(eviction -> eviction.weightedSize().orElse(0L))
+        .orElse(0L);
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * Performs any pending maintenance, such as evicting entries to stay under the maximum size.
+   */
+  public void cleanUp() {
+    cache.cleanUp();
+  }
+
+  private static long estimateSize(Map<String, PositionDeleteIndex> indexes) {
+    long size = 0L;
+    for (Map.Entry<String, PositionDeleteIndex> entry : indexes.entrySet()) {
+      size += MAP_ENTRY_BYTES + 2L * entry.getKey().length();
+
+      PositionDeleteIndex index = entry.getValue();
+      if (index instanceof BitmapPositionDeleteIndex) {
+        size += ((BitmapPositionDeleteIndex) index).sizeInBytes();
+      } else {
+        size += 8L * index.cardinality();
+      }
+    }
+
+    return size;
+  }
+
+  private static long maxSizeFromProperties() {
+    String value = System.getProperty(SystemProperties.DELETE_CACHE_MAX_SIZE_BYTES);
+    if (value != null) {
+      try {
+        return Long.parseUnsignedLong(value);
+      } catch (NumberFormatException e) {
+        // will return the default
+      }
+    }
+    return DEFAULT_MAX_SIZE_BYTES;
+  }
+
+  private static class SharedCacheHolder {
+    private static final DeleteCache INSTANCE = new DeleteCache(maxSizeFromProperties());
+  }
+
+  private static class CacheKey {
+    private final String location;
+    private final Types.StructType eqType;
+
+    private CacheKey(String location, Types.StructType eqType) {
+      this.location = location;
+      this.eqType = eqType;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      } else if (other == null || getClass() != other.getClass()) {
+        return false;
+      }
+
+      CacheKey that = (CacheKey) other;
+      return location.equals(that.location) && Objects.equals(eqType, that.eqType);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(location, eqType);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("location", location)
+          .add("eqType", eqType)
+          .toString();
+    }
+  }
+
+  private static class CachedDeletes {
+    private final Object value;
+    private final int weight;
+
+    private CachedDeletes(Object value, long sizeInBytes) {
+      this.value = value;
+      this.weight = (int) Math.min(Integer.MAX_VALUE, Math.max(1L, sizeInBytes));
+    }
+
+    Object value() {
+      return value;
+    }
+
+    int weight() {
+      return weight;
+    }
+  }
+}
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import org.apache.iceberg.Accessor;
@@ -33,9 +34,11 @@ import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.FilterIterator;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.Comparators;
 import org.apache.iceberg.types.Types;
@@ -44,6 +47,7 @@ import org.apache.iceberg.util.SortedMerge;
 import org.apache.iceberg.util.StructLikeSet;
 
 public class Deletes {
+  private static final Comparator<CharSequence> CHARSEQ_COMPARATOR = Comparators.charSequences();
   private static final Schema POSITION_DELETE_SCHEMA = new Schema(
       MetadataColumns.DELETE_FILE_PATH,
       MetadataColumns.DELETE_FILE_POS
@@ -77,6 +81,16 @@ public class Deletes {
     return filter.filter(rows);
   }
 
+  public static <T> CloseableIterable<T> filter(CloseableIterable<T> rows, Function<T, Long> rowToPosition,
+                                                PositionDeleteIndex deleteIndex) {
+    if (deleteIndex.isEmpty()) {
+      return rows;
+    }
+
+    PositionIndexDeleteFilter<T> filter = new PositionIndexDeleteFilter<>(rowToPosition, deleteIndex);
+    return filter.filter(rows);
+  }
+
   public static StructLikeSet toEqualitySet(CloseableIterable<StructLike> eqDeletes, Types.StructType eqType) {
     try (CloseableIterable<StructLike> deletes = eqDeletes) {
       StructLikeSet deleteSet = StructLikeSet.create(eqType);
@@ -87,6 +101,44 @@ public class Deletes {
     }
   }
 
+  /**
+   * Reads equality delete rows into a heap-based {@link EqualityDeleteSet}.
+   * <p>
+   * The set holds the delete rows, so rows must not be reused by the source.
+   */
+  public static EqualityDeleteSet toEqualityDeleteSet(CloseableIterable<StructLike> eqDeletes,
+                                                      Types.StructType eqType) {
+    return new StructLikeEqualityDeleteSet(toEqualitySet(eqDeletes, eqType), eqType);
+  }
+
+  /**
+   * Reads equality delete rows into a compact {@link EqualityDeleteSet}.
+   * <p>
+   * A single integer, long, date, time, or timestamp key is stored in a primitive hash table and other keys are
+   * serialized into byte array pages. Rows are encoded as they are read, so the source may reuse rows. Keys with nested columns
+   * fall back to a heap-based set and require rows that are not reused.
+   */
+  public static EqualityDeleteSet toCompactEqualityDeleteSet(CloseableIterable<StructLike> eqDeletes,
+                                                             Types.StructType eqType) {
+    if (!EqualityKeyEncoder.canEncode(eqType)) {
+      return toEqualityDeleteSet(eqDeletes, eqType);
+    }
+
+    try (CloseableIterable<StructLike> deletes = eqDeletes) {
+      if (EqualityKeyEncoder.isSingleLong(eqType)) {
+        LongEqualityDeleteSet deleteSet = new LongEqualityDeleteSet(eqType);
+        deletes.forEach(deleteSet::add);
+        return deleteSet;
+      } else {
+        BinaryEqualityDeleteSet deleteSet = new BinaryEqualityDeleteSet(eqType);
+        deletes.forEach(deleteSet::add);
+        return deleteSet;
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close equality delete source", e);
+    }
+  }
+
   public static Set<Long> toPositionSet(CharSequence dataLocation, CloseableIterable<? extends StructLike> deleteFile) {
     return toPositionSet(dataLocation, ImmutableList.of(deleteFile));
   }
@@ -107,6 +159,72 @@ public class Deletes {
     }
   }
 
+  public static PositionDeleteIndex toPositionIndex(CharSequence dataLocation,
+                                                   CloseableIterable<? extends StructLike> deleteFile) {
+    return toPositionIndex(dataLocation, ImmutableList.of(deleteFile));
+  }
+
+  public static <T extends StructLike> PositionDeleteIndex toPositionIndex(CharSequence dataLocation,
+                                                                           List<CloseableIterable<T>> deleteFiles) {
+    DataFileFilter<T> locationFilter = new DataFileFilter<>(dataLocation);
+    List<CloseableIterable<Long>> positions = Lists.transform(deleteFiles, deletes ->
+        CloseableIterable.transform(locationFilter.filter(deletes), row -> (Long) POSITION_ACCESSOR.get(row)));
+    return toPositionIndex(CloseableIterable.concat(positions));
+  }
+
+  public static PositionDeleteIndex toPositionIndex(CloseableIterable<Long> posDeletes) {
+    try (CloseableIterable<Long> deletes = posDeletes) {
+      PositionDeleteIndex positionDeleteIndex = new BitmapPositionDeleteIndex();
+      deletes.forEach(positionDeleteIndex::delete);
+      return positionDeleteIndex;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close position delete source", e);
+    }
+  }
+
+  /**
+   * Builds a position index for every data file referenced by a position delete file.
+   *
+   * @param deleteFile rows of a position delete file
+   * @return a map from data file location to the index of its deleted positions
+   */
+  public static Map<String, PositionDeleteIndex> toPositionIndexes(CloseableIterable<? extends StructLike> deleteFile) {
+    try (CloseableIterable<? extends StructLike> deletes = deleteFile) {
+      Map<String, PositionDeleteIndex> indexes = Maps.newHashMap();
+      CharSequence lastLocation = null;
+      PositionDeleteIndex lastIndex = null;
+      for (StructLike row : deletes) {
+        CharSequence location = (CharSequence) FILENAME_ACCESSOR.get(row);
+        // position deletes are sorted by file location, so avoid a map lookup for each row
+        if (lastIndex == null || CHARSEQ_COMPARATOR.compare(lastLocation, location) != 0) {
+          String locationString = location.toString();
+          lastLocation = locationString;
+          lastIndex = indexes.computeIfAbsent(locationString, loc -> new BitmapPositionDeleteIndex());
+        }
+
+        lastIndex.delete((Long) POSITION_ACCESSOR.get(row));
+      }
+
+      return indexes;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close position delete source", e);
+    }
+  }
+
+  /**
+   * Merges several position indexes into a new index that contains all of their deleted positions.
+   */
+  public static PositionDeleteIndex merge(Iterable<PositionDeleteIndex> indexes) {
+    BitmapPositionDeleteIndex merged = new BitmapPositionDeleteIndex();
+    for (PositionDeleteIndex index : indexes) {
+      Preconditions.checkArgument(index instanceof BitmapPositionDeleteIndex,
+          "Cannot merge unknown position index: %s", index);
+      ((BitmapPositionDeleteIndex) index).forEach(merged::delete);
+    }
+
+    return merged;
+  }
+
   public static <T> CloseableIterable<T> streamingFilter(CloseableIterable<T> rows,
                                                          Function<T, Long> rowToPosition,
                                                          CloseableIterable<Long> posDeletes) {
@@ -158,6 +276,21 @@ public class Deletes {
     }
   }
 
+  private static class PositionIndexDeleteFilter<T> extends Filter<T> {
+    private final Function<T, Long> rowToPosition;
+    private final PositionDeleteIndex deleteIndex;
+
+    private PositionIndexDeleteFilter(Function<T, Long> rowToPosition, PositionDeleteIndex deleteIndex) {
+      this.rowToPosition = rowToPosition;
+      this.deleteIndex = deleteIndex;
+    }
+
+    @Override
+    protected boolean shouldKeep(T row) {
+      return !deleteIndex.isDeleted(rowToPosition.apply(row));
+    }
+  }
+
   private static class PositionStreamDeleteFilter<T> extends CloseableGroup implements CloseableIterable<T> {
     private final CloseableIterable<T> rows;
     private final Function<T, Long> extractPos;
@@ -234,7 +367,6 @@ public class Deletes {
   }
 
   private static class DataFileFilter<T extends StructLike> extends Filter<T> {
-    private static final Comparator<CharSequence> CHARSEQ_COMPARATOR = Comparators.charSequences();
     private final CharSequence dataLocation;
 
     DataFileFilter(CharSequence dataLocation) {
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.deletes;
+
+import org.apache.iceberg.StructLike;
+
+/**
+ * A set of equality delete keys that is probed with rows projected to the equality delete columns.
+ * <p>
+ * Implementations are built once and are safe to probe concurrently after they are built.
+ */
+public interface EqualityDeleteSet {
+  /**
+   * Checks whether a row matches a deleted key.
+   *
+   * @param row a row projected to the equality delete columns
+   * @return whether the row is deleted
+   */
+  boolean contains(StructLike row);
+
+  /**
+   * Returns true if this set has no deleted keys.
+   */
+  boolean isEmpty();
+
+  /**
+   * Returns the number of distinct deleted keys in this set.
+   */
+  long size();
+
+  /**
+   * Returns an estimate of the memory used by this set, in bytes.
+   */
+  long sizeInBytes();
+}
@@ -0,0 +1,314 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.deletes;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+import org.apache.avro.util.Utf8;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.DateTimeUtil;
+
+/**
+ * Serializes the equality delete columns of a row into a reusable byte array.
+ * <p>
+ * The encoding is only used to compare keys of the same struct type, so it does not need to be stable or
+ * self-describing. Each field is written as a null marker followed by a fixed-width value or a length-prefixed value.
+ * <p>
+ * This class is not thread-safe.
+ */
+class EqualityKeyEncoder {
+  private static final int INITIAL_BUFFER_SIZE = 64;
+
+  private final Type.PrimitiveType[] types;
+  private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+  private int length = 0;
+
+  EqualityKeyEncoder(Types.StructType eqType) {
+    this.types = new Type.PrimitiveType[eqType.fields().size()];
+    for (int i = 0; i < types.length; i += 1) {
+      Type type = eqType.fields().get(i).type();
+      Preconditions.checkArgument(type.isPrimitiveType(), "Cannot encode equality delete column of type: %s", type);
+      types[i] = type.asPrimitiveType();
+    }
+  }
+
+  static boolean canEncode(Types.StructType eqType) {
+    return eqType.fields().stream().allMatch(field -> field.type().isPrimitiveType());
+  }
+
+  /**
+   * Returns whether a struct type has a single column that can be stored as a long.
+   */
+  static boolean isSingleLong(Types.StructType eqType) {
+    if (eqType.fields().size() != 1) {
+      return false;
+    }
+
+    switch (eqType.fields().get(0).type().typeId()) {
+      case INTEGER:
+      case LONG:
+      case DATE:
+      case TIME:
+      case TIMESTAMP:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Converts a value of an integer, long, date, time, or timestamp column to a long.
+   */
+  static long toLong(Type type, Object value) {
+    switch (type.typeId()) {
+      case DATE:
+        if (value instanceof LocalDate) {
+          return DateTimeUtil.daysFromDate((LocalDate) value);
+        }
+        return ((Number) value).longValue();
+      case TIME:
+        if (value instanceof LocalTime) {
+          return DateTimeUtil.microsFromTime((LocalTime) value);
+        }
+        return ((Number) value).longValue();
+      case TIMESTAMP:
+        if (value instanceof LocalDateTime) {
+          return DateTimeUtil.microsFromTimestamp((LocalDateTime) value);
+        } else if (value instanceof OffsetDateTime) {
+          return DateTimeUtil.microsFromTimestamptz((OffsetDateTime) value);
+        }
+        return ((Number) value).longValue();
+      case INTEGER:
+      case LONG:
+        return ((Number) value).longValue();
+      default:
+        throw new IllegalArgumentException("Cannot convert value of type " + type + " to long: " + value);
+    }
+  }
+
+  void encode(StructLike row) {
+    this.length = 0;
+    for (int pos = 0; pos < types.length; pos += 1) {
+      Object value = row.get(pos, Object.class);
+      if (value == null) {
+        writeByte(0);
+      } else {
+        writeByte(1);
+        writeValue(types[pos], value);
+      }
+    }
+  }
+
+  byte[] buffer() {
+    return buffer;
+  }
+
+  int length() {
+    return length;
+  }
+
+  int hash() {
+    int hash = length;
+    for (int i = 0; i < length; i += 1) {
+      hash = 31 * hash + buffer[i];
+    }
+
+    // spread the bits because the table index uses the low bits
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    return hash;
+  }
+
+  private void writeValue(Type.PrimitiveType type, Object value) {
+    switch (type.typeId()) {
+      case BOOLEAN:
+        writeByte((Boolean) value ? 1 : 0);
+        break;
+      case INTEGER:
+        writeInt(((Number) value).intValue());
+        break;
+      case DATE:
+        writeInt((int) toLong(type, value));
+        break;
+      case LONG:
+      case TIME:
+      case TIMESTAMP:
+        writeLong(toLong(type, value));
+        break;
+      case FLOAT:
+        writeInt(Float.floatToIntBits(((Number) value).floatValue()));
+        break;
+      case DOUBLE:
+        writeLong(Double.doubleToLongBits(((Number) value).doubleValue()));
+        break;
+      case STRING:
+        writeString(value);
+        break;
+      case UUID:
+        writeUUID(value);
+        break;
+      case FIXED:
+      case BINARY:
+        writeBytes(value);
+        break;
+      case DECIMAL:
+        // the scale is fixed by the type, so the unscaled value identifies the decimal
+        byte[] unscaled = ((BigDecimal) value).unscaledValue().toByteArray();
+        writeInt(unscaled.length);
+        writeArray(unscaled, 0, unscaled.length);
+        break;
+      default:
+        throw new UnsupportedOperationException("Cannot encode equality delete value of type: " + type);
+    }
+  }
+
+  private void writeString(Object value) {
+    if (value instanceof Utf8) {
+      Utf8 utf8 = (Utf8) value;
+      writeInt(utf8.getByteLength());
+      writeArray(utf8.getBytes(), 0, utf8.getByteLength());
+      return;
+    }
+
+    CharSequence chars = (CharSequence) value;
+    int lengthPos = length;
+    writeInt(0);
+
+    int numChars = chars.length();
+    ensureCapacity(4 * numChars);
+    for (int i = 0; i < numChars; i += 1) {
+      char ch = chars.charAt(i);
+      if (ch < 0x80) {
+        buffer[length++] = (byte) ch;
+      } else if (ch < 0x800) {
+        buffer[length++] = (byte) (0xC0 | (ch >> 6));
+        buffer[length++] = (byte) (0x80 | (ch & 0x3F));
+      } else if (Character.isHighSurrogate(ch) && i + 1 < numChars && Character.isLowSurrogate(chars.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(ch, chars.charAt(i + 1));
+        buffer[length++] = (byte) (0xF0 | (codePoint >> 18));
+        buffer[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        buffer[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        buffer[length++] = (byte) (0x80 | (codePoint & 0x3F));
+        i += 1;
+      } else {
+        buffer[length++] = (byte) (0xE0 | (ch >> 12));
+        buffer[length++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+        buffer[length++] = (byte) (0x80 | (ch & 0x3F));
+      }
+    }
+
+    int numBytes = length - lengthPos - 4;
+    putInt(lengthPos, numBytes);
+  }
+
+  /**
+   * Writes a UUID as its 16 big-endian bytes, so that UUID objects, 16-byte binary values, and strings produce the
+   * same key.
+   */
+  private void writeUUID(Object value) {
+    if (value instanceof UUID) {
+      UUID uuid = (UUID) value;
+      writeLong(uuid.getMostSignificantBits());
+      writeLong(uuid.getLeastSignificantBits());
+    } else if (value instanceof ByteBuffer) {
+      ByteBuffer bytes = (ByteBuffer) value;
+      Preconditions.checkArgument(bytes.remaining() == 16, "Invalid UUID value, not 16 bytes: %s", bytes);
+      ensureCapacity(16);
+      for (int i = 0; i < 16; i += 1) {
+        buffer[length++] = bytes.get(bytes.position() + i);
+      }
+    } else if (value instanceof byte[]) {
+      byte[] bytes = (byte[]) value;
+      Preconditions.checkArgument(bytes.length == 16, "Invalid UUID value, not 16 bytes: %s", bytes.length);
+      writeArray(bytes, 0, 16);
+    } else if (value instanceof CharSequence) {
+      UUID uuid = UUID.fromString(value.toString());
+      writeLong(uuid.getMostSignificantBits());
+      writeLong(uuid.getLeastSignificantBits());
+    } else {
+      throw new IllegalArgumentException("Cannot encode UUID value: " + value.getClass().getName());
+    }
+  }
+
+  private void writeBytes(Object value) {
+    if (value instanceof ByteBuffer) {
+      ByteBuffer bytes = (ByteBuffer) value;
+      int numBytes = bytes.remaining();
+      writeInt(numBytes);
+      ensureCapacity(numBytes);
+      for (int i = 0; i < numBytes; i += 1) {
+        buffer[length++] = bytes.get(bytes.position() + i);
+      }
+    } else if (value instanceof byte[]) {
+      byte[] bytes = (byte[]) value;
+      writeInt(bytes.length);
+      writeArray(bytes, 0, bytes.length);
+    } else {
+      throw new IllegalArgumentException("Cannot encode binary value: " + value.getClass().getName());
+    }
+  }
+
+  private void writeByte(int value) {
+    ensureCapacity(1);
+    buffer[length++] = (byte) value;
+  }
+
+  private void writeInt(int value) {
+    ensureCapacity(4);
+    putInt(length, value);
+    length += 4;
+  }
+
+  private void writeLong(long value) {
+    ensureCapacity(8);
+    putInt(length, (int) (value >>> 32));
+    putInt(length + 4, (int) value);
+    length += 8;
+  }
+
+  private void writeArray(byte[] bytes, int offset, int len) {
+    ensureCapacity(len);
+    System.arraycopy(bytes, offset, buffer, length, len);
+    length += len;
+  }
+
+  private void putInt(int pos, int value) {
+    buffer[pos] = (byte) (value >>> 24);
+    buffer[pos + 1] = (byte) (value >>> 16);
+    buffer[pos + 2] = (byte) (value >>> 8);
+    buffer[pos + 3] = (byte) value;
+  }
+
+  private void ensureCapacity(int numBytes) {
+    if (length + numBytes > buffer.length) {
+      this.buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + numBytes));
+    }
+  }
+}
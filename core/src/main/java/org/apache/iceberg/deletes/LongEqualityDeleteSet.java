@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.deletes;
+
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+
+/**
+ * An {@link EqualityDeleteSet} for a single integer, long, date, time, or timestamp column.
+ * <p>
+ * Keys are stored in a primitive open-addressing table, so probes do not allocate or box.
+ */
+class LongEqualityDeleteSet implements EqualityDeleteSet {
+  private static final int INITIAL_CAPACITY = 64;
+  // marks an unused slot; a deleted key with this value is tracked by containsFreeKey
+  private static final long FREE_KEY = 0L;
+
+  private final Type type;
+  private long[] keys = new long[INITIAL_CAPACITY];
+  private int mask = INITIAL_CAPACITY - 1;
+  private int size = 0;
+  private boolean containsFreeKey = false;
+  private boolean containsNull = false;
+
+  LongEqualityDeleteSet(Types.StructType eqType) {
+    Preconditions.checkArgument(EqualityKeyEncoder.isSingleLong(eqType),
+        "Cannot create a long delete set for type: %s", eqType);
+    this.type = eqType.fields().get(0).type();
+  }
+
+  void add(StructLike row) {
+    Object value = row.get(0, Object.class);
+    if (value == null) {
+      this.containsNull = true;
+      return;
+    }
+
+    long key = EqualityKeyEncoder.toLong(type, value);
+    if (key == FREE_KEY) {
+      this.containsFreeKey = true;
+      return;
+    }
+
+    int slot = slot(key);
+    while (keys[slot] != FREE_KEY) {
+      if (keys[slot] == key) {
+        return;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    keys[slot] = key;
+    this.size += 1;
+
+    // keep the load factor at or below 0.5 so that probe sequences stay short
+    if (size > keys.length / 2) {
+      resize();
+    }
+  }
+
+  @Override
+  public boolean contains(StructLike row) {
+    Object value = row.get(0, Object.class);
+    if (value == null) {
+      return containsNull;
+    }
+
+    long key = EqualityKeyEncoder.toLong(type, value);
+    if (key == FREE_KEY) {
+      return containsFreeKey;
+    }
+
+    int slot = slot(key);
+    long current;
+    while ((current = keys[slot]) != FREE_KEY) {
+      if (current == key) {
+        return true;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    return false;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public long size() {
+    return size + (containsFreeKey ? 1 : 0) + (containsNull ? 1 : 0);
+  }
+
+  @Override
+  public long sizeInBytes() {
+    return 8L * keys.length;
+  }
+
+  private int slot(long key) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+
+  private void resize() {
+    long[] oldKeys = keys;
+    this.keys = new long[oldKeys.length * 2];
+    this.mask = keys.length - 1;
+
+    for (long key : oldKeys) {
+      if (key != FREE_KEY) {
+        int slot = slot(key);
+        while (keys[slot] != FREE_KEY) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+      }
+    }
+  }
+}
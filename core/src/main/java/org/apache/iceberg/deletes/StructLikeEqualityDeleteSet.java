@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.deletes;
+
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.StructLikeSet;
+
+/**
+ * An {@link EqualityDeleteSet} that holds delete rows on the heap in a {@link StructLikeSet}.
+ */
+class StructLikeEqualityDeleteSet implements EqualityDeleteSet {
+  // rough per-object estimates used to weigh the set
+  private static final long ROW_OVERHEAD_BYTES = 96L;
+  private static final long FIXED_VALUE_BYTES = 24L;
+  private static final long VARIABLE_VALUE_BYTES = 64L;
+  private static final long NESTED_VALUE_BYTES = 128L;
+
+  private final StructLikeSet deleteSet;
+  private final long rowSizeInBytes;
+
+  StructLikeEqualityDeleteSet(StructLikeSet deleteSet, Types.StructType eqType) {
+    this.deleteSet = deleteSet;
+    this.rowSizeInBytes = estimateRowSize(eqType);
+  }
+
+  @Override
+  public boolean contains(StructLike row) {
+    return deleteSet.contains(row);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return deleteSet.isEmpty();
+  }
+
+  @Override
+  public long size() {
+    return deleteSet.size();
+  }
+
+  @Override
+  public long sizeInBytes() {
+    return rowSizeInBytes * deleteSet.size();
+  }
+
+  private static long estimateRowSize(Types.StructType eqType) {
+    long rowSize = ROW_OVERHEAD_BYTES;
+    for (Types.NestedField field : eqType.fields()) {
+      rowSize += estimateValueSize(field.type());
+    }
+
+    return rowSize;
+  }
+
+  private static long estimateValueSize(Type type) {
+    if (type.isNestedType()) {
+      return NESTED_VALUE_BYTES;
+    }
+
+    switch (type.typeId()) {
+      case STRING:
+      case BINARY:
+      case FIXED:
+      case DECIMAL:
+        return VARIABLE_VALUE_BYTES;
+      default:
+        return FIXED_VALUE_BYTES;
+    }
+  }
+}
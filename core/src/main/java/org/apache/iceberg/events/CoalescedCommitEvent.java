@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.events;
+
+/**
+ * Event sent after a {@link org.apache.iceberg.CommitCoalescer} commits a batch of appends as one snapshot.
+ */
+public final class CoalescedCommitEvent {
+  private final String tableName;
+  private final Long snapshotId;
+  private final int batchSize;
+  private final int fileCount;
+  private final long commitMillis;
+  private final long maxLatencyMillis;
+
+  public CoalescedCommitEvent(String tableName, Long snapshotId, int batchSize, int fileCount,
+                              long commitMillis, long maxLatencyMillis) {
+    this.tableName = tableName;
+    this.snapshotId = snapshotId;
+    this.batchSize = batchSize;
+    this.fileCount = fileCount;
+    this.commitMillis = commitMillis;
+    this.maxLatencyMillis = maxLatencyMillis;
+  }
+
+  public String tableName() {
+    return tableName;
+  }
+
+  /**
+   * @return the id of the committed snapshot, or null if it is unknown
+   */
+  public Long snapshotId() {
+    return snapshotId;
+  }
+
+  /**
+   * @return the number of append requests committed in the batch
+   */
+  public int batchSize() {
+    return batchSize;
+  }
+
+  /**
+   * @return the number of data files committed in the batch
+   */
+  public int fileCount() {
+    return fileCount;
+  }
+
+  /**
+   * @return the time spent committing the batch, including retries
+   */
+  public long commitMillis() {
+    return commitMillis;
+  }
+
+  /**
+   * @return the longest time a request in the batch waited from submission until its commit completed
+   */
+  public long maxLatencyMillis() {
+    return maxLatencyMillis;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.events;
+
+/**
+ * Event sent after a snapshot is committed with metrics about the commit and its retries.
+ */
+public final class CommitMetricsEvent {
+  private final String operation;
+  private final long snapshotId;
+  private final int attempts;
+  private final long durationMillis;
+  private final int rewrittenManifestCount;
+  private final long rewrittenManifestBytes;
+
+  public CommitMetricsEvent(String operation, long snapshotId, int attempts, long durationMillis,
+                            int rewrittenManifestCount, long rewrittenManifestBytes) {
+    this.operation = operation;
+    this.snapshotId = snapshotId;
+    this.attempts = attempts;
+    this.durationMillis = durationMillis;
+    this.rewrittenManifestCount = rewrittenManifestCount;
+    this.rewrittenManifestBytes = rewrittenManifestBytes;
+  }
+
+  public String operation() {
+    return operation;
+  }
+
+  public long snapshotId() {
+    return snapshotId;
+  }
+
+  /**
+   * @return the number of times the commit was attempted, including the successful attempt
+   */
+  public int attempts() {
+    return attempts;
+  }
+
+  public long durationMillis() {
+    return durationMillis;
+  }
+
+  /**
+   * @return the number of manifests written by merging or filtering, across all attempts
+   */
+  public int rewrittenManifestCount() {
+    return rewrittenManifestCount;
+  }
+
+  /**
+   * @return the total size in bytes of manifests written by merging or filtering, across all attempts
+   */
+  public long rewrittenManifestBytes() {
+    return rewrittenManifestBytes;
+  }
+}
@@ -20,16 +20,32 @@
 package org.apache.iceberg.hadoop;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.iceberg.exceptions.BulkDeletionFailureException;
 import org.apache.iceberg.exceptions.RuntimeIOException;
-import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.SupportsBulkOperations;
 import org.apache.iceberg.util.SerializableSupplier;
+import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-public class HadoopFileIO implements FileIO {
+public class HadoopFileIO implements SupportsBulkOperations {
+  private static final Logger LOG = LoggerFactory.getLogger(HadoopFileIO.class);
+
+  /**
+   * Number of threads used for bulk deletes (shared pool across all HadoopFileIO instances).
+   */
+  public static final String DELETE_FILE_PARALLELISM = "iceberg.hadoop.delete-file-parallelism";
+  private static final int DELETE_FILE_PARALLELISM_DEFAULT = 4 * Runtime.getRuntime().availableProcessors();
+
+  private static volatile ExecutorService deletePool;
 
   private final SerializableSupplier<Configuration> hadoopConf;
 
@@ -50,6 +66,11 @@ public class HadoopFileIO implements FileIO {
     return HadoopInputFile.fromLocation(path, hadoopConf.get());
   }
 
+  @Override
+  public InputFile newInputFile(String path, long length) {
+    return HadoopInputFile.fromLocation(path, length, hadoopConf.get());
+  }
+
   @Override
   public OutputFile newOutputFile(String path) {
     return HadoopOutputFile.fromPath(new Path(path), hadoopConf.get());
@@ -65,4 +86,35 @@ public class HadoopFileIO implements FileIO {
       throw new RuntimeIOException(e, "Failed to delete file: %s", path);
     }
   }
+
+  @Override
+  public void deleteFiles(Iterable<String> pathsToDelete) throws BulkDeletionFailureException {
+    AtomicInteger failureCount = new AtomicInteger(0);
+    Tasks.foreach(pathsToDelete)
+        .executeWith(deletePool())
+        .noRetry()
+        .suppressFailureWhenFinished()
+        .onFailure((path, exc) -> {
+          LOG.warn("Failed to delete file: {}", path, exc);
+          failureCount.incrementAndGet();
+        })
+        .run(this::deleteFile);
+
+    if (failureCount.get() != 0) {
+      throw new BulkDeletionFailureException(failureCount.get());
+    }
+  }
+
+  private ExecutorService deletePool() {
+    if (deletePool == null) {
+      synchronized (HadoopFileIO.class) {
+        if (deletePool == null) {
+          int parallelism = hadoopConf.get().getInt(DELETE_FILE_PARALLELISM, DELETE_FILE_PARALLELISM_DEFAULT);
+          deletePool = ThreadPools.newWorkerPool("iceberg-hadoopfileio-delete", parallelism);
+        }
+      }
+    }
+
+    return deletePool;
+  }
 }
@@ -24,13 +24,19 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.IntFunction;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.iceberg.io.DelegatingInputStream;
 import org.apache.iceberg.io.DelegatingOutputStream;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.FileRanges;
 import org.apache.iceberg.io.PositionOutputStream;
 import org.apache.iceberg.io.SeekableInputStream;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,6 +52,25 @@ class HadoopStreams {
 
   private static final Logger LOG = LoggerFactory.getLogger(HadoopStreams.class);
 
+  // merge ranges separated by less than a typical buffered read, but avoid very large merged reads
+  private static final int VECTORED_READ_MAX_MERGE_GAP = 64 * 1024;
+  private static final int VECTORED_READ_MAX_MERGED_SIZE = 8 * 1024 * 1024;
+  private static final int VECTORED_READ_THREADS = 4 * Runtime.getRuntime().availableProcessors();
+
+  private static volatile ExecutorService vectoredReadPool;
+
+  private static ExecutorService vectoredReadPool() {
+    if (vectoredReadPool == null) {
+      synchronized (HadoopStreams.class) {
+        if (vectoredReadPool == null) {
+          vectoredReadPool = ThreadPools.newWorkerPool("iceberg-hadoop-vectored-read", VECTORED_READ_THREADS);
+        }
+      }
+    }
+
+    return vectoredReadPool;
+  }
+
   /**
    * Wraps a {@link FSDataInputStream} in a {@link SeekableInputStream} implementation for readers.
    *
@@ -117,6 +142,38 @@ class HadoopStreams {
       return stream.read(buf);
     }
 
+    /**
+     * Reads merged ranges in parallel using positional reads, which do not change the stream position.
+     */
+    @Override
+    public void readVectored(List<FileRange> ranges, IntFunction<ByteBuffer> allocate) {
+      List<FileRanges.CombinedRange> reads = FileRanges.merge(
+          ranges, VECTORED_READ_MAX_MERGE_GAP, VECTORED_READ_MAX_MERGED_SIZE);
+      for (FileRanges.CombinedRange read : reads) {
+        vectoredReadPool().submit(() -> readRange(read, allocate));
+      }
+    }
+
+    private void readRange(FileRanges.CombinedRange read, IntFunction<ByteBuffer> allocate) {
+      try {
+        ByteBuffer buffer = allocate.apply(read.length());
+        if (buffer.hasArray()) {
+          stream.readFully(read.offset(), buffer.array(), buffer.arrayOffset() + buffer.position(), read.length());
+          buffer.limit(buffer.position() + read.length());
+        } else {
+          byte[] bytes = new byte[read.length()];
+          stream.readFully(read.offset(), bytes);
+          buffer.put(bytes);
+          buffer.flip();
+        }
+
+        read.complete(buffer);
+
+      } catch (IOException | RuntimeException e) {
+        read.fail(e);
+      }
+    }
+
     @SuppressWarnings("checkstyle:NoFinalizer")
     @Override
     protected void finalize() throws Throwable {
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.iceberg.expressions.Expression;
+
+/**
+ * Counters that are updated while a scan is planned.
+ * <p>
+ * Counters are updated concurrently by planning threads. Use {@link #toReport} to produce a {@link ScanReport} once
+ * planning is done.
+ */
+public class ScanMetrics {
+  private final long startNanos = System.nanoTime();
+  private final AtomicLong totalDataManifests = new AtomicLong(0);
+  private final AtomicLong skippedDataManifests = new AtomicLong(0);
+  private final AtomicLong scannedDataManifests = new AtomicLong(0);
+  private final AtomicLong manifestBytesRead = new AtomicLong(0);
+  private final AtomicLong skippedDataFilesByPartition = new AtomicLong(0);
+  private final AtomicLong skippedDataFilesByMetrics = new AtomicLong(0);
+  private final AtomicLong resultDataFiles = new AtomicLong(0);
+  private final AtomicLong resultDeleteFiles = new AtomicLong(0);
+  private final AtomicLong deleteIndexNanos = new AtomicLong(0);
+  private final AtomicLong manifestReadNanos = new AtomicLong(0);
+
+  public void addTotalDataManifests(long count) {
+    totalDataManifests.addAndGet(count);
+  }
+
+  public void skippedDataManifest() {
+    skippedDataManifests.incrementAndGet();
+  }
+
+  public void scannedDataManifest() {
+    scannedDataManifests.incrementAndGet();
+  }
+
+  /**
+   * Adds bytes of a manifest that were read from storage, not from the manifest cache or a prefetch.
+   *
+   * @param lengthInBytes the number of bytes read
+   */
+  public void addManifestBytesRead(long lengthInBytes) {
+    manifestBytesRead.addAndGet(lengthInBytes);
+  }
+
+  public void skippedDataFileByPartition() {
+    skippedDataFilesByPartition.incrementAndGet();
+  }
+
+  public void skippedDataFileByMetrics() {
+    skippedDataFilesByMetrics.incrementAndGet();
+  }
+
+  public void resultDataFile(int numDeleteFiles) {
+    resultDataFiles.incrementAndGet();
+    resultDeleteFiles.addAndGet(numDeleteFiles);
+  }
+
+  public void addDeleteIndexDuration(long nanos) {
+    deleteIndexNanos.addAndGet(nanos);
+  }
+
+  public void addManifestReadDuration(long nanos) {
+    manifestReadNanos.addAndGet(nanos);
+  }
+
+  /**
+   * Creates a report with the current values of these counters.
+   *
+   * @param tableName the name of the scanned table
+   * @param snapshotId the id of the scanned snapshot
+   * @param filter the scan's row filter
+   * @return a {@link ScanReport}
+   */
+  public ScanReport toReport(String tableName, long snapshotId, Expression filter) {
+    return new ScanReport(tableName, snapshotId, String.valueOf(filter),
+        totalDataManifests.get(), skippedDataManifests.get(), scannedDataManifests.get(), manifestBytesRead.get(),
+        skippedDataFilesByPartition.get(), skippedDataFilesByMetrics.get(),
+        resultDataFiles.get(), resultDeleteFiles.get(),
+        TimeUnit.NANOSECONDS.toMillis(deleteIndexNanos.get()),
+        TimeUnit.NANOSECONDS.toMillis(manifestReadNanos.get()),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+  }
+}
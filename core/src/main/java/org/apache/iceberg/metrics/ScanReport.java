@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.metrics;
+
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
+
+/**
+ * A report of the work done to plan a table scan.
+ * <p>
+ * Reports are produced when the {@link org.apache.iceberg.FileScanTask tasks} returned by
+ * {@link org.apache.iceberg.TableScan#planFiles()} are closed, and are passed to the table's {@link ScanReporter}.
+ */
+public class ScanReport {
+  private final String tableName;
+  private final long snapshotId;
+  private final String filter;
+  private final long totalDataManifests;
+  private final long skippedDataManifests;
+  private final long scannedDataManifests;
+  private final long manifestBytesRead;
+  private final long skippedDataFilesByPartition;
+  private final long skippedDataFilesByMetrics;
+  private final long resultDataFiles;
+  private final long resultDeleteFiles;
+  private final long deleteIndexDurationMillis;
+  private final long manifestReadDurationMillis;
+  private final long totalPlanningDurationMillis;
+
+  ScanReport(String tableName, long snapshotId, String filter,
+             long totalDataManifests, long skippedDataManifests, long scannedDataManifests, long manifestBytesRead,
+             long skippedDataFilesByPartition, long skippedDataFilesByMetrics,
+             long resultDataFiles, long resultDeleteFiles,
+             long deleteIndexDurationMillis, long manifestReadDurationMillis, long totalPlanningDurationMillis) {
+    this.tableName = tableName;
+    this.snapshotId = snapshotId;
+    this.filter = filter;
+    this.totalDataManifests = totalDataManifests;
+    this.skippedDataManifests = skippedDataManifests;
+    this.scannedDataManifests = scannedDataManifests;
+    this.manifestBytesRead = manifestBytesRead;
+    this.skippedDataFilesByPartition = skippedDataFilesByPartition;
+    this.skippedDataFilesByMetrics = skippedDataFilesByMetrics;
+    this.resultDataFiles = resultDataFiles;
+    this.resultDeleteFiles = resultDeleteFiles;
+    this.deleteIndexDurationMillis = deleteIndexDurationMillis;
+    this.manifestReadDurationMillis = manifestReadDurationMillis;
+    this.totalPlanningDurationMillis = totalPlanningDurationMillis;
+  }
+
+  public String tableName() {
+    return tableName;
+  }
+
+  public long snapshotId() {
+    return snapshotId;
+  }
+
+  public String filter() {
+    return filter;
+  }
+
+  /**
+   * @return the number of data manifests in the scanned snapshot
+   */
+  public long totalDataManifests() {
+    return totalDataManifests;
+  }
+
+  /**
+   * @return the number of data manifests skipped because their partition ranges do not match the filter
+   */
+  public long skippedDataManifests() {
+    return skippedDataManifests;
+  }
+
+  /**
+   * @return the number of data manifests that were read
+   */
+  public long scannedDataManifests() {
+    return scannedDataManifests;
+  }
+
+  /**
+   * @return the total size of the data manifests that were read from storage, excluding cached or prefetched manifests
+   */
+  public long manifestBytesRead() {
+    return manifestBytesRead;
+  }
+
+  /**
+   * @return the number of data files skipped because their partition does not match the filter
+   */
+  public long skippedDataFilesByPartition() {
+    return skippedDataFilesByPartition;
+  }
+
+  /**
+   * @return the number of data files skipped because their column metrics do not match the filter
+   */
+  public long skippedDataFilesByMetrics() {
+    return skippedDataFilesByMetrics;
+  }
+
+  /**
+   * @return the number of data files returned by the scan
+   */
+  public long resultDataFiles() {
+    return resultDataFiles;
+  }
+
+  /**
+   * @return the number of delete files matched to data files returned by the scan
+   */
+  public long resultDeleteFiles() {
+    return resultDeleteFiles;
+  }
+
+  /**
+   * @return the time spent reading delete manifests and building the delete file index
+   */
+  public long deleteIndexDurationMillis() {
+    return deleteIndexDurationMillis;
+  }
+
+  /**
+   * @return the time spent opening data manifests and reading their matching entries, summed across planning threads
+   */
+  public long manifestReadDurationMillis() {
+    return manifestReadDurationMillis;
+  }
+
+  /**
+   * @return the time from the start of planning until the planned tasks were closed
+   */
+  public long totalPlanningDurationMillis() {
+    return totalPlanningDurationMillis;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("table", tableName)
+        .add("snapshotId", snapshotId)
+        .add("filter", filter)
+        .add("totalDataManifests", totalDataManifests)
+        .add("skippedDataManifests", skippedDataManifests)
+        .add("scannedDataManifests", scannedDataManifests)
+        .add("manifestBytesRead", manifestBytesRead)
+        .add("skippedDataFilesByPartition", skippedDataFilesByPartition)
+        .add("skippedDataFilesByMetrics", skippedDataFilesByMetrics)
+        .add("resultDataFiles", resultDataFiles)
+        .add("resultDeleteFiles", resultDeleteFiles)
+        .add("deleteIndexDurationMillis", deleteIndexDurationMillis)
+        .add("manifestReadDurationMillis", manifestReadDurationMillis)
+        .add("totalPlanningDurationMillis", totalPlanningDurationMillis)
+        .toString();
+  }
+}
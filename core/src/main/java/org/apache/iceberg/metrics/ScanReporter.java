@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.metrics;
+
+/**
+ * Receives a {@link ScanReport} for each planned table scan.
+ * <p>
+ * Implementations are configured using the table property
+ * {@link org.apache.iceberg.TableProperties#SCAN_REPORTER_IMPL} and must have a no-arg constructor. A single
+ * instance is shared by all scans that use the same implementation, so implementations must be thread-safe.
+ */
+public interface ScanReporter {
+
+  /**
+   * Called when a scan has been planned.
+   *
+   * @param report a {@link ScanReport} for the scan
+   */
+  void report(ScanReport report);
+}
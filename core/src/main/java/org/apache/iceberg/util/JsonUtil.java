@@ -20,8 +20,11 @@
 package org.apache.iceberg.util;
 
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -87,6 +90,33 @@ public class JsonUtil {
     return pNode.asText();
   }
 
+  /**
+   * Reads a long from a streaming parser that is positioned at the value of a field.
+   *
+   * @param property the field name, used for error messages
+   * @param parser a parser positioned at the field's value
+   * @return the field's value as a long
+   */
+  public static long getLong(String property, JsonParser parser) throws IOException {
+    JsonToken token = parser.currentToken();
+    Preconditions.checkArgument(token != null && token.isNumeric(),
+        "Cannot parse %s from non-numeric value: %s", property, parser.getText());
+    return parser.getValueAsLong();
+  }
+
+  /**
+   * Reads a string from a streaming parser that is positioned at the value of a field.
+   *
+   * @param property the field name, used for error messages
+   * @param parser a parser positioned at the field's value
+   * @return the field's value as a string
+   */
+  public static String getString(String property, JsonParser parser) throws IOException {
+    Preconditions.checkArgument(parser.currentToken() == JsonToken.VALUE_STRING,
+        "Cannot parse %s from non-string value: %s", property, parser.getText());
+    return parser.getText();
+  }
+
   public static String getStringOrNull(String property, JsonNode node) {
     if (!node.has(property)) {
       return null;
@@ -17,166 +17,413 @@
  * under the License.
  */
 
+
 package org.apache.iceberg.util;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.io.CloseableGroup;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
-import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 
+/**
+ * An iterable that reads several iterables in parallel using a worker pool.
+ * <p>
+ * Each input is read by a producer task that buffers up to a fixed number of items. When its buffer is full, a
+ * producer returns its worker thread to the pool and is resubmitted once the consumer has taken half of the buffered
+ * items, so memory use is bounded and slow consumers do not hold worker threads. The consumer takes items from any
+ * producer that has them and blocks when none do until a producer hands off more items.
+ * <p>
+ * At most a fixed number of inputs are read at once. By default, this is twice the size of the worker pool so that
+ * workers have other inputs to read while producers are paused.
+ * <p>
+ * Closing the iterable cancels running producers and closes the inputs they opened.
+ */
 public class ParallelIterable<T> extends CloseableGroup implements CloseableIterable<T> {
+  private static final int DEFAULT_MAX_BUFFERED_ITEMS = 1000;
+
   private final Iterable<? extends Iterable<T>> iterables;
   private final ExecutorService workerPool;
+  private final int parallelism;
+  private final int maxBufferedItems;
 
   public ParallelIterable(Iterable<? extends Iterable<T>> iterables,
                           ExecutorService workerPool) {
+    this(iterables, workerPool, DEFAULT_MAX_BUFFERED_ITEMS);
+  }
+
+  /**
+   * @param iterables inputs to read in parallel
+   * @param workerPool a pool used to run producer tasks
+   * @param maxBufferedItems the maximum number of items buffered by each producer
+   */
+  public ParallelIterable(Iterable<? extends Iterable<T>> iterables,
+                          ExecutorService workerPool, int maxBufferedItems) {
+    this(iterables, workerPool, 2 * poolSize(workerPool), maxBufferedItems);
+  }
+
+  /**
+   * @param iterables inputs to read in parallel
+   * @param workerPool a pool used to run producer tasks
+   * @param parallelism the maximum number of inputs to read at once
+   * @param maxBufferedItems the maximum number of items buffered by each producer
+   */
+  public ParallelIterable(Iterable<? extends Iterable<T>> iterables,
+                          ExecutorService workerPool, int parallelism, int maxBufferedItems) {
+    Preconditions.checkArgument(parallelism > 0, "Invalid parallelism: %s (must be positive)", parallelism);
+    Preconditions.checkArgument(maxBufferedItems > 0,
+        "Invalid max buffered items: %s (must be positive)", maxBufferedItems);
     this.iterables = iterables;
     this.workerPool = workerPool;
+    this.parallelism = parallelism;
+    this.maxBufferedItems = maxBufferedItems;
+  }
+
+  /**
+   * Returns the number of threads in a pool, or the size of the shared worker pool if it is not known.
+   */
+  private static int poolSize(ExecutorService workerPool) {
+    if (workerPool instanceof ThreadPoolExecutor) {
+      int maxPoolSize = ((ThreadPoolExecutor) workerPool).getMaximumPoolSize();
+      // unbounded pools, like cached thread pools, add threads on demand
+      return maxPoolSize < Integer.MAX_VALUE ? maxPoolSize : ThreadPools.WORKER_THREAD_POOL_SIZE;
+    } else if (workerPool instanceof ForkJoinPool) {
+      return ((ForkJoinPool) workerPool).getParallelism();
+    } else {
+      return ThreadPools.WORKER_THREAD_POOL_SIZE;
+    }
   }
 
   @Override
   public CloseableIterator<T> iterator() {
-    ParallelIterator<T> iter = new ParallelIterator<>(iterables, workerPool);
+    ParallelIterator<T> iter = new ParallelIterator<>(iterables, workerPool, parallelism, maxBufferedItems);
     addCloseable(iter);
     return iter;
   }
 
   private static class ParallelIterator<T> implements CloseableIterator<T> {
-    private final Iterator<Runnable> tasks;
+    private final Iterator<? extends Iterable<T>> inputs;
     private final ExecutorService workerPool;
-    private final Future<?>[] taskFutures;
-    private final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>();
-    private boolean closed = false;
-
-    private ParallelIterator(Iterable<? extends Iterable<T>> iterables,
-                             ExecutorService workerPool) {
-      this.tasks = Iterables.transform(iterables, iterable ->
-          (Runnable) () -> {
-            try (Closeable ignored = (iterable instanceof Closeable) ?
-                (Closeable) iterable : () -> { }) {
-              for (T item : iterable) {
-                queue.add(item);
-              }
-            } catch (IOException e) {
-              throw new RuntimeIOException(e, "Failed to close iterable");
-            }
-          }).iterator();
+    private final int maxBufferedItems;
+    private final List<Producer> producers;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>(null);
+    private volatile Thread waitingConsumer = null;
+    private volatile boolean scheduleNeeded = true;
+    private volatile boolean closed = false;
+    private int nextProducer = 0;
+    private T next = null;
+
+    private ParallelIterator(Iterable<? extends Iterable<T>> iterables, ExecutorService workerPool,
+                             int parallelism, int maxBufferedItems) {
+      this.inputs = iterables.iterator();
       this.workerPool = workerPool;
-      // submit 2 tasks per worker at a time
-      this.taskFutures = new Future[2 * ThreadPools.WORKER_THREAD_POOL_SIZE];
+      this.maxBufferedItems = maxBufferedItems;
+      this.producers = Lists.newArrayList(Collections.nCopies(parallelism, null));
     }
 
     @Override
-    public void close() {
-      // cancel background tasks
-      for (int i = 0; i < taskFutures.length; i += 1) {
-        if (taskFutures[i] != null && !taskFutures[i].isDone()) {
-          taskFutures[i].cancel(true);
+    public boolean hasNext() {
+      Preconditions.checkState(!closed, "Already closed");
+
+      while (next == null) {
+        checkFailure();
+
+        if (!takeNext()) {
+          return false;
         }
       }
-      this.closed = true;
+
+      return true;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      T item = next;
+      this.next = null;
+      return item;
     }
 
     /**
-     * Checks on running tasks and submits new tasks if needed.
-     * <p>
-     * This should not be called after {@link #close()}.
+     * Takes the next item from a producer, or waits until a producer hands off more items.
      *
-     * @return true if there are pending tasks, false otherwise
+     * @return false if all producers are finished and there are no more items, true otherwise
      */
-    private boolean checkTasks() {
-      boolean hasRunningTask = false;
-
-      for (int i = 0; i < taskFutures.length; i += 1) {
-        if (taskFutures[i] == null || taskFutures[i].isDone()) {
-          if (taskFutures[i] != null) {
-            // check for task failure and re-throw any exception
-            try {
-              taskFutures[i].get();
-            } catch (ExecutionException e) {
-              if (e.getCause() instanceof RuntimeException) {
-                // rethrow a runtime exception
-                throw (RuntimeException) e.getCause();
-              } else {
-                throw new RuntimeException("Failed while running parallel task", e.getCause());
-              }
-            } catch (InterruptedException e) {
-              throw new RuntimeException("Interrupted while running parallel task", e);
+    private boolean takeNext() {
+      if (scheduleNeeded) {
+        // a producer finished or paused, so start new inputs and resume paused producers
+        this.scheduleNeeded = false;
+        scheduleProducers();
+      }
+
+      if (pollProducers()) {
+        return true;
+      }
+
+      if (!scheduleProducers()) {
+        // producers record failures before they finish, including failures to close inputs
+        checkFailure();
+        return false;
+      }
+
+      // register as waiting and check again, so that a hand-off between the check and parking is not missed. Producers
+      // publish items, schedule requests, and failures before reading the waiting consumer, so either the check below
+      // sees them or the producer sees the consumer and unparks it; an unpark before parking makes park return at once.
+      this.waitingConsumer = Thread.currentThread();
+      try {
+        if (pollProducers() || scheduleNeeded || failure.get() != null) {
+          return true;
+        }
+
+        LockSupport.park(this);
+
+        if (Thread.interrupted()) {
+          Thread.currentThread().interrupt();
+          throw new RuntimeException("Interrupted while waiting for parallel tasks");
+        }
+
+      } finally {
+        this.waitingConsumer = null;
+      }
+
+      return true;
+    }
+
+    /**
+     * Takes an item from the first producer with buffered items, starting with the last producer used.
+     *
+     * @return true if an item was taken, false otherwise
+     */
+    private boolean pollProducers() {
+      int numProducers = producers.size();
+      for (int i = 0; i < numProducers; i += 1) {
+        int index = (nextProducer + i) % numProducers;
+        Producer producer = producers.get(index);
+        if (producer != null) {
+          T item = producer.poll();
+          if (item != null) {
+            this.next = item;
+            this.nextProducer = index;
+            if (producer.shouldResume()) {
+              submit(producer);
             }
+            return true;
           }
+        }
+      }
+
+      return false;
+    }
+
+    /**
+     * Replaces finished producers with new inputs and resumes paused producers.
+     *
+     * @return true if any producer may still produce items, false if all inputs are consumed
+     */
+    private boolean scheduleProducers() {
+      boolean hasProducers = false;
 
-          taskFutures[i] = submitNextTask();
+      for (int i = 0; i < producers.size(); i += 1) {
+        Producer producer = producers.get(i);
+        if (producer != null && producer.isFinished()) {
+          producers.set(i, null);
+          producer = null;
         }
 
-        if (taskFutures[i] != null) {
-          hasRunningTask = true;
+        if (producer == null && inputs.hasNext()) {
+          producer = new Producer(inputs.next());
+          producers.set(i, producer);
+        }
+
+        if (producer != null) {
+          hasProducers = true;
+          if (producer.shouldResume()) {
+            submit(producer);
+          }
         }
       }
 
-      return tasks.hasNext() || hasRunningTask;
+      return hasProducers;
+    }
+
+    private void submit(Producer producer) {
+      producer.setFuture(workerPool.submit(producer::produce));
     }
 
-    private Future<?> submitNextTask() {
-      if (tasks.hasNext()) {
-        return workerPool.submit(tasks.next());
+    private void handOff() {
+      Thread consumer = waitingConsumer;
+      if (consumer != null) {
+        LockSupport.unpark(consumer);
+      }
+    }
+
+    private void fail(Throwable cause) {
+      failure.compareAndSet(null, cause);
+      handOff();
+    }
+
+    private void checkFailure() {
+      Throwable cause = failure.get();
+      if (cause != null) {
+        close();
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+          throw (Error) cause;
+        } else {
+          throw new RuntimeException("Failed while running parallel task", cause);
+        }
       }
-      return null;
     }
 
     @Override
-    public synchronized boolean hasNext() {
-      Preconditions.checkState(!closed, "Already closed");
+    public void close() {
+      if (closed) {
+        return;
+      }
 
-      // if the consumer is processing records more slowly than the producers, then this check will
-      // prevent tasks from being submitted. while the producers are running, this will always
-      // return here before running checkTasks. when enough of the tasks are finished that the
-      // consumer catches up, then lots of new tasks will be submitted at once. this behavior is
-      // okay because it ensures that records are not stacking up waiting to be consumed and taking
-      // up memory.
-      //
-      // consumers that process results quickly will periodically exhaust the queue and submit new
-      // tasks when checkTasks runs. fast consumers should not be delayed.
-      if (!queue.isEmpty()) {
-        return true;
+      this.closed = true;
+
+      // cancel background tasks
+      for (Producer producer : producers) {
+        if (producer != null) {
+          producer.cancel();
+        }
       }
+    }
 
-      // this cannot conclude that there are no more records until tasks have finished. while some
-      // are running, return true when there is at least one item to return.
-      while (checkTasks()) {
-        if (!queue.isEmpty()) {
-          return true;
+    /**
+     * Reads one input into a bounded buffer.
+     * <p>
+     * A producer runs until its input is exhausted or its buffer is full. Only the consumer submits a producer, and
+     * only while it is idle, so a producer never runs concurrently with itself.
+     */
+    private class Producer {
+      private static final int IDLE = 0;
+      private static final int QUEUED = 1;
+      private static final int RUNNING = 2;
+
+      private final Iterable<T> iterable;
+      private final ConcurrentLinkedQueue<T> buffer = new ConcurrentLinkedQueue<>();
+      private final AtomicInteger bufferedCount = new AtomicInteger(0);
+      private final AtomicInteger state = new AtomicInteger(IDLE);
+      private final AtomicBoolean inputClosed = new AtomicBoolean(false);
+      private volatile boolean exhausted = false;
+      private volatile Future<?> future = null;
+      private Iterator<T> iterator = null;
+
+      private Producer(Iterable<T> iterable) {
+        this.iterable = iterable;
+      }
+
+      T poll() {
+        T item = buffer.poll();
+        if (item != null) {
+          bufferedCount.decrementAndGet();
+        }
+        return item;
+      }
+
+      /**
+       * Returns true and marks this producer queued if it is paused and half of its buffer has been consumed.
+       */
+      boolean shouldResume() {
+        return !exhausted && bufferedCount.get() <= maxBufferedItems / 2 && state.compareAndSet(IDLE, QUEUED);
+      }
+
+      boolean isFinished() {
+        return exhausted && state.get() == IDLE && buffer.isEmpty();
+      }
+
+      void setFuture(Future<?> newFuture) {
+        this.future = newFuture;
+      }
+
+      void produce() {
+        if (!state.compareAndSet(QUEUED, RUNNING)) {
+          // cancelled before running
+          return;
         }
 
         try {
-          Thread.sleep(10);
+          if (iterator == null) {
+            this.iterator = iterable.iterator();
+          }
 
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt();
-          throw new RuntimeException(e);
+          while (!closed && bufferedCount.get() < maxBufferedItems) {
+            if (!iterator.hasNext()) {
+              this.exhausted = true;
+              break;
+            }
+
+            buffer.add(iterator.next());
+            bufferedCount.incrementAndGet();
+            handOff();
+          }
+
+        } catch (Throwable e) {
+          this.exhausted = true;
+          fail(e);
+
+        } finally {
+          if (exhausted || closed) {
+            closeInput();
+          }
+
+          state.set(IDLE);
+
+          // close may have been called after the check above, while this producer was still running
+          if (closed) {
+            closeInput();
+          }
+
+          scheduleNeeded = true;
+          handOff();
         }
       }
 
-      // when tasks are no longer running, return whether the queue has items
-      return !queue.isEmpty();
-    }
+      void cancel() {
+        if (state.compareAndSet(QUEUED, IDLE) || state.get() == IDLE) {
+          // not running, so the input must be closed here
+          closeInput();
+        } else {
+          Future<?> running = future;
+          if (running != null) {
+            running.cancel(true);
+          }
+        }
+      }
 
-    @Override
-    public synchronized T next() {
-      // use hasNext to block until there is an available record
-      if (!hasNext()) {
-        throw new NoSuchElementException();
+      private void closeInput() {
+        if (inputClosed.compareAndSet(false, true) && iterable instanceof Closeable) {
+          try {
+            ((Closeable) iterable).close();
+          } catch (IOException e) {
+            fail(new RuntimeIOException(e, "Failed to close iterable"));
+          } catch (RuntimeException e) {
+            fail(e);
+          }
+        }
       }
-      return queue.poll();
     }
   }
 }
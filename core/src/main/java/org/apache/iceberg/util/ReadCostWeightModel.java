@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.util;
+
+import java.util.Map;
+import java.util.Set;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.types.TypeUtil;
+
+/**
+ * A {@link TaskWeightModel} that weighs tasks by the bytes of projected columns and delete files they read.
+ */
+public class ReadCostWeightModel implements TaskWeightModel {
+  private Set<Integer> projectedIds = null;
+  private long openFileCost = 0L;
+
+  public ReadCostWeightModel() {
+  }
+
+  ReadCostWeightModel(Schema projection, long openFileCost) {
+    initialize(projection, openFileCost);
+  }
+
+  @Override
+  public void initialize(Schema projection, long newOpenFileCost) {
+    this.projectedIds = TypeUtil.getProjectedIds(projection);
+    this.openFileCost = newOpenFileCost;
+  }
+
+  @Override
+  public boolean usesColumnSizes() {
+    return true;
+  }
+
+  @Override
+  public long weight(FileScanTask task) {
+    long weight = Math.max((long) (task.length() * projectedFraction(task.file())), openFileCost);
+
+    for (DeleteFile deleteFile : task.deletes()) {
+      weight += Math.max(deleteFile.fileSizeInBytes(), openFileCost);
+    }
+
+    return weight;
+  }
+
+  private double projectedFraction(DataFile file) {
+    Map<Integer, Long> columnSizes = file.columnSizes();
+    if (columnSizes == null || columnSizes.isEmpty()) {
+      return 1.0;
+    }
+
+    long totalSize = 0L;
+    long projectedSize = 0L;
+    for (Map.Entry<Integer, Long> entry : columnSizes.entrySet()) {
+      Long size = entry.getValue();
+      if (size != null) {
+        totalSize += size;
+        if (projectedIds.contains(entry.getKey())) {
+          projectedSize += size;
+        }
+      }
+    }
+
+    return totalSize > 0 ? (double) projectedSize / totalSize : 1.0;
+  }
+}
@@ -49,7 +49,13 @@ public class TableScanUtil {
 
   public static CloseableIterable<CombinedScanTask> planTasks(CloseableIterable<FileScanTask> splitFiles,
                                                               long splitSize, int lookback, long openFileCost) {
-    Function<FileScanTask, Long> weightFunc = file -> Math.max(file.length(), openFileCost);
+    return planTasks(splitFiles, splitSize, lookback, TaskWeightModel.length(openFileCost));
+  }
+
+  public static CloseableIterable<CombinedScanTask> planTasks(CloseableIterable<FileScanTask> splitFiles,
+                                                              long splitSize, int lookback,
+                                                              TaskWeightModel weightModel) {
+    Function<FileScanTask, Long> weightFunc = weightModel::weight;
 
     return CloseableIterable.transform(
         CloseableIterable.combine(
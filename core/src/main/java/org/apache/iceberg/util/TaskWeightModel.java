@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.util;
+
+import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.Schema;
+
+/**
+ * Estimates the cost of reading a {@link FileScanTask}, used to balance work when combining tasks.
+ * <p>
+ * Weights are in bytes so that they can be compared with a target split size.
+ */
+@FunctionalInterface
+public interface TaskWeightModel {
+  /**
+   * Returns the weight of a task.
+   *
+   * @param task a file scan task
+   * @return the estimated cost of reading the task, in bytes
+   */
+  long weight(FileScanTask task);
+
+  /**
+   * Initializes a model that was loaded by class name, before any task is weighed.
+   *
+   * @param projection the schema projected by the scan
+   * @param openFileCost the minimum weight of a task, to account for the cost of opening a file
+   */
+  default void initialize(Schema projection, long openFileCost) {
+  }
+
+  /**
+   * Returns whether this model uses the column sizes of data files, which are only read from manifests when needed.
+   *
+   * @return true if scans should keep column sizes in planned data files
+   */
+  default boolean usesColumnSizes() {
+    return false;
+  }
+
+  /**
+   * Returns a model that weighs tasks by the length of the data they read.
+   *
+   * @param openFileCost the minimum weight of a task, to account for the cost of opening a file
+   * @return a model that uses the task length
+   */
+  static TaskWeightModel length(long openFileCost) {
+    return new LengthWeightModel(openFileCost);
+  }
+
+  /**
+   * Returns a model that weighs tasks by the bytes of projected columns and delete files they read.
+   * <p>
+   * The length of each task is scaled by the fraction of the data file's column sizes that are projected, when
+   * column sizes are known. The size of each delete file for the task is added, because delete files are read for
+   * every task of a data file.
+   *
+   * @param projection the schema projected by the scan
+   * @param openFileCost the minimum weight of each data and delete file
+   * @return a model that uses projected column sizes and delete file sizes
+   */
+  static TaskWeightModel readCost(Schema projection, long openFileCost) {
+    return new ReadCostWeightModel(projection, openFileCost);
+  }
+}
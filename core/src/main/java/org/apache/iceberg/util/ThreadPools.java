@@ -21,7 +21,9 @@ package org.apache.iceberg.util;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.apache.iceberg.SystemProperties;
 import org.apache.iceberg.relocated.com.google.common.util.concurrent.MoreExecutors;
 import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
@@ -38,6 +40,8 @@ public class ThreadPools {
       WORKER_THREAD_POOL_SIZE_PROP,
       Runtime.getRuntime().availableProcessors());
 
+  private static final long WORKER_KEEP_ALIVE_SECONDS = 60L;
+
   private static final ExecutorService WORKER_POOL = MoreExecutors.getExitingExecutorService(
       (ThreadPoolExecutor) Executors.newFixedThreadPool(
           WORKER_THREAD_POOL_SIZE,
@@ -61,6 +65,27 @@ public class ThreadPools {
     return WORKER_POOL;
   }
 
+  /**
+   * Creates a new {@link ExecutorService} with a dedicated pool of daemon threads.
+   * <p>
+   * Idle threads time out, so the pool does not hold threads after it is no longer used. Callers should still shut
+   * the pool down when it is no longer needed.
+   *
+   * @param namePrefix a prefix for the names of the pool's threads
+   * @param poolSize the number of threads in the pool
+   * @return an {@link ExecutorService} that uses the new pool
+   */
+  public static ExecutorService newWorkerPool(String namePrefix, int poolSize) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        poolSize, poolSize, WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+        new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat(namePrefix + "-%d")
+            .build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
   private static int getPoolSize(String systemProperty, int defaultSize) {
     String value = System.getProperty(systemProperty);
     if (value != null) {
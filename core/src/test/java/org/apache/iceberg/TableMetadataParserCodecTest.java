@@ -20,6 +20,7 @@
 package org.apache.iceberg;
 
 import org.apache.iceberg.TableMetadataParser.Codec;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
@@ -50,6 +51,22 @@ public class TableMetadataParserCodecTest {
     Codec.fromName("invalid");
   }
 
+  @Test
+  public void testAvroIsNotACompressionCodec() {
+    exceptionRule.expect(IllegalArgumentException.class);
+    exceptionRule.expectMessage("Invalid metadata compression codec: avro");
+    Codec.fromProperties(ImmutableMap.of(TableProperties.METADATA_COMPRESSION, "avro"));
+  }
+
+  @Test
+  public void testCodecFromProperties() {
+    Assert.assertEquals(Codec.NONE, Codec.fromProperties(ImmutableMap.of()));
+    Assert.assertEquals(Codec.GZIP,
+        Codec.fromProperties(ImmutableMap.of(TableProperties.METADATA_COMPRESSION, "gzip")));
+    Assert.assertEquals(Codec.AVRO,
+        Codec.fromProperties(ImmutableMap.of(TableProperties.METADATA_FORMAT, "avro")));
+  }
+
   @Test
   public void testInvalidFileName() {
     exceptionRule.expect(IllegalArgumentException.class);
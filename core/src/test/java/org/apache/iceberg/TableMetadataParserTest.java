@@ -51,7 +51,7 @@ public class TableMetadataParserTest {
 
   @Parameterized.Parameters(name = "codecName = {0}")
   public static Object[] parameters() {
-    return new Object[] { "none", "gzip" };
+    return new Object[] { "none", "gzip", "zstd", "lz4" };
   }
 
   private final String codecName;
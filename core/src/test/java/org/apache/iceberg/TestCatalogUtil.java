@@ -22,15 +22,22 @@ package org.apache.iceberg;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.hadoop.conf.Configurable;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.exceptions.BulkDeletionFailureException;
 import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.SupportsBulkOperations;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -122,6 +129,41 @@ public class TestCatalogUtil {
         () -> CatalogUtil.loadFileIO(TestFileIONotImpl.class.getName(), Maps.newHashMap(), null));
   }
 
+  @Test
+  public void deleteFiles_bulk() {
+    RecordingBulkFileIO io = new RecordingBulkFileIO(0);
+    CatalogUtil.deleteFiles(io, ImmutableList.of("a", "b", "c"), "data");
+
+    Assert.assertEquals("Should use a single bulk delete", 1, io.bulkDeletes.size());
+    Assert.assertEquals(ImmutableList.of("a", "b", "c"), io.bulkDeletes.get(0));
+    Assert.assertTrue("Should not delete files individually", io.deleted.isEmpty());
+  }
+
+  @Test
+  public void deleteFiles_bulkFailureIgnored() {
+    RecordingBulkFileIO io = new RecordingBulkFileIO(2);
+    CatalogUtil.deleteFiles(io, ImmutableList.of("a", "b", "c"), "data");
+
+    Assert.assertEquals("Should attempt a single bulk delete", 1, io.bulkDeletes.size());
+  }
+
+  @Test
+  public void deleteFiles_fallback() {
+    Set<String> deleted = Sets.newHashSet();
+    FileIO io = new TestFileIONoArg() {
+      @Override
+      public void deleteFile(String path) {
+        if (path.equals("b")) {
+          throw new RuntimeException("Injected failure");
+        }
+        deleted.add(path);
+      }
+    };
+
+    CatalogUtil.deleteFiles(io, ImmutableList.of("a", "b", "c"), "data");
+    Assert.assertEquals("Should delete each file and ignore failures", ImmutableSet.of("a", "c"), deleted);
+  }
+
   public static class TestCatalog extends BaseMetastoreCatalog {
 
     private String catalogName;
@@ -350,6 +392,29 @@ public class TestCatalogUtil {
     }
   }
 
+  private static class RecordingBulkFileIO extends TestFileIONoArg implements SupportsBulkOperations {
+    private final int failures;
+    private final List<List<String>> bulkDeletes = Lists.newArrayList();
+    private final List<String> deleted = Lists.newArrayList();
+
+    private RecordingBulkFileIO(int failures) {
+      this.failures = failures;
+    }
+
+    @Override
+    public void deleteFile(String path) {
+      deleted.add(path);
+    }
+
+    @Override
+    public void deleteFiles(Iterable<String> pathsToDelete) throws BulkDeletionFailureException {
+      bulkDeletes.add(Lists.newArrayList(pathsToDelete));
+      if (failures > 0) {
+        throw new BulkDeletionFailureException(failures);
+      }
+    }
+  }
+
   public static class TestFileIONotImpl {
     public TestFileIONotImpl() {
     }
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.iceberg.exceptions.CommitFailedException;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class TestCommitCoalescer extends TableTestBase {
+  @Parameterized.Parameters(name = "formatVersion = {0}")
+  public static Object[] parameters() {
+    return new Object[] { 1, 2 };
+  }
+
+  public TestCommitCoalescer(int formatVersion) {
+    super(formatVersion);
+  }
+
+  @Test
+  public void testAppendsCommittedAsOneSnapshot() throws Exception {
+    try (CommitCoalescer coalescer = new CommitCoalescer(table, TimeUnit.MINUTES.toMillis(1), 4)) {
+      CompletableFuture<Long> appendA = coalescer.append(ImmutableList.of(FILE_A));
+      CompletableFuture<Long> appendB = coalescer.append(ImmutableList.of(FILE_B));
+      CompletableFuture<Long> appendCD = coalescer.append(ImmutableList.of(FILE_C, FILE_D));
+      CompletableFuture<Long> appendNone = coalescer.append(ImmutableList.of());
+
+      long snapshotId = appendA.get(10, TimeUnit.SECONDS);
+      Assert.assertEquals("Should commit all requests in one snapshot", snapshotId, (long) appendB.get());
+      Assert.assertEquals("Should commit all requests in one snapshot", snapshotId, (long) appendCD.get());
+      Assert.assertEquals("Should commit all requests in one snapshot", snapshotId, (long) appendNone.get());
+
+      Assert.assertEquals("Should create one snapshot", 1, Iterables.size(table.snapshots()));
+      Assert.assertEquals("Should commit the returned snapshot", snapshotId, table.currentSnapshot().snapshotId());
+      Assert.assertEquals("Should report one batch", 1, coalescer.committedBatches());
+      Assert.assertEquals("Should report all requests", 4, coalescer.committedRequests());
+      validateTableFiles(table, FILE_A, FILE_B, FILE_C, FILE_D);
+    }
+  }
+
+  @Test
+  public void testCloseCommitsQueuedAppends() {
+    CommitCoalescer coalescer = new CommitCoalescer(table, TimeUnit.MINUTES.toMillis(1), 100);
+    CompletableFuture<Long> append = coalescer.append(ImmutableList.of(FILE_A));
+
+    coalescer.close();
+
+    Assert.assertTrue("Should complete queued appends on close", append.isDone());
+    Assert.assertEquals("Should commit the returned snapshot",
+        table.currentSnapshot().snapshotId(), (long) append.join());
+    validateTableFiles(table, FILE_A);
+
+    AssertHelpers.assertThrows("Should reject appends after close",
+        IllegalStateException.class, "coalescer is closed",
+        () -> coalescer.append(ImmutableList.of(FILE_B)));
+  }
+
+  @Test
+  public void testAppendsRacingCloseAreCompleted() throws Exception {
+    CommitCoalescer coalescer = new CommitCoalescer(table, 0, 1000);
+    List<CompletableFuture<Long>> futures = Collections.synchronizedList(Lists.newArrayList());
+    CountDownLatch started = new CountDownLatch(4);
+    ExecutorService writers = Executors.newFixedThreadPool(4);
+    try {
+      for (int i = 0; i < 4; i += 1) {
+        writers.submit(() -> {
+          started.countDown();
+          try {
+            for (int j = 0; j < 500; j += 1) {
+              futures.add(coalescer.append(ImmutableList.of()));
+            }
+          } catch (IllegalStateException e) {
+            // closed
+          }
+        });
+      }
+
+      started.await();
+      coalescer.close();
+    } finally {
+      writers.shutdown();
+      Assert.assertTrue("Writers should stop", writers.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    for (CompletableFuture<Long> future : futures) {
+      Assert.assertTrue("Should complete every accepted append", future.isDone());
+    }
+  }
+
+  @Test
+  public void testUnknownSnapshotId() throws Exception {
+    // wrap appends so that the committed snapshot id is not exposed
+    Table wrapped = (Table) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Table.class },
+        (proxy, method, args) -> {
+          Object result = method.invoke(table, args);
+          if (result instanceof AppendFiles) {
+            return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { AppendFiles.class },
+                (appendProxy, appendMethod, appendArgs) -> appendMethod.invoke(result, appendArgs));
+          }
+
+          return result;
+        });
+
+    try (CommitCoalescer coalescer = new CommitCoalescer(wrapped, 0, 1)) {
+      CompletableFuture<Long> append = coalescer.append(ImmutableList.of(FILE_A));
+      Assert.assertNull("Should not guess the snapshot id", append.get(10, TimeUnit.SECONDS));
+      validateTableFiles(table, FILE_A);
+    }
+  }
+
+  @Test
+  public void testFailedCommitFailsBatch() throws Exception {
+    table.updateProperties().set(TableProperties.COMMIT_NUM_RETRIES, "0").commit();
+    table.ops().failCommits(1);
+
+    try (CommitCoalescer coalescer = new CommitCoalescer(table, TimeUnit.MINUTES.toMillis(1), 2)) {
+      CompletableFuture<Long> appendA = coalescer.append(ImmutableList.of(FILE_A));
+      CompletableFuture<Long> appendB = coalescer.append(ImmutableList.of(FILE_B));
+
+      AssertHelpers.assertThrowsCause("Should fail every request in the batch",
+          CommitFailedException.class, "Injected failure", appendA::join);
+      AssertHelpers.assertThrowsCause("Should fail every request in the batch",
+          CommitFailedException.class, "Injected failure", appendB::join);
+
+      CompletableFuture<Long> appendC = coalescer.append(ImmutableList.of(FILE_C));
+      CompletableFuture<Long> appendD = coalescer.append(ImmutableList.of(FILE_D));
+      Assert.assertEquals("Should commit the next batch",
+          (long) appendC.get(10, TimeUnit.SECONDS), (long) appendD.get(10, TimeUnit.SECONDS));
+      validateTableFiles(table, FILE_C, FILE_D);
+    }
+  }
+}
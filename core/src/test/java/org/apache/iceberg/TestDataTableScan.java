@@ -20,10 +20,14 @@
 package org.apache.iceberg;
 
 import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.ThreadPools;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -111,4 +115,73 @@ public class TestDataTableScan extends TableTestBase {
       }
     }
   }
+
+  @Test
+  public void testPipelinedPlanning() throws IOException {
+    table.newFastAppend().appendFile(FILE_A).commit();
+    table.newFastAppend().appendFile(FILE_B).commit();
+    table.newFastAppend().appendFile(FILE_C).commit();
+
+    Set<String> expectedPaths = Sets.newHashSet(
+        FILE_A.path().toString(), FILE_B.path().toString(), FILE_C.path().toString());
+
+    // use parallelism larger than the shared pool to plan with a dedicated pool as well
+    for (int parallelism : new int[] { 1, 2, ThreadPools.WORKER_THREAD_POOL_SIZE + 1 }) {
+      TableScan scan = table.newScan()
+          .option(TableProperties.PLANNING_PIPELINED_ENABLED, "true")
+          .option(TableProperties.PLANNING_PARALLELISM, String.valueOf(parallelism))
+          .option(TableProperties.PLANNING_QUEUE_SIZE, "1");
+
+      Set<String> paths = Sets.newHashSet();
+      try (CloseableIterable<FileScanTask> tasks = scan.planFiles()) {
+        for (FileScanTask task : tasks) {
+          paths.add(task.file().path().toString());
+        }
+      }
+
+      Assert.assertEquals("Should plan every file with parallelism " + parallelism, expectedPaths, paths);
+    }
+  }
+
+  @Test
+  public void testStreamingPlanning() throws IOException {
+    table.newFastAppend().appendFile(FILE_A).commit();
+    table.newFastAppend().appendFile(FILE_B).commit();
+    table.newFastAppend().appendFile(FILE_C).commit();
+
+    Set<String> expectedPaths = Sets.newHashSet(
+        FILE_A.path().toString(), FILE_B.path().toString(), FILE_C.path().toString());
+
+    // plan each file as a separate task and buffer only one task
+    TableScan scan = table.newScan()
+        .option(TableProperties.SPLIT_OPEN_FILE_COST, String.valueOf(TableProperties.SPLIT_SIZE_DEFAULT))
+        .option(TableProperties.PLANNING_TASK_BUFFER_SIZE, "1");
+
+    Set<String> paths = Sets.newHashSet();
+    try (ScanTaskStream stream = scan.planTasksStreaming()) {
+      Assert.assertTrue("Should estimate at least one task per file", stream.estimatedTaskCount() >= 3);
+
+      int taskCount = 0;
+      while (stream.hasNext()) {
+        CombinedScanTask task = stream.next();
+        taskCount += 1;
+        for (FileScanTask file : task.files()) {
+          paths.add(file.file().path().toString());
+        }
+      }
+
+      Assert.assertTrue("Planning should be complete", stream.isPlanningComplete());
+      Assert.assertEquals("Should plan a task per file", 3, taskCount);
+      Assert.assertEquals("Should count planned tasks", 3, stream.plannedTaskCount());
+      Assert.assertEquals("Estimate should be exact after planning", 3, stream.estimatedTaskCount());
+      Assert.assertNull("Should not return tasks after the last task", stream.poll(1, TimeUnit.MILLISECONDS));
+    }
+
+    Assert.assertEquals("Should plan every file", expectedPaths, paths);
+
+    // closing before consuming tasks should stop planning without blocking
+    ScanTaskStream stream = scan.planTasksStreaming();
+    stream.close();
+    Assert.assertFalse("Closed stream should not return tasks", stream.hasNext());
+  }
 }
@@ -21,12 +21,15 @@ package org.apache.iceberg;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.StructLikeWrapper;
 import org.junit.Assert;
@@ -145,6 +148,114 @@ public class TestDeleteFileIndex extends TableTestBase {
         0, index.forDataFile(0, unpartitionedFileA).length);
   }
 
+  @Test
+  public void testIndexedDeleteLookup() {
+    PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).build();
+    int pathId = MetadataColumns.DELETE_FILE_PATH.fieldId();
+    int numFiles = 20;
+
+    // each sequence number has a position delete file for one data file and an equality delete file for 10 ids
+    long[] seqs = new long[2 * numFiles];
+    DeleteFile[] deletes = new DeleteFile[2 * numFiles];
+    for (int i = 0; i < numFiles; i += 1) {
+      ByteBuffer path = Conversions.toByteBuffer(Types.StringType.get(), "/path/to/data-" + i + ".parquet");
+      ByteBuffer lower = Conversions.toByteBuffer(Types.IntegerType.get(), i * 10);
+      ByteBuffer upper = Conversions.toByteBuffer(Types.IntegerType.get(), i * 10 + 9);
+
+      seqs[2 * i] = i;
+      deletes[2 * i] = FileMetadata.deleteFileBuilder(spec)
+          .ofPositionDeletes()
+          .withPath("/path/to/pos-deletes-" + i + ".parquet")
+          .withFileSizeInBytes(10)
+          .withMetrics(new Metrics(1L, null, null, null, null,
+              ImmutableMap.of(pathId, path), ImmutableMap.of(pathId, path)))
+          .build();
+
+      seqs[2 * i + 1] = i;
+      deletes[2 * i + 1] = FileMetadata.deleteFileBuilder(spec)
+          .ofEqualityDeletes(3)
+          .withPath("/path/to/eq-deletes-" + i + ".parquet")
+          .withFileSizeInBytes(10)
+          .withMetrics(new Metrics(10L, null, null, null, null,
+              ImmutableMap.of(3, lower), ImmutableMap.of(3, upper)))
+          .build();
+    }
+
+    DeleteFileIndex index = new DeleteFileIndex(ImmutableMap.of(spec.specId(), spec), seqs, deletes, ImmutableMap.of());
+
+    DataFile dataFile = DataFiles.builder(spec)
+        .withPath("/path/to/data-5.parquet")
+        .withFileSizeInBytes(10)
+        .withMetrics(new Metrics(10L, null, null, null, null,
+            ImmutableMap.of(3, Conversions.toByteBuffer(Types.IntegerType.get(), 52)),
+            ImmutableMap.of(3, Conversions.toByteBuffer(Types.IntegerType.get(), 75))))
+        .build();
+
+    Assert.assertArrayEquals("Should match the file's position deletes and overlapping equality deletes",
+        new DeleteFile[] { deletes[10], deletes[11], deletes[13], deletes[15] }, index.forDataFile(0, dataFile));
+    Assert.assertArrayEquals("Should match only newer overlapping equality deletes",
+        new DeleteFile[] { deletes[13], deletes[15] }, index.forDataFile(6, dataFile));
+
+    DataFile fileWithoutStats = DataFiles.builder(spec)
+        .withPath("/path/to/data-30.parquet")
+        .withFileSizeInBytes(10)
+        .withRecordCount(10)
+        .build();
+
+    Assert.assertArrayEquals("Should match all newer equality deletes when ranges are unknown",
+        new DeleteFile[] { deletes[31], deletes[33], deletes[35], deletes[37], deletes[39] },
+        index.forDataFile(15, fileWithoutStats));
+  }
+
+  @Test
+  public void testIndexedRangePositionDeleteLookup() {
+    PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).build();
+    int pathId = MetadataColumns.DELETE_FILE_PATH.fieldId();
+    int numFiles = 10;
+
+    // each position delete file references a range of 3 data files, and the last has no path bounds
+    long[] seqs = new long[numFiles + 1];
+    DeleteFile[] deletes = new DeleteFile[numFiles + 1];
+    for (int i = 0; i < numFiles; i += 1) {
+      ByteBuffer lower = Conversions.toByteBuffer(Types.StringType.get(), dataPath(2 * i));
+      ByteBuffer upper = Conversions.toByteBuffer(Types.StringType.get(), dataPath(2 * i + 2));
+
+      seqs[i] = i;
+      deletes[i] = FileMetadata.deleteFileBuilder(spec)
+          .ofPositionDeletes()
+          .withPath("/path/to/pos-deletes-" + i + ".parquet")
+          .withFileSizeInBytes(10)
+          .withMetrics(new Metrics(3L, null, null, null, null,
+              ImmutableMap.of(pathId, lower), ImmutableMap.of(pathId, upper)))
+          .build();
+    }
+
+    seqs[numFiles] = numFiles;
+    deletes[numFiles] = FileMetadata.deleteFileBuilder(spec)
+        .ofPositionDeletes()
+        .withPath("/path/to/pos-deletes-unbounded.parquet")
+        .withFileSizeInBytes(10)
+        .withRecordCount(1)
+        .build();
+
+    DeleteFileIndex index = new DeleteFileIndex(ImmutableMap.of(spec.specId(), spec), seqs, deletes, ImmutableMap.of());
+
+    DataFile dataFile = DataFiles.builder(spec)
+        .withPath(dataPath(4))
+        .withFileSizeInBytes(10)
+        .withRecordCount(10)
+        .build();
+
+    Assert.assertArrayEquals("Should match position deletes with overlapping path ranges",
+        new DeleteFile[] { deletes[1], deletes[2], deletes[numFiles] }, index.forDataFile(0, dataFile));
+    Assert.assertArrayEquals("Should match only newer position deletes with overlapping path ranges",
+        new DeleteFile[] { deletes[2], deletes[numFiles] }, index.forDataFile(2, dataFile));
+  }
+
+  private static String dataPath(int ordinal) {
+    return String.format("/path/to/data-%02d.parquet", ordinal);
+  }
+
   @Test
   public void testUnpartitionedTableScan() throws IOException {
     File location = temp.newFolder();
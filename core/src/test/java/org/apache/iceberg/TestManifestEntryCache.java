@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Streams;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class TestManifestEntryCache extends TableTestBase {
+  @Parameterized.Parameters(name = "formatVersion = {0}")
+  public static Object[] parameters() {
+    return new Object[] { 1, 2 };
+  }
+
+  public TestManifestEntryCache(int formatVersion) {
+    super(formatVersion);
+  }
+
+  @Before
+  public void enableCache() {
+    System.setProperty(SystemProperties.MANIFEST_CACHE_ENABLED, "true");
+    ManifestEntryCache.shared().invalidateAll();
+  }
+
+  @After
+  public void disableCache() {
+    System.clearProperty(SystemProperties.MANIFEST_CACHE_ENABLED);
+    ManifestEntryCache.shared().invalidateAll();
+  }
+
+  @Test
+  public void testCachedManifestIsNotReadAgain() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, FILE_A, FILE_B, FILE_C);
+    List<String> expected = Lists.newArrayList(
+        FILE_A.path().toString(), FILE_B.path().toString(), FILE_C.path().toString());
+
+    Assert.assertEquals("Should read the expected files", expected, readPaths(manifest));
+
+    // the cache must serve the second read without opening the manifest
+    Assert.assertTrue("Should delete the manifest", new File(manifest.path()).delete());
+    Assert.assertEquals("Should read the expected files from the cache", expected, readPaths(manifest));
+    Assert.assertTrue("Should weigh cached manifests", ManifestEntryCache.shared().estimatedSizeInBytes() > 0);
+  }
+
+  @Test
+  public void testCachedEntriesAreCopied() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, FILE_A);
+
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO)) {
+      for (ManifestEntry<DataFile> entry : reader.entries()) {
+        entry.setSnapshotId(34L);
+      }
+    }
+
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO)) {
+      for (ManifestEntry<DataFile> entry : reader.entries()) {
+        Assert.assertEquals("Should not modify cached entries", 1000L, (long) entry.snapshotId());
+      }
+    }
+  }
+
+  @Test
+  public void testCachedEntriesDropUnprojectedStats() throws IOException {
+    DataFile fileWithStats = DataFiles.builder(SPEC)
+        .withPath("/path/to/data-with-stats.parquet")
+        .withFileSizeInBytes(10)
+        .withPartitionPath("data_bucket=0")
+        .withMetrics(new Metrics(1L, ImmutableMap.of(1, 10L), ImmutableMap.of(1, 1L), ImmutableMap.of(1, 0L)))
+        .build();
+    ManifestFile manifest = writeManifest(1000L, fileWithStats);
+
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO)) {
+      DataFile file = reader.entries().iterator().next().file();
+      Assert.assertNotNull("Should return stats when all columns are projected", file.valueCounts());
+    }
+
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO)
+        .select(Lists.newArrayList("file_path"))) {
+      DataFile file = reader.entries().iterator().next().file();
+      Assert.assertNull("Should not return stats that were not projected", file.valueCounts());
+    }
+  }
+
+  @Test
+  public void testFilteredCachedEntries() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, fileWithIdRange("/path/to/data-1.parquet", 0, 5),
+        fileWithIdRange("/path/to/data-2.parquet", 10, 20));
+
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO)
+        .filterRows(Expressions.equal("id", 3))) {
+      List<ManifestEntry<DataFile>> entries = Lists.newArrayList(reader.entries());
+      Assert.assertEquals("Should return only the matching entry", 1, entries.size());
+      Assert.assertEquals("Should return the matching file",
+          "/path/to/data-1.parquet", entries.get(0).file().path().toString());
+      Assert.assertNotNull("Should return stats used by the filter", entries.get(0).file().lowerBounds());
+      entries.get(0).setSnapshotId(34L);
+    }
+
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO)
+        .select(Lists.newArrayList("file_path"))
+        .filterRows(Expressions.equal("id", 3))
+        .pruneStats()) {
+      List<ManifestEntry<DataFile>> entries = Lists.newArrayList(reader.entries());
+      Assert.assertEquals("Should return only the matching entry", 1, entries.size());
+      Assert.assertEquals("Should not modify cached entries", 1000L, (long) entries.get(0).snapshotId());
+      Assert.assertNull("Should drop stats that were only needed by the filter", entries.get(0).file().lowerBounds());
+      Assert.assertTrue("Should return copies", reader.returnsCopies());
+    }
+  }
+
+  @Test
+  public void testSpillDirectory() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, FILE_A, FILE_B);
+    File spillDir = temp.newFolder();
+    ManifestEntryCache cache = new ManifestEntryCache(1024 * 1024, spillDir, 1024 * 1024);
+    AtomicInteger loads = new AtomicInteger(0);
+
+    ManifestEntryCache.CachedManifest cached = cache.get(FILE_IO, FILE_IO.newInputFile(manifest.path()),
+        manifest.length(), input -> {
+          loads.incrementAndGet();
+          return new ManifestEntryCache.CachedManifest(ImmutableMap.of(), Lists.newArrayList());
+        });
+    Assert.assertNotNull("Should load the manifest", cached);
+    File[] cacheDirs = spillDir.listFiles();
+    Assert.assertEquals("Should create a directory for the cache", 1, cacheDirs.length);
+    Assert.assertEquals("Should spill one manifest", 1, cacheDirs[0].listFiles(file -> !file.isHidden()).length);
+
+    // after the manifest is evicted from memory and removed, it is decoded again from the local copy
+    cache.invalidateAll();
+    Assert.assertTrue("Should delete the manifest", new File(manifest.path()).delete());
+    cache.get(FILE_IO, FILE_IO.newInputFile(manifest.path()), manifest.length(), input -> {
+      loads.incrementAndGet();
+      Assert.assertTrue("Should read from the spill directory",
+          input.location().startsWith(spillDir.getAbsolutePath()));
+      Assert.assertEquals("Should read the full manifest", manifest.length(), input.getLength());
+      return new ManifestEntryCache.CachedManifest(ImmutableMap.of(), Lists.newArrayList());
+    });
+
+    Assert.assertEquals("Should decode the manifest twice", 2, loads.get());
+  }
+
+  @Test
+  public void testCachedEntriesAreScopedToFileIO() throws IOException {
+    ManifestFile manifest = writeManifest(1000L, FILE_A);
+    Assert.assertEquals("Should read the expected files",
+        Lists.newArrayList(FILE_A.path().toString()), readPaths(manifest));
+
+    // another FileIO must read the manifest itself instead of using entries decoded by FILE_IO
+    Assert.assertTrue("Should delete the manifest", new File(manifest.path()).delete());
+    AssertHelpers.assertThrows("Should not use entries cached for another FileIO",
+        NotFoundException.class,
+        () -> ManifestFiles.read(manifest, new TestTables.LocalFileIO()));
+  }
+
+  private static DataFile fileWithIdRange(String path, int lower, int upper) {
+    return DataFiles.builder(SPEC)
+        .withPath(path)
+        .withFileSizeInBytes(10)
+        .withPartitionPath("data_bucket=0")
+        .withMetrics(new Metrics(1L, null, ImmutableMap.of(3, 1L), ImmutableMap.of(3, 0L), null,
+            ImmutableMap.of(3, Conversions.toByteBuffer(Types.IntegerType.get(), lower)),
+            ImmutableMap.of(3, Conversions.toByteBuffer(Types.IntegerType.get(), upper))))
+        .build();
+  }
+
+  private List<String> readPaths(ManifestFile manifest) throws IOException {
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO)) {
+      return Streams.stream(reader)
+          .map(file -> file.path().toString())
+          .collect(Collectors.toList());
+    }
+  }
+}
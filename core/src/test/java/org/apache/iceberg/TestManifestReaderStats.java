@@ -144,6 +144,66 @@ public class TestManifestReaderStats extends TableTestBase {
     }
   }
 
+  @Test
+  public void testPrunedStatsOnlyIncludeFilterColumns() throws IOException {
+    DataFile fileWithDataStats = DataFiles.builder(SPEC)
+        .withPath("/path/to/data-b.parquet")
+        .withFileSizeInBytes(10)
+        .withPartitionPath("data_bucket=0")
+        .withRecordCount(3)
+        .withMetrics(new Metrics(3L, null,
+            ImmutableMap.of(3, 3L, 4, 3L),
+            ImmutableMap.of(3, 0L, 4, 0L),
+            null,
+            ImmutableMap.of(3, Conversions.toByteBuffer(Types.IntegerType.get(), 2),
+                4, Conversions.toByteBuffer(Types.StringType.get(), "a")),
+            ImmutableMap.of(3, Conversions.toByteBuffer(Types.IntegerType.get(), 4),
+                4, Conversions.toByteBuffer(Types.StringType.get(), "z"))))
+        .build();
+
+    ManifestFile manifest = writeManifest(1000L, fileWithDataStats);
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO)
+        .select(ImmutableSet.of("record_count"))
+        .filterRows(Expressions.equal("id", 3))
+        .pruneStats()) {
+      DataFile dataFile = reader.entries().iterator().next().file();
+
+      Assert.assertEquals(ImmutableMap.of(3, 3L), dataFile.valueCounts());
+      Assert.assertEquals(ImmutableMap.of(3, 0L), dataFile.nullValueCounts());
+      Assert.assertEquals(LOWER_BOUNDS, dataFile.lowerBounds());
+      Assert.assertEquals(UPPER_BOUNDS, dataFile.upperBounds());
+    }
+
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO)
+        .select(ImmutableSet.of("record_count"))
+        .filterRows(Expressions.equal("id", 10))
+        .pruneStats()) {
+      Assert.assertFalse("Should filter files using pruned stats", reader.iterator().hasNext());
+    }
+  }
+
+  @Test
+  public void testReadIteratorWithFilterAndSelectColumnSizesKeepsColumnSizes() throws IOException {
+    Map<Integer, Long> columnSizes = ImmutableMap.of(3, 100L);
+    DataFile fileWithSizes = DataFiles.builder(SPEC)
+        .withPath("/path/to/data-c.parquet")
+        .withFileSizeInBytes(10)
+        .withPartitionPath("data_bucket=0")
+        .withRecordCount(3)
+        .withMetrics(new Metrics(3L, columnSizes,
+            VALUE_COUNT, NULL_VALUE_COUNTS, NAN_VALUE_COUNTS, LOWER_BOUNDS, UPPER_BOUNDS))
+        .build();
+
+    ManifestFile manifest = writeManifest(1000L, fileWithSizes);
+    try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO)
+        .select(ImmutableSet.of("record_count", "column_sizes"))
+        .filterRows(Expressions.equal("id", 3))
+        .pruneStats()) {
+      DataFile dataFile = reader.iterator().next();
+      Assert.assertEquals("Should keep selected column sizes", columnSizes, dataFile.columnSizes());
+    }
+  }
+
   private void assertFullStats(DataFile dataFile) {
     Assert.assertEquals(3, dataFile.recordCount());
     Assert.assertNull(dataFile.columnSizes());
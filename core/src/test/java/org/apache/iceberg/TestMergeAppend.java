@@ -907,6 +907,42 @@ public class TestMergeAppend extends TableTestBase {
         statuses(Status.ADDED, Status.EXISTING));
   }
 
+  @Test
+  public void testRetryReusesMergedManifestAfterConcurrentAppend() {
+    // merge all manifests for this test
+    table.updateProperties().set("commit.manifest.min-count-to-merge", "1").commit();
+
+    table.newAppend()
+        .appendFile(FILE_A)
+        .commit();
+
+    long baseId = table.currentSnapshot().snapshotId();
+    ManifestFile initialManifest = table.currentSnapshot().allManifests().get(0);
+
+    AppendFiles append = table.newAppend().appendFile(FILE_B);
+    Snapshot pending = append.apply();
+
+    Assert.assertEquals("Should merge to 1 manifest", 1, pending.allManifests().size());
+    ManifestFile mergedManifest = pending.allManifests().get(0);
+    validateManifest(mergedManifest,
+        ids(pending.snapshotId(), baseId),
+        concat(files(FILE_B), files(initialManifest)));
+
+    // a concurrent commit adds a manifest after the first attempt
+    table.newFastAppend()
+        .appendFile(FILE_C)
+        .commit();
+    ManifestFile concurrentManifest = table.currentSnapshot().allManifests().get(0);
+
+    append.commit();
+
+    Snapshot committed = table.currentSnapshot();
+    Assert.assertEquals("Should reuse the merged manifest and keep the concurrent manifest",
+        Lists.newArrayList(mergedManifest, concurrentManifest), committed.allManifests());
+    Assert.assertTrue("Should not delete the reused merged manifest", new File(mergedManifest.path()).exists());
+    validateTableFiles(table, FILE_A, FILE_B, FILE_C);
+  }
+
   @Test
   public void testAppendManifestWithSnapshotIdInheritance() throws IOException {
     table.updateProperties()
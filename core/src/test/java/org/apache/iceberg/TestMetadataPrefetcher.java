@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.InputFile;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class TestMetadataPrefetcher extends TableTestBase {
+  @Parameterized.Parameters(name = "formatVersion = {0}")
+  public static Object[] parameters() {
+    return new Object[] { 1, 2 };
+  }
+
+  public TestMetadataPrefetcher(int formatVersion) {
+    super(formatVersion);
+  }
+
+  @Test
+  public void testPrefetchManifestListAndManifests() {
+    table.updateProperties()
+        .set(TableProperties.METADATA_PREFETCH_ENABLED, "true")
+        .set(TableProperties.METADATA_PREFETCH_MANIFESTS, "1")
+        .commit();
+    table.newFastAppend().appendFile(FILE_A).commit();
+    table.newFastAppend().appendFile(FILE_B).commit();
+
+    // prefetched files are scoped to the FileIO instance that read them
+    FileIO io = table.io();
+    TableMetadata metadata = table.ops().refresh();
+    MetadataPrefetcher.prefetch(io, metadata).join();
+
+    Snapshot current = metadata.currentSnapshot();
+    InputFile manifestList = MetadataPrefetcher.newInputFile(io, current.manifestListLocation());
+    Assert.assertTrue("Should use the prefetched manifest list", manifestList instanceof PrefetchedInputFile);
+    Assert.assertEquals("Should weigh the prefetched manifest list by its length",
+        manifestList.getLength(), MetadataPrefetcher.prefetchedWeight(io, current.manifestListLocation()));
+
+    Assert.assertEquals("Should have 2 manifests", 2, current.dataManifests().size());
+    InputFile first = MetadataPrefetcher.newInputFile(io, current.dataManifests().get(0).path());
+    Assert.assertTrue("Should prefetch the first manifest", first instanceof PrefetchedInputFile);
+    Assert.assertEquals("Prefetched manifest length should match",
+        current.dataManifests().get(0).length(), first.getLength());
+
+    InputFile second = MetadataPrefetcher.newInputFile(io, current.dataManifests().get(1).path());
+    Assert.assertFalse("Should not prefetch more than the configured number of manifests",
+        second instanceof PrefetchedInputFile);
+
+    validateTableFiles(table, FILE_A, FILE_B);
+  }
+
+  @Test
+  public void testPrefetchNotSharedWithOtherFileIO() {
+    table.updateProperties()
+        .set(TableProperties.METADATA_PREFETCH_ENABLED, "true")
+        .commit();
+    table.newFastAppend().appendFile(FILE_A).commit();
+
+    FileIO io = table.io();
+    TableMetadata metadata = table.ops().refresh();
+    MetadataPrefetcher.prefetch(io, metadata).join();
+
+    String manifestListLocation = metadata.currentSnapshot().manifestListLocation();
+    Assert.assertTrue("Should use the prefetched manifest list with the same FileIO",
+        MetadataPrefetcher.newInputFile(io, manifestListLocation) instanceof PrefetchedInputFile);
+    InputFile otherManifestList = MetadataPrefetcher.newInputFile(new TestTables.LocalFileIO(), manifestListLocation);
+    Assert.assertFalse("Should not use the prefetched manifest list with another FileIO",
+        otherManifestList instanceof PrefetchedInputFile);
+  }
+
+  @Test
+  public void testPrefetchDisabledByDefault() {
+    table.newFastAppend().appendFile(FILE_A).commit();
+
+    TableMetadata metadata = table.ops().refresh();
+    MetadataPrefetcher.prefetch(table.io(), metadata).join();
+
+    InputFile manifestList = MetadataPrefetcher.newInputFile(
+        table.io(), metadata.currentSnapshot().manifestListLocation());
+    Assert.assertFalse("Should not prefetch when disabled", manifestList instanceof PrefetchedInputFile);
+  }
+}
@@ -826,6 +826,62 @@ public class TestRemoveSnapshots extends TableTestBase {
     Assert.assertTrue("FILE_B should be deleted", deletedFiles.contains(FILE_B.path().toString()));
   }
 
+  @Test
+  public void dataFilesCleanupWithCleanupParallelism() throws IOException {
+    table.newFastAppend()
+        .appendFile(FILE_A)
+        .commit();
+
+    table.newFastAppend()
+        .appendFile(FILE_B)
+        .commit();
+
+    table.newRewrite()
+        .rewriteFiles(ImmutableSet.of(FILE_B), ImmutableSet.of(FILE_D))
+        .commit();
+
+    table.newRewrite()
+        .rewriteFiles(ImmutableSet.of(FILE_A), ImmutableSet.of(FILE_C))
+        .commit();
+
+    long t4 = System.currentTimeMillis();
+    while (t4 <= table.currentSnapshot().timestampMillis()) {
+      t4 = System.currentTimeMillis();
+    }
+
+    Set<String> deletedFiles = ConcurrentHashMap.newKeySet();
+    Set<String> deleteThreads = ConcurrentHashMap.newKeySet();
+
+    RemoveSnapshots removeSnapshots = (RemoveSnapshots) table.expireSnapshots()
+        .cleanupParallelism(4)
+        .expireOlderThan(t4)
+        .deleteWith(s -> {
+          deleteThreads.add(Thread.currentThread().getName());
+          deletedFiles.add(s);
+        });
+    removeSnapshots.commit();
+
+    Assert.assertTrue("FILE_A should be deleted", deletedFiles.contains(FILE_A.path().toString()));
+    Assert.assertTrue("FILE_B should be deleted", deletedFiles.contains(FILE_B.path().toString()));
+    Assert.assertFalse("FILE_C should not be deleted", deletedFiles.contains(FILE_C.path().toString()));
+    Assert.assertFalse("FILE_D should not be deleted", deletedFiles.contains(FILE_D.path().toString()));
+
+    Assert.assertTrue("Deletes should run in the cleanup pool",
+        deleteThreads.stream().allMatch(name -> name.startsWith("iceberg-expire-snapshots")));
+
+    RemoveSnapshots.CleanupMetrics metrics = removeSnapshots.cleanupMetrics();
+    Assert.assertEquals("Should delete the expired data files", 2, metrics.dataFilesDeleted());
+    Assert.assertEquals("Should delete the expired manifest lists", 3, metrics.manifestListsDeleted());
+    Assert.assertEquals("Should not report delete failures", 0, metrics.deleteFailures());
+  }
+
+  @Test
+  public void testInvalidCleanupParallelism() {
+    AssertHelpers.assertThrows("Should reject non-positive cleanup parallelism",
+        IllegalArgumentException.class, "Invalid cleanup parallelism: 0",
+        () -> table.expireSnapshots().cleanupParallelism(0));
+  }
+
   @Test
   public void noDataFileCleanup() throws IOException {
     table.newFastAppend()
@@ -21,6 +21,7 @@ package org.apache.iceberg;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
@@ -29,7 +30,12 @@ import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -997,6 +1003,128 @@ public class TestRewriteManifests extends TableTestBase {
         statuses(ManifestEntry.Status.EXISTING));
   }
 
+  @Test
+  public void testSortByPartition() throws IOException {
+    table.newFastAppend()
+        .appendFile(FILE_A)
+        .appendFile(FILE_C)
+        .commit();
+    table.newFastAppend()
+        .appendFile(FILE_B)
+        .appendFile(FILE_D)
+        .commit();
+    table.newFastAppend()
+        .appendFile(FILE_A2)
+        .commit();
+
+    Assert.assertEquals(3, table.currentSnapshot().allManifests().size());
+
+    // a small target size creates one manifest per entry, which are written in partition order
+    BaseRewriteManifests rewriteManifests = spy((BaseRewriteManifests) table.rewriteManifests());
+    when(rewriteManifests.getManifestTargetSizeBytes()).thenReturn(1L);
+    rewriteManifests.sortByPartition().commit();
+
+    List<ManifestFile> manifests = table.currentSnapshot().allManifests();
+    Assert.assertEquals(5, manifests.size());
+
+    List<Integer> partitions = Lists.newArrayList();
+    for (ManifestFile manifest : manifests) {
+      try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO)) {
+        for (DataFile file : reader) {
+          partitions.add(file.partition().get(0, Integer.class));
+        }
+      }
+    }
+
+    Assert.assertEquals("Manifests should be sorted by partition", Arrays.asList(0, 0, 1, 2, 3), partitions);
+
+    Map<String, String> summary = table.currentSnapshot().summary();
+    Assert.assertEquals("Should report manifests per partition before rewrite",
+        "1.25", summary.get("manifests-per-partition-before"));
+    Assert.assertEquals("Should report manifests per partition after rewrite",
+        "1.25", summary.get("manifests-per-partition-after"));
+  }
+
+  @Test
+  public void testSortByPartitionReducesOverlap() {
+    table.newFastAppend()
+        .appendFile(FILE_A)
+        .appendFile(FILE_B)
+        .commit();
+    table.newFastAppend()
+        .appendFile(FILE_A2)
+        .appendFile(FILE_C)
+        .commit();
+
+    table.rewriteManifests()
+        .sortByPartition("id")
+        .commit();
+
+    Assert.assertEquals(1, table.currentSnapshot().allManifests().size());
+
+    Map<String, String> summary = table.currentSnapshot().summary();
+    Assert.assertEquals("Partition 0 should be in both manifests before rewrite",
+        "1.33", summary.get("manifests-per-partition-before"));
+    Assert.assertEquals("Each partition should be in one manifest after rewrite",
+        "1.00", summary.get("manifests-per-partition-after"));
+  }
+
+  @Test
+  public void testSortByPartitionColumnAfterTypePromotion() throws IOException {
+    table.newFastAppend()
+        .appendFile(fileWithIdLowerBound("/path/to/data-int.parquet", Types.IntegerType.get(), 20))
+        .commit();
+
+    // configure the rewrite before the sort column is promoted
+    BaseRewriteManifests rewriteManifests = spy((BaseRewriteManifests) table.rewriteManifests());
+    when(rewriteManifests.getManifestTargetSizeBytes()).thenReturn(1L);
+    rewriteManifests.sortByPartition("id");
+
+    table.updateSchema()
+        .updateColumn("id", Types.LongType.get())
+        .commit();
+    table.newFastAppend()
+        .appendFile(fileWithIdLowerBound("/path/to/data-long-5.parquet", Types.LongType.get(), 5_000_000_000L))
+        .appendFile(fileWithIdLowerBound("/path/to/data-long-3.parquet", Types.LongType.get(), 3_000_000_000L))
+        .commit();
+
+    rewriteManifests.commit();
+
+    List<String> paths = Lists.newArrayList();
+    for (ManifestFile manifest : table.currentSnapshot().allManifests()) {
+      try (ManifestReader<DataFile> reader = ManifestFiles.read(manifest, FILE_IO)) {
+        for (DataFile file : reader) {
+          paths.add(file.path().toString());
+        }
+      }
+    }
+
+    Assert.assertEquals("Should sort bounds written before and after promotion by the promoted type",
+        Arrays.asList("/path/to/data-int.parquet", "/path/to/data-long-3.parquet", "/path/to/data-long-5.parquet"),
+        paths);
+  }
+
+  private static DataFile fileWithIdLowerBound(String path, Type.PrimitiveType type, Object lower) {
+    ByteBuffer bound = Conversions.toByteBuffer(type, lower);
+    return DataFiles.builder(SPEC)
+        .withPath(path)
+        .withFileSizeInBytes(10)
+        .withPartitionPath("data_bucket=0")
+        .withMetrics(new Metrics(1L, null, null, null, null, ImmutableMap.of(3, bound), ImmutableMap.of(3, bound)))
+        .build();
+  }
+
+  @Test
+  public void testSortByPartitionInvalidUsage() {
+    AssertHelpers.assertThrows("Should reject unknown sort column",
+        IllegalArgumentException.class, "Cannot find sort column: unknown",
+        () -> table.rewriteManifests().sortByPartition("unknown"));
+
+    AssertHelpers.assertThrows("Should reject combining sort and cluster",
+        IllegalArgumentException.class, "Cannot cluster by a function and sort by partition",
+        () -> table.rewriteManifests().sortByPartition().clusterBy(file -> "file"));
+  }
+
   @Test
   public void testInvalidUsage() throws IOException {
     Assert.assertNull("Table should be empty", table.currentSnapshot());
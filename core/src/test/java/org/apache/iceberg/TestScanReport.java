@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import java.io.IOException;
+import java.util.List;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.metrics.ScanReport;
+import org.apache.iceberg.metrics.ScanReporter;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static org.apache.iceberg.expressions.Expressions.and;
+import static org.apache.iceberg.expressions.Expressions.equal;
+
+@RunWith(Parameterized.class)
+public class TestScanReport extends TableTestBase {
+  @Parameterized.Parameters(name = "formatVersion = {0}")
+  public static Object[] parameters() {
+    return new Object[] { 1, 2 };
+  }
+
+  private static final PartitionSpec ID_SPEC = PartitionSpec.builderFor(SCHEMA).identity("id").build();
+
+  private static final DataFile FILE_ID_1 = DataFiles.builder(ID_SPEC)
+      .withPath("/path/to/data-id-1.parquet")
+      .withFileSizeInBytes(10)
+      .withPartitionPath("id=1")
+      .withRecordCount(1)
+      .build();
+  private static final DataFile FILE_ID_2_LOW = DataFiles.builder(ID_SPEC)
+      .withPath("/path/to/data-id-2-low.parquet")
+      .withFileSizeInBytes(10)
+      .withPartitionPath("id=2")
+      .withMetrics(dataRange("a", "c"))
+      .build();
+  private static final DataFile FILE_ID_2_HIGH = DataFiles.builder(ID_SPEC)
+      .withPath("/path/to/data-id-2-high.parquet")
+      .withFileSizeInBytes(10)
+      .withPartitionPath("id=2")
+      .withMetrics(dataRange("x", "z"))
+      .build();
+
+  private Table idTable = null;
+
+  public TestScanReport(int formatVersion) {
+    super(formatVersion);
+  }
+
+  @Before
+  public void createIdPartitionedTable() throws IOException {
+    this.idTable = TestTables.create(temp.newFolder(), "scan_report", SCHEMA, ID_SPEC, formatVersion);
+    idTable.updateProperties()
+        .set(TableProperties.SCAN_REPORTER_IMPL, RecordingScanReporter.class.getName())
+        .commit();
+    RecordingScanReporter.REPORTS.clear();
+  }
+
+  @Test
+  public void testScanReportCountsPruning() throws IOException {
+    idTable.newFastAppend()
+        .appendFile(FILE_ID_1)
+        .commit();
+    idTable.newFastAppend()
+        .appendFile(FILE_ID_2_LOW)
+        .appendFile(FILE_ID_2_HIGH)
+        .commit();
+
+    TableScan scan = idTable.newScan().filter(and(equal("id", 2), equal("data", "y")));
+    List<FileScanTask> tasks;
+    try (CloseableIterable<FileScanTask> planned = scan.planFiles()) {
+      tasks = Lists.newArrayList(planned);
+    }
+
+    Assert.assertEquals("Should plan one file", 1, tasks.size());
+    Assert.assertEquals("Should report once", 1, RecordingScanReporter.REPORTS.size());
+
+    ScanReport report = RecordingScanReporter.REPORTS.get(0);
+    Assert.assertEquals("scan_report", report.tableName());
+    Assert.assertEquals(idTable.currentSnapshot().snapshotId(), report.snapshotId());
+    Assert.assertEquals("Should consider both manifests", 2, report.totalDataManifests());
+    Assert.assertEquals("Should skip the manifest for id=1", 1, report.skippedDataManifests());
+    Assert.assertEquals("Should read one manifest", 1, report.scannedDataManifests());
+    Assert.assertTrue("Should count manifest bytes", report.manifestBytesRead() > 0);
+    Assert.assertEquals("Should skip the file with data in [a, c]", 1, report.skippedDataFilesByMetrics());
+    Assert.assertEquals("Should not skip files by partition", 0, report.skippedDataFilesByPartition());
+    Assert.assertEquals("Should return one data file", 1, report.resultDataFiles());
+    Assert.assertEquals("Should not match delete files", 0, report.resultDeleteFiles());
+  }
+
+  @Test
+  public void testScanReportNotProducedUntilClosed() throws IOException {
+    idTable.newFastAppend()
+        .appendFile(FILE_ID_1)
+        .commit();
+
+    CloseableIterable<FileScanTask> planned = idTable.newScan().planFiles();
+    Lists.newArrayList(planned);
+    Assert.assertEquals("Should not report before tasks are closed", 0, RecordingScanReporter.REPORTS.size());
+
+    planned.close();
+    planned.close();
+    Assert.assertEquals("Should report once when tasks are closed", 1, RecordingScanReporter.REPORTS.size());
+  }
+
+  @Test
+  public void testScanReportCountsSkippedManifestsOnce() throws IOException {
+    idTable.newFastAppend()
+        .appendFile(FILE_ID_1)
+        .commit();
+    idTable.newFastAppend()
+        .appendFile(FILE_ID_2_LOW)
+        .commit();
+
+    try (CloseableIterable<FileScanTask> planned = idTable.newScan().filter(equal("id", 2)).planFiles()) {
+      Assert.assertEquals("Should plan one file", 1, Lists.newArrayList(planned).size());
+      Assert.assertEquals("Should plan one file when iterated again", 1, Lists.newArrayList(planned).size());
+    }
+
+    ScanReport report = RecordingScanReporter.REPORTS.get(0);
+    Assert.assertEquals("Should count the skipped manifest once", 1, report.skippedDataManifests());
+  }
+
+  private static Metrics dataRange(String lower, String upper) {
+    int dataId = SCHEMA.findField("data").fieldId();
+    return new Metrics(1L, null, null, null, null,
+        ImmutableMap.of(dataId, Conversions.toByteBuffer(Types.StringType.get(), lower)),
+        ImmutableMap.of(dataId, Conversions.toByteBuffer(Types.StringType.get(), upper)));
+  }
+
+  public static class RecordingScanReporter implements ScanReporter {
+    private static final List<ScanReport> REPORTS = Lists.newCopyOnWriteArrayList();
+
+    @Override
+    public void report(ScanReport report) {
+      REPORTS.add(report);
+    }
+  }
+}
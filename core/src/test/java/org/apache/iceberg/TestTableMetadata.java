@@ -21,9 +21,11 @@ package org.apache.iceberg;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
+import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
@@ -144,6 +146,157 @@ public class TestTableMetadata {
         metadata.snapshot(previousSnapshotId).allManifests());
   }
 
+  @Test
+  public void testStreamingJsonConversion() throws Exception {
+    long previousSnapshotId = System.currentTimeMillis() - new Random(1234).nextInt(3600);
+    Snapshot previousSnapshot = new BaseSnapshot(
+        ops.io(), 1, previousSnapshotId, null, previousSnapshotId, DataOperations.APPEND,
+        ImmutableMap.of("added-data-files", "1"), "file:/tmp/snap-1.avro");
+    long currentSnapshotId = System.currentTimeMillis();
+    Snapshot currentSnapshot = new BaseSnapshot(
+        ops.io(), 2, currentSnapshotId, previousSnapshotId, currentSnapshotId, DataOperations.OVERWRITE,
+        ImmutableMap.of("added-data-files", "2", "deleted-data-files", "1"), "file:/tmp/snap-2.avro");
+
+    List<HistoryEntry> snapshotLog = ImmutableList.<HistoryEntry>builder()
+        .add(new SnapshotLogEntry(previousSnapshot.timestampMillis(), previousSnapshot.snapshotId()))
+        .add(new SnapshotLogEntry(currentSnapshot.timestampMillis(), currentSnapshot.snapshotId()))
+        .build();
+    List<MetadataLogEntry> metadataLog = ImmutableList.of(
+        new MetadataLogEntry(previousSnapshotId, "file:/tmp/v1.metadata.json"));
+
+    TableMetadata expected = new TableMetadata(null, 2, UUID.randomUUID().toString(), TEST_LOCATION,
+        SEQ_NO, System.currentTimeMillis(), 3, TEST_SCHEMA, 5, ImmutableList.of(SPEC_5),
+        3, ImmutableList.of(SORT_ORDER_3), ImmutableMap.of("property", "value"), currentSnapshotId,
+        Arrays.asList(previousSnapshot, currentSnapshot), snapshotLog, metadataLog);
+
+    String asJson = TableMetadataParser.toJson(expected);
+    TableMetadata metadata = TableMetadataParser.fromJson(ops.io(), null, asJson.getBytes(StandardCharsets.UTF_8));
+    TableMetadata untouched = TableMetadataParser.fromJson(ops.io(), null, asJson.getBytes(StandardCharsets.UTF_8));
+
+    Assert.assertEquals("Table UUID should match", expected.uuid(), metadata.uuid());
+    Assert.assertEquals("Last sequence number should match",
+        expected.lastSequenceNumber(), metadata.lastSequenceNumber());
+    Assert.assertEquals("Schema should match", expected.schema().asStruct(), metadata.schema().asStruct());
+    Assert.assertEquals("PartitionSpec map should match", expected.specs(), metadata.specs());
+    Assert.assertEquals("Sort orders should match", expected.sortOrders(), metadata.sortOrders());
+    Assert.assertEquals("Properties should match", expected.properties(), metadata.properties());
+    Assert.assertEquals("Snapshot logs should match", expected.snapshotLog(), metadata.snapshotLog());
+    Assert.assertEquals("Metadata logs should match", expected.previousFiles(), metadata.previousFiles());
+
+    Snapshot current = metadata.currentSnapshot();
+    Assert.assertTrue("Should read snapshots lazily", current instanceof LazySnapshot);
+    Assert.assertEquals("Current snapshot ID should match", currentSnapshotId, current.snapshotId());
+    Assert.assertEquals("Sequence number should match", 2, current.sequenceNumber());
+    Assert.assertEquals("Parent snapshot ID should match", (Long) previousSnapshotId, current.parentId());
+    Assert.assertEquals("Operation should match", DataOperations.OVERWRITE, current.operation());
+    Assert.assertEquals("Summary should match", currentSnapshot.summary(), current.summary());
+    Assert.assertEquals("Manifest list should match",
+        currentSnapshot.manifestListLocation(), current.manifestListLocation());
+    Assert.assertEquals("Previous snapshot summary should match",
+        previousSnapshot.summary(), metadata.snapshot(previousSnapshotId).summary());
+
+    // unloaded snapshots are written using the original JSON
+    String rewrittenJson = TableMetadataParser.toJson(untouched);
+    Assert.assertFalse("Writing metadata should not load snapshots",
+        ((LazySnapshot) untouched.snapshot(previousSnapshotId)).isLoaded());
+    TableMetadata rewritten = TableMetadataParser.fromJson(ops.io(), null,
+        JsonUtil.mapper().readValue(rewrittenJson, JsonNode.class));
+    Snapshot rewrittenPrevious = rewritten.snapshot(previousSnapshotId);
+    Assert.assertEquals("Rewritten snapshot ID should match", previousSnapshotId, rewrittenPrevious.snapshotId());
+    Assert.assertEquals("Rewritten sequence number should match", 1, rewrittenPrevious.sequenceNumber());
+    Assert.assertEquals("Rewritten operation should match", DataOperations.APPEND, rewrittenPrevious.operation());
+    Assert.assertEquals("Rewritten summary should match", previousSnapshot.summary(), rewrittenPrevious.summary());
+    Assert.assertEquals("Rewritten manifest list should match",
+        previousSnapshot.manifestListLocation(), rewrittenPrevious.manifestListLocation());
+  }
+
+  @Test
+  public void testBinaryEncoding() throws Exception {
+    long previousSnapshotId = System.currentTimeMillis() - new Random(1234).nextInt(3600);
+    Snapshot previousSnapshot = new BaseSnapshot(
+        ops.io(), previousSnapshotId, null, previousSnapshotId, null, null, ImmutableList.of(
+        new GenericManifestFile(localInput("file:/tmp/manifest.1.avro"), SPEC_5.specId())));
+    long currentSnapshotId = System.currentTimeMillis();
+    Snapshot currentSnapshot = new BaseSnapshot(
+        ops.io(), 2, currentSnapshotId, previousSnapshotId, currentSnapshotId, DataOperations.OVERWRITE,
+        ImmutableMap.of("added-data-files", "2", "deleted-data-files", "1"), "file:/tmp/snap-2.avro");
+
+    List<HistoryEntry> snapshotLog = ImmutableList.<HistoryEntry>builder()
+        .add(new SnapshotLogEntry(previousSnapshot.timestampMillis(), previousSnapshot.snapshotId()))
+        .add(new SnapshotLogEntry(currentSnapshot.timestampMillis(), currentSnapshot.snapshotId()))
+        .build();
+    List<MetadataLogEntry> metadataLog = ImmutableList.of(
+        new MetadataLogEntry(previousSnapshotId, "file:/tmp/v1.metadata.json"));
+
+    TableMetadata expected = new TableMetadata(null, 2, UUID.randomUUID().toString(), TEST_LOCATION,
+        SEQ_NO, System.currentTimeMillis(), 3, TEST_SCHEMA, 5, ImmutableList.of(SPEC_5),
+        3, ImmutableList.of(SORT_ORDER_3), ImmutableMap.of(TableProperties.METADATA_FORMAT, "avro"),
+        currentSnapshotId, Arrays.asList(previousSnapshot, currentSnapshot), snapshotLog, metadataLog);
+
+    String fileExtension = TableMetadataParser.getFileExtension(expected);
+    Assert.assertEquals("Should use the binary file extension", ".avro.metadata.json", fileExtension);
+
+    File file = new File(temp.newFolder(), "v1" + fileExtension);
+    TableMetadataParser.write(expected, Files.localOutput(file));
+    TableMetadata metadata = TableMetadataParser.read(ops.io(), Files.localInput(file));
+
+    Assert.assertEquals("Table UUID should match", expected.uuid(), metadata.uuid());
+    Assert.assertEquals("Last sequence number should match",
+        expected.lastSequenceNumber(), metadata.lastSequenceNumber());
+    Assert.assertEquals("Schema should match", expected.schema().asStruct(), metadata.schema().asStruct());
+    Assert.assertEquals("PartitionSpec map should match", expected.specs(), metadata.specs());
+    Assert.assertEquals("Sort orders should match", expected.sortOrders(), metadata.sortOrders());
+    Assert.assertEquals("Properties should match", expected.properties(), metadata.properties());
+    Assert.assertEquals("Snapshot logs should match", expected.snapshotLog(), metadata.snapshotLog());
+    Assert.assertEquals("Metadata logs should match", expected.previousFiles(), metadata.previousFiles());
+
+    Snapshot current = metadata.currentSnapshot();
+    Assert.assertEquals("Current snapshot ID should match", currentSnapshotId, current.snapshotId());
+    Assert.assertEquals("Sequence number should match", 2, current.sequenceNumber());
+    Assert.assertEquals("Parent snapshot ID should match", (Long) previousSnapshotId, current.parentId());
+    Assert.assertEquals("Operation should match", DataOperations.OVERWRITE, current.operation());
+    Assert.assertEquals("Summary should match", currentSnapshot.summary(), current.summary());
+    Assert.assertEquals("Manifest list should match",
+        currentSnapshot.manifestListLocation(), current.manifestListLocation());
+
+    Snapshot previous = metadata.snapshot(previousSnapshotId);
+    Assert.assertNull("Previous snapshot should not have a parent", previous.parentId());
+    Assert.assertNull("Previous snapshot should not have a summary", previous.summary());
+    Assert.assertEquals("Previous snapshot manifests should match",
+        Lists.transform(previousSnapshot.allManifests(), ManifestFile::path),
+        Lists.transform(previous.allManifests(), ManifestFile::path));
+  }
+
+  @Test
+  public void testBinaryEncodingWritesUnloadedSnapshots() throws Exception {
+    long snapshotId = System.currentTimeMillis();
+    Snapshot snapshot = new BaseSnapshot(
+        ops.io(), 1, snapshotId, null, snapshotId, DataOperations.APPEND,
+        ImmutableMap.of("added-data-files", "1"), "file:/tmp/snap-1.avro");
+
+    TableMetadata expected = new TableMetadata(null, 2, UUID.randomUUID().toString(), TEST_LOCATION,
+        SEQ_NO, System.currentTimeMillis(), 3, TEST_SCHEMA, 5, ImmutableList.of(SPEC_5),
+        3, ImmutableList.of(SORT_ORDER_3), ImmutableMap.of(), snapshotId, ImmutableList.of(snapshot),
+        ImmutableList.of(new SnapshotLogEntry(snapshot.timestampMillis(), snapshotId)), ImmutableList.of());
+
+    String asJson = TableMetadataParser.toJson(expected);
+    TableMetadata untouched = TableMetadataParser.fromJson(ops.io(), null, asJson.getBytes(StandardCharsets.UTF_8));
+
+    File file = new File(temp.newFolder(), "v1.avro.metadata.json");
+    TableMetadataAvro.write(untouched, Files.localOutput(file), false);
+    Assert.assertFalse("Writing binary metadata should not load snapshots",
+        ((LazySnapshot) untouched.snapshot(snapshotId)).isLoaded());
+
+    TableMetadata metadata = TableMetadataParser.read(ops.io(), Files.localInput(file));
+    Snapshot current = metadata.currentSnapshot();
+    Assert.assertTrue("Should read snapshots written as JSON lazily", current instanceof LazySnapshot);
+    Assert.assertEquals("Snapshot ID should match", snapshotId, current.snapshotId());
+    Assert.assertEquals("Sequence number should match", 1, current.sequenceNumber());
+    Assert.assertEquals("Operation should match", DataOperations.APPEND, current.operation());
+    Assert.assertEquals("Summary should match", snapshot.summary(), current.summary());
+    Assert.assertEquals("Manifest list should match", snapshot.manifestListLocation(), current.manifestListLocation());
+  }
+
   @Test
   public void testBackwardCompat() throws Exception {
     PartitionSpec spec = PartitionSpec.builderFor(TEST_SCHEMA).identity("x").withSpecId(6).build();
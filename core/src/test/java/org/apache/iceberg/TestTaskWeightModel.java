@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg;
+
+import java.io.IOException;
+import java.util.List;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.ResidualEvaluator;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.TaskWeightModel;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+public class TestTaskWeightModel {
+  private static final Schema SCHEMA = new Schema(
+      required(1, "id", Types.LongType.get()),
+      required(2, "data", Types.StringType.get()));
+  private static final PartitionSpec SPEC = PartitionSpec.unpartitioned();
+
+  private static final DataFile FILE_WITH_SIZES = DataFiles.builder(SPEC)
+      .withPath("/path/to/data-with-sizes.parquet")
+      .withFileSizeInBytes(1000)
+      .withMetrics(new Metrics(10L, ImmutableMap.of(1, 200L, 2, 800L), null, null, null))
+      .build();
+
+  private static final DataFile FILE_WITHOUT_SIZES = DataFiles.builder(SPEC)
+      .withPath("/path/to/data-without-sizes.parquet")
+      .withFileSizeInBytes(1000)
+      .withRecordCount(10)
+      .build();
+
+  private static final DataFile OTHER_FILE_WITH_SIZES = DataFiles.builder(SPEC)
+      .withPath("/path/to/other-data-with-sizes.parquet")
+      .withFileSizeInBytes(1000)
+      .withMetrics(new Metrics(10L, ImmutableMap.of(1, 200L, 2, 800L), null, null, null))
+      .build();
+
+  private static final DeleteFile POS_DELETES = FileMetadata.deleteFileBuilder(SPEC)
+      .ofPositionDeletes()
+      .withPath("/path/to/pos-deletes.parquet")
+      .withFileSizeInBytes(300)
+      .withRecordCount(1)
+      .build();
+
+  private static final DeleteFile SMALL_EQ_DELETES = FileMetadata.deleteFileBuilder(SPEC)
+      .ofEqualityDeletes(1)
+      .withPath("/path/to/eq-deletes.parquet")
+      .withFileSizeInBytes(5)
+      .withRecordCount(1)
+      .build();
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  @After
+  public void clearTables() {
+    TestTables.clearTables();
+  }
+
+  @Test
+  public void testLengthWeight() {
+    TaskWeightModel model = TaskWeightModel.length(50);
+
+    Assert.assertEquals("Should use the task length", 1000, model.weight(task(FILE_WITH_SIZES)));
+    Assert.assertEquals("Should ignore delete files", 1000, model.weight(task(FILE_WITH_SIZES, POS_DELETES)));
+    Assert.assertEquals("Should use the open file cost for small tasks",
+        2000, TaskWeightModel.length(2000).weight(task(FILE_WITH_SIZES)));
+  }
+
+  @Test
+  public void testReadCostWeight() {
+    TaskWeightModel allColumns = TaskWeightModel.readCost(SCHEMA, 50);
+    Assert.assertEquals("Should use the task length when all columns are projected",
+        1000, allColumns.weight(task(FILE_WITH_SIZES)));
+
+    TaskWeightModel idOnly = TaskWeightModel.readCost(SCHEMA.select("id"), 50);
+    Assert.assertEquals("Should scale the length by the projected column sizes",
+        200, idOnly.weight(task(FILE_WITH_SIZES)));
+    Assert.assertEquals("Should use the task length when column sizes are missing",
+        1000, idOnly.weight(task(FILE_WITHOUT_SIZES)));
+    Assert.assertEquals("Should add delete file sizes, at least the open file cost for each",
+        200 + 300 + 50, idOnly.weight(task(FILE_WITH_SIZES, POS_DELETES, SMALL_EQ_DELETES)));
+
+    TaskWeightModel noSizedColumns = TaskWeightModel.readCost(new Schema(), 50);
+    Assert.assertEquals("Should use the open file cost when no projected column has a size",
+        50, noSizedColumns.weight(task(FILE_WITH_SIZES)));
+  }
+
+  @Test
+  public void testReadCostWeightInTableScan() throws IOException {
+    Table table = TestTables.create(temp.newFolder(), "weights", SCHEMA, SPEC, 2);
+    table.newFastAppend()
+        .appendFile(FILE_WITH_SIZES)
+        .appendFile(OTHER_FILE_WITH_SIZES)
+        .commit();
+
+    TableScan scan = table.newScan()
+        .select("id")
+        .filter(Expressions.greaterThan("id", 0L))
+        .option(TableProperties.SPLIT_SIZE, "1000")
+        .option(TableProperties.SPLIT_OPEN_FILE_COST, "1");
+
+    Assert.assertEquals("Should combine tasks by length", 2, planTasks(scan).size());
+
+    TableScan readCostScan = scan.option(TableProperties.SPLIT_WEIGHT_MODEL, "read-cost");
+    try (CloseableIterable<FileScanTask> tasks = readCostScan.planFiles()) {
+      for (FileScanTask task : tasks) {
+        Assert.assertEquals("Should keep column sizes in planned files",
+            ImmutableMap.of(1, 200L, 2, 800L), task.file().columnSizes());
+      }
+    }
+
+    List<CombinedScanTask> combined = planTasks(readCostScan);
+    Assert.assertEquals("Should combine both files using projected column sizes", 1, combined.size());
+    Assert.assertEquals("Combined task should contain both files", 2, combined.get(0).files().size());
+  }
+
+  @Test
+  public void testCustomWeightModel() throws IOException {
+    Table table = TestTables.create(temp.newFolder(), "custom_weights", SCHEMA, SPEC, 2);
+    table.newFastAppend()
+        .appendFile(FILE_WITH_SIZES)
+        .appendFile(OTHER_FILE_WITH_SIZES)
+        .commit();
+
+    TableScan scan = table.newScan()
+        .option(TableProperties.SPLIT_SIZE, "1000")
+        .option(TableProperties.SPLIT_WEIGHT_MODEL, FixedWeightModel.class.getName());
+
+    Assert.assertEquals("Should combine tasks using the custom model", 1, planTasks(scan).size());
+
+    AssertHelpers.assertThrows("Should reject unknown weight models",
+        IllegalArgumentException.class, "Cannot initialize TaskWeightModel",
+        () -> planTasks(table.newScan().option(TableProperties.SPLIT_WEIGHT_MODEL, "unknown")));
+  }
+
+  public static class FixedWeightModel implements TaskWeightModel {
+    @Override
+    public long weight(FileScanTask task) {
+      return 1L;
+    }
+  }
+
+  private static List<CombinedScanTask> planTasks(TableScan scan) throws IOException {
+    try (CloseableIterable<CombinedScanTask> tasks = scan.planTasks()) {
+      return Lists.newArrayList(tasks);
+    }
+  }
+
+  private static FileScanTask task(DataFile file, DeleteFile... deletes) {
+    ResidualEvaluator residuals = ResidualEvaluator.unpartitioned(Expressions.alwaysTrue());
+    return new BaseFileScanTask(file, deletes, SchemaParser.toJson(SCHEMA), PartitionSpecParser.toJson(SPEC),
+        residuals);
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.deletes;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.TestHelpers.Row;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestDeleteCache {
+  private static final Types.StructType EQ_TYPE = Types.StructType.of(
+      Types.NestedField.required(1, "id", Types.LongType.get()));
+
+  private static final DeleteFile POS_DELETES = FileMetadata.deleteFileBuilder(PartitionSpec.unpartitioned())
+      .ofPositionDeletes()
+      .withPath("/path/to/pos-deletes.parquet")
+      .withFileSizeInBytes(10)
+      .withRecordCount(5)
+      .build();
+
+  private static final DeleteFile EQ_DELETES = FileMetadata.deleteFileBuilder(PartitionSpec.unpartitioned())
+      .ofEqualityDeletes(1)
+      .withPath("/path/to/eq-deletes.parquet")
+      .withFileSizeInBytes(10)
+      .withRecordCount(2)
+      .build();
+
+  @Test
+  public void testPositionDeletesLoadedOnce() {
+    DeleteCache cache = new DeleteCache(1024 * 1024);
+    AtomicInteger loads = new AtomicInteger(0);
+
+    CloseableIterable<StructLike> positionDeletes = CloseableIterable.withNoopClose(Lists.newArrayList(
+        Row.of("file_a.avro", 0L),
+        Row.of("file_a.avro", 3L),
+        Row.of("file_b.avro", 5L),
+        Row.of("file_b.avro", 6L),
+        Row.of("file_a.avro", 9L)
+    ));
+
+    for (int i = 0; i < 3; i += 1) {
+      Map<String, PositionDeleteIndex> indexes = cache.positionDeletes(POS_DELETES, () -> {
+        loads.incrementAndGet();
+        return Deletes.toPositionIndexes(positionDeletes);
+      });
+
+      Assert.assertEquals("Should index positions for each data file", 2, indexes.size());
+      Assert.assertEquals("Should group file_a positions", 3L, indexes.get("file_a.avro").cardinality());
+      Assert.assertTrue("Should contain file_b position", indexes.get("file_b.avro").isDeleted(6L));
+      Assert.assertFalse("Should not contain file_a position", indexes.get("file_b.avro").isDeleted(3L));
+    }
+
+    Assert.assertEquals("Should load the delete file once", 1, loads.get());
+    Assert.assertEquals("Should record cache hits", 2L, cache.stats().hitCount());
+    Assert.assertEquals("Should record cache misses", 1L, cache.stats().missCount());
+    Assert.assertTrue("Should weigh cached indexes", cache.estimatedSizeInBytes() > 0);
+  }
+
+  @Test
+  public void testEqualityDeletesKeyedBySchema() {
+    DeleteCache cache = new DeleteCache(1024 * 1024);
+    AtomicInteger loads = new AtomicInteger(0);
+
+    CloseableIterable<StructLike> deletes = CloseableIterable.withNoopClose(Lists.newArrayList(
+        Row.of(4L),
+        Row.of(6L)
+    ));
+
+    EqualityDeleteSet first = cache.equalityDeletes(EQ_DELETES, EQ_TYPE, () -> {
+      loads.incrementAndGet();
+      return Deletes.toEqualityDeleteSet(deletes, EQ_TYPE);
+    });
+    EqualityDeleteSet second = cache.equalityDeletes(EQ_DELETES, EQ_TYPE, () -> {
+      loads.incrementAndGet();
+      return Deletes.toEqualityDeleteSet(deletes, EQ_TYPE);
+    });
+
+    Assert.assertSame("Should reuse the cached set", first, second);
+    Assert.assertTrue("Should contain delete row", first.contains(Row.of(6L)));
+    Assert.assertEquals("Should load the delete file once", 1, loads.get());
+
+    Types.StructType otherType = Types.StructType.of(
+        Types.NestedField.required(1, "id", Types.LongType.get()),
+        Types.NestedField.optional(2, "data", Types.StringType.get()));
+    cache.equalityDeletes(EQ_DELETES, otherType, () -> {
+      loads.incrementAndGet();
+      return Deletes.toEqualityDeleteSet(CloseableIterable.empty(), otherType);
+    });
+
+    Assert.assertEquals("Should load again for a different projection", 2, loads.get());
+  }
+
+  @Test
+  public void testEvictionBySize() {
+    // too small to hold the position index, so each entry is evicted
+    DeleteCache cache = new DeleteCache(16);
+
+    for (int i = 0; i < 3; i += 1) {
+      cache.positionDeletes(POS_DELETES, () -> Deletes.toPositionIndexes(CloseableIterable.withNoopClose(
+          Lists.newArrayList(Row.of("file_a.avro", 0L)))));
+      cache.cleanUp();
+    }
+
+    Assert.assertEquals("Should not retain oversized entries", 0L, cache.estimatedSizeInBytes());
+    Assert.assertEquals("Should evict oversized entries", 3L, cache.stats().evictionCount());
+  }
+}
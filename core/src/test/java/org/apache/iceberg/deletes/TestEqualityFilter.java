@@ -19,7 +19,9 @@
 
 package org.apache.iceberg.deletes;
 
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.UUID;
 import org.apache.avro.util.Utf8;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
@@ -28,6 +30,7 @@ import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.types.Types.NestedField;
+import org.apache.iceberg.util.UUIDUtil;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -141,4 +144,106 @@ public class TestEqualityFilter {
             row -> Row.of(row.get(0, Long.class), row.get(2, CharSequence.class)),
             Deletes.toEqualitySet(deletes, ROW_SCHEMA.select("id", "description").asStruct()))));
   }
+
+  @Test
+  public void testCompactEqualitySetLongColumn() {
+    CloseableIterable<StructLike> deletes = CloseableIterable.withNoopClose(Lists.newArrayList(
+        Row.of(0L),
+        Row.of(3L),
+        Row.of(6L),
+        Row.of(6L)
+    ));
+
+    EqualityDeleteSet deleteSet = Deletes.toCompactEqualityDeleteSet(deletes, ROW_SCHEMA.select("id").asStruct());
+    Assert.assertEquals("Should ignore duplicate keys", 3L, deleteSet.size());
+
+    List<StructLike> expected = Lists.newArrayList(
+        Row.of(1L, "b", "koala"),
+        Row.of(2L, "c", new Utf8("kodiak")),
+        Row.of(4L, new Utf8("d"), "gummy"),
+        Row.of(5L, "e", "brown"),
+        Row.of(7L, "g", "grizzly"),
+        Row.of(8L, "h", null)
+    );
+
+    Assert.assertEquals("Filter should produce expected rows",
+        expected,
+        Lists.newArrayList(CloseableIterable.filter(ROWS,
+            row -> !deleteSet.contains(Row.of(row.get(0, Long.class))))));
+
+    Assert.assertFalse("Should not match null", deleteSet.contains(Row.of(new Object[] { null })));
+  }
+
+  @Test
+  public void testCompactEqualitySetManyKeys() {
+    List<StructLike> deleteRows = Lists.newArrayList();
+    for (long id = 0; id < 10_000; id += 2) {
+      deleteRows.add(Row.of(id, "name-" + id));
+    }
+
+    EqualityDeleteSet deleteSet = Deletes.toCompactEqualityDeleteSet(
+        CloseableIterable.withNoopClose(deleteRows), ROW_SCHEMA.select("id", "name").asStruct());
+    Assert.assertEquals("Should contain every key", 5_000L, deleteSet.size());
+
+    for (long id = 0; id < 10_000; id += 1) {
+      boolean deleted = deleteSet.contains(Row.of(id, new Utf8("name-" + id)));
+      Assert.assertEquals("Should match only deleted keys: " + id, id % 2 == 0, deleted);
+    }
+
+    Assert.assertFalse("Should not match a partial key", deleteSet.contains(Row.of(2L, "name-4")));
+  }
+
+  @Test
+  public void testCompactEqualitySetMultipleColumnsWithNull() {
+    CloseableIterable<StructLike> deletes = CloseableIterable.withNoopClose(Lists.newArrayList(
+        Row.of(2L, "kodiak"),
+        Row.of(3L, "care"),
+        Row.of(8L, null)
+    ));
+
+    EqualityDeleteSet deleteSet = Deletes.toCompactEqualityDeleteSet(
+        deletes, ROW_SCHEMA.select("id", "description").asStruct());
+
+    List<StructLike> expected = Lists.newArrayList(
+        Row.of(0L, "a", "panda"),
+        Row.of(1L, "b", "koala"),
+        Row.of(4L, new Utf8("d"), "gummy"),
+        Row.of(5L, "e", "brown"),
+        Row.of(6L, "f", new Utf8("teddy")),
+        Row.of(7L, "g", "grizzly")
+    );
+
+    Assert.assertEquals("Filter should produce expected rows",
+        expected,
+        Lists.newArrayList(CloseableIterable.filter(ROWS,
+            row -> !deleteSet.contains(Row.of(row.get(0, Long.class), row.get(2, CharSequence.class))))));
+  }
+
+  @Test
+  public void testCompactEqualitySetUUIDRepresentations() {
+    Types.StructType eqType = Types.StructType.of(
+        NestedField.required(1, "id", Types.LongType.get()),
+        NestedField.required(2, "uuid", Types.UUIDType.get()));
+
+    UUID deleted = UUID.randomUUID();
+    UUID kept = UUID.randomUUID();
+
+    // delete rows from the generic reader use UUID objects
+    EqualityDeleteSet deleteSet = Deletes.toCompactEqualityDeleteSet(
+        CloseableIterable.withNoopClose(Lists.newArrayList(Row.of(1L, deleted))), eqType);
+
+    Assert.assertTrue("Should match a UUID object", deleteSet.contains(Row.of(1L, deleted)));
+    Assert.assertTrue("Should match UUID bytes", deleteSet.contains(Row.of(1L, UUIDUtil.convert(deleted))));
+    Assert.assertTrue("Should match a UUID buffer",
+        deleteSet.contains(Row.of(1L, ByteBuffer.wrap(UUIDUtil.convert(deleted)))));
+    Assert.assertTrue("Should match a UUID string", deleteSet.contains(Row.of(1L, deleted.toString())));
+    Assert.assertFalse("Should not match other UUID bytes", deleteSet.contains(Row.of(1L, UUIDUtil.convert(kept))));
+
+    // delete rows from engine readers may use bytes
+    EqualityDeleteSet bytesDeleteSet = Deletes.toCompactEqualityDeleteSet(
+        CloseableIterable.withNoopClose(Lists.newArrayList(Row.of(1L, UUIDUtil.convert(deleted)))), eqType);
+
+    Assert.assertTrue("Should match a UUID object", bytesDeleteSet.contains(Row.of(1L, deleted)));
+    Assert.assertFalse("Should not match another UUID", bytesDeleteSet.contains(Row.of(1L, kept)));
+  }
 }
@@ -262,4 +262,73 @@ public class TestPositionFilter {
         Lists.newArrayList(1L, 2L, 5L, 6L, 8L),
         Lists.newArrayList(Iterables.transform(actual, row -> row.get(0, Long.class))));
   }
+
+  @Test
+  public void testPositionIndexRowFilter() {
+    CloseableIterable<StructLike> positionDeletes1 = CloseableIterable.withNoopClose(Lists.newArrayList(
+        Row.of("file_a.avro", 0L),
+        Row.of("file_a.avro", 3L),
+        Row.of("file_a.avro", 9L),
+        Row.of("file_b.avro", 5L),
+        Row.of("file_b.avro", 6L)
+    ));
+
+    CloseableIterable<StructLike> positionDeletes2 = CloseableIterable.withNoopClose(Lists.newArrayList(
+        Row.of("file_a.avro", 3L),
+        Row.of("file_a.avro", 4L),
+        Row.of("file_a.avro", 7L),
+        Row.of("file_b.avro", 2L)
+    ));
+
+    CloseableIterable<StructLike> rows = CloseableIterable.withNoopClose(Lists.newArrayList(
+        Row.of(0L, "a"),
+        Row.of(1L, "b"),
+        Row.of(2L, "c"),
+        Row.of(3L, "d"),
+        Row.of(4L, "e"),
+        Row.of(5L, "f"),
+        Row.of(6L, "g"),
+        Row.of(7L, "h"),
+        Row.of(8L, "i"),
+        Row.of(9L, "j")
+    ));
+
+    PositionDeleteIndex deleteIndex = Deletes.toPositionIndex(
+        "file_a.avro", ImmutableList.of(positionDeletes1, positionDeletes2));
+    Assert.assertEquals("Index should contain distinct file_a positions", 5L, deleteIndex.cardinality());
+
+    CloseableIterable<StructLike> actual = Deletes.filter(rows, row -> row.get(0, Long.class), deleteIndex);
+
+    Assert.assertEquals("Filter should produce expected rows",
+        Lists.newArrayList(1L, 2L, 5L, 6L, 8L),
+        Lists.newArrayList(Iterables.transform(actual, row -> row.get(0, Long.class))));
+  }
+
+  @Test
+  public void testPositionIndexSparseAndDense() {
+    PositionDeleteIndex deleteIndex = Deletes.toPositionIndex(CloseableIterable.empty());
+    Assert.assertTrue("Index should be empty", deleteIndex.isEmpty());
+
+    // dense range that requires converting a container to a bitmap
+    deleteIndex.delete(100_000L, 110_000L);
+    // sparse positions in containers with large keys, added out of order
+    deleteIndex.delete(5_000_000_000L);
+    deleteIndex.delete(7L);
+    deleteIndex.delete(5_000_000_000L);
+    deleteIndex.delete(3_000_000_000L);
+
+    Assert.assertFalse("Index should not be empty", deleteIndex.isEmpty());
+    Assert.assertEquals("Index should count distinct positions", 10_003L, deleteIndex.cardinality());
+
+    Assert.assertTrue("Should contain sparse position", deleteIndex.isDeleted(7L));
+    Assert.assertTrue("Should contain start of range", deleteIndex.isDeleted(100_000L));
+    Assert.assertTrue("Should contain end of range", deleteIndex.isDeleted(109_999L));
+    Assert.assertTrue("Should contain large position", deleteIndex.isDeleted(3_000_000_000L));
+    Assert.assertTrue("Should contain large position", deleteIndex.isDeleted(5_000_000_000L));
+
+    Assert.assertFalse("Should not contain position before range", deleteIndex.isDeleted(99_999L));
+    Assert.assertFalse("Should not contain position after range", deleteIndex.isDeleted(110_000L));
+    Assert.assertFalse("Should not contain position with shared low bits", deleteIndex.isDeleted(65_536L + 7L));
+    Assert.assertFalse("Should not contain missing position", deleteIndex.isDeleted(4_000_000_000L));
+  }
 }
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.hadoop;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.AssertHelpers;
+import org.apache.iceberg.exceptions.BulkDeletionFailureException;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestHadoopFileIO {
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private final HadoopFileIO io = new HadoopFileIO(new Configuration());
+
+  @Test
+  public void testDeleteFiles() throws IOException {
+    List<File> files = createFiles(10);
+    io.deleteFiles(Lists.transform(files, File::toString));
+
+    for (File file : files) {
+      Assert.assertFalse("Should delete file: " + file, file.exists());
+    }
+  }
+
+  @Test
+  public void testDeleteFilesWithFailures() throws IOException {
+    List<File> files = createFiles(5);
+    List<String> paths = Lists.newArrayList(Lists.transform(files, File::toString));
+    paths.add("unknown-scheme://bucket/path/file.parquet");
+
+    AssertHelpers.assertThrows("Should report the failed delete",
+        BulkDeletionFailureException.class, "Failed to delete 1 files",
+        () -> io.deleteFiles(paths));
+
+    for (File file : files) {
+      Assert.assertFalse("Should delete other files after a failure: " + file, file.exists());
+    }
+  }
+
+  private List<File> createFiles(int count) throws IOException {
+    List<File> files = Lists.newArrayList();
+    for (int i = 0; i < count; i += 1) {
+      File file = temp.newFile("file-" + i + ".parquet");
+      Assert.assertTrue("Should create file", file.exists());
+      files.add(file);
+    }
+
+    return files;
+  }
+}
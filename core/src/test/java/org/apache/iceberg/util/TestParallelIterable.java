@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.util;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.iceberg.AssertHelpers;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestParallelIterable {
+  private ExecutorService pool;
+
+  @Before
+  public void createPool() {
+    this.pool = Executors.newFixedThreadPool(4);
+  }
+
+  @After
+  public void shutdownPool() throws InterruptedException {
+    pool.shutdownNow();
+    Assert.assertTrue("Producers should stop", pool.awaitTermination(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testReadsAllItems() {
+    List<List<Integer>> inputs = Lists.newArrayList();
+    for (int i = 0; i < 100; i += 1) {
+      int start = i * 100;
+      inputs.add(IntStream.range(start, start + 100).boxed().collect(Collectors.toList()));
+    }
+
+    // small buffers force producers to pause and resume
+    ParallelIterable<Integer> iterable = new ParallelIterable<>(inputs, pool, 3);
+
+    Set<Integer> expected = IntStream.range(0, 10_000).boxed().collect(Collectors.toSet());
+    Set<Integer> actual = Sets.newHashSet(iterable);
+    Assert.assertEquals("Should read every item once", expected, actual);
+  }
+
+  @Test
+  public void testLimitsOpenInputs() {
+    AtomicInteger openInputs = new AtomicInteger(0);
+    AtomicInteger maxOpenInputs = new AtomicInteger(0);
+    List<CloseableIterable<Integer>> inputs = Lists.newArrayList();
+    for (int i = 0; i < 20; i += 1) {
+      int start = i * 100;
+      Iterable<Integer> input = () -> {
+        maxOpenInputs.accumulateAndGet(openInputs.incrementAndGet(), Math::max);
+        return IntStream.range(start, start + 100).iterator();
+      };
+      inputs.add(CloseableIterable.combine(input, openInputs::decrementAndGet));
+    }
+
+    ParallelIterable<Integer> iterable = new ParallelIterable<>(inputs, pool, 2, 5);
+
+    Set<Integer> expected = IntStream.range(0, 2_000).boxed().collect(Collectors.toSet());
+    Set<Integer> actual = Sets.newHashSet(iterable);
+    Assert.assertEquals("Should read every item once", expected, actual);
+    Assert.assertTrue("Should not read more than 2 inputs at once", maxOpenInputs.get() <= 2);
+  }
+
+  @Test
+  public void testInvalidParallelism() {
+    AssertHelpers.assertThrows("Should reject invalid parallelism",
+        IllegalArgumentException.class, "Invalid parallelism: 0 (must be positive)",
+        () -> new ParallelIterable<>(ImmutableList.<List<Integer>>of(), pool, 0, 10));
+  }
+
+  @Test
+  public void testEmptyInputs() {
+    List<List<Integer>> inputs = Lists.newArrayList(Lists.newArrayList(), Lists.newArrayList());
+    ParallelIterable<Integer> iterable = new ParallelIterable<>(inputs, pool);
+    Assert.assertEquals("Should have no items", 0, Iterables.size(iterable));
+  }
+
+  @Test
+  public void testBufferedItemsAreBounded() throws Exception {
+    AtomicInteger produced = new AtomicInteger(0);
+    Iterable<Integer> endless = () -> IntStream.iterate(0, i -> produced.incrementAndGet()).iterator();
+    ParallelIterable<Integer> iterable = new ParallelIterable<>(Lists.newArrayList(endless, endless), pool, 10);
+
+    try (CloseableIterator<Integer> iterator = iterable.iterator()) {
+      for (int i = 0; i < 100; i += 1) {
+        Assert.assertTrue("Should have more items", iterator.hasNext());
+        iterator.next();
+      }
+
+      // give producers time to run ahead of the consumer
+      Thread.sleep(100);
+
+      Assert.assertTrue("Should not buffer more than 10 items per producer", produced.get() <= 100 + 2 * 10);
+    }
+  }
+
+  @Test
+  public void testCloseStopsProducersAndClosesInputs() throws Exception {
+    AtomicInteger closedInputs = new AtomicInteger(0);
+    List<CloseableIterable<Integer>> inputs = Lists.newArrayList();
+    for (int i = 0; i < 2; i += 1) {
+      Iterable<Integer> endless = () -> IntStream.iterate(0, n -> n + 1).iterator();
+      inputs.add(CloseableIterable.combine(endless, closedInputs::incrementAndGet));
+    }
+
+    ParallelIterable<Integer> iterable = new ParallelIterable<>(inputs, pool, 10);
+
+    CloseableIterator<Integer> iterator = iterable.iterator();
+    for (int i = 0; i < 100; i += 1) {
+      Assert.assertTrue("Should have more items", iterator.hasNext());
+      iterator.next();
+    }
+
+    iterable.close();
+
+    AssertHelpers.assertThrows("Should not read after close",
+        IllegalStateException.class, "Already closed", () -> iterator.hasNext());
+
+    pool.shutdown();
+    Assert.assertTrue("Producers should stop", pool.awaitTermination(10, TimeUnit.SECONDS));
+    Assert.assertEquals("Should close every input", 2, closedInputs.get());
+  }
+
+  @Test
+  public void testProducerFailure() {
+    Iterable<Integer> failing = () -> {
+      throw new IllegalArgumentException("Invalid input");
+    };
+    ParallelIterable<Integer> iterable = new ParallelIterable<>(
+        Lists.newArrayList(Lists.newArrayList(1, 2, 3), failing), pool);
+
+    AssertHelpers.assertThrows("Should propagate producer failures",
+        IllegalArgumentException.class, "Invalid input", () -> Iterables.size(iterable));
+  }
+
+  @Test
+  public void testCloseFailure() {
+    CloseableIterable<Integer> input = CloseableIterable.combine(Lists.newArrayList(1, 2, 3), () -> {
+      throw new IOException("Failed to close");
+    });
+    ParallelIterable<Integer> iterable = new ParallelIterable<>(ImmutableList.of(input), pool);
+
+    AssertHelpers.assertThrows("Should propagate close failures",
+        RuntimeException.class, "Failed to close iterable", () -> Iterables.size(iterable));
+  }
+}
@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import org.apache.iceberg.Accessor;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DeleteFile;
@@ -34,7 +35,10 @@ import org.apache.iceberg.StructLike;
 import org.apache.iceberg.avro.Avro;
 import org.apache.iceberg.data.avro.DataReader;
 import org.apache.iceberg.data.parquet.GenericParquetReaders;
+import org.apache.iceberg.deletes.DeleteCache;
 import org.apache.iceberg.deletes.Deletes;
+import org.apache.iceberg.deletes.EqualityDeleteSet;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.InputFile;
@@ -48,25 +52,30 @@ import org.apache.iceberg.relocated.com.google.common.collect.Multimaps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
-import org.apache.iceberg.util.StructLikeSet;
 import org.apache.iceberg.util.StructProjection;
 import org.apache.parquet.Preconditions;
 
 public abstract class DeleteFilter<T> {
-  private static final long DEFAULT_SET_FILTER_THRESHOLD = 100_000L;
   private static final Schema POS_DELETE_SCHEMA = new Schema(
       MetadataColumns.DELETE_FILE_PATH,
       MetadataColumns.DELETE_FILE_POS);
 
-  private final long setFilterThreshold;
+  // equality delete files larger than this are loaded into a compact set that stores serialized keys
+  private static final long COMPACT_EQ_DELETES_THRESHOLD_BYTES = 16L * 1024 * 1024; // 16 MB
+
   private final DataFile dataFile;
   private final List<DeleteFile> posDeletes;
   private final List<DeleteFile> eqDeletes;
   private final Schema requiredSchema;
   private final Accessor<StructLike> posAccessor;
 
+  private final DeleteCache deleteCache;
+
+  private PositionDeleteIndex deleteRowPositions = null;
+  private Predicate<T> eqDeleteRows = null;
+  private boolean eqDeletesLoaded = false;
+
   protected DeleteFilter(FileScanTask task, Schema tableSchema, Schema requestedSchema) {
-    this.setFilterThreshold = DEFAULT_SET_FILTER_THRESHOLD;
     this.dataFile = task.file();
 
     ImmutableList.Builder<DeleteFile> posDeleteBuilder = ImmutableList.builder();
@@ -88,6 +97,7 @@ public abstract class DeleteFilter<T> {
     this.eqDeletes = eqDeleteBuilder.build();
     this.requiredSchema = fileProjection(tableSchema, requestedSchema, posDeletes, eqDeletes);
     this.posAccessor = requiredSchema.accessorForField(MetadataColumns.ROW_POSITION.fieldId());
+    this.deleteCache = DeleteCache.isEnabled() ? DeleteCache.shared() : null;
   }
 
   public Schema requiredSchema() {
@@ -110,9 +120,10 @@ public abstract class DeleteFilter<T> {
     return applyEqDeletes(applyPosDeletes(records));
   }
 
-  private CloseableIterable<T> applyEqDeletes(CloseableIterable<T> records) {
+  private List<Predicate<T>> applyEqDeletes() {
+    List<Predicate<T>> isInDeleteSets = Lists.newArrayList();
     if (eqDeletes.isEmpty()) {
-      return records;
+      return isInDeleteSets;
     }
 
     Multimap<Set<Integer>, DeleteFile> filesByDeleteIds = Multimaps.newMultimap(Maps.newHashMap(), Lists::newArrayList);
@@ -120,7 +131,6 @@ public abstract class DeleteFilter<T> {
       filesByDeleteIds.put(Sets.newHashSet(delete.equalityFieldIds()), delete);
     }
 
-    CloseableIterable<T> filteredRecords = records;
     for (Map.Entry<Set<Integer>, Collection<DeleteFile>> entry : filesByDeleteIds.asMap().entrySet()) {
       Set<Integer> ids = entry.getKey();
       Iterable<DeleteFile> deletes = entry.getValue();
@@ -130,35 +140,123 @@ public abstract class DeleteFilter<T> {
       // a projection to select and reorder fields of the file schema to match the delete rows
       StructProjection projectRow = StructProjection.create(requiredSchema, deleteSchema);
 
-      Iterable<CloseableIterable<Record>> deleteRecords = Iterables.transform(deletes,
-          delete -> openDeletes(delete, deleteSchema));
-      StructLikeSet deleteSet = Deletes.toEqualitySet(
-          // copy the delete records because they will be held in a set
-          CloseableIterable.transform(CloseableIterable.concat(deleteRecords), Record::copy),
-          deleteSchema.asStruct());
+      List<EqualityDeleteSet> deleteSets;
+      if (deleteCache != null) {
+        // cached sets are loaded and shared per delete file, so apply each file's set separately
+        deleteSets = Lists.newArrayList();
+        for (DeleteFile delete : deletes) {
+          deleteSets.add(deleteCache.equalityDeletes(delete, deleteSchema.asStruct(),
+              () -> toEqualitySet(ImmutableList.of(delete), deleteSchema)));
+        }
+      } else {
+        deleteSets = ImmutableList.of(toEqualitySet(deletes, deleteSchema));
+      }
 
-      filteredRecords = Deletes.filter(filteredRecords,
-          record -> projectRow.wrap(asStructLike(record)), deleteSet);
+      for (EqualityDeleteSet deleteSet : deleteSets) {
+        if (!deleteSet.isEmpty()) {
+          isInDeleteSets.add(record -> deleteSet.contains(projectRow.wrap(asStructLike(record))));
+        }
+      }
     }
 
-    return filteredRecords;
+    return isInDeleteSets;
   }
 
-  private CloseableIterable<T> applyPosDeletes(CloseableIterable<T> records) {
-    if (posDeletes.isEmpty()) {
+  /**
+   * Returns a predicate that matches rows deleted by equality deletes, or null if no rows can be deleted.
+   * <p>
+   * Vectorized readers use this to find deleted rows in a batch. The delete sets are loaded on the first call.
+   */
+  public Predicate<T> eqDeletedRowFilter() {
+    if (!eqDeletesLoaded) {
+      this.eqDeleteRows = applyEqDeletes().stream().reduce(Predicate::or).orElse(null);
+      this.eqDeletesLoaded = true;
+    }
+
+    return eqDeleteRows;
+  }
+
+  private CloseableIterable<T> applyEqDeletes(CloseableIterable<T> records) {
+    Predicate<T> isDeleted = eqDeletedRowFilter();
+    if (isDeleted == null) {
       return records;
     }
 
-    List<CloseableIterable<Record>> deletes = Lists.transform(posDeletes, this::openPosDeletes);
+    return CloseableIterable.filter(records, isDeleted.negate());
+  }
+
+  private EqualityDeleteSet toEqualitySet(Iterable<DeleteFile> deletes, Schema deleteSchema) {
+    Iterable<CloseableIterable<Record>> deleteRecords = Iterables.transform(deletes,
+        delete -> openDeletes(delete, deleteSchema));
+
+    long deleteBytes = 0L;
+    for (DeleteFile delete : deletes) {
+      deleteBytes += delete.fileSizeInBytes();
+    }
+
+    boolean flatKeys = deleteSchema.columns().stream().allMatch(field -> field.type().isPrimitiveType());
+    if (flatKeys && deleteBytes > COMPACT_EQ_DELETES_THRESHOLD_BYTES) {
+      // compact sets encode each row as it is read, so reused records do not need to be copied
+      return Deletes.toCompactEqualityDeleteSet(
+          CloseableIterable.transform(CloseableIterable.concat(deleteRecords), StructLike.class::cast),
+          deleteSchema.asStruct());
+    }
+
+    return Deletes.toEqualityDeleteSet(
+        // copy the delete records because they will be held in a set
+        CloseableIterable.transform(CloseableIterable.concat(deleteRecords), Record::copy),
+        deleteSchema.asStruct());
+  }
+
+  /**
+   * Returns an index of the deleted row positions in the data file, or null if there are no position deletes.
+   * <p>
+   * The index is loaded from the position delete files once and reused by later calls, so that row-based and
+   * vectorized readers can probe the same index. The returned index must not be modified.
+   */
+  public PositionDeleteIndex deletedRowPositions() {
+    if (posDeletes.isEmpty()) {
+      return null;
+    }
 
-    // if there are fewer deletes than a reasonable number to keep in memory, use a set
-    if (posDeletes.stream().mapToLong(DeleteFile::recordCount).sum() < setFilterThreshold) {
-      return Deletes.filter(
-          records, this::pos,
-          Deletes.toPositionSet(dataFile.path(), CloseableIterable.concat(deletes)));
+    if (deleteRowPositions == null) {
+      if (deleteCache != null) {
+        this.deleteRowPositions = cachedPositionIndex();
+      } else {
+        List<CloseableIterable<Record>> deletes = Lists.transform(posDeletes, this::openPosDeletes);
+        this.deleteRowPositions = Deletes.toPositionIndex(dataFile.path(), deletes);
+      }
     }
 
-    return Deletes.streamingFilter(records, this::pos, Deletes.deletePositions(dataFile.path(), deletes));
+    return deleteRowPositions;
+  }
+
+  private PositionDeleteIndex cachedPositionIndex() {
+    String dataLocation = dataFile.path().toString();
+    List<PositionDeleteIndex> indexes = Lists.newArrayList();
+    for (DeleteFile delete : posDeletes) {
+      // cache the positions for every data file in the delete file because other tasks will read them
+      Map<String, PositionDeleteIndex> indexesByLocation = deleteCache.positionDeletes(delete,
+          () -> Deletes.toPositionIndexes(openDeletes(delete, POS_DELETE_SCHEMA, false)));
+      PositionDeleteIndex index = indexesByLocation.get(dataLocation);
+      if (index != null) {
+        indexes.add(index);
+      }
+    }
+
+    if (indexes.size() == 1) {
+      return indexes.get(0);
+    }
+
+    return Deletes.merge(indexes);
+  }
+
+  private CloseableIterable<T> applyPosDeletes(CloseableIterable<T> records) {
+    if (posDeletes.isEmpty()) {
+      return records;
+    }
+
+    return Deletes.filter(records, this::pos, deletedRowPositions());
   }
 
   private CloseableIterable<Record> openPosDeletes(DeleteFile file) {
@@ -166,6 +264,11 @@ public abstract class DeleteFilter<T> {
   }
 
   private CloseableIterable<Record> openDeletes(DeleteFile deleteFile, Schema deleteSchema) {
+    return openDeletes(deleteFile, deleteSchema, true);
+  }
+
+  private CloseableIterable<Record> openDeletes(DeleteFile deleteFile, Schema deleteSchema,
+                                                boolean filterByDataFile) {
     InputFile input = getInputFile(deleteFile.path().toString());
     switch (deleteFile.format()) {
       case AVRO:
@@ -181,7 +284,7 @@ public abstract class DeleteFilter<T> {
             .reuseContainers()
             .createReaderFunc(fileSchema -> GenericParquetReaders.buildReader(deleteSchema, fileSchema));
 
-        if (deleteFile.content() == FileContent.POSITION_DELETES) {
+        if (filterByDataFile && deleteFile.content() == FileContent.POSITION_DELETES) {
           builder.filter(Expressions.equal(MetadataColumns.DELETE_FILE_PATH.name(), dataFile.path()));
         }
 
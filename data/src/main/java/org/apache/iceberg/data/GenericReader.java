@@ -93,7 +93,7 @@ class GenericReader implements Serializable {
 
 
   private CloseableIterable<Record> openFile(FileScanTask task, Schema fileProjection) {
-    InputFile input = io.newInputFile(task.file().path().toString());
+    InputFile input = io.newInputFile(task.file().path().toString(), task.file().fileSizeInBytes());
     Map<Integer, ?> partition = PartitionUtil.constantsMap(task, IdentityPartitionConverters::convertConstant);
 
     switch (task.file().format()) {
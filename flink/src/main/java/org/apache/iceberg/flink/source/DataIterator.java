@@ -53,11 +53,17 @@ abstract class DataIterator<T> implements CloseableIterator<T> {
     this.tasks = task.files().iterator();
 
     Map<String, ByteBuffer> keyMetadata = Maps.newHashMap();
+    Map<String, Long> fileSizes = Maps.newHashMap();
     task.files().stream()
         .flatMap(fileScanTask -> Stream.concat(Stream.of(fileScanTask.file()), fileScanTask.deletes().stream()))
-        .forEach(file -> keyMetadata.put(file.path().toString(), file.keyMetadata()));
+        .forEach(file -> {
+          keyMetadata.put(file.path().toString(), file.keyMetadata());
+          fileSizes.put(file.path().toString(), file.fileSizeInBytes());
+        });
+    // pass the known file sizes so that FileIO implementations can skip a request for each file's length
     Stream<EncryptedInputFile> encrypted = keyMetadata.entrySet().stream()
-        .map(entry -> EncryptedFiles.encryptedInput(io.newInputFile(entry.getKey()), entry.getValue()));
+        .map(entry -> EncryptedFiles.encryptedInput(
+            io.newInputFile(entry.getKey(), fileSizes.get(entry.getKey())), entry.getValue()));
 
     // decrypt with the batch call to avoid multiple RPCs to a key server, if possible
     Iterable<InputFile> decryptedFiles = encryption.decrypt(encrypted::iterator);
@@ -239,7 +239,7 @@ public class IcebergInputFormat<T> extends InputFormat<Void, T> {
     private CloseableIterable<T> openTask(FileScanTask currentTask, Schema readSchema) {
       DataFile file = currentTask.file();
       InputFile inputFile = encryptionManager.decrypt(EncryptedFiles.encryptedInput(
-          io.newInputFile(file.path().toString()),
+          io.newInputFile(file.path().toString(), file.fileSizeInBytes()),
           file.keyMetadata()));
 
       CloseableIterable<T> iterable;
@@ -92,6 +92,15 @@ public class Parquet {
   private static final Collection<String> READ_PROPERTIES_TO_REMOVE = Sets.newHashSet(
       "parquet.read.filter", "parquet.private.read.filter.predicate", "parquet.read.support.class");
 
+  /**
+   * Read property that enables fetching the projected column chunks of each row group with one vectored read.
+   * <p>
+   * This can be set with {@link ReadBuilder#vectoredReads(boolean)} or in the Hadoop configuration of a file.
+   * Vectored reads are disabled by default because they buffer all projected column chunks of a row group in memory.
+   */
+  public static final String VECTORED_READS_ENABLED = "read.parquet.vectored-reads.enabled";
+  public static final boolean VECTORED_READS_ENABLED_DEFAULT = false;
+
   public static WriteBuilder write(OutputFile file) {
     return new WriteBuilder(file);
   }
@@ -545,6 +554,18 @@ public class Parquet {
       return this;
     }
 
+    /**
+     * Enables or disables fetching the projected column chunks of each row group with one vectored read.
+     * <p>
+     * This only applies to readers created with a reader function.
+     *
+     * @param enabled whether to use vectored reads
+     * @return this builder for method chaining
+     */
+    public ReadBuilder vectoredReads(boolean enabled) {
+      return set(VECTORED_READS_ENABLED, Boolean.toString(enabled));
+    }
+
     public ReadBuilder callInit() {
       this.callInit = true;
       return this;
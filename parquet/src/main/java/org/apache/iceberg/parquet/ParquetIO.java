@@ -19,9 +19,15 @@
 
 package org.apache.iceberg.parquet;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.CompletionException;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
@@ -30,6 +36,11 @@ import org.apache.iceberg.hadoop.HadoopInputFile;
 import org.apache.iceberg.hadoop.HadoopOutputFile;
 import org.apache.iceberg.io.DelegatingInputStream;
 import org.apache.iceberg.io.DelegatingOutputStream;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.util.HadoopStreams;
 import org.apache.parquet.io.DelegatingPositionOutputStream;
 import org.apache.parquet.io.DelegatingSeekableInputStream;
@@ -59,6 +70,18 @@ class ParquetIO {
     return new ParquetInputFile(file);
   }
 
+  /**
+   * Returns a Parquet {@link InputFile} that fetches the column chunks of a row group with one vectored read.
+   * <p>
+   * The row groups to fetch are set by {@link VectoredInputFile#planRowGroupReads(List)} after the reader is opened.
+   *
+   * @param file an Iceberg InputFile
+   * @return a Parquet InputFile that uses {@link org.apache.iceberg.io.SeekableInputStream#readVectored}
+   */
+  static VectoredInputFile vectoredFile(org.apache.iceberg.io.InputFile file) {
+    return new VectoredInputFile(file);
+  }
+
   static OutputFile file(org.apache.iceberg.io.OutputFile file) {
     if (file instanceof HadoopOutputFile) {
       HadoopOutputFile hfile = (HadoopOutputFile) file;
@@ -181,4 +204,236 @@ class ParquetIO {
       return stream(file.newStream());
     }
   }
+
+  static class VectoredInputFile implements InputFile {
+    private final org.apache.iceberg.io.InputFile file;
+    private VectoredInputStream stream = null;
+
+    private VectoredInputFile(org.apache.iceberg.io.InputFile file) {
+      this.file = file;
+    }
+
+    @Override
+    public long getLength() throws IOException {
+      return file.getLength();
+    }
+
+    @Override
+    public SeekableInputStream newStream() throws IOException {
+      this.stream = new VectoredInputStream(file.newStream());
+      return stream;
+    }
+
+    /**
+     * Sets the column chunks to fetch for each row group that will be read.
+     * <p>
+     * Parquet reads a row group by seeking to its first column chunk, so the chunks for a row group are fetched
+     * together when the stream is positioned at the first chunk in the list.
+     *
+     * @param rowGroups a list of projected column chunks, in file order, for each row group
+     */
+    void planRowGroupReads(List<List<ColumnChunkMetaData>> rowGroups) {
+      Preconditions.checkState(stream != null, "Cannot plan reads: stream is not open");
+      List<List<FileRange>> reads = Lists.newArrayListWithExpectedSize(rowGroups.size());
+      for (List<ColumnChunkMetaData> chunks : rowGroups) {
+        List<FileRange> ranges = Lists.newArrayListWithExpectedSize(chunks.size());
+        for (ColumnChunkMetaData chunk : chunks) {
+          ranges.add(new FileRange(chunk.getStartingPos(), Math.toIntExact(chunk.getTotalSize())));
+        }
+
+        reads.add(ranges);
+      }
+
+      stream.planReads(reads);
+    }
+  }
+
+  /**
+   * SeekableInputStream that serves reads from column chunks fetched by a vectored read.
+   * <p>
+   * Reads outside of the fetched ranges are passed to the underlying stream.
+   */
+  static class VectoredInputStream extends DelegatingSeekableInputStream {
+    private final org.apache.iceberg.io.SeekableInputStream delegate;
+    private final Map<Long, List<FileRange>> plannedReads = Maps.newHashMap();
+    private final NavigableMap<Long, FileRange> fetched = Maps.newTreeMap();
+    private FileRange currentRange = null;
+    private ByteBuffer current = null;
+
+    VectoredInputStream(org.apache.iceberg.io.SeekableInputStream delegate) {
+      super(delegate);
+      this.delegate = delegate;
+    }
+
+    /**
+     * Sets the ranges to fetch together when the stream seeks to the first range of each group.
+     * <p>
+     * Each group is fetched at most once.
+     *
+     * @param groups lists of ranges, in file order
+     */
+    void planReads(List<List<FileRange>> groups) {
+      plannedReads.clear();
+      for (List<FileRange> ranges : groups) {
+        if (!ranges.isEmpty()) {
+          plannedReads.put(ranges.get(0).offset(), ranges);
+        }
+      }
+    }
+
+    @Override
+    public long getPos() throws IOException {
+      if (current != null) {
+        return currentRange.offset() + current.position();
+      }
+
+      return delegate.getPos();
+    }
+
+    @Override
+    public void seek(long newPos) throws IOException {
+      List<FileRange> ranges = plannedReads.remove(newPos);
+      if (ranges != null) {
+        fetch(ranges);
+      }
+
+      position(newPos);
+    }
+
+    private void fetch(List<FileRange> ranges) throws IOException {
+      // release buffers for the previous row group
+      fetched.clear();
+
+      for (FileRange range : ranges) {
+        fetched.put(range.offset(), range);
+      }
+
+      delegate.readVectored(ranges, ByteBuffer::allocate);
+    }
+
+    private void position(long newPos) throws IOException {
+      this.currentRange = null;
+      this.current = null;
+
+      Map.Entry<Long, FileRange> entry = fetched.floorEntry(newPos);
+      if (entry != null && newPos < entry.getKey() + entry.getValue().length()) {
+        FileRange range = entry.getValue();
+        ByteBuffer buffer = join(range).duplicate();
+        buffer.position((int) (newPos - range.offset()));
+        this.currentRange = range;
+        this.current = buffer;
+      } else {
+        delegate.seek(newPos);
+      }
+    }
+
+    private boolean hasBufferedBytes() throws IOException {
+      if (current != null && !current.hasRemaining()) {
+        // each chunk is read once, so release the buffer and move on to the next range
+        fetched.remove(currentRange.offset());
+        position(currentRange.offset() + currentRange.length());
+      }
+
+      return current != null;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (hasBufferedBytes()) {
+        return current.get() & 0xFF;
+      }
+
+      return delegate.read();
+    }
+
+    @Override
+    public int read(byte[] bytes) throws IOException {
+      return read(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public int read(byte[] bytes, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+
+      if (hasBufferedBytes()) {
+        int bytesToRead = Math.min(len, current.remaining());
+        current.get(bytes, off, bytesToRead);
+        return bytesToRead;
+      }
+
+      return delegate.read(bytes, off, len);
+    }
+
+    @Override
+    public void readFully(byte[] bytes) throws IOException {
+      readFully(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void readFully(byte[] bytes, int start, int len) throws IOException {
+      int offset = start;
+      int remaining = len;
+      while (remaining > 0) {
+        int bytesRead = read(bytes, offset, remaining);
+        if (bytesRead < 0) {
+          throw new EOFException("Reached the end of stream with " + remaining + " bytes left to read");
+        }
+
+        offset += bytesRead;
+        remaining -= bytesRead;
+      }
+    }
+
+    @Override
+    public int read(ByteBuffer buf) throws IOException {
+      if (buf.hasArray()) {
+        int bytesRead = read(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+        if (bytesRead > 0) {
+          buf.position(buf.position() + bytesRead);
+        }
+
+        return bytesRead;
+      }
+
+      byte[] bytes = new byte[Math.min(buf.remaining(), 8192)];
+      int bytesRead = read(bytes, 0, bytes.length);
+      if (bytesRead > 0) {
+        buf.put(bytes, 0, bytesRead);
+      }
+
+      return bytesRead;
+    }
+
+    @Override
+    public void readFully(ByteBuffer buf) throws IOException {
+      while (buf.hasRemaining()) {
+        if (read(buf) < 0) {
+          throw new EOFException("Reached the end of stream with " + buf.remaining() + " bytes left to read");
+        }
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      plannedReads.clear();
+      fetched.clear();
+      this.currentRange = null;
+      this.current = null;
+      super.close();
+    }
+
+    private static ByteBuffer join(FileRange range) throws IOException {
+      try {
+        return range.data().join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof IOException) {
+          throw (IOException) e.getCause();
+        }
+
+        throw new IOException("Failed to read " + range, e.getCause());
+      }
+    }
+  }
 }
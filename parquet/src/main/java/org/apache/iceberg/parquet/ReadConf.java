@@ -61,6 +61,10 @@ class ReadConf<T> {
   private final Integer batchSize;
   private final long[] startRowPositions;
 
+  // projected column chunks for each row group that will be read, used to fetch each row group with a vectored read
+  // or null if vectored reads are disabled
+  private final List<List<ColumnChunkMetaData>> rowGroupReads;
+
   // List of column chunk metadata for each row group
   private final List<Map<ColumnPath, ColumnChunkMetaData>> columnChunkMetaDataForRowGroups;
 
@@ -71,7 +75,8 @@ class ReadConf<T> {
            boolean caseSensitive, Integer bSize) {
     this.file = file;
     this.options = options;
-    this.reader = newReader(file, options);
+    ParquetIO.VectoredInputFile vectoredFile = vectoredReadsEnabled(options) ? ParquetIO.vectoredFile(file) : null;
+    this.reader = vectoredFile != null ? newReader(file, vectoredFile, options) : newReader(file, options);
     MessageType fileSchema = reader.getFileMetaData().getSchema();
 
     MessageType typeWithIds;
@@ -114,6 +119,13 @@ class ReadConf<T> {
     }
 
     this.totalValues = computedTotalValues;
+    if (vectoredFile != null) {
+      this.rowGroupReads = getRowGroupReads();
+      vectoredFile.planRowGroupReads(rowGroupReads);
+    } else {
+      this.rowGroupReads = null;
+    }
+
     if (readerFunc != null) {
       this.model = (ParquetValueReader<T>) readerFunc.apply(typeWithIds);
       this.vectorizedModel = null;
@@ -142,6 +154,7 @@ class ReadConf<T> {
     this.vectorizedModel = toCopy.vectorizedModel;
     this.columnChunkMetaDataForRowGroups = toCopy.columnChunkMetaDataForRowGroups;
     this.startRowPositions = toCopy.startRowPositions;
+    this.rowGroupReads = toCopy.rowGroupReads;
   }
 
   ParquetFileReader reader() {
@@ -150,8 +163,16 @@ class ReadConf<T> {
       return reader;
     }
 
-    ParquetFileReader newReader = newReader(file, options);
+    if (rowGroupReads == null) {
+      ParquetFileReader newReader = newReader(file, options);
+      newReader.setRequestedSchema(projection);
+      return newReader;
+    }
+
+    ParquetIO.VectoredInputFile vectoredFile = ParquetIO.vectoredFile(file);
+    ParquetFileReader newReader = newReader(file, vectoredFile, options);
     newReader.setRequestedSchema(projection);
+    vectoredFile.planRowGroupReads(rowGroupReads);
     return newReader;
   }
 
@@ -213,14 +234,39 @@ class ReadConf<T> {
     return new ReadConf<>(this);
   }
 
+  private static boolean vectoredReadsEnabled(ParquetReadOptions options) {
+    String enabled = options.getProperty(Parquet.VECTORED_READS_ENABLED);
+    return enabled != null ? Boolean.parseBoolean(enabled) : Parquet.VECTORED_READS_ENABLED_DEFAULT;
+  }
+
   private static ParquetFileReader newReader(InputFile file, ParquetReadOptions options) {
+    return newReader(file, ParquetIO.file(file), options);
+  }
+
+  private static ParquetFileReader newReader(InputFile file, org.apache.parquet.io.InputFile parquetFile,
+                                             ParquetReadOptions options) {
     try {
-      return ParquetFileReader.open(ParquetIO.file(file), options);
+      return ParquetFileReader.open(parquetFile, options);
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to open Parquet file: %s", file.location());
     }
   }
 
+  private List<List<ColumnChunkMetaData>> getRowGroupReads() {
+    Set<ColumnPath> projectedColumns = projection.getColumns().stream()
+        .map(columnDescriptor -> ColumnPath.get(columnDescriptor.getPath())).collect(Collectors.toSet());
+    ImmutableList.Builder<List<ColumnChunkMetaData>> listBuilder = ImmutableList.builder();
+    for (int i = 0; i < rowGroups.size(); i++) {
+      if (!shouldSkip[i]) {
+        // keep the file order of the chunks to match the order that Parquet reads them
+        listBuilder.add(rowGroups.get(i).getColumns().stream()
+            .filter(columnChunkMetaData -> projectedColumns.contains(columnChunkMetaData.getPath()))
+            .collect(Collectors.toList()));
+      }
+    }
+    return listBuilder.build();
+  }
+
   private List<Map<ColumnPath, ColumnChunkMetaData>> getColumnChunkMetadataForRowGroups() {
     Set<ColumnPath> projectedColumns = projection.getColumns().stream()
         .map(columnDescriptor -> ColumnPath.get(columnDescriptor.getPath())).collect(Collectors.toSet());
@@ -95,6 +95,7 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
     private final int batchSize;
     private final List<Map<ColumnPath, ColumnChunkMetaData>> columnChunkMetadata;
     private final boolean reuseContainers;
+    private final long[] rowGroupsStartRowPos;
     private int nextRowGroup = 0;
     private long nextRowGroupStart = 0;
     private long valuesRead = 0;
@@ -109,6 +110,7 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
       this.batchSize = conf.batchSize();
       this.model.setBatchSize(this.batchSize);
       this.columnChunkMetadata = conf.columnChunkMetadataForRowGroups();
+      this.rowGroupsStartRowPos = conf.startRowPositions();
     }
 
 
@@ -149,7 +151,8 @@ public class VectorizedParquetReader<T> extends CloseableGroup implements Closea
       } catch (IOException e) {
         throw new RuntimeIOException(e);
       }
-      model.setRowGroupInfo(pages, columnChunkMetadata.get(nextRowGroup));
+      long rowPosition = rowGroupsStartRowPos[nextRowGroup];
+      model.setRowGroupInfo(pages, columnChunkMetadata.get(nextRowGroup), rowPosition);
       nextRowGroupStart += pages.getRowCount();
       nextRowGroup += 1;
     }
@@ -48,6 +48,17 @@ public interface VectorizedReader<T> {
    */
   void setRowGroupInfo(PageReadStore pages, Map<ColumnPath, ColumnChunkMetaData> metadata);
 
+  /**
+   * Sets the row group information to be used with this reader
+   *
+   * @param pages       row group information for all the columns
+   * @param metadata    map of {@link ColumnPath} -&gt; {@link ColumnChunkMetaData} for the row group
+   * @param rowPosition the row group's row offset in the parquet file
+   */
+  default void setRowGroupInfo(PageReadStore pages, Map<ColumnPath, ColumnChunkMetaData> metadata, long rowPosition) {
+    setRowGroupInfo(pages, metadata);
+  }
+
   /**
    * Release any resources allocated.
    */
@@ -27,6 +27,7 @@ import java.util.function.Function;
 import org.apache.avro.generic.GenericData;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.avro.AvroSchemaUtil;
+import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.types.Types.IntegerType;
 import org.apache.parquet.hadoop.ParquetFileReader;
@@ -65,6 +66,28 @@ public class TestParquet {
     }
   }
 
+  @Test
+  public void testVectoredReads() throws IOException {
+    File parquetFile = generateFileWithTwoRowGroups(ParquetAvroWriter::buildWriter);
+    Schema schema = new Schema(
+        optional(1, "intCol", IntegerType.get())
+    );
+
+    try (CloseableIterable<GenericData.Record> records = Parquet.read(localInput(parquetFile))
+        .project(schema)
+        .createReaderFunc(fileSchema -> ParquetAvroValueReaders.buildReader(schema, fileSchema))
+        .vectoredReads(true)
+        .build()) {
+      int expected = 1;
+      for (GenericData.Record record : records) {
+        Assert.assertEquals("Should read records in order", expected, record.get("intCol"));
+        expected += 1;
+      }
+
+      Assert.assertEquals("Should read all records from both row groups", 102, expected);
+    }
+  }
+
   private File generateFileWithTwoRowGroups(Function<MessageType, ParquetValueWriter<?>> createWriterFunc)
       throws IOException {
     Schema schema = new Schema(
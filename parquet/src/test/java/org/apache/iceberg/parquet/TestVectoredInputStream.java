@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.iceberg.parquet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.IntFunction;
+import org.apache.iceberg.io.FileRange;
+import org.apache.iceberg.io.SeekableInputStream;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TestVectoredInputStream {
+  private static final byte[] DATA = new byte[100];
+
+  static {
+    for (int i = 0; i < DATA.length; i += 1) {
+      DATA[i] = (byte) i;
+    }
+  }
+
+  private InMemoryStream delegate;
+  private ParquetIO.VectoredInputStream stream;
+
+  @Before
+  public void createStream() {
+    this.delegate = new InMemoryStream();
+    this.stream = new ParquetIO.VectoredInputStream(delegate);
+    stream.planReads(ImmutableList.of(
+        ImmutableList.of(new FileRange(10, 10), new FileRange(30, 10)),
+        ImmutableList.of(new FileRange(60, 20))));
+  }
+
+  @Test
+  public void testSeekIntoFetchedRanges() throws IOException {
+    stream.seek(10);
+    Assert.assertEquals("Should fetch the row group", 1, delegate.vectoredReads);
+    Assert.assertEquals("Should report the position", 10, stream.getPos());
+    Assert.assertArrayEquals("Should read the first range", bytes(10, 10), readFully(10));
+
+    stream.seek(35);
+    Assert.assertEquals("Should read from the second range", 35, stream.read());
+    Assert.assertEquals("Should report the position", 36, stream.getPos());
+
+    stream.seek(30);
+    Assert.assertArrayEquals("Should read the second range", bytes(30, 10), readFully(10));
+
+    Assert.assertEquals("Should not fetch the row group again", 1, delegate.vectoredReads);
+    Assert.assertEquals("Should serve reads from fetched ranges", 0, delegate.bytesRead);
+  }
+
+  @Test
+  public void testSeekOutOfFetchedRanges() throws IOException {
+    stream.seek(10);
+    Assert.assertEquals("Should read from the fetched range", 10, stream.read());
+
+    stream.seek(25);
+    Assert.assertEquals("Should report the position", 25, stream.getPos());
+    Assert.assertEquals("Should read from the underlying stream", 25, stream.read());
+    Assert.assertEquals("Should read one byte from the underlying stream", 1, delegate.bytesRead);
+
+    // reading past the end of a range continues in the underlying stream
+    stream.seek(38);
+    Assert.assertArrayEquals("Should read across the end of the range", bytes(38, 4), readFully(4));
+    Assert.assertEquals("Should read past the range from the underlying stream", 3, delegate.bytesRead);
+  }
+
+  @Test
+  public void testPartialReads() throws IOException {
+    stream.seek(10);
+
+    byte[] buffer = new byte[15];
+    Assert.assertEquals("Should stop at the end of the range", 10, stream.read(buffer, 0, 15));
+    Assert.assertEquals("Should read from the underlying stream", 5, stream.read(buffer, 10, 5));
+    Assert.assertArrayEquals("Should read contiguous bytes", bytes(10, 15), buffer);
+
+    stream.seek(60);
+    ByteBuffer direct = ByteBuffer.allocateDirect(30);
+    Assert.assertEquals("Should stop at the end of the range", 20, stream.read(direct));
+    Assert.assertEquals("Should advance the buffer", 20, direct.position());
+    Assert.assertEquals("Should report the position", 80, stream.getPos());
+  }
+
+  @Test
+  public void testReadVectoredFailure() {
+    delegate.failure = new IOException("Injected failure");
+
+    try {
+      stream.seek(10);
+      Assert.fail("Should propagate fetch failures");
+    } catch (IOException e) {
+      Assert.assertEquals("Should propagate fetch failures", "Injected failure", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testAsyncRangeFailure() {
+    delegate.failRanges = true;
+
+    try {
+      stream.seek(10);
+      Assert.fail("Should propagate range failures");
+    } catch (IOException e) {
+      Assert.assertEquals("Should propagate range failures", "Injected range failure", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testReleaseConsumedRanges() throws IOException {
+    stream.seek(10);
+    readFully(10);
+
+    // reading past the end of the range releases it, so it is read again from the underlying stream
+    Assert.assertEquals("Should read past the range from the underlying stream", 20, stream.read());
+    stream.seek(10);
+    Assert.assertArrayEquals("Should read the range again", bytes(10, 10), readFully(10));
+    Assert.assertEquals("Should read the released range from the underlying stream", 11, delegate.bytesRead);
+
+    // fetching the next row group releases the rest of the previous row group
+    stream.seek(60);
+    stream.seek(30);
+    Assert.assertEquals("Should read the released range from the underlying stream", 30, stream.read());
+    Assert.assertEquals("Should fetch each row group once", 2, delegate.vectoredReads);
+  }
+
+  @Test
+  public void testCloseClosesUnderlyingStream() throws IOException {
+    stream.seek(10);
+    stream.close();
+    Assert.assertTrue("Should close the underlying stream", delegate.closed);
+  }
+
+  private byte[] readFully(int length) throws IOException {
+    byte[] bytes = new byte[length];
+    stream.readFully(bytes);
+    return bytes;
+  }
+
+  private static byte[] bytes(int offset, int length) {
+    byte[] bytes = new byte[length];
+    System.arraycopy(DATA, offset, bytes, 0, length);
+    return bytes;
+  }
+
+  private static class InMemoryStream extends SeekableInputStream {
+    private int pos = 0;
+    private int vectoredReads = 0;
+    private int bytesRead = 0;
+    private boolean inVectoredRead = false;
+    private boolean closed = false;
+    private IOException failure = null;
+    private boolean failRanges = false;
+
+    @Override
+    public long getPos() {
+      return pos;
+    }
+
+    @Override
+    public void seek(long newPos) {
+      this.pos = (int) newPos;
+    }
+
+    @Override
+    public int read() {
+      if (pos >= DATA.length) {
+        return -1;
+      }
+
+      if (!inVectoredRead) {
+        this.bytesRead += 1;
+      }
+
+      int value = DATA[pos] & 0xFF;
+      this.pos += 1;
+      return value;
+    }
+
+    @Override
+    public void readVectored(List<FileRange> ranges, IntFunction<ByteBuffer> allocate) throws IOException {
+      this.vectoredReads += 1;
+      if (failure != null) {
+        throw failure;
+      }
+
+      if (failRanges) {
+        for (FileRange range : ranges) {
+          range.data().completeExceptionally(new IOException("Injected range failure"));
+        }
+
+        return;
+      }
+
+      this.inVectoredRead = true;
+      try {
+        super.readVectored(ranges, allocate);
+      } finally {
+        this.inVectoredRead = false;
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      this.closed = true;
+      super.close();
+    }
+  }
+}
@@ -21,13 +21,17 @@ package org.apache.iceberg.spark.data.vectorized;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 import org.apache.iceberg.arrow.vectorized.VectorHolder;
 import org.apache.iceberg.arrow.vectorized.VectorizedArrowReader;
+import org.apache.iceberg.data.DeleteFilter;
+import org.apache.iceberg.deletes.PositionDeleteIndex;
 import org.apache.iceberg.parquet.VectorizedReader;
 import org.apache.parquet.Preconditions;
 import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
 import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.spark.sql.catalyst.InternalRow;
 import org.apache.spark.sql.vectorized.ColumnVector;
 import org.apache.spark.sql.vectorized.ColumnarBatch;
 
@@ -39,6 +43,9 @@ import org.apache.spark.sql.vectorized.ColumnarBatch;
 public class ColumnarBatchReader implements VectorizedReader<ColumnarBatch> {
   private final VectorizedArrowReader[] readers;
   private final VectorHolder[] vectorHolders;
+  private DeleteFilter<InternalRow> deletes = null;
+  private long rowStartPosInBatch = 0;
+  private int[] rowIdMapping = null;
 
   public ColumnarBatchReader(List<VectorizedReader<?>> readers) {
     this.readers = readers.stream()
@@ -49,11 +56,32 @@ public class ColumnarBatchReader implements VectorizedReader<ColumnarBatch> {
 
   @Override
   public final void setRowGroupInfo(PageReadStore pageStore, Map<ColumnPath, ColumnChunkMetaData> metaData) {
+    setRowGroupInfo(pageStore, metaData, 0L);
+  }
+
+  @Override
+  public final void setRowGroupInfo(PageReadStore pageStore, Map<ColumnPath, ColumnChunkMetaData> metaData,
+                                    long rowPosition) {
     for (VectorizedArrowReader reader : readers) {
       if (reader != null) {
-        reader.setRowGroupInfo(pageStore, metaData);
+        reader.setRowGroupInfo(pageStore, metaData, rowPosition);
       }
     }
+
+    this.rowStartPosInBatch = rowPosition;
+  }
+
+  /**
+   * Sets the deletes to apply to each batch.
+   * <p>
+   * Deleted rows are removed from a batch by wrapping its vectors with a row id mapping to the live rows, so the
+   * values are not copied. The batch must include the row position column if there are position deletes, and the
+   * equality delete columns if there are equality deletes.
+   *
+   * @param deleteFilter a delete filter for the data file that is read
+   */
+  public void setDeleteFilter(DeleteFilter<InternalRow> deleteFilter) {
+    this.deletes = deleteFilter;
   }
 
   @Override
@@ -77,9 +105,53 @@ public class ColumnarBatchReader implements VectorizedReader<ColumnarBatch> {
     }
     ColumnarBatch batch = new ColumnarBatch(arrowColumnVectors);
     batch.setNumRows(numRowsToRead);
+
+    if (deletes != null) {
+      batch = applyDeletes(batch, arrowColumnVectors, numRowsToRead);
+    }
+
+    rowStartPosInBatch += numRowsToRead;
     return batch;
   }
 
+  private ColumnarBatch applyDeletes(ColumnarBatch batch, ColumnVector[] vectors, int numRows) {
+    PositionDeleteIndex deletedPositions = deletes.deletedRowPositions();
+    Predicate<InternalRow> isEqDeleted = deletes.eqDeletedRowFilter();
+    if (deletedPositions == null && isEqDeleted == null) {
+      return batch;
+    }
+
+    if (rowIdMapping == null || rowIdMapping.length < numRows) {
+      this.rowIdMapping = new int[numRows];
+    }
+
+    int numLiveRows = 0;
+    for (int rowId = 0; rowId < numRows; rowId += 1) {
+      boolean isDeleted = deletedPositions != null && deletedPositions.isDeleted(rowStartPosInBatch + rowId);
+      if (!isDeleted && isEqDeleted != null) {
+        isDeleted = isEqDeleted.test(batch.getRow(rowId));
+      }
+
+      if (!isDeleted) {
+        rowIdMapping[numLiveRows] = rowId;
+        numLiveRows += 1;
+      }
+    }
+
+    if (numLiveRows == numRows) {
+      return batch;
+    }
+
+    ColumnVector[] filteredVectors = new ColumnVector[vectors.length];
+    for (int i = 0; i < vectors.length; i += 1) {
+      filteredVectors[i] = new ColumnVectorWithFilter(vectors[i], rowIdMapping, numLiveRows);
+    }
+
+    ColumnarBatch filteredBatch = new ColumnarBatch(filteredVectors);
+    filteredBatch.setNumRows(numLiveRows);
+    return filteredBatch;
+  }
+
   private void closeVectors() {
     for (int i = 0; i < vectorHolders.length; i++) {
       if (vectorHolders[i] != null) {
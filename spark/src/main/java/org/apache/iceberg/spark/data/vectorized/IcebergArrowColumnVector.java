@@ -22,6 +22,7 @@ package org.apache.iceberg.spark.data.vectorized;
 import org.apache.iceberg.arrow.vectorized.NullabilityHolder;
 import org.apache.iceberg.arrow.vectorized.VectorHolder;
 import org.apache.iceberg.arrow.vectorized.VectorHolder.ConstantVectorHolder;
+import org.apache.iceberg.arrow.vectorized.VectorHolder.PositionVectorHolder;
 import org.apache.iceberg.spark.SparkSchemaUtil;
 import org.apache.iceberg.types.Types;
 import org.apache.spark.sql.types.Decimal;
@@ -145,6 +146,10 @@ public class IcebergArrowColumnVector extends ColumnVector {
   }
 
   static ColumnVector forHolder(VectorHolder holder, int numRows) {
+    if (holder instanceof PositionVectorHolder) {
+      return new RowPostitionColumnVector(((PositionVectorHolder) holder).rowStartPosition());
+    }
+
     return holder.isDummy() ?
         new ConstantColumnVector(Types.IntegerType.get(), numRows, ((ConstantVectorHolder) holder).getConstant()) :
         new IcebergArrowColumnVector(holder);
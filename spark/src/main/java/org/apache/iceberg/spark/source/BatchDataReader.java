@@ -19,11 +19,14 @@
 
 package org.apache.iceberg.spark.source;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 import org.apache.arrow.vector.NullCheckingForGet;
 import org.apache.iceberg.CombinedScanTask;
 import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileContent;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.PartitionSpec;
@@ -38,29 +41,61 @@ import org.apache.iceberg.orc.ORC;
 import org.apache.iceberg.parquet.Parquet;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.spark.data.vectorized.ColumnarBatchReader;
 import org.apache.iceberg.spark.data.vectorized.VectorizedSparkOrcReaders;
 import org.apache.iceberg.spark.data.vectorized.VectorizedSparkParquetReaders;
 import org.apache.iceberg.types.TypeUtil;
+import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.PartitionUtil;
 import org.apache.spark.rdd.InputFileBlockHolder;
 import org.apache.spark.sql.vectorized.ColumnarBatch;
 
 class BatchDataReader extends BaseDataReader<ColumnarBatch> {
+  private final Schema tableSchema;
   private final Schema expectedSchema;
   private final String nameMapping;
   private final boolean caseSensitive;
   private final int batchSize;
 
   BatchDataReader(
-      CombinedScanTask task, Schema expectedSchema, String nameMapping, FileIO fileIo,
+      CombinedScanTask task, Schema tableSchema, Schema expectedSchema, String nameMapping, FileIO fileIo,
       EncryptionManager encryptionManager, boolean caseSensitive, int size) {
     super(task, fileIo, encryptionManager);
+    this.tableSchema = tableSchema;
     this.expectedSchema = expectedSchema;
     this.nameMapping = nameMapping;
     this.caseSensitive = caseSensitive;
     this.batchSize = size;
   }
 
+  /**
+   * Returns whether the deletes of the given tasks can be applied to batches.
+   * <p>
+   * Deleted rows are only removed from primitive vectors, so equality deletes must use top-level primitive columns.
+   *
+   * @param tableSchema the table schema
+   * @param tasks tasks that will be read
+   * @return true if all deletes can be applied to batches
+   */
+  static boolean canApplyDeletes(Schema tableSchema, Collection<CombinedScanTask> tasks) {
+    for (CombinedScanTask task : tasks) {
+      for (FileScanTask fileTask : task.files()) {
+        for (DeleteFile delete : fileTask.deletes()) {
+          if (delete.content() == FileContent.EQUALITY_DELETES) {
+            for (int fieldId : delete.equalityFieldIds()) {
+              Types.NestedField field = tableSchema.asStruct().field(fieldId);
+              if (field == null || !field.type().isPrimitiveType()) {
+                return false;
+              }
+            }
+          }
+        }
+      }
+    }
+
+    return true;
+  }
+
   @Override
   CloseableIterator<ColumnarBatch> open(FileScanTask task) {
     DataFile file = task.file();
@@ -85,11 +120,21 @@ class BatchDataReader extends BaseDataReader<ColumnarBatch> {
     InputFile location = getInputFile(task);
     Preconditions.checkNotNull(location, "Could not find InputFile associated with FileScanTask");
     if (task.file().format() == FileFormat.PARQUET) {
+      SparkDeleteFilter deleteFilter = task.deletes().isEmpty() ? null :
+          new SparkDeleteFilter(task, tableSchema, expectedSchema);
+
+      // deletes may require reading the row position and equality delete columns
+      Schema requiredSchema = deleteFilter != null ? deleteFilter.requiredSchema() : expectedSchema;
+
       Parquet.ReadBuilder builder = Parquet.read(location)
-          .project(expectedSchema)
+          .project(requiredSchema)
           .split(task.start(), task.length())
-          .createBatchedReaderFunc(fileSchema -> VectorizedSparkParquetReaders.buildReader(expectedSchema,
-              fileSchema, /* setArrowValidityVector */ NullCheckingForGet.NULL_CHECKING_ENABLED, idToConstant))
+          .createBatchedReaderFunc(fileSchema -> {
+            ColumnarBatchReader reader = VectorizedSparkParquetReaders.buildReader(requiredSchema,
+                fileSchema, /* setArrowValidityVector */ NullCheckingForGet.NULL_CHECKING_ENABLED, idToConstant);
+            reader.setDeleteFilter(deleteFilter);
+            return reader;
+          })
           .recordsPerBatch(batchSize)
           .filter(task.residual())
           .caseSensitive(caseSensitive)
@@ -104,6 +149,8 @@ class BatchDataReader extends BaseDataReader<ColumnarBatch> {
 
       iter = builder.build();
     } else if (task.file().format() == FileFormat.ORC) {
+      Preconditions.checkArgument(task.deletes().isEmpty(),
+          "Cannot apply deletes to ORC file %s in a batched read", file.path());
       Schema schemaWithoutConstants = TypeUtil.selectNot(expectedSchema, idToConstant.keySet());
       ORC.ReadBuilder builder = ORC.read(location)
           .project(schemaWithoutConstants)
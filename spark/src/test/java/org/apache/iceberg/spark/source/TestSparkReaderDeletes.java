@@ -21,8 +21,10 @@ package org.apache.iceberg.spark.source;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 import org.apache.hadoop.hive.conf.HiveConf;
 import org.apache.iceberg.BaseTable;
+import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.Files;
 import org.apache.iceberg.PartitionSpec;
@@ -30,6 +32,7 @@ import org.apache.iceberg.Schema;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.TableMetadata;
 import org.apache.iceberg.TableOperations;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.TestHelpers;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
@@ -43,6 +46,7 @@ import org.apache.iceberg.hive.TestHiveMetastore;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.spark.SparkStructLike;
 import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.StructLikeSet;
 import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
@@ -100,9 +104,19 @@ public abstract class TestSparkReaderDeletes extends DeleteReadTests {
     TableMetadata meta = ops.current();
     ops.commit(meta, meta.upgradeToFormatVersion(2));
 
+    if (vectorized()) {
+      table.updateProperties()
+          .set(TableProperties.PARQUET_VECTORIZATION_ENABLED, "true")
+          .commit();
+    }
+
     return table;
   }
 
+  protected boolean vectorized() {
+    return false;
+  }
+
   @Override
   protected void dropTable(String name) {
     catalog.dropTable(TableIdentifier.of("default", name));
@@ -159,4 +173,67 @@ public abstract class TestSparkReaderDeletes extends DeleteReadTests {
 
     Assert.assertEquals("Table should contain no rows", 0, actual.size());
   }
+
+  @Test
+  public void testNestedProjectionWithDeletes() throws IOException {
+    Schema nestedSchema = new Schema(
+        Types.NestedField.required(1, "id", Types.IntegerType.get()),
+        Types.NestedField.optional(2, "location", Types.StructType.of(
+            Types.NestedField.required(3, "city", Types.StringType.get()),
+            Types.NestedField.optional(4, "zip", Types.IntegerType.get()))));
+
+    String tableName = "test_nested_with_deletes";
+    Table nestedTable = createTable(tableName, nestedSchema, PartitionSpec.unpartitioned());
+    try {
+      Record record = GenericRecord.create(nestedSchema);
+      Record location = GenericRecord.create(nestedSchema.findType("location").asStructType());
+      List<Record> records = Lists.newArrayList();
+      for (int id = 0; id < 10; id += 1) {
+        records.add(record.copy("id", id, "location", location.copy("city", "city-" + id, "zip", id)));
+      }
+
+      DataFile nestedFile = FileHelpers.writeDataFile(nestedTable, Files.localOutput(temp.newFile()), records);
+      nestedTable.newAppend()
+          .appendFile(nestedFile)
+          .commit();
+
+      List<Pair<CharSequence, Long>> deletes = Lists.newArrayList(
+          Pair.of(nestedFile.path(), 1L), // id = 1
+          Pair.of(nestedFile.path(), 4L) // id = 4
+      );
+
+      Pair<DeleteFile, Set<CharSequence>> posDeletes = FileHelpers.writeDeleteFile(
+          nestedTable, Files.localOutput(temp.newFile()), deletes);
+
+      Schema idSchema = nestedTable.schema().select("id");
+      Record idDelete = GenericRecord.create(idSchema);
+      DeleteFile eqDeletes = FileHelpers.writeDeleteFile(
+          nestedTable, Files.localOutput(temp.newFile()), Lists.newArrayList(idDelete.copy("id", 7)), idSchema);
+
+      nestedTable.newRowDelta()
+          .addDeletes(posDeletes.first())
+          .addDeletes(eqDeletes)
+          .validateDataFilesExist(posDeletes.second())
+          .commit();
+
+      List<Row> rows = spark.read()
+          .format("iceberg")
+          .load(TableIdentifier.of("default", tableName).toString())
+          .selectExpr("id", "location.city", "location.zip")
+          .orderBy("id")
+          .collectAsList();
+
+      List<Integer> expectedIds = Lists.newArrayList(0, 2, 3, 5, 6, 8, 9);
+      Assert.assertEquals("Should read live rows", expectedIds.size(), rows.size());
+      for (int i = 0; i < rows.size(); i += 1) {
+        Row row = rows.get(i);
+        int id = expectedIds.get(i);
+        Assert.assertEquals("Should read the live row id", id, row.getInt(0));
+        Assert.assertEquals("Should read the nested city of the row", "city-" + id, row.getString(1));
+        Assert.assertEquals("Should read the nested zip of the row", id, row.getInt(2));
+      }
+    } finally {
+      dropTable(tableName);
+    }
+  }
 }
@@ -38,7 +38,6 @@ import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.TableScan;
 import org.apache.iceberg.encryption.EncryptionManager;
 import org.apache.iceberg.exceptions.RuntimeIOException;
-import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.hadoop.HadoopFileIO;
@@ -212,9 +211,6 @@ class Reader implements DataSourceReader, SupportsScanColumnarBatch, SupportsPus
     String expectedSchemaString = SchemaParser.toJson(lazySchema());
     String nameMappingString = table.properties().get(DEFAULT_NAME_MAPPING);
 
-    ValidationException.check(tasks().stream().noneMatch(TableScanUtil::hasDeletes),
-        "Cannot scan table %s: cannot apply required delete files", table);
-
     List<InputPartition<ColumnarBatch>> readTasks = Lists.newArrayList();
     for (CombinedScanTask task : tasks()) {
       readTasks.add(new ReadTask<>(
@@ -336,8 +332,10 @@ class Reader implements DataSourceReader, SupportsScanColumnarBatch, SupportsPus
 
       boolean hasNoDeleteFiles = tasks().stream().noneMatch(TableScanUtil::hasDeletes);
 
-      this.readUsingBatch = batchReadsEnabled && hasNoDeleteFiles && (allOrcFileScanTasks ||
-          (allParquetFileScanTasks && atLeastOneColumn && onlyPrimitives));
+      // deletes are applied to Parquet batches of primitive columns, but not to ORC batches
+      this.readUsingBatch = batchReadsEnabled && ((allOrcFileScanTasks && hasNoDeleteFiles) ||
+          (allParquetFileScanTasks && atLeastOneColumn && onlyPrimitives &&
+            BatchDataReader.canApplyDeletes(table.schema(), tasks())));
     }
     return readUsingBatch;
   }
@@ -504,7 +502,8 @@ class Reader implements DataSourceReader, SupportsScanColumnarBatch, SupportsPus
     public InputPartitionReader<ColumnarBatch> create(CombinedScanTask task, Schema tableSchema, Schema expectedSchema,
                                                       String nameMapping, FileIO io,
                                                       EncryptionManager encryptionManager, boolean caseSensitive) {
-      return new BatchReader(task, expectedSchema, nameMapping, io, encryptionManager, caseSensitive, batchSize);
+      return new BatchReader(task, tableSchema, expectedSchema, nameMapping, io, encryptionManager, caseSensitive,
+          batchSize);
     }
   }
 
@@ -516,9 +515,9 @@ class Reader implements DataSourceReader, SupportsScanColumnarBatch, SupportsPus
   }
 
   private static class BatchReader extends BatchDataReader implements InputPartitionReader<ColumnarBatch> {
-    BatchReader(CombinedScanTask task, Schema expectedSchema, String nameMapping, FileIO io,
-                       EncryptionManager encryptionManager, boolean caseSensitive, int size) {
-      super(task, expectedSchema, nameMapping, io, encryptionManager, caseSensitive, size);
+    BatchReader(CombinedScanTask task, Schema tableSchema, Schema expectedSchema, String nameMapping, FileIO io,
+                EncryptionManager encryptionManager, boolean caseSensitive, int size) {
+      super(task, tableSchema, expectedSchema, nameMapping, io, encryptionManager, caseSensitive, size);
     }
   }
 }
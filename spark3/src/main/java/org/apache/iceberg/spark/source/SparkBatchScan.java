@@ -158,8 +158,10 @@ abstract class SparkBatchScan implements Scan, Batch, SupportsReportStatistics {
 
     boolean hasNoDeleteFiles = tasks().stream().noneMatch(TableScanUtil::hasDeletes);
 
-    boolean readUsingBatch = batchReadsEnabled && hasNoDeleteFiles && (allOrcFileScanTasks ||
-        (allParquetFileScanTasks && atLeastOneColumn && onlyPrimitives));
+    // deletes are applied to Parquet batches of primitive columns, but not to ORC batches
+    boolean readUsingBatch = batchReadsEnabled && ((allOrcFileScanTasks && hasNoDeleteFiles) ||
+        (allParquetFileScanTasks && atLeastOneColumn && onlyPrimitives &&
+          BatchDataReader.canApplyDeletes(table.schema(), tasks())));
 
     return new ReaderFactory(readUsingBatch ? batchSize : 0);
   }
@@ -241,8 +243,8 @@ abstract class SparkBatchScan implements Scan, Batch, SupportsReportStatistics {
 
   private static class BatchReader extends BatchDataReader implements PartitionReader<ColumnarBatch> {
     BatchReader(ReadTask task, int batchSize) {
-      super(task.task, task.expectedSchema(), task.nameMappingString, task.io(), task.encryption(),
-          task.isCaseSensitive(), batchSize);
+      super(task.task, task.tableSchema(), task.expectedSchema(), task.nameMappingString, task.io(),
+          task.encryption(), task.isCaseSensitive(), batchSize);
     }
   }
 